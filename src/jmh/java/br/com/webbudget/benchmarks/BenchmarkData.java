@@ -0,0 +1,282 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.benchmarks;
+
+import br.com.webbudget.application.components.dto.Color;
+import br.com.webbudget.application.components.ui.chart.LineChartDataset;
+import br.com.webbudget.application.components.ui.chart.LineChartModel;
+import br.com.webbudget.application.components.ui.chart.PieChartDataset;
+import br.com.webbudget.application.components.ui.chart.PieChartModel;
+import br.com.webbudget.domain.entities.financial.Apportionment;
+import br.com.webbudget.domain.entities.financial.Payment;
+import br.com.webbudget.domain.entities.financial.PaymentMethod;
+import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import br.com.webbudget.domain.entities.financial.WalletBalance;
+import br.com.webbudget.domain.entities.journal.Fuel;
+import br.com.webbudget.domain.entities.journal.FuelType;
+import br.com.webbudget.domain.entities.journal.Refueling;
+import br.com.webbudget.domain.entities.registration.MovementClass;
+import br.com.webbudget.domain.entities.registration.MovementClassType;
+import br.com.webbudget.domain.entities.registration.Wallet;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Factory of the synthetic data sets used by the benchmarks
+ *
+ * Every data set is made from a random with a fixed seed, so the same size always gives the same data and the results
+ * of two runs can be compared
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+final class BenchmarkData {
+
+    private static final long SEED = 20261018L;
+
+    /**
+     * Constructor...
+     */
+    private BenchmarkData() { }
+
+    /**
+     * Create a list of monetary values between zero and ten thousand
+     *
+     * @param size how many values to create
+     * @return the {@link List} of values
+     */
+    static List<BigDecimal> values(int size) {
+
+        final Random random = new Random(SEED);
+
+        final List<BigDecimal> values = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            values.add(valueOf(random, 10000));
+        }
+
+        return values;
+    }
+
+    /**
+     * Create a list of {@link PeriodMovement}, two thirds of expenses and one third of revenues, with the payments
+     * spread by all the {@link PaymentMethod} and some of them still open
+     *
+     * @param size how many movements to create
+     * @return the {@link List} of {@link PeriodMovement}
+     */
+    static List<PeriodMovement> periodMovements(int size) {
+
+        final Random random = new Random(SEED);
+
+        final MovementClass expense = movementClass(MovementClassType.EXPENSE);
+        final MovementClass revenue = movementClass(MovementClassType.REVENUE);
+
+        final PaymentMethod[] paymentMethods = PaymentMethod.values();
+
+        final List<PeriodMovement> movements = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+
+            final BigDecimal value = valueOf(random, 5000);
+
+            final PeriodMovement movement = new PeriodMovement();
+
+            movement.setIdentification("Movement " + i);
+            movement.setValue(value);
+            movement.add(new Apportionment(value, i % 3 == 0 ? revenue : expense));
+
+            // one in five stays open
+            if (random.nextInt(5) > 0) {
+
+                final Payment payment = new Payment();
+
+                payment.setPaymentMethod(paymentMethods[random.nextInt(paymentMethods.length)]);
+                payment.setPaidValue(value.subtract(valueOf(random, 10)).max(BigDecimal.ZERO));
+                payment.setPaidOn(LocalDate.now());
+
+                movement.setPayment(payment);
+            }
+
+            movements.add(movement);
+        }
+
+        return movements;
+    }
+
+    /**
+     * Create a list of {@link WalletBalance}, each one with its own {@link Wallet}
+     *
+     * @param size how many balances to create
+     * @return the {@link List} of {@link WalletBalance}
+     */
+    static List<WalletBalance> walletBalances(int size) {
+
+        final Random random = new Random(SEED);
+
+        final List<WalletBalance> balances = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+
+            final WalletBalance balance = new WalletBalance();
+
+            balance.setWallet(new Wallet());
+            balance.setTransactionValue(valueOf(random, 1000));
+
+            balances.add(balance);
+        }
+
+        return balances;
+    }
+
+    /**
+     * Create a list of {@link Refueling} with one to three {@link Fuel} each
+     *
+     * @param size how many refuelings to create
+     * @return the {@link List} of {@link Refueling}
+     */
+    static List<Refueling> refuelings(int size) {
+
+        final Random random = new Random(SEED);
+
+        final FuelType[] fuelTypes = FuelType.values();
+
+        final List<Refueling> refuelings = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+
+            final Refueling refueling = new Refueling();
+
+            final int fuels = 1 + random.nextInt(3);
+
+            for (int j = 0; j < fuels; j++) {
+
+                refueling.addFuel();
+
+                final Fuel fuel = refueling.getFuels().get(j);
+
+                fuel.setFuelType(fuelTypes[random.nextInt(fuelTypes.length)]);
+                fuel.setLiters(valueOf(random, 60));
+                fuel.setValuePerLiter(valueOf(random, 7));
+            }
+
+            refuelings.add(refueling);
+        }
+
+        return refuelings;
+    }
+
+    /**
+     * Create a {@link PieChartModel} like the ones of the use by cost center, with one slice for each item
+     *
+     * @param size how many slices to create
+     * @return the {@link PieChartModel}
+     */
+    static PieChartModel pieChartModel(int size) {
+
+        final Random random = new Random(SEED);
+
+        final PieChartDataset dataset = new PieChartDataset("default");
+
+        final PieChartModel model = new PieChartModel();
+
+        for (int i = 0; i < size; i++) {
+            dataset.addData(random.nextInt(100));
+            dataset.addColor(new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256)));
+            model.addLabel("Cost center " + i);
+        }
+
+        model.addData(dataset);
+
+        return model;
+    }
+
+    /**
+     * Create a {@link LineChartModel} like the ones of the daily use, with two datasets and one point for each item
+     *
+     * @param size how many points to create
+     * @return the {@link LineChartModel}
+     */
+    static LineChartModel<BigDecimal> lineChartModel(int size) {
+
+        final Random random = new Random(SEED);
+
+        final Color red = new Color(220, 20, 60);
+        final Color green = new Color(34, 139, 34);
+
+        final LineChartDataset<BigDecimal> expenses = new LineChartDataset<>();
+
+        expenses.setLabel("Expenses");
+        expenses.setBorderColor(red.toString());
+        expenses.setBackgroundColor(red.transparent().toString());
+
+        final LineChartDataset<BigDecimal> revenues = new LineChartDataset<>();
+
+        revenues.setLabel("Revenues");
+        revenues.setBorderColor(green.toString());
+        revenues.setBackgroundColor(green.transparent().toString());
+
+        final LineChartModel<BigDecimal> model = new LineChartModel<>();
+
+        final LocalDate start = LocalDate.of(2026, 1, 1);
+
+        for (int i = 0; i < size; i++) {
+            expenses.addData(valueOf(random, 1000));
+            revenues.addData(valueOf(random, 1000));
+            model.addDataset(start.plusDays(i).toString());
+        }
+
+        model.addDataset(expenses);
+        model.addDataset(revenues);
+
+        return model;
+    }
+
+    /**
+     * Create a {@link MovementClass} of the given type
+     *
+     * @param movementClassType the {@link MovementClassType}
+     * @return the {@link MovementClass}
+     */
+    private static MovementClass movementClass(MovementClassType movementClassType) {
+
+        final MovementClass movementClass = new MovementClass();
+
+        movementClass.setName(movementClassType.name());
+        movementClass.setMovementClassType(movementClassType);
+
+        return movementClass;
+    }
+
+    /**
+     * Create a positive monetary value with two decimal places lower than the limit
+     *
+     * @param random the {@link Random} to use
+     * @param limit the limit of the value
+     * @return the value
+     */
+    private static BigDecimal valueOf(Random random, int limit) {
+        return BigDecimal.valueOf(0.01 + random.nextDouble() * limit).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.benchmarks;
+
+import br.com.webbudget.application.components.ui.chart.ChartUtils;
+import br.com.webbudget.application.components.ui.chart.LineChartModel;
+import br.com.webbudget.application.components.ui.chart.PieChartModel;
+import br.com.webbudget.infrastructure.utils.JsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the chart models, the percentages calculated by the {@link ChartUtils} and the serialization of the
+ * models done by the {@link JsonUtils} before they are sent to the page
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ChartBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private BigDecimal total;
+    private List<BigDecimal> values;
+
+    private PieChartModel pieChartModel;
+    private LineChartModel<BigDecimal> lineChartModel;
+
+    /**
+     * Create the data sets
+     */
+    @Setup
+    public void setUp() {
+
+        this.values = BenchmarkData.values(this.size);
+        this.total = this.values.stream()
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        this.pieChartModel = BenchmarkData.pieChartModel(this.size);
+        this.lineChartModel = BenchmarkData.lineChartModel(this.size);
+    }
+
+    /**
+     * The percentage of each value over the total, as done for the slices of the use by cost center
+     *
+     * @param blackhole to consume the percentages
+     */
+    @Benchmark
+    public void percentageOf(Blackhole blackhole) {
+        for (BigDecimal value : this.values) {
+            blackhole.consume(ChartUtils.percentageOf(value, this.total, true));
+        }
+    }
+
+    /**
+     * @return the {@link PieChartModel} as JSON
+     */
+    @Benchmark
+    public String pieChartToJson() {
+        return this.pieChartModel.toJson();
+    }
+
+    /**
+     * @return the {@link LineChartModel} as JSON
+     */
+    @Benchmark
+    public String lineChartToJson() {
+        return this.lineChartModel.toJson();
+    }
+}
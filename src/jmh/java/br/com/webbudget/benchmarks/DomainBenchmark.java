@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.benchmarks;
+
+import br.com.webbudget.domain.entities.financial.WalletBalance;
+import br.com.webbudget.domain.entities.journal.Refueling;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the calculations done by the domain entities on each save: the balances of the {@link WalletBalance}
+ * and the totals of the {@link Refueling}
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.1.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DomainBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private List<BigDecimal> values;
+    private List<Refueling> refuelings;
+    private List<WalletBalance> walletBalances;
+
+    /**
+     * Create the data sets
+     */
+    @Setup
+    public void setUp() {
+
+        this.values = BenchmarkData.values(this.size);
+        this.refuelings = BenchmarkData.refuelings(this.size);
+        this.walletBalances = BenchmarkData.walletBalances(this.size);
+    }
+
+    /**
+     * Process the balances of each {@link WalletBalance} as done on each wallet transaction
+     *
+     * @param blackhole to consume the balances
+     */
+    @Benchmark
+    public void processBalances(Blackhole blackhole) {
+        for (int i = 0; i < this.walletBalances.size(); i++) {
+            final WalletBalance balance = this.walletBalances.get(i);
+            balance.processBalances(this.values.get(i));
+            blackhole.consume(balance.getOldBalance());
+        }
+    }
+
+    /**
+     * Totals the fuels of each {@link Refueling} as done on each change of the refueling form
+     *
+     * @param blackhole to consume the totals
+     */
+    @Benchmark
+    public void totalsFuels(Blackhole blackhole) {
+        for (Refueling refueling : this.refuelings) {
+            refueling.totalsFuels();
+            blackhole.consume(refueling.getCostPerLiter());
+        }
+    }
+}
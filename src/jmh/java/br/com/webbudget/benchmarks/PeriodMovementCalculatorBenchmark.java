@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.benchmarks;
+
+import br.com.webbudget.domain.calculators.PeriodMovementCalculator;
+import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@link PeriodMovementCalculator}, the split of the movements by direction and the sum of the values
+ * used by the dashboard and the period closing
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PeriodMovementCalculatorBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private List<PeriodMovement> movements;
+    private PeriodMovementCalculator calculator;
+
+    /**
+     * Create the data set and a calculator already loaded with it for the sum benchmark
+     */
+    @Setup
+    public void setUp() {
+        this.movements = BenchmarkData.periodMovements(this.size);
+        this.calculator = new PeriodMovementCalculator();
+        this.calculator.load(this.movements);
+    }
+
+    /**
+     * Load a new calculator, this is the split of the movements by expenses and revenues
+     *
+     * @return the calculator loaded
+     */
+    @Benchmark
+    public PeriodMovementCalculator split() {
+        final PeriodMovementCalculator loaded = new PeriodMovementCalculator();
+        loaded.load(this.movements);
+        return loaded;
+    }
+
+    /**
+     * Calculate all the values of the calculator, the same done to show the dashboard
+     *
+     * @param blackhole to consume the values
+     */
+    @Benchmark
+    public void sum(Blackhole blackhole) {
+        blackhole.consume(this.calculator.getRevenuesValue());
+        blackhole.consume(this.calculator.getExpensesValue());
+        blackhole.consume(this.calculator.getCashExpensesValue());
+        blackhole.consume(this.calculator.getDebitCardExpensesValue());
+        blackhole.consume(this.calculator.getCreditCardExpensesValue());
+    }
+}
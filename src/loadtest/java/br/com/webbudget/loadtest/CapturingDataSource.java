@@ -0,0 +1,292 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.loadtest;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+/**
+ * A {@link DataSource} to capture the SQL executed by the ORM, with the values bound to it, so the statements can be
+ * explained later exactly as the database received them
+ *
+ * Every query executed by a {@link PreparedStatement} of the current thread is kept between the calls to
+ * {@link #start()} and {@link #stop()}, the other statements and threads are only delegated
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+final class CapturingDataSource implements DataSource {
+
+    private static final ThreadLocal<List<Captured>> CAPTURED = new ThreadLocal<>();
+
+    private final DataSource delegate;
+
+    /**
+     * Constructor...
+     *
+     * @param delegate the real {@link DataSource}
+     */
+    CapturingDataSource(DataSource delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Start to capture the queries of the current thread
+     */
+    static void start() {
+        CAPTURED.set(new ArrayList<>());
+    }
+
+    /**
+     * Stop the capture of the current thread
+     *
+     * @return the queries captured, in the order they were executed
+     */
+    static List<Captured> stop() {
+        final List<Captured> captured = CAPTURED.get();
+        CAPTURED.remove();
+        return captured != null ? captured : List.of();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return
+     * @throws SQLException
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        return capturing(this.delegate.getConnection());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param username
+     * @param password
+     * @return
+     * @throws SQLException
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return capturing(this.delegate.getConnection(username, password));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return
+     * @throws SQLException
+     */
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return this.delegate.getLogWriter();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param out
+     * @throws SQLException
+     */
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        this.delegate.setLogWriter(out);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param seconds
+     * @throws SQLException
+     */
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        this.delegate.setLoginTimeout(seconds);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return
+     * @throws SQLException
+     */
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return this.delegate.getLoginTimeout();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return
+     * @throws SQLFeatureNotSupportedException
+     */
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return this.delegate.getParentLogger();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param type
+     * @param <T>
+     * @return
+     * @throws SQLException
+     */
+    @Override
+    public <T> T unwrap(Class<T> type) throws SQLException {
+        return this.delegate.unwrap(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param type
+     * @return
+     * @throws SQLException
+     */
+    @Override
+    public boolean isWrapperFor(Class<?> type) throws SQLException {
+        return this.delegate.isWrapperFor(type);
+    }
+
+    /**
+     * @param connection to be wrapped
+     * @return the {@link Connection} giving the capturing statements
+     */
+    private static Connection capturing(Connection connection) {
+        return proxy(Connection.class, connection, (method, result, args) -> {
+            if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement) {
+                return capturing((PreparedStatement) result, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * @param statement to be wrapped
+     * @param sql of the statement
+     * @return the {@link PreparedStatement} keeping the values bound and the queries executed
+     */
+    private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+
+        final Map<Integer, Object> values = new TreeMap<>();
+
+        return proxy(PreparedStatement.class, statement, (method, result, args) -> {
+
+            final String name = method.getName();
+
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                values.put((Integer) args[0], name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                values.clear();
+            } else if (name.equals("executeQuery") && args == null) {
+                final List<Captured> captured = CAPTURED.get();
+                if (captured != null) {
+                    captured.add(new Captured(sql, new ArrayList<>(values.values())));
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * @param type of the proxy
+     * @param target where the calls are delegated
+     * @param after what to do with the result of each call
+     * @param <T> the type of the proxy
+     * @return the proxy
+     */
+    private static <T> T proxy(Class<T> type, T target, AfterCall after) {
+
+        final InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return after.apply(method, method.invoke(target, args), args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        };
+
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    /**
+     * What is done with the result of a call to the proxied object
+     */
+    @FunctionalInterface
+    private interface AfterCall {
+
+        /**
+         * @param method called
+         * @param result of the call
+         * @param args of the call, null if there is none
+         * @return the result to be given to the caller
+         */
+        Object apply(Method method, Object result, Object[] args);
+    }
+
+    /**
+     * One query executed and the values bound to it, by the order of the parameters
+     */
+    static final class Captured {
+
+        private final String sql;
+        private final List<Object> values;
+
+        /**
+         * Constructor...
+         *
+         * @param sql of the query
+         * @param values bound to it
+         */
+        Captured(String sql, List<Object> values) {
+            this.sql = sql;
+            this.values = values;
+        }
+
+        /**
+         * @return the SQL of the query
+         */
+        String getSql() {
+            return this.sql;
+        }
+
+        /**
+         * @return the values bound to the query, by the order of the parameters
+         */
+        List<Object> getValues() {
+            return this.values;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.loadtest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The flows executed by the virtual users, each one is what a user does on the application to reach a goal and is
+ * measured from the first request to the last
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+enum Flow {
+
+    /**
+     * Open the dashboard with all the charts
+     */
+    DASHBOARD(30) {
+        @Override
+        boolean run(JsfClient client, Random random) throws IOException {
+            client.get("secured/dashboard.xhtml");
+            return true;
+        }
+    },
+
+    /**
+     * Open the listing of the movements of the open periods
+     */
+    MOVEMENT_LISTING(40) {
+        @Override
+        boolean run(JsfClient client, Random random) throws IOException {
+            client.get(MOVEMENTS);
+            return true;
+        }
+    },
+
+    /**
+     * Pick an open movement on the listing, open the payment form and pay it with the default method and wallet
+     */
+    PAYMENT(20) {
+        @Override
+        boolean run(JsfClient client, Random random) throws IOException {
+
+            final List<String> open = openMovements(client.get(MOVEMENTS).getHtml());
+
+            if (open.isEmpty()) {
+                return false;
+            }
+
+            final JsfClient.Page form = client.get("secured/financial/movement/period/formPayment.xhtml?id="
+                    + open.get(random.nextInt(open.size())) + "&viewState=EDITING");
+
+            client.submit(form, "paymentForm", "btn-success", Map.of());
+            return true;
+        }
+    },
+
+    /**
+     * Simulate the closing of the first open period, the period is never really closed so the flow can be repeated
+     */
+    CLOSING(10) {
+        @Override
+        boolean run(JsfClient client, Random random) throws IOException {
+
+            final JsfClient.Page form = client.get("secured/financial/closing/formClosing.xhtml");
+
+            client.submit(form, "controlsForm", "btn-primary", Map.of());
+            return true;
+        }
+    };
+
+    private static final String MOVEMENTS = "secured/financial/movement/period/listPeriodMovements.xhtml";
+
+    private static final Pattern MOVEMENT_ID = Pattern.compile("[?&;]id=(\\d+)");
+
+    private final int weight;
+
+    /**
+     * Constructor...
+     *
+     * @param weight of this flow on the mix executed by the virtual users
+     */
+    Flow(int weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * Execute this flow
+     *
+     * @param client of the virtual user
+     * @param random of the virtual user
+     * @return true if the flow was executed, false if there was nothing to do
+     * @throws IOException if any of the requests fails
+     */
+    abstract boolean run(JsfClient client, Random random) throws IOException;
+
+    /**
+     * Pick a flow by the weights, the mix is like a day of real use, more reading than writing
+     *
+     * @param random of the virtual user
+     * @return the next {@link Flow} to be executed
+     */
+    static Flow pick(Random random) {
+
+        int target = random.nextInt(100);
+
+        for (Flow flow : values()) {
+            target -= flow.weight;
+            if (target < 0) {
+                return flow;
+            }
+        }
+        return DASHBOARD;
+    }
+
+    /**
+     * The ids of the open movements on the listing, the widgets of the open ones have the yellow badge of the state
+     *
+     * @param html of the listing
+     * @return the ids found
+     */
+    private static List<String> openMovements(String html) {
+
+        final List<String> ids = new ArrayList<>();
+
+        final String[] widgets = html.split("period-movement-widget");
+
+        for (int i = 1; i < widgets.length; i++) {
+            if (widgets[i].contains("badge bg-yellow")) {
+                final Matcher matcher = MOVEMENT_ID.matcher(widgets[i]);
+                if (matcher.find()) {
+                    ids.add(matcher.group(1));
+                }
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.loadtest;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * A minimal browser for the JSF views, it keeps the session cookie of one virtual user and posts the forms back with
+ * the values rendered by the server, the same way a browser without javascript would do
+ *
+ * The buttons are submitted as full postbacks instead of the PrimeFaces ajax requests, the action executed on the
+ * server is the same and the navigation is followed by the redirects
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.1.0
+ * @since 3.1.0, 18/10/2026
+ */
+final class JsfClient {
+
+    private static final Pattern INPUT = Pattern.compile("<input([^>]*)>", Pattern.DOTALL);
+    private static final Pattern SELECT = Pattern.compile("<select([^>]*)>(.*?)</select>", Pattern.DOTALL);
+    private static final Pattern OPTION = Pattern.compile("<option([^>]*)>", Pattern.DOTALL);
+    private static final Pattern TEXTAREA = Pattern.compile("<textarea([^>]*)>(.*?)</textarea>", Pattern.DOTALL);
+    private static final Pattern BUTTON = Pattern.compile("<button([^>]*)>", Pattern.DOTALL);
+
+    private final String baseUrl;
+    private final HttpClient client;
+
+    /**
+     * Constructor...
+     *
+     * @param baseUrl the URL of the application, like http://localhost:8080/web-budget
+     */
+    JsfClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * Open a view
+     *
+     * @param path of the view, relative to the application URL
+     * @return the {@link Page} rendered
+     * @throws IOException if the server can't be reached or the view can't be rendered
+     */
+    Page get(String path) throws IOException {
+        return this.send(HttpRequest.newBuilder(URI.create(this.baseUrl + path)).GET());
+    }
+
+    /**
+     * Log in on the application, the session is kept by this client for the next requests
+     *
+     * @param username to log in
+     * @param password of the user
+     * @throws IOException if the login fails
+     */
+    void login(String username, String password) throws IOException {
+
+        final Page page = this.get("index.xhtml");
+
+        // the inputs of the login have generated names, they are the only text and password inputs of the form
+        final Matcher form = Pattern.compile("<form[^>]*id=\"loginForm\".*?</form>", Pattern.DOTALL)
+                .matcher(page.getHtml());
+
+        if (!form.find()) {
+            throw new IOException("Can't find the login form");
+        }
+
+        final String html = form.group();
+
+        final Map<String, String> credentials = Map.of(
+                inputName(html, "text"), username,
+                inputName(html, "password"), password);
+
+        final Page dashboard = this.submit(page, "loginForm", "btn-primary", credentials);
+
+        if (!dashboard.getUri().getPath().endsWith("dashboard.xhtml")) {
+            throw new IOException("Login refused for " + username);
+        }
+    }
+
+    /**
+     * Post a form back to the server as if the button with the given style was clicked
+     *
+     * @param page where the form is
+     * @param formId the id of the form
+     * @param buttonStyle one of the style classes of the button, like btn-success
+     * @param values to replace the ones rendered on the form
+     * @return the {@link Page} rendered after the action
+     * @throws IOException if the server can't be reached or the form can't be found
+     */
+    Page submit(Page page, String formId, String buttonStyle, Map<String, String> values) throws IOException {
+
+        final Matcher matcher = Pattern.compile("<form([^>]*\\bid=\"" + Pattern.quote(formId) + "\"[^>]*)>(.*?)</form>",
+                Pattern.DOTALL).matcher(page.getHtml());
+
+        if (!matcher.find()) {
+            throw new IOException("Can't find the form " + formId + " at " + page.getUri());
+        }
+
+        final String body = matcher.group(2);
+        final Map<String, String> fields = fieldsOf(body);
+
+        final String button = buttonOf(body, buttonStyle)
+                .orElseThrow(() -> new IOException("Can't find the button " + buttonStyle + " at " + formId));
+
+        fields.put(formId, formId);
+        fields.put(button, button);
+        fields.putAll(values);
+
+        final String action = attribute(matcher.group(1), "action").orElse(page.getUri().getPath());
+
+        final String encoded = fields.entrySet()
+                .stream()
+                .map(entry -> encode(entry.getKey()) + "=" + encode(entry.getValue()))
+                .collect(Collectors.joining("&"));
+
+        return this.send(HttpRequest.newBuilder(page.getUri().resolve(action))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(encoded)));
+    }
+
+    /**
+     * Send the request and check the response
+     *
+     * @param builder of the request
+     * @return the {@link Page} in the response
+     * @throws IOException if the response is an error
+     */
+    private Page send(HttpRequest.Builder builder) throws IOException {
+
+        final HttpResponse<String> response;
+
+        try {
+            response = this.client.send(builder.timeout(Duration.ofSeconds(60)).build(),
+                    HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        }
+
+        if (response.statusCode() >= 400) {
+            throw new IOException("HTTP " + response.statusCode() + " at " + response.uri());
+        }
+        return new Page(response.uri(), response.body());
+    }
+
+    /**
+     * The values of the inputs, selects and text areas of a form, a select without a value gets the first option with
+     * one so the required fields are always filled
+     *
+     * @param form the content of the form
+     * @return the values by name
+     */
+    private static Map<String, String> fieldsOf(String form) {
+
+        final Map<String, String> fields = new LinkedHashMap<>();
+
+        final Matcher inputs = INPUT.matcher(form);
+
+        while (inputs.find()) {
+
+            final String attributes = inputs.group(1);
+            final String type = attribute(attributes, "type").orElse("text");
+
+            if (type.equals("submit") || type.equals("button") || type.equals("image")) {
+                continue;
+            }
+
+            if ((type.equals("checkbox") || type.equals("radio")) && !attributes.contains("checked")) {
+                continue;
+            }
+
+            attribute(attributes, "name").ifPresent(name ->
+                    fields.put(name, attribute(attributes, "value").orElse("")));
+        }
+
+        final Matcher selects = SELECT.matcher(form);
+
+        while (selects.find()) {
+
+            final Optional<String> name = attribute(selects.group(1), "name");
+
+            if (name.isEmpty()) {
+                continue;
+            }
+
+            String selected = "";
+            String first = "";
+
+            final Matcher options = OPTION.matcher(selects.group(2));
+
+            while (options.find()) {
+
+                final String value = attribute(options.group(1), "value").orElse("");
+
+                if (options.group(1).contains("selected")) {
+                    selected = value;
+                }
+                if (first.isEmpty()) {
+                    first = value;
+                }
+            }
+            fields.put(name.get(), selected.isEmpty() ? first : selected);
+        }
+
+        final Matcher textAreas = TEXTAREA.matcher(form);
+
+        while (textAreas.find()) {
+            final String value = unescape(textAreas.group(2));
+            attribute(textAreas.group(1), "name").ifPresent(name -> fields.put(name, value));
+        }
+
+        return fields;
+    }
+
+    /**
+     * The values of the options of a select, without the empty no selection option
+     *
+     * @param html where the select is
+     * @param name of the select
+     * @return the values of the options
+     */
+    static List<String> optionsOf(String html, String name) {
+
+        final List<String> values = new ArrayList<>();
+
+        final Matcher selects = SELECT.matcher(html);
+
+        while (selects.find()) {
+            if (attribute(selects.group(1), "name").filter(name::equals).isPresent()) {
+                final Matcher options = OPTION.matcher(selects.group(2));
+                while (options.find()) {
+                    attribute(options.group(1), "value")
+                            .filter(value -> !value.isEmpty())
+                            .ifPresent(values::add);
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * @param html of the form
+     * @param type of the input
+     * @return the name of the first input of the given type
+     * @throws IOException if there is no such input
+     */
+    private static String inputName(String html, String type) throws IOException {
+
+        final Matcher matcher = Pattern.compile("<input[^>]*type=\"" + type + "\"[^>]*>").matcher(html);
+
+        while (matcher.find()) {
+            final Matcher name = Pattern.compile("\\sname=\"([^\"]+)\"").matcher(matcher.group());
+            if (name.find()) {
+                return name.group(1);
+            }
+        }
+        throw new IOException("Can't find the " + type + " input on the login page");
+    }
+
+    /**
+     * @param form the content of the form
+     * @param style one of the style classes of the button
+     * @return the name of the first button with the style
+     */
+    private static Optional<String> buttonOf(String form, String style) {
+
+        final Matcher buttons = BUTTON.matcher(form);
+
+        while (buttons.find()) {
+
+            final String attributes = buttons.group(1);
+
+            final boolean matches = attribute(attributes, "class")
+                    .map(value -> (" " + value + " ").contains(" " + style + " "))
+                    .orElse(false);
+
+            if (matches) {
+                return attribute(attributes, "name");
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param attributes of the tag
+     * @param name of the attribute
+     * @return the unescaped value of the attribute
+     */
+    private static Optional<String> attribute(String attributes, String name) {
+        final Matcher matcher = Pattern.compile("(?:^|\\s)" + name + "=\"([^\"]*)\"").matcher(attributes);
+        return matcher.find() ? Optional.of(unescape(matcher.group(1))) : Optional.empty();
+    }
+
+    /**
+     * @param value to be unescaped
+     * @return the value without the HTML entities used by the JSF renderers
+     */
+    private static String unescape(String value) {
+        return value.replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&#58;", ":")
+                .replace("&amp;", "&");
+    }
+
+    /**
+     * @param value to be encoded
+     * @return the value encoded to be posted
+     */
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A rendered view
+     */
+    static final class Page {
+
+        private final URI uri;
+        private final String html;
+
+        /**
+         * Constructor...
+         *
+         * @param uri of the view, after the redirects
+         * @param html rendered
+         */
+        Page(URI uri, String html) {
+            this.uri = uri;
+            this.html = html;
+        }
+
+        /**
+         * @return the URI of the view, after the redirects
+         */
+        URI getUri() {
+            return this.uri;
+        }
+
+        /**
+         * @return the HTML rendered
+         */
+        String getHtml() {
+            return this.html;
+        }
+    }
+}
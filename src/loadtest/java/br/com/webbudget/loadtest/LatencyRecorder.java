@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keep the latencies of one {@link Flow} measured by all the virtual users and calculate the percentiles at the end
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+final class LatencyRecorder {
+
+    private final Flow flow;
+
+    private final List<Long> latencies;
+
+    private int errors;
+    private int skipped;
+
+    /**
+     * Constructor...
+     *
+     * @param flow measured by this recorder
+     */
+    LatencyRecorder(Flow flow) {
+        this.flow = flow;
+        this.latencies = new ArrayList<>();
+    }
+
+    /**
+     * @param nanos the time taken by a successful execution of the flow
+     */
+    synchronized void success(long nanos) {
+        this.latencies.add(nanos);
+    }
+
+    /**
+     * Count a failed execution, the latency is not used on the percentiles
+     */
+    synchronized void error() {
+        this.errors++;
+    }
+
+    /**
+     * Count an execution with nothing to do, like a payment without open movements
+     */
+    synchronized void skipped() {
+        this.skipped++;
+    }
+
+    /**
+     * @return the summary of this flow as one line of text
+     */
+    synchronized String summary() {
+        return String.format(Locale.ROOT, "%-18s count=%-7d errors=%-5d skipped=%-5d "
+                        + "p50=%8.1fms p95=%8.1fms p99=%8.1fms max=%8.1fms",
+                this.flow, this.latencies.size(), this.errors, this.skipped, this.percentile(50),
+                this.percentile(95), this.percentile(99), this.percentile(100));
+    }
+
+    /**
+     * @return the summary of this flow as a JSON object
+     */
+    synchronized String toJson() {
+        return String.format(Locale.ROOT, "{\"flow\":\"%s\",\"count\":%d,\"errors\":%d,\"skipped\":%d,"
+                        + "\"p50\":%.3f,\"p95\":%.3f,\"p99\":%.3f,\"max\":%.3f}",
+                this.flow, this.latencies.size(), this.errors, this.skipped, this.percentile(50),
+                this.percentile(95), this.percentile(99), this.percentile(100));
+    }
+
+    /**
+     * The percentile by the nearest rank method
+     *
+     * @param percentile between 1 and 100
+     * @return the latency in milliseconds, zero if nothing was measured
+     */
+    private double percentile(int percentile) {
+
+        if (this.latencies.isEmpty()) {
+            return 0;
+        }
+
+        final List<Long> sorted = new ArrayList<>(this.latencies);
+        Collections.sort(sorted);
+
+        final int rank = (int) Math.ceil(percentile / 100d * sorted.size());
+
+        return sorted.get(Math.max(rank, 1) - 1) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The load test of the main flows of the application against a running server, usually one with the sample data
+ * generated for a few years
+ *
+ * Every virtual user has its own session and executes a random mix of the {@link Flow} until the end of the duration,
+ * at the end the latency percentiles of each flow are printed and, if a report path is given, written as JSON. The
+ * options are the system properties:
+ *
+ * <ul>
+ *     <li>loadtest.url, the URL of the application, default http://localhost:8080/web-budget</li>
+ *     <li>loadtest.username and loadtest.password, the user of the virtual users, default admin/admin</li>
+ *     <li>loadtest.users, the number of concurrent virtual users, default 10</li>
+ *     <li>loadtest.duration, the duration in seconds, default 60</li>
+ *     <li>loadtest.report, the path of the JSON report, optional</li>
+ * </ul>
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.1.0
+ * @since 3.1.0, 18/10/2026
+ */
+public final class LoadTest {
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int users;
+    private final long duration;
+
+    private final Map<Flow, LatencyRecorder> recorders;
+
+    /**
+     * Constructor...
+     */
+    private LoadTest() {
+
+        this.url = System.getProperty("loadtest.url", "http://localhost:8080/web-budget");
+        this.username = System.getProperty("loadtest.username", "admin");
+        this.password = System.getProperty("loadtest.password", "admin");
+        this.users = Integer.getInteger("loadtest.users", 10);
+        this.duration = TimeUnit.SECONDS.toNanos(Integer.getInteger("loadtest.duration", 60));
+
+        this.recorders = new EnumMap<>(Flow.class);
+
+        for (Flow flow : Flow.values()) {
+            this.recorders.put(flow, new LatencyRecorder(flow));
+        }
+    }
+
+    /**
+     * Run the load test
+     *
+     * @param args not used, the options are system properties
+     * @throws Exception if the test is interrupted or the report can't be written
+     */
+    public static void main(String[] args) throws Exception {
+
+        final LoadTest loadTest = new LoadTest();
+
+        loadTest.run();
+        loadTest.report(System.getProperty("loadtest.report"));
+    }
+
+    /**
+     * Start the virtual users and wait for all of them to finish
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void run() throws InterruptedException {
+
+        System.out.printf("Running %d users against %s for %ds%n", this.users, this.url,
+                TimeUnit.NANOSECONDS.toSeconds(this.duration));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(this.users);
+        final CountDownLatch finished = new CountDownLatch(this.users);
+
+        final long deadline = System.nanoTime() + this.duration;
+
+        for (int i = 0; i < this.users; i++) {
+            final int user = i;
+            executor.execute(() -> {
+                try {
+                    this.virtualUser(user, deadline);
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+
+        finished.await();
+        executor.shutdown();
+    }
+
+    /**
+     * One virtual user, log in and repeat the flows until the deadline
+     *
+     * @param user the number of the user, the seed of his choices
+     * @param deadline to stop, as {@link System#nanoTime()}
+     */
+    private void virtualUser(int user, long deadline) {
+
+        final Random random = new Random(user);
+        final JsfClient client = new JsfClient(this.url);
+
+        try {
+            client.login(this.username, this.password);
+        } catch (IOException ex) {
+            System.err.printf("User %d can't log in: %s%n", user, ex.getMessage());
+            return;
+        }
+
+        while (System.nanoTime() < deadline) {
+
+            final Flow flow = Flow.pick(random);
+            final LatencyRecorder recorder = this.recorders.get(flow);
+
+            final long start = System.nanoTime();
+
+            try {
+                if (flow.run(client, random)) {
+                    recorder.success(System.nanoTime() - start);
+                } else {
+                    recorder.skipped();
+                }
+            } catch (IOException ex) {
+                recorder.error();
+                System.err.printf("User %d failed on %s: %s%n", user, flow, ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Print the summary of each flow and write the JSON report
+     *
+     * @param path of the report, null to only print
+     * @throws IOException if the report can't be written
+     */
+    private void report(String path) throws IOException {
+
+        this.recorders.values().forEach(recorder -> System.out.println(recorder.summary()));
+
+        if (path != null && !path.isBlank()) {
+
+            final String json = this.recorders.values()
+                    .stream()
+                    .map(LatencyRecorder::toJson)
+                    .collect(Collectors.joining(",", String.format("{\"users\":%d,\"duration\":%d,\"flows\":[",
+                            this.users, TimeUnit.NANOSECONDS.toSeconds(this.duration)), "]}"));
+
+            Files.writeString(Path.of(path), json, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,392 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.loadtest;
+
+import br.com.webbudget.application.components.ui.filter.PeriodMovementFilter;
+import br.com.webbudget.domain.entities.financial.CreditCardInvoice;
+import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import br.com.webbudget.domain.entities.financial.PeriodMovementState;
+import br.com.webbudget.domain.entities.registration.Card;
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import br.com.webbudget.domain.entities.registration.Vehicle;
+import br.com.webbudget.domain.repositories.financial.ApportionmentRepository;
+import br.com.webbudget.domain.repositories.financial.CreditCardInvoiceRepository;
+import br.com.webbudget.domain.repositories.financial.PeriodMovementRepository;
+import br.com.webbudget.domain.repositories.journal.RefuelingRepository;
+import br.com.webbudget.domain.repositories.registration.WalletBalanceRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.apache.deltaspike.core.api.provider.BeanManagerProvider;
+import org.apache.deltaspike.data.impl.RepositoryExtension;
+import org.apache.deltaspike.jpa.impl.entitymanager.DefaultEntityManagerHolder;
+import org.apache.deltaspike.jpa.impl.entitymanager.EntityManagerRefLookup;
+import org.apache.deltaspike.jpa.impl.transaction.ResourceLocalTransactionStrategy;
+import org.apache.deltaspike.jpa.impl.transaction.TransactionStrategyHelper;
+import org.apache.deltaspike.jpa.impl.transaction.context.TransactionContextExtension;
+import org.apache.deltaspike.partialbean.impl.PartialBeanBindingExtension;
+import org.apache.deltaspike.proxy.spi.invocation.DeltaSpikeProxyInvocationHandler;
+import org.flywaydb.core.Flyway;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.se.SeContainer;
+import javax.enterprise.inject.se.SeContainerInitializer;
+import javax.enterprise.inject.spi.AfterBeanDiscovery;
+import javax.enterprise.inject.spi.Extension;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+/**
+ * The regression check of the query plans, the hot queries of the repositories are executed against an embedded
+ * database with the generated data of the {@link QueryPlanData} and the plan of each one must use the index created
+ * for it
+ *
+ * The repositories are the ones of the application, started on a CDI container with the same persistence unit, so
+ * what is explained is the SQL generated by the ORM for each method, captured by the {@link CapturingDataSource} with
+ * the values bound to it. The planner runs with the default settings, a changed query, a dropped index or an index
+ * the planner stops choosing at this volume are all caught. The options are the system properties:
+ *
+ * <ul>
+ *     <li>queryplan.verbose, print the SQL and the plan of every query, not only of the failed ones, default
+ *     false</li>
+ * </ul>
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 2.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public final class QueryPlanCheck {
+
+    private static final long PERIOD = QueryPlanData.PERIODS / 2;
+    private static final long CARD = 7;
+    private static final long VEHICLE = 7;
+    private static final long WALLET = 3;
+
+    private final SeContainer container;
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor...
+     *
+     * @param container with the repositories
+     */
+    private QueryPlanCheck(SeContainer container) {
+        this.container = container;
+        this.entityManager = container.select(EntityManager.class).get();
+    }
+
+    /**
+     * Run the check
+     *
+     * @param args not used, the options are system properties
+     * @throws Exception if the embedded database can't be started or prepared
+     */
+    public static void main(String[] args) throws Exception {
+
+        final boolean verbose = Boolean.getBoolean("queryplan.verbose");
+
+        final List<String> failures = new ArrayList<>();
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.start()) {
+
+            final DataSource dataSource = postgres.getPostgresDatabase();
+
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .locations("db/migrations")
+                    .sqlMigrationPrefix("")
+                    .load()
+                    .migrate();
+
+            System.out.println("Generating the data of the query plans");
+
+            QueryPlanData.seed(dataSource);
+
+            final EntityManagerFactory factory = entityManagerFactoryOf(new CapturingDataSource(dataSource));
+
+            try (SeContainer container = containerOf(factory); Connection connection = dataSource.getConnection()) {
+
+                final QueryPlanCheck queryPlanCheck = new QueryPlanCheck(container);
+
+                for (Check check : queryPlanCheck.checks()) {
+
+                    final CapturingDataSource.Captured query = queryPlanCheck.capture(check);
+                    final String plan = explain(connection, query);
+
+                    if (verbose) {
+                        System.out.printf("%s%n%s%n%s%n", check.name, query.getSql(), plan);
+                    }
+
+                    if (check.usesAnyIndex(plan)) {
+                        System.out.printf("%s: ok%n", check.name);
+                    } else {
+                        failures.add(String.format("%s: expected one of %s but the plan of%n%s%nis%n%s",
+                                check.name, check.indexes, query.getSql(), plan));
+                    }
+                }
+            } finally {
+                factory.close();
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            failures.forEach(System.err::println);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return the repository methods to be checked and the indexes they must use
+     */
+    private List<Check> checks() {
+
+        final PeriodMovementRepository periodMovementRepository = this.repository(PeriodMovementRepository.class);
+        final ApportionmentRepository apportionmentRepository = this.repository(ApportionmentRepository.class);
+        final CreditCardInvoiceRepository creditCardInvoiceRepository =
+                this.repository(CreditCardInvoiceRepository.class);
+        final WalletBalanceRepository walletBalanceRepository = this.repository(WalletBalanceRepository.class);
+        final RefuelingRepository refuelingRepository = this.repository(RefuelingRepository.class);
+
+        final FinancialPeriod period = this.entityManager.find(FinancialPeriod.class, PERIOD);
+        final PeriodMovement movement = this.entityManager.find(PeriodMovement.class,
+                PERIOD * QueryPlanData.MOVEMENTS_PER_PERIOD);
+        final Card card = this.entityManager.find(Card.class, CARD);
+        final Vehicle vehicle = this.entityManager.find(Vehicle.class, VEHICLE);
+
+        final long invoice = (PERIOD - 1) * QueryPlanData.CARDS + CARD;
+
+        final PeriodMovementFilter filter = new PeriodMovementFilter();
+
+        final LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+        return List.of(
+                new Check("PeriodMovementRepository.findAnyByFinancialPeriodAndState", "financial.movements",
+                        () -> periodMovementRepository.findAnyByFinancialPeriodAndState(period,
+                                PeriodMovementState.OPEN),
+                        Set.of("ix_movements_period_state")),
+                new Check("PeriodMovementRepository.findByFinancialPeriod", "financial.movements",
+                        () -> periodMovementRepository.findByFinancialPeriod(period),
+                        Set.of("ix_movements_period_state", "ix_movements_period_created_on_id")),
+                new Check("PeriodMovementRepository.findPageBy", "financial.movements",
+                        () -> periodMovementRepository.findPageBy(filter, 0, 10),
+                        Set.of("ix_movements_period_created_on_id")),
+                new Check("PeriodMovementRepository.findPageAfter", "financial.movements",
+                        () -> periodMovementRepository.findPageAfter(filter, movement, 10),
+                        Set.of("ix_movements_period_created_on_id")),
+                new Check("ApportionmentRepository.findByMovement", "financial.apportionments",
+                        () -> apportionmentRepository.findByMovement(movement),
+                        Set.of("ix_apportionments_movement")),
+                new Check("CreditCardInvoiceRepository.findByCardAndFinancialPeriod", "financial.credit_card_invoices",
+                        () -> creditCardInvoiceRepository.findByCardAndFinancialPeriod(card, period),
+                        Set.of("ix_credit_card_invoices_card_period")),
+                new Check("CreditCardInvoiceRepository.findByFinancialPeriod", "financial.credit_card_invoices",
+                        () -> creditCardInvoiceRepository.findByFinancialPeriod(period),
+                        Set.of("ix_credit_card_invoices_period")),
+                new Check("CreditCardInvoice.periodMovements", "financial.movements",
+                        () -> this.entityManager.find(CreditCardInvoice.class, invoice),
+                        Set.of("ix_movements_credit_card_invoice")),
+                new Check("WalletBalanceRepository.sumBetween", "financial.wallet_balances",
+                        () -> walletBalanceRepository.sumBetween(WALLET, start, start.plusMonths(1)),
+                        Set.of("ix_wallet_balances_wallet_date")),
+                new Check("RefuelingRepository.findByVehicleAndAccounted", "journal.refuelings",
+                        () -> refuelingRepository.findByVehicleAndAccounted(vehicle, false),
+                        Set.of("ix_refuelings_vehicle_unaccounted")),
+                new Check("RefuelingRepository.findByVehicleOrderByIdAsc", "journal.refuelings",
+                        () -> refuelingRepository.findByVehicleOrderByIdAsc(vehicle),
+                        Set.of("ix_refuelings_vehicle_id", "ix_refuelings_vehicle_event_date")),
+                new Check("RefuelingRepository.findByAccountedBy", "journal.refuelings",
+                        () -> refuelingRepository.findByAccountedBy(QueryPlanData.refuelingCode(VEHICLE)),
+                        Set.of("ix_refuelings_accounted_by"))
+        );
+    }
+
+    /**
+     * @param type of the repository
+     * @param <T> the type of the repository
+     * @return the repository, as created by the container
+     */
+    private <T> T repository(Class<T> type) {
+        return this.container.select(type).get();
+    }
+
+    /**
+     * Call the repository method of the check and capture the SQL of it, the persistence context is cleared before so
+     * the method is never answered by the entities already loaded
+     *
+     * @param check to be executed
+     * @return the first query executed on the table of the check, the others are the loading of the associations
+     */
+    private CapturingDataSource.Captured capture(Check check) {
+
+        this.entityManager.clear();
+
+        final List<CapturingDataSource.Captured> captured;
+
+        CapturingDataSource.start();
+        try {
+            check.query.run();
+        } finally {
+            captured = CapturingDataSource.stop();
+        }
+
+        return captured.stream()
+                .filter(query -> query.getSql().contains("from " + check.table + " "))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(check.name + " executed no query on " + check.table));
+    }
+
+    /**
+     * @param dataSource where the ORM executes the queries
+     * @return the {@link EntityManagerFactory} of the persistence unit of the application, local to this check
+     */
+    private static EntityManagerFactory entityManagerFactoryOf(DataSource dataSource) {
+
+        final Map<String, Object> properties = new HashMap<>();
+
+        properties.put("javax.persistence.transactionType", "RESOURCE_LOCAL");
+        properties.put("javax.persistence.nonJtaDataSource", dataSource);
+        properties.put("hibernate.hbm2ddl.auto", "none");
+        properties.put("hibernate.show_sql", "false");
+        properties.put("hibernate.cache.use_second_level_cache", "false");
+        properties.put("hibernate.cache.use_query_cache", "false");
+
+        return Persistence.createEntityManagerFactory("webBudgetPU", properties);
+    }
+
+    /**
+     * @param factory of the {@link EntityManager} used by the repositories
+     * @return the CDI container with only the repositories checked and what they need to run
+     */
+    private static SeContainer containerOf(EntityManagerFactory factory) {
+        return SeContainerInitializer.newInstance()
+                .disableDiscovery()
+                .addExtensions(new BeanManagerProvider(), new PartialBeanBindingExtension(),
+                        new RepositoryExtension(), new TransactionContextExtension(), new EntityManagerBean(factory))
+                .addPackages(true, RepositoryExtension.class, DeltaSpikeProxyInvocationHandler.class)
+                .addBeanClasses(DefaultEntityManagerHolder.class, EntityManagerRefLookup.class,
+                        ResourceLocalTransactionStrategy.class, TransactionStrategyHelper.class,
+                        PeriodMovementRepository.class, ApportionmentRepository.class,
+                        CreditCardInvoiceRepository.class, WalletBalanceRepository.class, RefuelingRepository.class)
+                .initialize();
+    }
+
+    /**
+     * @param connection to the database
+     * @param query to be explained, with the same values bound by the ORM
+     * @return the plan as text, one node per line
+     * @throws SQLException if the query is not valid on the migrated schema
+     */
+    private static String explain(Connection connection, CapturingDataSource.Captured query) throws SQLException {
+
+        final StringJoiner plan = new StringJoiner(System.lineSeparator());
+
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query.getSql())) {
+
+            final List<Object> values = query.getValues();
+
+            for (int index = 0; index < values.size(); index++) {
+                statement.setObject(index + 1, values.get(index));
+            }
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.add(resultSet.getString(1));
+                }
+            }
+        }
+        return plan.toString();
+    }
+
+    /**
+     * The {@link EntityManager} of the check as a bean, the repositories resolve it from the container
+     */
+    private static final class EntityManagerBean implements Extension {
+
+        private final EntityManagerFactory factory;
+
+        /**
+         * Constructor...
+         *
+         * @param factory of the {@link EntityManager}
+         */
+        EntityManagerBean(EntityManagerFactory factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Add the bean
+         *
+         * @param event of the container
+         */
+        void addBean(@Observes AfterBeanDiscovery event) {
+            event.addBean()
+                    .types(EntityManager.class, Object.class)
+                    .scope(ApplicationScoped.class)
+                    .createWith(context -> this.factory.createEntityManager())
+                    .destroyWith((entityManager, context) -> ((EntityManager) entityManager).close());
+        }
+    }
+
+    /**
+     * One repository method and the indexes that can be used by it
+     */
+    private static final class Check {
+
+        private final String name;
+        private final String table;
+        private final Runnable query;
+        private final Set<String> indexes;
+
+        /**
+         * Constructor...
+         *
+         * @param name of the repository method
+         * @param table read by the query to be explained
+         * @param query the call of the method
+         * @param indexes the plan must use at least one of them
+         */
+        Check(String name, String table, Runnable query, Set<String> indexes) {
+            this.name = name;
+            this.table = table;
+            this.query = query;
+            this.indexes = indexes;
+        }
+
+        /**
+         * @param plan of the query
+         * @return true if any of the indexes is used by an index, index only or bitmap scan
+         */
+        boolean usesAnyIndex(String plan) {
+            return this.indexes.stream().anyMatch(index ->
+                    Pattern.compile("Scan (Backward )?(using|on) " + index + "\\b").matcher(plan).find());
+        }
+    }
+}
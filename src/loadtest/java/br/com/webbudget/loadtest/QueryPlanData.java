@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.loadtest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * The data generated for the {@link QueryPlanCheck}, the volume of some years of use of a busy installation so the
+ * planner chooses between the indexes and the sequential scans as it does on production
+ *
+ * The rows are generated by the database itself, with the triggers and foreign keys disabled during the load because
+ * the derived columns are already written here, the registrations created by the migrations are kept. At the end the
+ * tables are analyzed, the plans are made with fresh statistics
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+final class QueryPlanData {
+
+    static final int PERIODS = 120;
+    static final int MOVEMENTS_PER_PERIOD = 2_000;
+    static final int CARDS = 50;
+    static final int WALLETS = 10;
+    static final int VEHICLES = 50;
+    static final int REFUELINGS = 100_000;
+    static final int UNACCOUNTED_REFUELINGS = 150;
+    static final int WALLET_BALANCES = 240_000;
+
+    private static final List<String> SEED = List.of(
+            "SET session_replication_role = replica",
+
+            "INSERT INTO registration.cost_centers (id, created_on, active, color, expenses_budget, name, " +
+                    "revenues_budget) " +
+                    "SELECT g, now(), true, 'rgba(222,88,188,1.0)', 0, 'Cost center ' || g, 0 " +
+                    "FROM generate_series(1, 10) g ON CONFLICT (id) DO NOTHING",
+
+            "INSERT INTO registration.movement_classes (id, created_on, active, movement_class_type, name, " +
+                    "id_cost_center) " +
+                    "SELECT g, now(), true, CASE WHEN g % 4 = 0 THEN 'REVENUE' ELSE 'EXPENSE' END, 'Class ' || g, " +
+                    "1 + g % 10 FROM generate_series(1, 40) g ON CONFLICT (id) DO NOTHING",
+
+            "INSERT INTO registration.financial_periods (id, created_on, closed, end_date, expired, identification, " +
+                    "start_date, search_text) " +
+                    "SELECT g, now(), g < " + PERIODS + ", " +
+                    "(date '2017-01-01' + (g * interval '1 month') - interval '1 day')::date, false, " +
+                    "to_char(date '2017-01-01' + ((g - 1) * interval '1 month'), 'MM/YY'), " +
+                    "(date '2017-01-01' + ((g - 1) * interval '1 month'))::date, " +
+                    "to_char(date '2017-01-01' + ((g - 1) * interval '1 month'), 'MM/YY') " +
+                    "FROM generate_series(1, " + PERIODS + ") g",
+
+            "INSERT INTO registration.wallets (id, created_on, active, actual_balance, name, wallet_type) " +
+                    "SELECT g, now(), true, 0, 'Wallet ' || g, 'BANK_ACCOUNT' FROM generate_series(1, " + WALLETS +
+                    ") g",
+
+            "INSERT INTO registration.cards (id, created_on, active, card_type, flag, name, number, owner, " +
+                    "id_wallet) " +
+                    "SELECT g, now(), true, 'CREDIT', 'VISA', 'Card ' || g, lpad(g::text, 16, '0'), 'Owner', " +
+                    "1 + g % " + WALLETS + " FROM generate_series(1, " + CARDS + ") g",
+
+            "INSERT INTO registration.vehicles (id, created_on, active, brand, fuel_capacity, identification, " +
+                    "license_plate, model, odometer, vehicle_type, id_cost_center) " +
+                    "SELECT g, now(), true, 'Brand', 50, 'Vehicle ' || g, 'ABC' || lpad(g::text, 4, '0'), 'Model', " +
+                    "0, 'PRIVATE_CAR', 1 FROM generate_series(1, " + VEHICLES + ") g",
+
+            "INSERT INTO financial.credit_card_invoices (id, created_on, due_date, identification, invoice_state, " +
+                    "total_value, id_card, id_financial_period) " +
+                    "SELECT (p.id - 1) * " + CARDS + " + c.id, now(), p.end_date, c.id || '/' || p.identification, " +
+                    "CASE WHEN p.closed THEN 'PAID' ELSE 'OPEN' END, 0, c.id, p.id " +
+                    "FROM registration.financial_periods p CROSS JOIN registration.cards c",
+
+            "INSERT INTO financial.movements (discriminator_value, id, created_on, code, identification, value, " +
+                    "due_date, period_movement_state, period_movement_type, id_credit_card_invoice, " +
+                    "id_financial_period, search_text, direction) " +
+                    "SELECT 'PERIOD_MOVEMENT', g, p.start_date + ((g - 1) % " + MOVEMENTS_PER_PERIOD + ") * " +
+                    "interval '20 minutes', lpad(to_hex(g), 6, '0'), 'Movement ' || g, 1 + g % 500, p.end_date, " +
+                    "CASE WHEN p.closed THEN 'ACCOUNTED' ELSE 'OPEN' END, 'MOVEMENT', " +
+                    "CASE WHEN g % 5 = 0 THEN (p.id - 1) * " + CARDS + " + 1 + g % " + CARDS + " END, p.id, " +
+                    "lpad(to_hex(g), 6, '0') || ' movement ' || g || ' ' || p.identification, " +
+                    "CASE WHEN g % 4 = 0 THEN 'REVENUE' ELSE 'EXPENSE' END " +
+                    "FROM generate_series(1, " + PERIODS * MOVEMENTS_PER_PERIOD + ") g " +
+                    "JOIN registration.financial_periods p ON p.id = 1 + (g - 1) / " + MOVEMENTS_PER_PERIOD,
+
+            "INSERT INTO financial.apportionments (id, created_on, code, value, id_cost_center, id_movement, " +
+                    "id_movement_class) " +
+                    "SELECT mv.id, mv.created_on, mv.code, mv.value, 1 + mv.id % 10, mv.id, " +
+                    "CASE WHEN mv.id % 4 = 0 THEN 4 ELSE 1 END + 4 * (mv.id % 10) " +
+                    "FROM financial.movements mv",
+
+            "INSERT INTO financial.wallet_balances (id, created_on, actual_balance, balance_type, " +
+                    "movement_date_time, old_balance, reason_type, transaction_value, id_wallet) " +
+                    "SELECT g, now(), 0, 'CREDIT', timestamp '2017-01-01' + g * interval '15 minutes', 0, 'REVENUE', " +
+                    "1 + g % 100, 1 + g % " + WALLETS + " FROM generate_series(1, " + WALLET_BALANCES + ") g",
+
+            "INSERT INTO journal.refuelings (id, created_on, accounted, accounted_by, code, cost, cost_per_liter, " +
+                    "distance, event_date, first_refueling, full_tank, liters, odometer, id_financial_period, " +
+                    "id_movement_class, id_vehicle) " +
+                    "SELECT g, now(), g <= " + (REFUELINGS - UNACCOUNTED_REFUELINGS) + ", " +
+                    "CASE WHEN g <= " + (REFUELINGS - UNACCOUNTED_REFUELINGS) + " THEN " + refuelingCodeSql("g") +
+                    " END, lpad(to_hex(g), 6, '0'), 200, 5, 400, " +
+                    "date '2017-01-01' + ((g - 1) * " + PERIODS * 30 + " / " + REFUELINGS + "), g <= " + VEHICLES +
+                    ", true, 40, 400 * (1 + (g - 1) / " + VEHICLES + "), 1 + (g - 1) * " + PERIODS + " / " +
+                    REFUELINGS + ", 1, 1 + (g - 1) % " + VEHICLES + " FROM generate_series(1, " + REFUELINGS + ") g",
+
+            "SET session_replication_role = DEFAULT",
+
+            "ANALYZE"
+    );
+
+    /**
+     * Constructor...
+     */
+    private QueryPlanData() { }
+
+    /**
+     * Generate the data on a migrated and empty database
+     *
+     * @param dataSource of the database
+     * @throws SQLException if the data can't be written
+     */
+    static void seed(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String sql : SEED) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * @param id of the refueling
+     * @return the code used to account the refueling, the refuelings are accounted in groups of five
+     */
+    static String refuelingCode(long id) {
+        return String.format("R%05d", (id - 1) / 5);
+    }
+
+    /**
+     * @param id the SQL expression of the id of the refueling
+     * @return the same code of {@link #refuelingCode(long)} as a SQL expression
+     */
+    private static String refuelingCodeSql(String id) {
+        return "'R' || lpad(((" + id + " - 1) / 5)::text, 5, '0')";
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.loadtest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The stress test of the wallet balances, many users pay movements and transfer between the wallets at the same time
+ * and at the end the balances are checked against the history written by the application
+ *
+ * All the users start together and there are only a few wallets, so most of the operations hit the same rows. If any
+ * update of a balance was lost the final balance of the wallet is not the initial one plus the sum of the history, or
+ * the history is not a single chain of balances where every old balance is the actual balance of the previous one. The
+ * test exits with an error in any of these cases. The options are the system properties:
+ *
+ * <ul>
+ *     <li>loadtest.url, loadtest.username and loadtest.password, the same of the {@link LoadTest}</li>
+ *     <li>loadtest.users, the number of concurrent users, default 10</li>
+ *     <li>stress.operations, the number of operations of each user, default 50</li>
+ *     <li>loadtest.jdbc.url, loadtest.jdbc.username and loadtest.jdbc.password, the database of the server, default
+ *     the one of the docker compose file</li>
+ * </ul>
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public final class WalletStressTest {
+
+    private static final String TRANSFERENCE = "secured/financial/transference/formTransference.xhtml";
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int users;
+    private final int operations;
+
+    private final String jdbcUrl;
+    private final String jdbcUsername;
+    private final String jdbcPassword;
+
+    private final AtomicInteger payments;
+    private final AtomicInteger transferences;
+    private final AtomicInteger errors;
+
+    /**
+     * Constructor...
+     */
+    private WalletStressTest() {
+
+        this.url = System.getProperty("loadtest.url", "http://localhost:8080/web-budget");
+        this.username = System.getProperty("loadtest.username", "admin");
+        this.password = System.getProperty("loadtest.password", "admin");
+        this.users = Integer.getInteger("loadtest.users", 10);
+        this.operations = Integer.getInteger("stress.operations", 50);
+
+        this.jdbcUrl = System.getProperty("loadtest.jdbc.url", "jdbc:postgresql://localhost:5432/webbudget");
+        this.jdbcUsername = System.getProperty("loadtest.jdbc.username", "sa_webbudget");
+        this.jdbcPassword = System.getProperty("loadtest.jdbc.password", "sa_webbudget");
+
+        this.payments = new AtomicInteger();
+        this.transferences = new AtomicInteger();
+        this.errors = new AtomicInteger();
+    }
+
+    /**
+     * Run the stress test
+     *
+     * @param args not used, the options are system properties
+     * @throws Exception if the test is interrupted or the database can't be reached
+     */
+    public static void main(String[] args) throws Exception {
+
+        final WalletStressTest stressTest = new WalletStressTest();
+
+        final Snapshot before = stressTest.snapshot();
+
+        stressTest.run();
+
+        final List<String> failures = stressTest.check(before);
+
+        System.out.printf("%d payments, %d transferences and %d errors%n", stressTest.payments.get(),
+                stressTest.transferences.get(), stressTest.errors.get());
+
+        if (failures.isEmpty()) {
+            System.out.println("No lost updates on the wallet balances");
+        } else {
+            failures.forEach(System.err::println);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Start the users together and wait for all of them to finish
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void run() throws InterruptedException {
+
+        System.out.printf("Running %d users with %d operations each against %s%n", this.users, this.operations,
+                this.url);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(this.users);
+
+        final CountDownLatch ready = new CountDownLatch(this.users);
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch finished = new CountDownLatch(this.users);
+
+        for (int i = 0; i < this.users; i++) {
+            final int user = i;
+            executor.execute(() -> {
+                try {
+                    this.user(user, ready, start);
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        start.countDown();
+
+        finished.await();
+        executor.shutdown();
+    }
+
+    /**
+     * One user, log in, wait for the others and then pay or transfer until the end of the operations
+     *
+     * @param user the number of the user, the seed of his choices
+     * @param ready to count down when logged in
+     * @param start to wait for the other users
+     */
+    private void user(int user, CountDownLatch ready, CountDownLatch start) {
+
+        final Random random = new Random(user);
+        final JsfClient client = new JsfClient(this.url);
+
+        try {
+            client.login(this.username, this.password);
+        } catch (IOException ex) {
+            System.err.printf("User %d can't log in: %s%n", user, ex.getMessage());
+            return;
+        } finally {
+            ready.countDown();
+        }
+
+        try {
+            start.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        for (int i = 0; i < this.operations; i++) {
+            try {
+                if (random.nextBoolean() && Flow.PAYMENT.run(client, random)) {
+                    this.payments.incrementAndGet();
+                } else if (this.transfer(client, random)) {
+                    this.transferences.incrementAndGet();
+                }
+            } catch (IOException ex) {
+                this.errors.incrementAndGet();
+                System.err.printf("User %d failed: %s%n", user, ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Transfer a small random value between two random wallets
+     *
+     * @param client of the user
+     * @param random of the user
+     * @return true if the transference was submitted, false if there are not two wallets to use
+     * @throws IOException if any of the requests fails
+     */
+    private boolean transfer(JsfClient client, Random random) throws IOException {
+
+        final JsfClient.Page form = client.get(TRANSFERENCE);
+
+        final List<String> wallets = JsfClient.optionsOf(form.getHtml(), "inOrigin_input");
+
+        if (wallets.size() < 2) {
+            return false;
+        }
+
+        final int origin = random.nextInt(wallets.size());
+        final int destination = (origin + 1 + random.nextInt(wallets.size() - 1)) % wallets.size();
+
+        final String value = String.format("%d,%02d", 1 + random.nextInt(99), random.nextInt(100));
+
+        client.submit(form, "transferenceForm", "btn-success", Map.of(
+                "inOrigin_input", wallets.get(origin),
+                "inDestination_input", wallets.get(destination),
+                "inTransferDate_input", LocalDate.now().format(DateTimeFormatter.ofPattern("dd/MM/yyyy")),
+                "inValue_input", "R$ " + value,
+                "inValue_hinput", value.replace(',', '.'),
+                "inReason", "Stress test"));
+        return true;
+    }
+
+    /**
+     * Take the balance of every wallet and the last id of the balance history before the test
+     *
+     * @return the {@link Snapshot}
+     * @throws SQLException if the database can't be reached
+     */
+    private Snapshot snapshot() throws SQLException {
+
+        final Map<Long, BigDecimal> balances = new HashMap<>();
+
+        try (Connection connection = this.connect();
+             PreparedStatement wallets = connection.prepareStatement(
+                     "SELECT id, actual_balance FROM registration.wallets");
+             PreparedStatement history = connection.prepareStatement(
+                     "SELECT coalesce(max(id), 0) FROM financial.wallet_balances")) {
+
+            try (ResultSet resultSet = wallets.executeQuery()) {
+                while (resultSet.next()) {
+                    balances.put(resultSet.getLong(1), resultSet.getBigDecimal(2));
+                }
+            }
+
+            try (ResultSet resultSet = history.executeQuery()) {
+                resultSet.next();
+                return new Snapshot(balances, resultSet.getLong(1));
+            }
+        }
+    }
+
+    /**
+     * Check the balances of the wallets against the history written during the test
+     *
+     * @param before the {@link Snapshot} taken before the test
+     * @return the description of every wallet with a lost update, empty if there is none
+     * @throws SQLException if the database can't be reached
+     */
+    private List<String> check(Snapshot before) throws SQLException {
+
+        final List<String> failures = new ArrayList<>();
+
+        try (Connection connection = this.connect();
+             PreparedStatement history = connection.prepareStatement(
+                     "SELECT old_balance, actual_balance, transaction_value FROM financial.wallet_balances " +
+                             "WHERE id_wallet = ? AND id > ?");
+             PreparedStatement wallet = connection.prepareStatement(
+                     "SELECT actual_balance FROM registration.wallets WHERE id = ?")) {
+
+            for (Map.Entry<Long, BigDecimal> entry : before.balances.entrySet()) {
+
+                final long walletId = entry.getKey();
+                final BigDecimal initial = entry.getValue();
+
+                // every old balance must be the initial balance or the actual balance of exactly one other entry
+                final Map<BigDecimal, Integer> chain = new HashMap<>();
+                chain.merge(initial.stripTrailingZeros(), 1, Integer::sum);
+
+                BigDecimal sum = BigDecimal.ZERO;
+
+                history.setLong(1, walletId);
+                history.setLong(2, before.lastHistoryId);
+
+                try (ResultSet resultSet = history.executeQuery()) {
+                    while (resultSet.next()) {
+                        chain.merge(resultSet.getBigDecimal(1).stripTrailingZeros(), -1, Integer::sum);
+                        chain.merge(resultSet.getBigDecimal(2).stripTrailingZeros(), 1, Integer::sum);
+                        sum = sum.add(resultSet.getBigDecimal(3));
+                    }
+                }
+
+                wallet.setLong(1, walletId);
+
+                final BigDecimal actual;
+
+                try (ResultSet resultSet = wallet.executeQuery()) {
+                    resultSet.next();
+                    actual = resultSet.getBigDecimal(1);
+                }
+
+                if (initial.add(sum).compareTo(actual) != 0) {
+                    failures.add(String.format("Wallet %d: started with %s, moved %s but ended with %s",
+                            walletId, initial, sum, actual));
+                }
+
+                // what is left on the chain is only the final balance, anything else is a balance used twice
+                chain.merge(actual.stripTrailingZeros(), -1, Integer::sum);
+                chain.values().removeIf(count -> count == 0);
+
+                if (!chain.isEmpty()) {
+                    failures.add(String.format("Wallet %d: the balance history is not a single chain, %s",
+                            walletId, chain));
+                }
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * @return a new {@link Connection} to the database of the server
+     * @throws SQLException if the database can't be reached
+     */
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(this.jdbcUrl, this.jdbcUsername, this.jdbcPassword);
+    }
+
+    /**
+     * The state of the wallets before the test
+     */
+    private static final class Snapshot {
+
+        private final Map<Long, BigDecimal> balances;
+        private final long lastHistoryId;
+
+        /**
+         * Constructor...
+         *
+         * @param balances the actual balance of each wallet by id
+         * @param lastHistoryId the last id of the balance history
+         */
+        Snapshot(Map<Long, BigDecimal> balances, long lastHistoryId) {
+            this.balances = balances;
+            this.lastHistoryId = lastHistoryId;
+        }
+    }
+}
@@ -33,7 +33,7 @@ import java.util.Set;
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 3.0.0, 03/03/2019
  */
 public final class PeriodMovementBuilder extends AbstractBuilder<PeriodMovement> {
@@ -122,6 +122,17 @@ public final class PeriodMovementBuilder extends AbstractBuilder<PeriodMovement>
         return this;
     }
 
+    /**
+     * The hash of the statement line imported as this {@link PeriodMovement}
+     *
+     * @param importHash of the statement line
+     * @return this builder
+     */
+    public PeriodMovementBuilder importHash(String importHash) {
+        this.instance.setImportHash(importHash);
+        return this;
+    }
+
     /**
      * Add the {@link Apportionment} to the {@link PeriodMovement}
      *
@@ -132,7 +132,6 @@ public final class WalletBalanceBuilder extends AbstractBuilder<WalletBalance> {
      */
     @Override
     public WalletBalance build() {
-        this.instance.processBalances();
         return this.instance;
     }
 }
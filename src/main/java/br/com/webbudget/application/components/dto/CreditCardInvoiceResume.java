@@ -16,6 +16,7 @@
  */
 package br.com.webbudget.application.components.dto;
 
+import br.com.webbudget.domain.entities.financial.CardStatistics;
 import br.com.webbudget.domain.entities.financial.CreditCardInvoice;
 import br.com.webbudget.domain.entities.registration.FinancialPeriod;
 import lombok.EqualsAndHashCode;
@@ -23,16 +24,13 @@ import lombok.Getter;
 import lombok.ToString;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.Comparator;
-import java.util.List;
 
 /**
  * Resume of all {@link CreditCardInvoice} for all {@link FinancialPeriod}
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 3.0.0, 25/04/2019
  */
 @ToString
@@ -59,32 +57,15 @@ public final class CreditCardInvoiceResume {
     }
 
     /**
-     * Load this DTO and calculate the values
+     * Load this DTO with the values already calculated by the {@link CardStatistics}
      *
-     * @param invoices {@link List} of {@link CreditCardInvoice} to calculate the values
+     * @param statistics the {@link CardStatistics} of the closed and paid {@link CreditCardInvoice}
+     * @param actualValue the total of the open {@link CreditCardInvoice}, null if there is none
      */
-    public void load(List<CreditCardInvoice> invoices) {
-
-        this.highestValue = invoices.stream()
-                .map(CreditCardInvoice::getTotalValue)
-                .max(Comparator.naturalOrder())
-                .orElse(BigDecimal.ZERO);
-
-        this.lowestValue = invoices.stream()
-                .map(CreditCardInvoice::getTotalValue)
-                .min(Comparator.naturalOrder())
-                .orElse(BigDecimal.ZERO);
-
-        this.actualValue = invoices.stream()
-                .filter(CreditCardInvoice::isOpen)
-                .map(CreditCardInvoice::getTotalValue)
-                .min(Comparator.naturalOrder())
-                .orElse(BigDecimal.ZERO);
-
-        final BigDecimal totalValue = invoices.stream()
-                .map(CreditCardInvoice::getTotalValue)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        this.averageValue = totalValue.divide(BigDecimal.valueOf(invoices.size()), RoundingMode.CEILING);
+    public void load(CardStatistics statistics, BigDecimal actualValue) {
+        this.highestValue = statistics.getHighestValue();
+        this.lowestValue = statistics.getLowestValue();
+        this.averageValue = statistics.getAverageValue();
+        this.actualValue = actualValue != null ? actualValue : BigDecimal.ZERO;
     }
 }
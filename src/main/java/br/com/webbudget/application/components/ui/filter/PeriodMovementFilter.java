@@ -29,6 +29,7 @@ import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -38,7 +39,7 @@ import java.util.stream.Collectors;
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 3.0.0, 10/12/2018
  */
 @ToString(callSuper = true)
@@ -120,6 +121,22 @@ public final class PeriodMovementFilter extends BasicFilter {
         return PeriodMovementState.values();
     }
 
+    /**
+     * The current values of this filter as a list of plain values, used to check if the filter changed
+     *
+     * @return the {@link List} with the values of this filter
+     */
+    public List<Object> toState() {
+        return Arrays.asList(this.value,
+                this.costCenter != null ? this.costCenter.getId() : null,
+                this.movementClass != null ? this.movementClass.getId() : null,
+                this.periodMovementType,
+                this.periodMovementState,
+                this.getSelectedFinancialPeriods().stream()
+                        .map(FinancialPeriod::getId)
+                        .collect(Collectors.toList()));
+    }
+
     /**
      * Transform the selected {@link FinancialPeriod} into an array of {@link String} to be used on the query
      *
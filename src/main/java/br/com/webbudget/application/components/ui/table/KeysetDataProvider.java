@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.application.components.ui.table;
+
+import br.com.webbudget.domain.entities.PersistentEntity;
+
+import java.util.List;
+
+/**
+ * A {@link LazyDataProvider} with support to keyset pagination, when the {@link LazyModel} is created with this kind of
+ * provider the next page is searched after the last row of the previous one instead of skipping all the rows before
+ * it, and the count of rows is done only when the filter change
+ *
+ * @param <T> the type of data for the provider to provide
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public interface KeysetDataProvider<T extends PersistentEntity> extends LazyDataProvider<T> {
+
+    /**
+     * Load a page of data starting right after the given row
+     *
+     * @param last the last row of the previous page, null for the first page
+     * @param pageSize the maximum size of the page
+     * @return the {@link List} with the data of the page
+     */
+    List<T> loadAfter(T last, int pageSize);
+
+    /**
+     * Load a page of data by the offset, used only when the user jumps to a page not reached by the keyset yet
+     *
+     * @param first the start of the pagination
+     * @param pageSize the maximum size of the page
+     * @return the {@link List} with the data of the page
+     */
+    List<T> loadAt(int first, int pageSize);
+
+    /**
+     * Count the total of rows for the current filter
+     *
+     * @return the total of rows
+     */
+    int count();
+
+    /**
+     * The current state of the filter, when it changes the count is done again and the pages found are discarded
+     *
+     * @return an object representing the current filter, must implement equals
+     */
+    Object getFilterState();
+}
@@ -22,25 +22,36 @@ import org.primefaces.model.LazyDataModel;
 import org.primefaces.model.SortMeta;
 import org.primefaces.model.SortOrder;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * This abstraction when used enable lazy loading on primefaces datatable
  *
+ * If the provider is a {@link KeysetDataProvider} the pages are loaded by keyset, the last row of every page loaded is
+ * kept as the start of the next one and the row count is cached until the filter change or {@link #invalidate()}
+ *
  * @param <T> the type of this data model
  *
  * @author Arthur Gregorio
  *
- * @version 3.0.0
+ * @version 3.2.0
  * @since 2.1.0, 05/09/2015
  */
 public class LazyModel<T extends PersistentEntity> extends LazyDataModel<T> {
 
     private final LazyDataProvider<T> provider;
 
+    private final Map<Integer, T> pageStarts;
+
+    private boolean stale;
+    private int keysetPageSize;
+    private Object filterState;
+
     /**
      * Constructor...
      *
@@ -48,6 +59,8 @@ public class LazyModel<T extends PersistentEntity> extends LazyDataModel<T> {
      */
     public LazyModel(LazyDataProvider<T> provider) {
         this.provider = checkNotNull(provider);
+        this.pageStarts = new HashMap<>();
+        this.stale = true;
     }
 
     /**
@@ -78,11 +91,62 @@ public class LazyModel<T extends PersistentEntity> extends LazyDataModel<T> {
      */
     @Override
     public List<T> load(int first, int pageSize, String sortField, SortOrder sortOrder, Map<String, FilterMeta> filterBy) {
+
+        if (this.provider instanceof KeysetDataProvider) {
+            return this.loadByKeyset((KeysetDataProvider<T>) this.provider, first, pageSize);
+        }
+
         final Page<T> page = this.provider.load(first, pageSize, sortField, sortOrder);
         this.setRowCount(page.getTotalPages());
         return page.getContent();
     }
 
+    /**
+     * Load a page using the keyset of the previous page if it was already loaded, otherwise by the offset. The count
+     * is done only when the filter or the page size change or after {@link #invalidate()}
+     *
+     * @param keysetProvider the provider of the data
+     * @param first the start of the pagination
+     * @param pageSize the maximum size of the page
+     * @return the data of the page
+     */
+    private List<T> loadByKeyset(KeysetDataProvider<T> keysetProvider, int first, int pageSize) {
+
+        final Object currentFilterState = keysetProvider.getFilterState();
+
+        if (this.stale || pageSize != this.keysetPageSize || !Objects.equals(currentFilterState, this.filterState)) {
+            this.pageStarts.clear();
+            this.stale = false;
+            this.keysetPageSize = pageSize;
+            this.filterState = currentFilterState;
+            this.setRowCount(keysetProvider.count());
+        }
+
+        final List<T> content;
+
+        if (first == 0) {
+            content = keysetProvider.loadAfter(null, pageSize);
+        } else if (this.pageStarts.containsKey(first)) {
+            content = keysetProvider.loadAfter(this.pageStarts.get(first), pageSize);
+        } else {
+            content = keysetProvider.loadAt(first, pageSize);
+        }
+
+        if (!content.isEmpty()) {
+            this.pageStarts.put(first + pageSize, content.get(content.size() - 1));
+        }
+
+        return content;
+    }
+
+    /**
+     * Discard the cached row count and the keyset of the pages loaded, use it after the data is changed without a
+     * change in the filter
+     */
+    public void invalidate() {
+        this.stale = true;
+    }
+
     /**
      * {@inheritDoc }
      *
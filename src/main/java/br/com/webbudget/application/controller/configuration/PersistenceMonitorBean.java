@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.application.controller.configuration;
+
+import br.com.webbudget.application.components.ui.AbstractBean;
+import br.com.webbudget.infrastructure.jfr.FlightRecordings;
+import br.com.webbudget.infrastructure.jpa.PersistenceAggregate;
+import br.com.webbudget.infrastructure.jpa.PersistenceMonitor;
+import br.com.webbudget.infrastructure.jpa.SlowQuery;
+import lombok.Getter;
+import org.omnifaces.util.Faces;
+
+import javax.faces.view.ViewScoped;
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Controller of the page with the database usage recorded by the {@link PersistenceMonitor} and the control of the
+ * flight recording of the {@link FlightRecordings}
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.1.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Named
+@ViewScoped
+public class PersistenceMonitorBean extends AbstractBean {
+
+    @Getter
+    private List<PersistenceAggregate> requests;
+    @Getter
+    private List<PersistenceAggregate> actions;
+    @Getter
+    private List<PersistenceAggregate> methods;
+    @Getter
+    private List<SlowQuery> slowQueries;
+
+    @Inject
+    private FlightRecordings flightRecordings;
+    @Inject
+    private PersistenceMonitor persistenceMonitor;
+
+    /**
+     * Initialize this bean
+     */
+    public void initialize() {
+        this.requests = this.persistenceMonitor.getRequests();
+        this.actions = this.persistenceMonitor.getActions();
+        this.methods = this.persistenceMonitor.getMethods();
+        this.slowQueries = this.persistenceMonitor.getSlowQueries();
+    }
+
+    /**
+     * Reload the values from the monitor
+     */
+    public void doRefresh() {
+        this.initialize();
+    }
+
+    /**
+     * Clear the values recorded until now
+     */
+    public void doReset() {
+        this.persistenceMonitor.reset();
+        this.initialize();
+        this.addInfo(true, "info.persistence-monitor.reset");
+    }
+
+    /**
+     * Start the flight recording
+     */
+    public void doStartRecording() {
+        this.flightRecordings.start();
+        this.addInfo(true, "info.flight-recorder.started");
+    }
+
+    /**
+     * Stop and discard the flight recording
+     */
+    public void doStopRecording() {
+        this.flightRecordings.stop();
+        this.addInfo(true, "info.flight-recorder.stopped");
+    }
+
+    /**
+     * Send the dump of the flight recording, the recording continues running
+     */
+    public void doDumpRecording() {
+        final String timestamp = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").format(LocalDateTime.now());
+        Faces.sendFile("webbudget-" + timestamp + ".jfr", true, this.flightRecordings::dump);
+    }
+
+    /**
+     * @return if the monitor is recording
+     */
+    public boolean isEnabled() {
+        return this.persistenceMonitor.isEnabled();
+    }
+
+    /**
+     * @return if the flight recording is running
+     */
+    public boolean isRecording() {
+        return this.flightRecordings.isRecording();
+    }
+
+    /**
+     * @return when the flight recording was started, empty if it is not running
+     */
+    public String getRecordingStart() {
+        final Instant start = this.flightRecordings.getStartTime();
+        return start != null ? DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss")
+                .format(LocalDateTime.ofInstant(start, ZoneId.systemDefault())) : "";
+    }
+}
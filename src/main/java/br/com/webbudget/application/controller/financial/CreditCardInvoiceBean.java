@@ -25,6 +25,8 @@ import br.com.webbudget.domain.entities.financial.CreditCardInvoice;
 import br.com.webbudget.domain.entities.financial.InvoiceState;
 import br.com.webbudget.domain.repositories.financial.CreditCardInvoiceRepository;
 import br.com.webbudget.domain.services.CreditCardInvoiceService;
+import br.com.webbudget.domain.services.ExportService;
+import br.com.webbudget.infrastructure.export.ExportFormat;
 import lombok.Getter;
 import lombok.Setter;
 import org.omnifaces.util.Faces;
@@ -42,7 +44,7 @@ import static br.com.webbudget.application.components.ui.NavigationManager.Param
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 3.0.0, 09/03/2019
  */
 @Named
@@ -62,6 +64,8 @@ public class CreditCardInvoiceBean extends AbstractBean implements LazyDataProvi
     @Getter
     private LazyDataModel<CreditCardInvoice> dataModel;
 
+    @Inject
+    private ExportService exportService;
     @Inject
     private CreditCardInvoiceService creditCardInvoiceService;
 
@@ -162,4 +166,14 @@ public class CreditCardInvoiceBean extends AbstractBean implements LazyDataProvi
         Faces.setFlashAttribute("creditCardInvoice", this.invoice);
         return NavigationManager.to("cardInvoicePrint.xhtml");
     }
+
+    /**
+     * Export the {@link CreditCardInvoice} found with the current filter, the file is written straight to the response
+     *
+     * @param exportFormat the format of the file
+     */
+    public void export(ExportFormat exportFormat) {
+        Faces.sendFile(exportFormat.fileName("invoices"), true, output -> this.exportService
+                .exportCreditCardInvoices(this.filter, this.invoiceState, exportFormat, output));
+    }
 }
\ No newline at end of file
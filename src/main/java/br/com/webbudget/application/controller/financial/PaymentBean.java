@@ -21,6 +21,7 @@ import br.com.webbudget.application.components.ui.ViewState;
 import br.com.webbudget.domain.entities.financial.Payment;
 import br.com.webbudget.domain.entities.financial.PaymentMethod;
 import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import br.com.webbudget.domain.entities.financial.PeriodMovementState;
 import br.com.webbudget.domain.entities.registration.Card;
 import br.com.webbudget.domain.entities.registration.CardType;
 import br.com.webbudget.domain.entities.registration.Wallet;
@@ -34,14 +35,16 @@ import lombok.Getter;
 import javax.faces.view.ViewScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * The {@link Payment} view controller
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 3.0.0, 23/02/2019
  */
 @Named
@@ -55,6 +58,8 @@ public class PaymentBean extends AbstractBean {
     private Payment payment;
     @Getter
     private PeriodMovement periodMovement;
+    @Getter
+    private List<PeriodMovement> periodMovements;
 
     @Getter
     private List<Wallet> wallets;
@@ -92,6 +97,62 @@ public class PaymentBean extends AbstractBean {
                 .orElseThrow(() -> new BusinessLogicException("error.payment.cant-find-movement"));
     }
 
+    /**
+     * Initialize the bean to pay many {@link PeriodMovement} at once, all the open movements of the open periods are
+     * listed to be checked
+     */
+    public void initializeBulk() {
+
+        this.payment = new Payment();
+
+        this.wallets = this.walletRepository.findAllActive();
+        this.debitCards = this.cardRepository.findByCardTypeAndActive(CardType.DEBIT, true);
+        this.creditCards = this.cardRepository.findByCardTypeAndActive(CardType.CREDIT, true);
+
+        this.periodMovements = this.periodMovementRepository.findByStateOnOpenPeriods(PeriodMovementState.OPEN);
+    }
+
+    /**
+     * Pay all the checked {@link PeriodMovement} with the same {@link Payment} and go back to the listing
+     *
+     * @return the outcome to the {@link PeriodMovement} listing
+     */
+    public String doBulkPayment() {
+
+        final List<PeriodMovement> checked = this.getCheckedPeriodMovements();
+
+        if (checked.isEmpty()) {
+            throw new BusinessLogicException("error.payment.none-checked");
+        }
+
+        final int paid = this.paymentService.payAll(checked, this.payment);
+
+        this.addInfoAndKeep("info.payment.bulk-success", paid);
+        return this.changeToListing();
+    }
+
+    /**
+     * The sum of the values of the checked {@link PeriodMovement}
+     *
+     * @return the total to be paid
+     */
+    public BigDecimal getCheckedTotal() {
+        return this.getCheckedPeriodMovements().stream()
+                .map(PeriodMovement::getValue)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /**
+     * The {@link PeriodMovement} checked to be paid
+     *
+     * @return a {@link List} with the checked {@link PeriodMovement}
+     */
+    private List<PeriodMovement> getCheckedPeriodMovements() {
+        return this.periodMovements.stream()
+                .filter(PeriodMovement::isChecked)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Pay the {@link PeriodMovement} and show a a dialog to confirm the operation
      */
@@ -21,12 +21,13 @@ import br.com.webbudget.application.components.ui.FormBean;
 import br.com.webbudget.application.components.ui.NavigationManager;
 import br.com.webbudget.application.components.ui.ViewState;
 import br.com.webbudget.application.components.ui.filter.PeriodMovementFilter;
-import br.com.webbudget.application.components.ui.table.LazyDataProvider;
+import br.com.webbudget.application.components.ui.table.KeysetDataProvider;
 import br.com.webbudget.application.components.ui.table.LazyModel;
 import br.com.webbudget.application.components.ui.table.Page;
 import br.com.webbudget.application.validator.apportionment.ApportionmentValidator;
 import br.com.webbudget.domain.entities.financial.Apportionment;
 import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import br.com.webbudget.domain.entities.financial.PeriodTotal;
 import br.com.webbudget.domain.entities.registration.Contact;
 import br.com.webbudget.domain.entities.registration.CostCenter;
 import br.com.webbudget.domain.entities.registration.FinancialPeriod;
@@ -36,10 +37,13 @@ import br.com.webbudget.domain.repositories.registration.ContactRepository;
 import br.com.webbudget.domain.repositories.registration.CostCenterRepository;
 import br.com.webbudget.domain.repositories.registration.FinancialPeriodRepository;
 import br.com.webbudget.domain.repositories.registration.MovementClassRepository;
+import br.com.webbudget.domain.services.ExportService;
 import br.com.webbudget.domain.services.PeriodMovementService;
+import br.com.webbudget.domain.services.PeriodTotalService;
+import br.com.webbudget.infrastructure.export.ExportFormat;
 import lombok.Getter;
 import lombok.Setter;
-import org.primefaces.model.LazyDataModel;
+import org.omnifaces.util.Faces;
 import org.primefaces.model.SortOrder;
 
 import javax.enterprise.inject.Any;
@@ -47,11 +51,9 @@ import javax.enterprise.inject.Instance;
 import javax.faces.view.ViewScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
-import java.math.BigDecimal;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static br.com.webbudget.application.components.ui.NavigationManager.PageType.*;
 import static br.com.webbudget.application.components.ui.NavigationManager.Parameter.of;
@@ -61,12 +63,12 @@ import static br.com.webbudget.application.components.ui.NavigationManager.Param
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.5.0
  * @since 3.0.0, 04/12/2018
  */
 @Named
 @ViewScoped
-public class PeriodMovementBean extends FormBean<PeriodMovement> implements LazyDataProvider<PeriodMovement> {
+public class PeriodMovementBean extends FormBean<PeriodMovement> implements KeysetDataProvider<PeriodMovement> {
 
     @Getter
     @Setter
@@ -79,7 +81,7 @@ public class PeriodMovementBean extends FormBean<PeriodMovement> implements Lazy
     @Getter
     private PeriodMovementFilter filter;
     @Getter
-    private LazyDataModel<PeriodMovement> dataModel;
+    private LazyModel<PeriodMovement> dataModel;
 
     @Getter
     private PeriodMovementResume periodMovementResume;
@@ -109,6 +111,10 @@ public class PeriodMovementBean extends FormBean<PeriodMovement> implements Lazy
 
     @Inject
     private PeriodMovementService periodMovementService;
+    @Inject
+    private ExportService exportService;
+    @Inject
+    private PeriodTotalService periodTotalService;
 
     @Any
     @Inject
@@ -216,33 +222,80 @@ public class PeriodMovementBean extends FormBean<PeriodMovement> implements Lazy
         return this.periodMovementRepository.findAllBy(this.filter, first, pageSize);
     }
 
+    /**
+     * {@inheritDoc }
+     *
+     * @param last
+     * @param pageSize
+     * @return
+     */
+    @Override
+    public List<PeriodMovement> loadAfter(PeriodMovement last, int pageSize) {
+        this.loadResume();
+        return this.periodMovementRepository.findPageAfter(this.filter, last, pageSize);
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @param first
+     * @param pageSize
+     * @return
+     */
+    @Override
+    public List<PeriodMovement> loadAt(int first, int pageSize) {
+        this.loadResume();
+        return this.periodMovementRepository.findPageBy(this.filter, first, pageSize);
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @return
+     */
+    @Override
+    public int count() {
+        return this.periodMovementRepository.countPages(this.filter);
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @return
+     */
+    @Override
+    public Object getFilterState() {
+        return this.filter.toState();
+    }
+
     /**
      * Load the current resume for all selected {@link FinancialPeriod}
      */
     public void loadResume() {
+        this.loadResume(this.getSelectedOrAllPeriods());
+    }
 
-        final List<Long> periods = this.filter.getSelectedFinancialPeriods().stream()
-                .map(FinancialPeriod::getId)
-                .collect(Collectors.toList());
+    /**
+     * Load the resume of the given {@link FinancialPeriod}
+     *
+     * @param periods to sum the totals
+     */
+    private void loadResume(List<FinancialPeriod> periods) {
 
-        final BigDecimal totalOpen;
-        final BigDecimal totalPaidReceived;
-        final BigDecimal totalRevenues;
-        final BigDecimal totalExpenses;
+        final PeriodTotal total = this.periodTotalService.sumOf(periods);
 
-        if (periods.isEmpty()) {
-            totalOpen = this.periodMovementRepository.calculateTotalOpen();
-            totalPaidReceived = this.periodMovementRepository.calculateTotalPaidAndReceived();
-            totalRevenues = this.periodMovementRepository.calculateTotalRevenues();
-            totalExpenses = this.periodMovementRepository.calculateTotalExpenses();
-        } else {
-            totalOpen = this.periodMovementRepository.calculateTotalOpen(periods);
-            totalPaidReceived = this.periodMovementRepository.calculateTotalPaidAndReceived(periods);
-            totalRevenues = this.periodMovementRepository.calculateTotalRevenues(periods);
-            totalExpenses = this.periodMovementRepository.calculateTotalExpenses(periods);
-        }
+        this.periodMovementResume.update(total.getPaidValue(), total.getOpenValue(),
+                total.getRevenues(), total.getExpenses());
+    }
 
-        this.periodMovementResume.update(totalPaidReceived, totalOpen, totalRevenues, totalExpenses);
+    /**
+     * The {@link FinancialPeriod} selected on the filter or all of them if none is selected
+     *
+     * @return the {@link List} of {@link FinancialPeriod}
+     */
+    private List<FinancialPeriod> getSelectedOrAllPeriods() {
+        return this.filter.getSelectedFinancialPeriods().isEmpty()
+                ? this.financialPeriodRepository.findAll() : this.filter.getSelectedFinancialPeriods();
     }
 
     /**
@@ -251,6 +304,7 @@ public class PeriodMovementBean extends FormBean<PeriodMovement> implements Lazy
     @Override
     public void doSave() {
         this.periodMovementService.save(this.value);
+        this.dataModel.invalidate();
         this.value = new PeriodMovement();
         this.addInfo(true, "saved");
     }
@@ -261,6 +315,7 @@ public class PeriodMovementBean extends FormBean<PeriodMovement> implements Lazy
     @Override
     public void doUpdate() {
         this.value = this.periodMovementService.update(this.value);
+        this.dataModel.invalidate();
         this.addInfo(true, "updated");
     }
 
@@ -272,6 +327,7 @@ public class PeriodMovementBean extends FormBean<PeriodMovement> implements Lazy
     @Override
     public String doDelete() {
         this.periodMovementService.delete(this.value);
+        this.dataModel.invalidate();
         this.addInfoAndKeep("deleted");
         return this.changeToListing();
     }
@@ -283,6 +339,7 @@ public class PeriodMovementBean extends FormBean<PeriodMovement> implements Lazy
      */
     public String doSaveAndPay() {
         final PeriodMovement saved = this.periodMovementService.save(this.value);
+        this.dataModel.invalidate();
         return this.changeToPay(saved.getId(), ViewState.ADDING);
     }
 
@@ -293,6 +350,7 @@ public class PeriodMovementBean extends FormBean<PeriodMovement> implements Lazy
      */
     public String doUpdateAndPay() {
         final PeriodMovement saved = this.periodMovementService.update(this.value);
+        this.dataModel.invalidate();
         return this.changeToPay(saved.getId(), ViewState.ADDING);
     }
 
@@ -318,6 +376,24 @@ public class PeriodMovementBean extends FormBean<PeriodMovement> implements Lazy
                 of("viewState", viewState));
     }
 
+    /**
+     * Go to the form to pay many {@link PeriodMovement} at once
+     *
+     * @return outcome to the bulk payment form
+     */
+    public String changeToBulkPayment() {
+        return "formBulkPayment.xhtml?faces-redirect=true";
+    }
+
+    /**
+     * Go to the page to import a bank statement as {@link PeriodMovement}
+     *
+     * @return outcome to the statement import page
+     */
+    public String changeToImportStatement() {
+        return "importStatement.xhtml?faces-redirect=true";
+    }
+
     /**
      * Show the dialog with the payment details
      */
@@ -431,4 +507,14 @@ public class PeriodMovementBean extends FormBean<PeriodMovement> implements Lazy
     public String getCurrentPeriodEnd() {
         return DateTimeFormatter.ofPattern("dd/MM/yyyy").format(this.currentPeriod.getEnd());
     }
+
+    /**
+     * Export the {@link PeriodMovement} found with the current filter, the file is written straight to the response
+     *
+     * @param exportFormat the format of the file
+     */
+    public void export(ExportFormat exportFormat) {
+        Faces.sendFile(exportFormat.fileName("movements"), true,
+                output -> this.exportService.exportPeriodMovements(this.filter, exportFormat, output));
+    }
 }
\ No newline at end of file
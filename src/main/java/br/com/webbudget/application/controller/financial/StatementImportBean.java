@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.application.controller.financial;
+
+import br.com.webbudget.application.components.ui.AbstractBean;
+import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import br.com.webbudget.domain.entities.financial.StatementFormat;
+import br.com.webbudget.domain.entities.financial.StatementImport;
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import br.com.webbudget.domain.entities.registration.MovementClass;
+import br.com.webbudget.domain.entities.registration.MovementClassType;
+import br.com.webbudget.domain.exceptions.BusinessLogicException;
+import br.com.webbudget.domain.repositories.registration.FinancialPeriodRepository;
+import br.com.webbudget.domain.repositories.registration.MovementClassRepository;
+import br.com.webbudget.domain.services.StatementFileService;
+import lombok.Getter;
+import lombok.Setter;
+import org.primefaces.model.file.UploadedFile;
+
+import javax.faces.view.ViewScoped;
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Controller for the import of the bank statements as {@link PeriodMovement}
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Named
+@ViewScoped
+public class StatementImportBean extends AbstractBean {
+
+    @Getter
+    @Setter
+    private transient UploadedFile file;
+    @Getter
+    @Setter
+    private StatementFormat statementFormat;
+    @Getter
+    @Setter
+    private FinancialPeriod financialPeriod;
+    @Getter
+    @Setter
+    private MovementClass expenseClass;
+    @Getter
+    @Setter
+    private MovementClass revenueClass;
+
+    @Getter
+    private List<FinancialPeriod> financialPeriods;
+    @Getter
+    private List<MovementClass> expenseClasses;
+    @Getter
+    private List<MovementClass> revenueClasses;
+
+    @Inject
+    private StatementFileService statementFileService;
+
+    @Inject
+    private MovementClassRepository movementClassRepository;
+    @Inject
+    private FinancialPeriodRepository financialPeriodRepository;
+
+    /**
+     * Initialize the UI
+     */
+    public void initialize() {
+        this.statementFormat = StatementFormat.OFX;
+        this.financialPeriods = this.financialPeriodRepository.findByClosedOrderByIdentificationAsc(false);
+        this.expenseClasses = this.movementClassRepository
+                .findByActiveAndMovementClassTypeOrderByNameAsc(true, MovementClassType.EXPENSE);
+        this.revenueClasses = this.movementClassRepository
+                .findByActiveAndMovementClassTypeOrderByNameAsc(true, MovementClassType.REVENUE);
+    }
+
+    /**
+     * Import the uploaded file
+     */
+    public void doImport() {
+
+        if (this.file == null || this.file.getSize() == 0) {
+            throw new BusinessLogicException("error.statement-import.no-file");
+        }
+
+        try (InputStream content = this.file.getInputStream()) {
+
+            final StatementImport statementImport = this.statementFileService.importFile(this.file.getFileName(),
+                    content, this.statementFormat, this.financialPeriod, this.expenseClass, this.revenueClass);
+
+            this.addInfo(true, "info.statement-import.done", statementImport.getImported(),
+                    statementImport.getDuplicated(), statementImport.getRejected());
+        } catch (IOException ex) {
+            throw new BusinessLogicException("error.statement-import.read-error", ex);
+        } finally {
+            this.file = null;
+        }
+    }
+
+    /**
+     * Navigate back to the listing page
+     *
+     * @return the path to the listing page
+     */
+    public String changeToListing() {
+        return "listPeriodMovements.xhtml?faces-redirect=true";
+    }
+
+    /**
+     * @return the values of the {@link StatementFormat} to be selected
+     */
+    public StatementFormat[] getStatementFormats() {
+        return StatementFormat.values();
+    }
+}
@@ -16,20 +16,35 @@
  */
 package br.com.webbudget.application.controller.registration;
 
+import br.com.webbudget.application.components.dto.Color;
 import br.com.webbudget.application.components.ui.AbstractBean;
+import br.com.webbudget.application.components.ui.chart.LineChartDataset;
+import br.com.webbudget.application.components.ui.chart.LineChartModel;
 import br.com.webbudget.application.components.ui.filter.WalletBalanceFilter;
 import br.com.webbudget.domain.entities.financial.WalletBalance;
 import br.com.webbudget.domain.entities.registration.Wallet;
 import br.com.webbudget.domain.repositories.registration.WalletBalanceRepository;
 import br.com.webbudget.domain.repositories.registration.WalletRepository;
+import br.com.webbudget.domain.services.ExportService;
+import br.com.webbudget.domain.services.WalletService;
+import br.com.webbudget.infrastructure.export.ExportFormat;
+import br.com.webbudget.infrastructure.i18n.MessageSource;
 import lombok.Getter;
+import org.omnifaces.util.Faces;
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.LazyDataModel;
+import org.primefaces.model.SortOrder;
 
 import javax.faces.view.ViewScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
+import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Comparator;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -37,14 +52,14 @@ import java.util.stream.Collectors;
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.4.0
  * @since 3.0.0, 11/07/2018
  */
 @Named
 @ViewScoped
 public class BalanceHistoricBean extends AbstractBean {
 
-    private List<WalletBalance> walletBalances;
+    private Map<LocalDate, List<WalletBalance>> walletBalances;
 
     @Getter
     private WalletBalanceFilter filter;
@@ -52,13 +67,20 @@ public class BalanceHistoricBean extends AbstractBean {
     @Getter
     private Wallet wallet;
     @Getter
-    private List<LocalDate> walletBalanceDates;
+    private boolean balancesFound;
+    @Getter
+    private LazyDataModel<LocalDate> walletBalanceDates;
 
     @Inject
     private WalletRepository walletRepository;
     @Inject
     private WalletBalanceRepository walletBalanceRepository;
 
+    @Inject
+    private WalletService walletService;
+    @Inject
+    private ExportService exportService;
+
     /**
      * Initialize the view with the balances of the give wallet
      */
@@ -68,12 +90,58 @@ public class BalanceHistoricBean extends AbstractBean {
         this.filterList();
     }
 
+    /**
+     * Draw the chart with the closing balance of the last thirty days of the {@link Wallet}
+     */
+    public void loadChart() {
+
+        if (!this.wallet.isSaved()) {
+            return;
+        }
+
+        final LocalDate today = LocalDate.now();
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM");
+
+        final Map<LocalDate, BigDecimal> balances =
+                this.walletService.dailyBalances(this.wallet, today.minusDays(29), today);
+
+        final Color blue = new Color(30, 144, 255);
+
+        final LineChartDataset<BigDecimal> balancesDataset = new LineChartDataset<>();
+
+        balancesDataset.setLabel(MessageSource.get("balance-historic.chart.balance"));
+        balancesDataset.setBorderColor(blue.toString());
+        balancesDataset.setBackgroundColor(blue.transparent().toString());
+        balancesDataset.addAllData(new ArrayList<>(balances.values()));
+
+        final LineChartModel<BigDecimal> model = new LineChartModel<>();
+
+        model.addDataset(balancesDataset);
+        model.addAllLabels(balances.keySet().stream()
+                .map(formatter::format)
+                .collect(Collectors.toList()));
+
+        this.executeScript("drawLineChart(" + model.toJson() + ", 'balancesChart')");
+    }
+
     /**
      * Filter the balance list
      */
     public void filterList() {
-        this.walletBalances = this.walletBalanceRepository.findByFilter(this.filter);
-        this.processBalanceDates();
+
+        final int dates = (int) this.walletBalanceRepository.countMovementDatesByFilter(this.filter);
+
+        this.walletBalances = new LinkedHashMap<>();
+        this.balancesFound = dates > 0;
+
+        this.walletBalanceDates = new LazyDataModel<>() {
+            @Override
+            public List<LocalDate> load(int first, int pageSize, String sortField, SortOrder sortOrder,
+                                        Map<String, FilterMeta> filterBy) {
+                return loadBalanceDates(first, pageSize);
+            }
+        };
+        this.walletBalanceDates.setRowCount(dates);
     }
 
     /**
@@ -85,28 +153,42 @@ public class BalanceHistoricBean extends AbstractBean {
     }
 
     /**
-     * Process all the {@link WalletBalance} and give only the dates where we have balances
+     * Load a page of the dates with {@link WalletBalance} and merge the balances of those dates with the ones already
+     * loaded, the balances are discarded only when the filter changes
+     *
+     * @param first the first date of the page
+     * @param pageSize the number of dates in the page
+     * @return the dates of the page, newest first
      */
-    private void processBalanceDates() {
-        this.walletBalanceDates = this.walletBalances.stream()
-                .sorted(Comparator.comparing(WalletBalance::getMovementDateTime))
-                .map(WalletBalance::getMovementDate)
-                .distinct()
-                .sorted(Comparator.reverseOrder())
-                .collect(Collectors.toList());
+    private List<LocalDate> loadBalanceDates(int first, int pageSize) {
+
+        final List<LocalDate> dates = this.walletBalanceRepository
+                .findMovementDatesByFilter(this.filter, first, pageSize);
+
+        if (!dates.isEmpty()) {
+
+            final Map<LocalDate, List<WalletBalance>> balances = new LinkedHashMap<>();
+
+            this.walletBalanceRepository.findByFilterBetween(this.filter, dates.get(dates.size() - 1), dates.get(0))
+                    .forEach(balance -> balances
+                            .computeIfAbsent(balance.getMovementDate(), date -> new ArrayList<>())
+                            .add(balance));
+
+            // a page loaded again replaces the balances of its dates instead of adding them twice
+            this.walletBalances.putAll(balances);
+        }
+
+        return dates;
     }
 
     /**
      * Called by the view to get only the balances from a given date
      *
      * @param movementDate the date where we want the balances
-     * @return the list of balances
+     * @return the list of balances, newest first
      */
     public List<WalletBalance> balancesByDate(LocalDate movementDate) {
-        return this.walletBalances.stream()
-                .filter(balance -> balance.getMovementDate().equals(movementDate))
-                .sorted(Comparator.comparing(WalletBalance::getMovementDateTime).reversed())
-                .collect(Collectors.toList());
+        return this.walletBalances.getOrDefault(movementDate, List.of());
     }
 
     /**
@@ -117,4 +199,14 @@ public class BalanceHistoricBean extends AbstractBean {
     public String changeToWalletsListing() {
         return "listWallets.xhtml?faces-redirect=true";
     }
+
+    /**
+     * Export the {@link WalletBalance} found with the current filter, the file is written straight to the response
+     *
+     * @param exportFormat the format of the file
+     */
+    public void export(ExportFormat exportFormat) {
+        Faces.sendFile(exportFormat.fileName("balances"), true,
+                output -> this.exportService.exportWalletBalances(this.filter, exportFormat, output));
+    }
 }
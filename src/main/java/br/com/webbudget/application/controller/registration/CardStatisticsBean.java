@@ -23,7 +23,9 @@ import br.com.webbudget.application.components.ui.chart.LineChartDataset;
 import br.com.webbudget.application.components.ui.chart.LineChartModel;
 import br.com.webbudget.application.components.ui.chart.PieChartDataset;
 import br.com.webbudget.application.components.ui.chart.PieChartModel;
+import br.com.webbudget.domain.entities.financial.CardStatistics;
 import br.com.webbudget.domain.entities.financial.CreditCardInvoice;
+import br.com.webbudget.domain.entities.financial.InvoiceState;
 import br.com.webbudget.domain.entities.registration.Card;
 import br.com.webbudget.domain.entities.registration.CostCenter;
 import br.com.webbudget.domain.entities.view.CardConsume;
@@ -33,6 +35,7 @@ import br.com.webbudget.domain.repositories.financial.CreditCardInvoiceRepositor
 import br.com.webbudget.domain.repositories.registration.CardRepository;
 import br.com.webbudget.domain.repositories.view.CardConsumeDetailedRepository;
 import br.com.webbudget.domain.repositories.view.CardConsumeRepository;
+import br.com.webbudget.domain.services.CardStatisticsService;
 import br.com.webbudget.infrastructure.i18n.MessageSource;
 import lombok.Getter;
 
@@ -40,6 +43,8 @@ import javax.faces.view.ViewScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -50,7 +55,7 @@ import static br.com.webbudget.application.components.ui.chart.ChartUtils.percen
  *
  * @author Arthur Gregorio
  *
- * @version 2.0.0
+ * @version 2.1.0
  * @since 2.2.1, 06/05/2016
  */
 @Named
@@ -66,7 +71,7 @@ public class CardStatisticsBean extends AbstractBean {
     private CreditCardInvoiceResume resume;
 
     @Getter
-    private List<CreditCardInvoice> invoices;
+    private long invoiceCount;
     @Getter
     private List<CardConsumeDetailed> cardConsumesDetailed;
 
@@ -79,6 +84,9 @@ public class CardStatisticsBean extends AbstractBean {
     @Inject
     private CardConsumeDetailedRepository cardConsumeDetailedRepository;
 
+    @Inject
+    private CardStatisticsService cardStatisticsService;
+
     /**
      * Initialize this bean
      *
@@ -90,8 +98,8 @@ public class CardStatisticsBean extends AbstractBean {
         this.card = this.cardRepository.findById(id)
                 .orElseThrow(() -> new BusinessLogicException("error.card-statistics.not-found"));
 
-        // list invoices
-        this.invoices = this.creditCardInvoiceRepository.findByCard(this.card);
+        // only count the invoices, the values are read from the statistics
+        this.invoiceCount = this.creditCardInvoiceRepository.countByCard(this.card);
     }
 
     /**
@@ -99,8 +107,11 @@ public class CardStatisticsBean extends AbstractBean {
      */
     public void loadCharts() {
 
+        final CardStatistics statistics = this.cardStatisticsService.statisticsOf(this.card);
+
         this.resume = new CreditCardInvoiceResume();
-        this.resume.load(this.invoices);
+        this.resume.load(statistics, this.creditCardInvoiceRepository
+                .findLowestTotalByCardAndState(this.card, InvoiceState.OPEN));
 
         this.loadValuesChart();
         this.loadConsumeChart();
@@ -145,20 +156,25 @@ public class CardStatisticsBean extends AbstractBean {
 
         final Color blue = new Color(30, 144, 255);
 
+        // the query gives the newest first, the chart goes from the oldest to the newest
+        final List<Object[]> lastTotals = new ArrayList<>(
+                this.creditCardInvoiceRepository.findLastTotalsByCard(this.card));
+        Collections.reverse(lastTotals);
+
         final LineChartDataset<BigDecimal> valuesDataset = new LineChartDataset<>();
 
         valuesDataset.setLabel(MessageSource.get("card-statistics.chart.value"));
         valuesDataset.setBorderColor(blue.toString());
         valuesDataset.setBackgroundColor(blue.transparent().toString());
-        valuesDataset.addAllData(this.invoices.stream()
-                .map(CreditCardInvoice::getTotalValue)
+        valuesDataset.addAllData(lastTotals.stream()
+                .map(row -> (BigDecimal) row[1])
                 .collect(Collectors.toList()));
 
         final LineChartModel<BigDecimal> model = new LineChartModel<>();
 
         model.addDataset(valuesDataset);
-        model.addAllLabels(this.invoices.stream()
-                .map(invoice -> invoice.getFinancialPeriod().getIdentification())
+        model.addAllLabels(lastTotals.stream()
+                .map(row -> (String) row[0])
                 .collect(Collectors.toList()));
 
         this.executeScript("drawLineChart(" + model.toJson() + ", 'invoiceValuesChart')");
@@ -22,10 +22,12 @@ import br.com.webbudget.application.components.ui.filter.FinancialPeriodFilter;
 import br.com.webbudget.application.components.ui.table.LazyDataProvider;
 import br.com.webbudget.application.components.ui.table.LazyModel;
 import br.com.webbudget.application.components.ui.table.Page;
+import br.com.webbudget.domain.entities.financial.LaunchProgress;
 import br.com.webbudget.domain.entities.registration.FinancialPeriod;
 import br.com.webbudget.domain.repositories.registration.FinancialPeriodRepository;
 import br.com.webbudget.domain.services.ClosingService;
 import br.com.webbudget.domain.services.FinancialPeriodService;
+import br.com.webbudget.domain.services.FixedMovementLaunchService;
 import lombok.Getter;
 import org.primefaces.model.LazyDataModel;
 import org.primefaces.model.SortOrder;
@@ -43,7 +45,7 @@ import static br.com.webbudget.application.components.ui.NavigationManager.Param
  *
  * @author Arthur Gregorio
  *
- * @version 1.3.0
+ * @version 1.4.0
  * @since 1.0.0, 23/03/2014
  */
 @Named
@@ -52,6 +54,8 @@ public class FinancialPeriodBean extends FormBean<FinancialPeriod> implements La
 
     private long periodToReopen;
 
+    private FinancialPeriod launchingPeriod;
+
     @Getter
     private boolean hasOpenPeriod;
 
@@ -65,6 +69,8 @@ public class FinancialPeriodBean extends FormBean<FinancialPeriod> implements La
     private ClosingService closingService;
     @Inject
     private FinancialPeriodService financialPeriodService;
+    @Inject
+    private FixedMovementLaunchService fixedMovementLaunchService;
 
     @Inject
     private FinancialPeriodRepository financialPeriodRepository;
@@ -125,6 +131,7 @@ public class FinancialPeriodBean extends FormBean<FinancialPeriod> implements La
     @Override
     public void doSave() {
         this.financialPeriodService.save(this.value);
+        this.launchingPeriod = this.value;
         this.value = new FinancialPeriod();
         this.checkForOpenPeriods();
         this.addInfo(true, "saved");
@@ -196,6 +203,17 @@ public class FinancialPeriodBean extends FormBean<FinancialPeriod> implements La
                 of("id", financialPeriodId));
     }
 
+    /**
+     * The progress of the fixed movements launch for the last {@link FinancialPeriod} saved in this view
+     *
+     * @return the {@link LaunchProgress} or null if there is nothing being launched
+     */
+    public LaunchProgress getLaunchProgress() {
+        return this.launchingPeriod == null ? null : this.fixedMovementLaunchService
+                .getProgress(this.launchingPeriod)
+                .orElse(null);
+    }
+
     /**
      * This method is called in the form initialization to check if we already have an open {@link FinancialPeriod}
      */
@@ -25,6 +25,7 @@ import br.com.webbudget.domain.repositories.registration.FinancialPeriodReposito
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -34,7 +35,7 @@ import java.util.stream.Collectors;
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 3.0.0, 09/04/2019
  */
 @Dependent
@@ -55,8 +56,7 @@ public class PeriodMovementCalculator {
      * @param financialPeriod to be used to search the {@link PeriodMovement} and load this calculator
      */
     public void load(FinancialPeriod financialPeriod) {
-        this.movements = this.periodMovementRepository.findByFinancialPeriod(financialPeriod);
-        this.splitByType();
+        this.load(this.periodMovementRepository.findByFinancialPeriod(financialPeriod));
     }
 
     /**
@@ -65,11 +65,21 @@ public class PeriodMovementCalculator {
      * If more than one is open (or expired) it will be used too
      */
     public void load() {
+        final List<PeriodMovement> openMovements = new ArrayList<>();
         final List<FinancialPeriod> openPeriods = this.financialPeriodRepository.findByClosedOrderByIdentificationAsc(false);
-        openPeriods.forEach(period -> this.movements.addAll(this.periodMovementRepository.findByFinancialPeriod(period)));
-        this.splitByType();
+        openPeriods.forEach(period -> openMovements.addAll(this.periodMovementRepository.findByFinancialPeriod(period)));
+        this.load(openMovements);
     }
 
+    /**
+     * Load the calculator with the given {@link PeriodMovement}, already loaded by the caller
+     *
+     * @param movements the {@link PeriodMovement} to calculate
+     */
+    public void load(List<PeriodMovement> movements) {
+        this.movements = movements;
+        this.splitByType();
+    }
 
     /**
      * Split the {@link PeriodMovement} in two lists to help the process of getting the information
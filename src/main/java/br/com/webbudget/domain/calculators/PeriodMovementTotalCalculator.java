@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.calculators;
+
+import br.com.webbudget.domain.entities.financial.PaymentMethod;
+import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import br.com.webbudget.domain.entities.financial.PeriodMovementTotal;
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import br.com.webbudget.domain.entities.registration.Wallet;
+import br.com.webbudget.domain.repositories.financial.PeriodMovementRepository;
+
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+import java.math.BigDecimal;
+
+/**
+ * Same as the {@link PeriodMovementCalculator} but instead of loading all the {@link PeriodMovement} of the
+ * {@link FinancialPeriod} this one uses a single grouped query and sum the values in one pass over the groups
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Dependent
+public class PeriodMovementTotalCalculator {
+
+    private BigDecimal creditCardExpenses;
+    private BigDecimal debitCardExpenses;
+    private BigDecimal cashExpenses;
+    private BigDecimal revenues;
+    private BigDecimal expenses;
+
+    @Inject
+    private PeriodMovementRepository periodMovementRepository;
+
+    /**
+     * Load the calculator using a given {@link FinancialPeriod}
+     *
+     * @param financialPeriod to be used to calculate the totals
+     */
+    public void load(FinancialPeriod financialPeriod) {
+
+        this.creditCardExpenses = BigDecimal.ZERO;
+        this.debitCardExpenses = BigDecimal.ZERO;
+        this.cashExpenses = BigDecimal.ZERO;
+        this.revenues = BigDecimal.ZERO;
+        this.expenses = BigDecimal.ZERO;
+
+        for (PeriodMovementTotal total : this.periodMovementRepository.calculateTotalsByType(financialPeriod)) {
+            if (total.isRevenue()) {
+                this.revenues = this.revenues.add(total.getValue());
+            } else if (total.isExpense()) {
+                this.sumExpense(total);
+            }
+        }
+    }
+
+    /**
+     * Sum the value of an expense group in the right totals
+     *
+     * @param total the expense group
+     */
+    private void sumExpense(PeriodMovementTotal total) {
+
+        if (total.isPaidWith(PaymentMethod.CREDIT_CARD)) {
+            this.creditCardExpenses = this.creditCardExpenses.add(total.getValue());
+            return;
+        }
+
+        if (total.isPaidWith(PaymentMethod.DEBIT_CARD)) {
+            this.debitCardExpenses = this.debitCardExpenses.add(total.getValue());
+        } else if (total.isPaidWith(PaymentMethod.CASH)) {
+            this.cashExpenses = this.cashExpenses.add(total.getValue());
+        }
+
+        this.expenses = this.expenses.add(total.getValue());
+    }
+
+    /**
+     * Calculate the value with expenses paid with a credit card
+     *
+     * @return total value
+     */
+    public BigDecimal getCreditCardExpensesValue() {
+        return this.creditCardExpenses;
+    }
+
+    /**
+     * Calculate the value with expenses paid with a debit card
+     *
+     * @return total value
+     */
+    public BigDecimal getDebitCardExpensesValue() {
+        return this.debitCardExpenses;
+    }
+
+    /**
+     * Calculate the value with expenses paid with a cash (o direct to a {@link Wallet})
+     *
+     * @return total value
+     */
+    public BigDecimal getCashExpensesValue() {
+        return this.cashExpenses;
+    }
+
+    /**
+     * Calculate the value of revenues
+     *
+     * @return total value
+     */
+    public BigDecimal getRevenuesValue() {
+        return this.revenues;
+    }
+
+    /**
+     * Calculate the value of expenses, the ones paid with credit card are not considered
+     *
+     * @return total value
+     */
+    public BigDecimal getExpensesValue() {
+        return this.expenses;
+    }
+}
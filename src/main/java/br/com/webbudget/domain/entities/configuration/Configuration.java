@@ -20,6 +20,7 @@ import br.com.webbudget.domain.entities.PersistentEntity;
 import br.com.webbudget.domain.entities.registration.MovementClass;
 import lombok.*;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Entity;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
@@ -37,6 +38,7 @@ import static br.com.webbudget.infrastructure.utils.DefaultSchemes.CONFIGURATION
  * @since 3.0.0, 16/03/2019
  */
 @Entity
+@Cacheable
 @ToString
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = true)
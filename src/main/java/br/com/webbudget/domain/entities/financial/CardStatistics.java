@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.entities.financial;
+
+import br.com.webbudget.domain.entities.PersistentEntity;
+import br.com.webbudget.domain.entities.registration.Card;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static br.com.webbudget.infrastructure.utils.DefaultSchemes.FINANCIAL;
+
+/**
+ * The rollup of the closed and paid {@link CreditCardInvoice} of a {@link Card}. It is rebuilt every time an invoice
+ * of the card is closed, paid or reopened, so the statistics page reads a single row instead of loading all the
+ * invoices of the card with their movements
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Entity
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@Table(name = "card_statistics", schema = FINANCIAL)
+public class CardStatistics extends PersistentEntity {
+
+    @Getter
+    @Column(name = "invoice_count", nullable = false)
+    private long invoiceCount;
+    @Getter
+    @Column(name = "total_value", nullable = false)
+    private BigDecimal totalValue;
+    @Getter
+    @Column(name = "lowest_value", nullable = false)
+    private BigDecimal lowestValue;
+    @Getter
+    @Column(name = "highest_value", nullable = false)
+    private BigDecimal highestValue;
+
+    @Getter
+    @OneToOne(optional = false)
+    @JoinColumn(name = "id_card", nullable = false, unique = true)
+    private Card card;
+
+    /**
+     * Constructor...
+     */
+    public CardStatistics() {
+        this.totalValue = BigDecimal.ZERO;
+        this.lowestValue = BigDecimal.ZERO;
+        this.highestValue = BigDecimal.ZERO;
+    }
+
+    /**
+     * Constructor...
+     *
+     * @param card the {@link Card} of this statistics
+     */
+    public CardStatistics(Card card) {
+        this();
+        this.card = card;
+    }
+
+    /**
+     * Constructor used by the projection query that calculates the statistics from the source rows, the aggregates
+     * are null when the {@link Card} has no invoice closed yet
+     *
+     * @param invoiceCount the number of invoices
+     * @param totalValue the sum of the invoices total
+     * @param lowestValue the lowest invoice total
+     * @param highestValue the highest invoice total
+     */
+    public CardStatistics(Long invoiceCount, BigDecimal totalValue, BigDecimal lowestValue, BigDecimal highestValue) {
+        this();
+        this.update(invoiceCount, totalValue, lowestValue, highestValue);
+    }
+
+    /**
+     * Replace the values of this statistics with the given ones
+     *
+     * @param invoiceCount the number of invoices
+     * @param totalValue the sum of the invoices total
+     * @param lowestValue the lowest invoice total
+     * @param highestValue the highest invoice total
+     * @return this statistics
+     */
+    public CardStatistics update(Long invoiceCount, BigDecimal totalValue, BigDecimal lowestValue,
+                                 BigDecimal highestValue) {
+        this.invoiceCount = invoiceCount != null ? invoiceCount : 0;
+        this.totalValue = totalValue != null ? totalValue : BigDecimal.ZERO;
+        this.lowestValue = lowestValue != null ? lowestValue : BigDecimal.ZERO;
+        this.highestValue = highestValue != null ? highestValue : BigDecimal.ZERO;
+        return this;
+    }
+
+    /**
+     * Replace the values of this statistics with the values of another one
+     *
+     * @param other the statistics to copy the values from
+     * @return this statistics
+     */
+    public CardStatistics update(CardStatistics other) {
+        return this.update(other.getInvoiceCount(), other.getTotalValue(), other.getLowestValue(),
+                other.getHighestValue());
+    }
+
+    /**
+     * The average value of the invoices
+     *
+     * @return the average, zero if there is no invoices
+     */
+    public BigDecimal getAverageValue() {
+        return this.invoiceCount == 0 ? BigDecimal.ZERO
+                : this.totalValue.divide(BigDecimal.valueOf(this.invoiceCount), RoundingMode.CEILING);
+    }
+}
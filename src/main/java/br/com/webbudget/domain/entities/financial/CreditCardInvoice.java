@@ -47,7 +47,7 @@ import static javax.persistence.FetchType.EAGER;
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 3.0.0, 09/03/2019
  */
 @Entity
@@ -63,7 +63,6 @@ public class CreditCardInvoice extends PersistentEntity {
     @Column(name = "identification", nullable = false, length = 90, unique = true)
     private String identification;
     @Getter
-    @Setter
     @Column(name = "total_value", nullable = false)
     private BigDecimal totalValue;
     @Getter
@@ -200,6 +199,28 @@ public class CreditCardInvoice extends PersistentEntity {
                 .build();
     }
 
+    /**
+     * Add a value to the total of this invoice, lock the invoice before so no concurrent change is lost
+     *
+     * @param value to be added, negative to subtract
+     * @return this invoice to be saved with the new total
+     */
+    public CreditCardInvoice addToTotal(BigDecimal value) {
+        this.totalValue = this.totalValue.add(value);
+        return this;
+    }
+
+    /**
+     * Replace the total of this invoice by the one calculated from the {@link PeriodMovement} linked with it
+     *
+     * @param value the calculated total
+     * @return this invoice to be saved with the new total
+     */
+    public CreditCardInvoice fixTotal(BigDecimal value) {
+        this.totalValue = value;
+        return this;
+    }
+
     /**
      * Prepare this invoice to be closed
      *
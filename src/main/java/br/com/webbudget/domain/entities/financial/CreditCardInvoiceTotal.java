@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.entities.financial;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection with the total stored in a {@link CreditCardInvoice} and the total calculated from the
+ * {@link PeriodMovement} linked with it, used to find invoices with drift
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ToString
+public final class CreditCardInvoiceTotal {
+
+    @Getter
+    private final long invoiceId;
+    @Getter
+    private final String identification;
+    @Getter
+    private final BigDecimal storedValue;
+    @Getter
+    private final BigDecimal calculatedValue;
+
+    /**
+     * Constructor used by the projection query
+     *
+     * @param invoiceId the id of the {@link CreditCardInvoice}
+     * @param identification the identification of the {@link CreditCardInvoice}
+     * @param storedValue the total value stored in the invoice
+     * @param calculatedValue the sum of the paid values of the linked movements
+     */
+    public CreditCardInvoiceTotal(long invoiceId, String identification, BigDecimal storedValue,
+                                  BigDecimal calculatedValue) {
+        this.invoiceId = invoiceId;
+        this.identification = identification;
+        this.storedValue = storedValue;
+        this.calculatedValue = calculatedValue != null ? calculatedValue : BigDecimal.ZERO;
+    }
+
+    /**
+     * To check if the stored total is different from the calculated one
+     *
+     * @return true if it is, false otherwise
+     */
+    public boolean isDrifted() {
+        return this.storedValue.compareTo(this.calculatedValue) != 0;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.entities.financial;
+
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * The progress of the {@link FixedMovement} launches of a {@link FinancialPeriod}, this one is shared between the
+ * thread doing the launches and the view showing them, so every field is volatile
+ *
+ * A finished progress is kept only for some time, so the view can show the result, see {@link #isExpired(Duration)}
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.1.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ToString
+public final class LaunchProgress {
+
+    @Getter
+    private volatile int total;
+    @Getter
+    private volatile int launched;
+    @Getter
+    private volatile int failed;
+    @Getter
+    private volatile boolean finished;
+
+    private volatile long finishedAt;
+
+    /**
+     * Start the progress with the total of {@link FixedMovement} to be launched
+     *
+     * @param total of {@link FixedMovement}
+     */
+    public void start(int total) {
+        this.total = total;
+    }
+
+    /**
+     * Count some {@link FixedMovement} as launched
+     *
+     * @param count of launched {@link FixedMovement}
+     */
+    public synchronized void launched(int count) {
+        this.launched += count;
+    }
+
+    /**
+     * Count some {@link FixedMovement} as failed
+     *
+     * @param count of failed {@link FixedMovement}
+     */
+    public synchronized void failed(int count) {
+        this.failed += count;
+    }
+
+    /**
+     * Mark this progress as finished
+     */
+    public void finish() {
+        this.finishedAt = System.nanoTime();
+        this.finished = true;
+    }
+
+    /**
+     * Check if this progress was finished longer than the given time ago
+     *
+     * @param timeToLive of a finished progress
+     * @return true if it is finished and its time to live has passed
+     */
+    public boolean isExpired(Duration timeToLive) {
+        return this.finished && System.nanoTime() - this.finishedAt > timeToLive.toNanos();
+    }
+
+    /**
+     * @return the percentage of the {@link FixedMovement} already processed, launched or failed
+     */
+    public int getPercentage() {
+        return this.total == 0 ? (this.finished ? 100 : 0) : (this.launched + this.failed) * 100 / this.total;
+    }
+}
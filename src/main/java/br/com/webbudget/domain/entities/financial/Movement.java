@@ -18,6 +18,7 @@ package br.com.webbudget.domain.entities.financial;
 
 import br.com.webbudget.domain.entities.PersistentEntity;
 import br.com.webbudget.domain.entities.registration.Contact;
+import br.com.webbudget.domain.entities.registration.MovementClassType;
 import br.com.webbudget.domain.exceptions.BusinessLogicException;
 import br.com.webbudget.infrastructure.utils.RandomCode;
 import lombok.EqualsAndHashCode;
@@ -26,6 +27,7 @@ import lombok.Setter;
 import lombok.ToString;
 import org.hibernate.envers.AuditTable;
 import org.hibernate.envers.Audited;
+import org.hibernate.envers.NotAudited;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
@@ -47,7 +49,7 @@ import static javax.persistence.CascadeType.REMOVE;
  *
  * @author Arthur Gregorio
  *
- * @version 2.0.0
+ * @version 2.3.0
  * @since 1.0.0, 04/03/2014
  */
 @Entity
@@ -55,8 +57,8 @@ import static javax.persistence.CascadeType.REMOVE;
 @Table(name = "movements", schema = FINANCIAL)
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @AuditTable(value = "movements", schema = FINANCIAL_AUDIT)
-@ToString(callSuper = true, exclude = {"apportionments", "deletedApportionments"})
-@EqualsAndHashCode(callSuper = true, exclude = {"apportionments", "deletedApportionments"})
+@ToString(callSuper = true, exclude = {"apportionments", "deletedApportionments", "direction", "searchText"})
+@EqualsAndHashCode(callSuper = true, exclude = {"apportionments", "deletedApportionments", "direction", "searchText"})
 @NamedEntityGraph(name = "Movement.full", attributeNodes = @NamedAttributeNode(value = "apportionments"))
 @DiscriminatorColumn(name = "discriminator_value", length = 15, discriminatorType = DiscriminatorType.STRING)
 public class Movement extends PersistentEntity {
@@ -79,6 +81,13 @@ public class Movement extends PersistentEntity {
     @Column(name = "value", nullable = false)
     private BigDecimal value;
 
+    /**
+     * The searchable fields normalized and written by the database, used by the generic search of the repository
+     */
+    @NotAudited
+    @Column(name = "search_text", insertable = false, updatable = false)
+    private String searchText;
+
     @Getter
     @Setter
     @ManyToOne
@@ -91,6 +100,16 @@ public class Movement extends PersistentEntity {
     @Transient
     private Set<Apportionment> deletedApportionments;
 
+    /**
+     * The {@link MovementClassType} of the {@link Apportionment}, all of them have the same, set every time the
+     * apportionments change so the listings can show the direction without loading the apportionments
+     */
+    @Getter
+    @NotAudited
+    @Enumerated(EnumType.STRING)
+    @Column(name = "direction", length = 45)
+    private MovementClassType direction;
+
     /**
      * Constructor...
      */
@@ -160,6 +179,7 @@ public class Movement extends PersistentEntity {
      */
     public void add(Apportionment apportionment) {
         this.apportionments.add(apportionment);
+        this.updateDirection();
     }
 
     /**
@@ -169,6 +189,7 @@ public class Movement extends PersistentEntity {
      */
     public void addAll(Set<Apportionment> apportionments) {
         this.apportionments.addAll(apportionments);
+        this.updateDirection();
     }
 
     /**
@@ -181,6 +202,18 @@ public class Movement extends PersistentEntity {
             this.deletedApportionments.add(apportionment);
         }
         this.apportionments.remove(apportionment);
+        this.updateDirection();
+    }
+
+    /**
+     * Take the {@link #direction} from the movement class of the apportionments, null if there is none
+     */
+    private void updateDirection() {
+        this.direction = this.apportionments
+                .stream()
+                .findFirst()
+                .map(apportionment -> apportionment.getMovementClass().getMovementClassType())
+                .orElse(null);
     }
 
     /**
@@ -39,7 +39,7 @@ import static br.com.webbudget.infrastructure.utils.DefaultSchemes.FINANCIAL_AUD
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 1.0.0, 03/04/2014
  */
 @Entity
@@ -125,4 +125,22 @@ public class Payment extends PersistentEntity {
     public Wallet getDebitCardWallet() {
         return this.card.getWallet();
     }
+
+    /**
+     * Copy the options of this payment to a new one, used when the same payment is applied to many movements. The
+     * discount is not copied, it is given to a single movement
+     *
+     * @return a new {@link Payment} with the same options of this one
+     */
+    public Payment copy() {
+
+        final Payment copy = new Payment();
+
+        copy.setPaidOn(this.paidOn);
+        copy.setPaymentMethod(this.paymentMethod);
+        copy.setCard(this.card);
+        copy.setWallet(this.wallet);
+
+        return copy;
+    }
 }
@@ -38,7 +38,7 @@ import static javax.persistence.CascadeType.REMOVE;
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 3.0.0, 04/12/2018
  */
 @Entity
@@ -46,8 +46,18 @@ import static javax.persistence.CascadeType.REMOVE;
 @ToString(callSuper = true)
 @EqualsAndHashCode(callSuper = true)
 @DiscriminatorValue("PERIOD_MOVEMENT") // never change this!
+@NamedEntityGraph(name = PeriodMovement.LISTING_GRAPH, attributeNodes = {
+        @NamedAttributeNode("contact"),
+        @NamedAttributeNode("financialPeriod"),
+        @NamedAttributeNode(value = "payment", subgraph = "payment")
+}, subgraphs = @NamedSubgraph(name = "payment", attributeNodes = {
+        @NamedAttributeNode("card"),
+        @NamedAttributeNode("wallet")
+}))
 public class PeriodMovement extends Movement {
 
+    public static final String LISTING_GRAPH = "PeriodMovement.listing";
+
     @Getter
     @Setter
     @Column(name = "due_date")
@@ -63,6 +73,10 @@ public class PeriodMovement extends Movement {
     @Enumerated(EnumType.STRING)
     @Column(name = "period_movement_type", length = 45)
     private PeriodMovementType periodMovementType;
+    @Getter
+    @Setter
+    @Column(name = "import_hash", length = 64, updatable = false)
+    private String importHash;
 
     @Getter
     @Setter
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.entities.financial;
+
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import br.com.webbudget.domain.entities.registration.MovementClassType;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection with the sum of the {@link PeriodMovement} values of a {@link FinancialPeriod} grouped by the
+ * {@link MovementClassType} and the {@link PaymentMethod}. When the movement is not paid yet the payment method is null
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ToString
+public final class PeriodMovementTotal {
+
+    @Getter
+    private final MovementClassType movementClassType;
+    @Getter
+    private final PaymentMethod paymentMethod;
+    @Getter
+    private final BigDecimal value;
+
+    /**
+     * Constructor used by the projection query
+     *
+     * @param movementClassType the type of the movements in this group
+     * @param paymentMethod the payment method of the movements in this group, null for the not paid ones
+     * @param value the sum of the values with discount
+     */
+    public PeriodMovementTotal(MovementClassType movementClassType, PaymentMethod paymentMethod, BigDecimal value) {
+        this.movementClassType = movementClassType;
+        this.paymentMethod = paymentMethod;
+        this.value = value != null ? value : BigDecimal.ZERO;
+    }
+
+    /**
+     * To check if this group is of expenses
+     *
+     * @return true if is, false otherwise
+     */
+    public boolean isExpense() {
+        return this.movementClassType == MovementClassType.EXPENSE;
+    }
+
+    /**
+     * To check if this group is of revenues
+     *
+     * @return true if is, false otherwise
+     */
+    public boolean isRevenue() {
+        return this.movementClassType == MovementClassType.REVENUE;
+    }
+
+    /**
+     * To check if this group was paid with the given {@link PaymentMethod}
+     *
+     * @param paymentMethod to compare
+     * @return true if is, false otherwise
+     */
+    public boolean isPaidWith(PaymentMethod paymentMethod) {
+        return this.paymentMethod == paymentMethod;
+    }
+}
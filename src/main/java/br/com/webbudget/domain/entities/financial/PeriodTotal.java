@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.entities.financial;
+
+import br.com.webbudget.domain.entities.PersistentEntity;
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+
+import static br.com.webbudget.infrastructure.utils.DefaultSchemes.FINANCIAL;
+
+/**
+ * The running totals of the {@link PeriodMovement} of a {@link FinancialPeriod}. This is a ledger maintained
+ * incrementally by the payment and movement events, so the listing resume can be read by key instead of aggregating
+ * all the movements on every request
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Entity
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@Table(name = "period_totals", schema = FINANCIAL)
+public class PeriodTotal extends PersistentEntity {
+
+    @Getter
+    @Column(name = "open_value", nullable = false)
+    private BigDecimal openValue;
+    @Getter
+    @Column(name = "paid_value", nullable = false)
+    private BigDecimal paidValue;
+    @Getter
+    @Column(name = "revenues", nullable = false)
+    private BigDecimal revenues;
+    @Getter
+    @Column(name = "expenses", nullable = false)
+    private BigDecimal expenses;
+
+    @Getter
+    @OneToOne(optional = false)
+    @JoinColumn(name = "id_financial_period", nullable = false, unique = true)
+    private FinancialPeriod financialPeriod;
+
+    /**
+     * Constructor...
+     */
+    public PeriodTotal() {
+        this.openValue = BigDecimal.ZERO;
+        this.paidValue = BigDecimal.ZERO;
+        this.revenues = BigDecimal.ZERO;
+        this.expenses = BigDecimal.ZERO;
+    }
+
+    /**
+     * Constructor...
+     *
+     * @param financialPeriod the {@link FinancialPeriod} of this totals
+     */
+    public PeriodTotal(FinancialPeriod financialPeriod) {
+        this();
+        this.financialPeriod = financialPeriod;
+    }
+
+    /**
+     * Replace the values of this totals with the given ones, used when the ledger is rebuilt from the source rows
+     *
+     * @param openValue the total of open {@link PeriodMovement}
+     * @param paidValue the total paid or received, except the credit card payments
+     * @param revenues the total of revenues
+     * @param expenses the total of expenses, except the credit card payments
+     * @return this totals
+     */
+    public PeriodTotal update(BigDecimal openValue, BigDecimal paidValue, BigDecimal revenues, BigDecimal expenses) {
+        this.openValue = openValue;
+        this.paidValue = paidValue;
+        this.revenues = revenues;
+        this.expenses = expenses;
+        return this;
+    }
+
+    /**
+     * Sum the values of another totals into this one
+     *
+     * @param other the totals to be added
+     * @return this totals
+     */
+    public PeriodTotal add(PeriodTotal other) {
+        this.openValue = this.openValue.add(other.getOpenValue());
+        this.paidValue = this.paidValue.add(other.getPaidValue());
+        this.revenues = this.revenues.add(other.getRevenues());
+        this.expenses = this.expenses.add(other.getExpenses());
+        return this;
+    }
+
+    /**
+     * Check if the values of this totals are the same of the given one
+     *
+     * @param other the totals to compare
+     * @return true if all the values are equal, false otherwise
+     */
+    public boolean isSameValuesOf(PeriodTotal other) {
+        return this.openValue.compareTo(other.getOpenValue()) == 0
+                && this.paidValue.compareTo(other.getPaidValue()) == 0
+                && this.revenues.compareTo(other.getRevenues()) == 0
+                && this.expenses.compareTo(other.getExpenses()) == 0;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.entities.financial;
+
+import br.com.webbudget.domain.entities.PersistentEntity;
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import br.com.webbudget.domain.entities.registration.MovementClass;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.*;
+
+import static br.com.webbudget.infrastructure.utils.DefaultSchemes.FINANCIAL;
+
+/**
+ * The import of a bank statement file as {@link PeriodMovement}. The lines are imported in chunks and this entity
+ * keeps the last line of the last chunk committed, so an import interrupted by an error can be restarted from there
+ * by sending the same file again
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Entity
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@Table(name = "statement_imports", schema = FINANCIAL)
+public class StatementImport extends PersistentEntity {
+
+    @Getter
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+    @Getter
+    @Column(name = "file_hash", nullable = false, length = 64, unique = true)
+    private String fileHash;
+    @Getter
+    @Enumerated(EnumType.STRING)
+    @Column(name = "statement_format", nullable = false, length = 45)
+    private StatementFormat statementFormat;
+    @Getter
+    @Enumerated(EnumType.STRING)
+    @Column(name = "statement_import_state", nullable = false, length = 45)
+    private StatementImportState statementImportState;
+    @Getter
+    @Column(name = "last_line", nullable = false)
+    private long lastLine;
+    @Getter
+    @Column(name = "imported", nullable = false)
+    private int imported;
+    @Getter
+    @Column(name = "duplicated", nullable = false)
+    private int duplicated;
+    @Getter
+    @Column(name = "rejected", nullable = false)
+    private int rejected;
+
+    @Getter
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "id_financial_period", nullable = false)
+    private FinancialPeriod financialPeriod;
+    @Getter
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "id_expense_class", nullable = false)
+    private MovementClass expenseClass;
+    @Getter
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "id_revenue_class", nullable = false)
+    private MovementClass revenueClass;
+
+    /**
+     * Constructor...
+     */
+    protected StatementImport() { }
+
+    /**
+     * Constructor...
+     *
+     * @param fileName the name of the imported file
+     * @param fileHash the hash of the file content
+     * @param statementFormat the format of the file
+     */
+    public StatementImport(String fileName, String fileHash, StatementFormat statementFormat) {
+        this.fileName = fileName;
+        this.fileHash = fileHash;
+        this.statementFormat = statementFormat;
+        this.statementImportState = StatementImportState.RUNNING;
+    }
+
+    /**
+     * Start or restart this import with the given destination for the {@link PeriodMovement}, the lines already
+     * committed are kept
+     *
+     * @param financialPeriod the {@link FinancialPeriod} of the movements
+     * @param expenseClass the {@link MovementClass} used when no rule matches an expense
+     * @param revenueClass the {@link MovementClass} used when no rule matches a revenue
+     * @return this import
+     */
+    public StatementImport prepareToRun(FinancialPeriod financialPeriod, MovementClass expenseClass,
+                                        MovementClass revenueClass) {
+        this.financialPeriod = financialPeriod;
+        this.expenseClass = expenseClass;
+        this.revenueClass = revenueClass;
+        this.statementImportState = StatementImportState.RUNNING;
+        return this;
+    }
+
+    /**
+     * Register a committed chunk of lines
+     *
+     * @param lastLine the last line of the chunk
+     * @param imported the number of lines imported as {@link PeriodMovement}
+     * @param duplicated the number of lines already imported before
+     * @param rejected the number of lines rejected by the validations
+     */
+    public void checkpoint(long lastLine, int imported, int duplicated, int rejected) {
+        this.lastLine = lastLine;
+        this.imported += imported;
+        this.duplicated += duplicated;
+        this.rejected += rejected;
+    }
+
+    /**
+     * Mark this import as finished
+     */
+    public void finish() {
+        this.statementImportState = StatementImportState.FINISHED;
+    }
+
+    /**
+     * Mark this import as failed, it can be restarted by sending the same file again
+     */
+    public void fail() {
+        this.statementImportState = StatementImportState.FAILED;
+    }
+
+    /**
+     * To check if this import is finished
+     *
+     * @return true if it is, false otherwise
+     */
+    public boolean isFinished() {
+        return this.statementImportState == StatementImportState.FINISHED;
+    }
+}
@@ -95,16 +95,17 @@ public class WalletBalance extends PersistentEntity {
     private Wallet wallet;
 
     /**
-     * Process the balances of this balance when requested
+     * Process the balances of this balance using the actual balance of the {@link Wallet} after the transaction value
+     * was applied to it by the database
      *
-     * Use this after set a new actual balance
+     * @param actualBalance the balance of the {@link Wallet} with the transaction value already applied
      */
-    public void processBalances() {
-        
+    public void processBalances(BigDecimal actualBalance) {
+
         // calculate the actual and the old balance
-        this.oldBalance = this.wallet.getActualBalance();
-        this.actualBalance = (this.wallet.getActualBalance().add(this.transactionValue));
-        
+        this.actualBalance = actualBalance;
+        this.oldBalance = actualBalance.subtract(this.transactionValue);
+
         // update the actual balance of wallet
         this.wallet.setActualBalance(this.actualBalance);
     }
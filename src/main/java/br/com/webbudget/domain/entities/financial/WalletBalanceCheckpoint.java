@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.entities.financial;
+
+import br.com.webbudget.domain.entities.PersistentEntity;
+import br.com.webbudget.domain.entities.registration.Wallet;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static br.com.webbudget.infrastructure.utils.DefaultSchemes.FINANCIAL;
+
+/**
+ * The closing balance of a {@link Wallet} at the end of a given day. Those are snapshots of the {@link WalletBalance}
+ * historic, so the balance at any instant can be read from the last checkpoint plus the few rows after it instead of
+ * replaying the whole historic of the {@link Wallet}
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Entity
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@Table(name = "wallet_balance_checkpoints", schema = FINANCIAL, uniqueConstraints =
+        @UniqueConstraint(name = "uk_wallet_balance_checkpoints_wallet_date", columnNames = {"id_wallet", "checkpoint_date"}))
+public class WalletBalanceCheckpoint extends PersistentEntity {
+
+    @Getter
+    @Column(name = "checkpoint_date", nullable = false)
+    private LocalDate checkpointDate;
+    @Getter
+    @Column(name = "balance", nullable = false)
+    private BigDecimal balance;
+
+    @Getter
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "id_wallet", nullable = false)
+    private Wallet wallet;
+
+    /**
+     * Constructor...
+     */
+    public WalletBalanceCheckpoint() {
+        this.balance = BigDecimal.ZERO;
+    }
+
+    /**
+     * Constructor...
+     *
+     * @param wallet the {@link Wallet} of this checkpoint
+     * @param checkpointDate the day closed by this checkpoint
+     */
+    public WalletBalanceCheckpoint(Wallet wallet, LocalDate checkpointDate) {
+        this();
+        this.wallet = wallet;
+        this.checkpointDate = checkpointDate;
+    }
+
+    /**
+     * Replace the balance of this checkpoint, used when the checkpoint is written again for the same day
+     *
+     * @param balance the closing balance of the day
+     * @return this checkpoint
+     */
+    public WalletBalanceCheckpoint update(BigDecimal balance) {
+        this.balance = balance;
+        return this;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.entities.journal;
+
+import br.com.webbudget.domain.entities.PersistentEntity;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static br.com.webbudget.infrastructure.utils.DefaultSchemes.JOURNAL;
+
+/**
+ * The totals of a {@link FuelType} inside the {@link VehicleStatistics}. The liters and cost come from every
+ * {@link Fuel} of this type, the tank values come from the full tanks where this type was the predominant one and are
+ * used to calculate the average consumption of the fuel
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Entity
+@ToString(callSuper = true, exclude = "vehicleStatistics")
+@EqualsAndHashCode(callSuper = true, exclude = "vehicleStatistics")
+@Table(name = "fuel_statistics", schema = JOURNAL, uniqueConstraints =
+        @UniqueConstraint(name = "uk_fuel_statistics_vehicle_fuel", columnNames = {"id_vehicle_statistics", "fuel_type"}))
+public class FuelStatistics extends PersistentEntity {
+
+    @Getter
+    @Enumerated(EnumType.STRING)
+    @Column(name = "fuel_type", nullable = false, length = 45)
+    private FuelType fuelType;
+    @Getter
+    @Column(name = "liters", nullable = false)
+    private BigDecimal liters;
+    @Getter
+    @Column(name = "cost", nullable = false)
+    private BigDecimal cost;
+    @Getter
+    @Column(name = "tank_distance", nullable = false)
+    private long tankDistance;
+    @Getter
+    @Column(name = "tank_liters", nullable = false)
+    private BigDecimal tankLiters;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "id_vehicle_statistics", nullable = false)
+    private VehicleStatistics vehicleStatistics;
+
+    /**
+     * Constructor...
+     */
+    protected FuelStatistics() {
+        this.cost = BigDecimal.ZERO;
+        this.liters = BigDecimal.ZERO;
+        this.tankLiters = BigDecimal.ZERO;
+    }
+
+    /**
+     * Constructor...
+     *
+     * @param vehicleStatistics the owner of this totals
+     * @param fuelType the {@link FuelType} of this totals
+     */
+    FuelStatistics(VehicleStatistics vehicleStatistics, FuelType fuelType) {
+        this();
+        this.fuelType = fuelType;
+        this.vehicleStatistics = vehicleStatistics;
+    }
+
+    /**
+     * Add or subtract a {@link Fuel} from this totals
+     *
+     * @param fuel to be added
+     * @param signal one to add, minus one to subtract
+     */
+    void add(Fuel fuel, int signal) {
+        this.liters = this.liters.add(fuel.getLiters().multiply(BigDecimal.valueOf(signal)));
+        this.cost = this.cost.add(fuel.getCost().multiply(BigDecimal.valueOf(signal)));
+    }
+
+    /**
+     * Add or subtract a full tank from this totals
+     *
+     * @param distance travelled with the tank
+     * @param liters spent in the tank
+     * @param signal one to add, minus one to subtract
+     */
+    void addTank(long distance, BigDecimal liters, int signal) {
+        this.tankDistance += distance * signal;
+        this.tankLiters = this.tankLiters.add(liters.multiply(BigDecimal.valueOf(signal)));
+    }
+
+    /**
+     * Clear all the values of this totals
+     */
+    void clear() {
+        this.liters = BigDecimal.ZERO;
+        this.cost = BigDecimal.ZERO;
+        this.tankDistance = 0;
+        this.tankLiters = BigDecimal.ZERO;
+    }
+
+    /**
+     * The average consumption of this fuel, in distance per liter
+     *
+     * @return the average consumption, zero if there is no full tank with this fuel
+     */
+    public BigDecimal getAverageConsumption() {
+        return this.tankLiters.signum() == 0 ? BigDecimal.ZERO
+                : BigDecimal.valueOf(this.tankDistance).divide(this.tankLiters, 2, RoundingMode.HALF_UP);
+    }
+}
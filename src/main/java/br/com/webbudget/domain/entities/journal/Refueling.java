@@ -39,6 +39,7 @@ import java.text.NumberFormat;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -53,7 +54,7 @@ import static javax.persistence.FetchType.EAGER;
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 2.3.0, 27/06/2016
  */
 @Entity
@@ -209,6 +210,18 @@ public class Refueling extends PersistentEntity {
         return this.getVehicle().getCostCenter();
     }
 
+    /**
+     * Get the {@link FuelType} with more liters in this {@link Refueling}, the consumption of the tank is credited to it
+     *
+     * @return the predominant {@link FuelType}
+     */
+    public FuelType getPredominantFuelType() {
+        return this.fuels.stream()
+                .max(Comparator.comparing(Fuel::getLiters))
+                .map(Fuel::getFuelType)
+                .orElse(FuelType.GASOLINE);
+    }
+
     /**
      * This is a helper method to check if the {@link Fuel} is ok the there are at least one informed
      *
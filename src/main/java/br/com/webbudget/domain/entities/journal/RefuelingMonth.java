@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.entities.journal;
+
+import br.com.webbudget.domain.entities.registration.Vehicle;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+
+/**
+ * Projection with the totals of the {@link Refueling} of a {@link Vehicle} in a month, used to build the monthly
+ * series of the vehicle analytics
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ToString
+public final class RefuelingMonth {
+
+    @Getter
+    private final YearMonth month;
+    @Getter
+    private final long refuelings;
+    @Getter
+    private final long distance;
+    @Getter
+    private final BigDecimal liters;
+    @Getter
+    private final BigDecimal cost;
+
+    /**
+     * Constructor used by the projection query
+     *
+     * @param year of the month
+     * @param month of the year
+     * @param refuelings the number of {@link Refueling} in the month
+     * @param distance the distance travelled in the month
+     * @param liters the liters of fuel in the month
+     * @param cost the cost of the fuel in the month
+     */
+    public RefuelingMonth(Integer year, Integer month, Long refuelings, Long distance, BigDecimal liters,
+                          BigDecimal cost) {
+        this.month = YearMonth.of(year, month);
+        this.refuelings = refuelings;
+        this.distance = distance != null ? distance : 0;
+        this.liters = liters != null ? liters : BigDecimal.ZERO;
+        this.cost = cost != null ? cost : BigDecimal.ZERO;
+    }
+
+    /**
+     * The cost per distance travelled in the month
+     *
+     * @return the cost per distance, zero if there is no distance in the month
+     */
+    public BigDecimal getCostPerDistance() {
+        return this.distance == 0 ? BigDecimal.ZERO
+                : this.cost.divide(BigDecimal.valueOf(this.distance), 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * The consumption of the month, in distance per liter. Partial tanks make this an approximation, the exact
+     * consumption is only known by tank
+     *
+     * @return the consumption of the month, zero if there is no fuel in the month
+     */
+    public BigDecimal getConsumption() {
+        return this.liters.signum() == 0 ? BigDecimal.ZERO
+                : BigDecimal.valueOf(this.distance).divide(this.liters, 2, RoundingMode.HALF_UP);
+    }
+}
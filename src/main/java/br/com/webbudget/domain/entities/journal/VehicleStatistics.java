@@ -0,0 +1,269 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.entities.journal;
+
+import br.com.webbudget.domain.entities.PersistentEntity;
+import br.com.webbudget.domain.entities.registration.Vehicle;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static br.com.webbudget.infrastructure.utils.DefaultSchemes.JOURNAL;
+import static javax.persistence.CascadeType.MERGE;
+import static javax.persistence.CascadeType.PERSIST;
+import static javax.persistence.FetchType.EAGER;
+
+/**
+ * The running totals of the {@link Refueling} of a {@link Vehicle}. It is maintained incrementally every time a
+ * {@link Refueling} is saved or deleted, so the refueling process and the vehicle analytics never need to read all the
+ * refueling history of the vehicle again
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Entity
+@ToString(callSuper = true, exclude = "fuels")
+@EqualsAndHashCode(callSuper = true, exclude = "fuels")
+@Table(name = "vehicle_statistics", schema = JOURNAL)
+public class VehicleStatistics extends PersistentEntity {
+
+    @Getter
+    @Column(name = "last_odometer", nullable = false)
+    private long lastOdometer;
+    @Getter
+    @Column(name = "refuelings", nullable = false)
+    private long refuelings;
+    @Getter
+    @Column(name = "distance", nullable = false)
+    private long distance;
+    @Getter
+    @Column(name = "liters", nullable = false)
+    private BigDecimal liters;
+    @Getter
+    @Column(name = "cost", nullable = false)
+    private BigDecimal cost;
+    @Getter
+    @Column(name = "unaccounted_refuelings", nullable = false)
+    private long unaccountedRefuelings;
+    @Getter
+    @Column(name = "unaccounted_distance", nullable = false)
+    private long unaccountedDistance;
+    @Getter
+    @Column(name = "unaccounted_liters", nullable = false)
+    private BigDecimal unaccountedLiters;
+
+    @Getter
+    @OneToOne(optional = false)
+    @JoinColumn(name = "id_vehicle", nullable = false, unique = true)
+    private Vehicle vehicle;
+
+    @OneToMany(mappedBy = "vehicleStatistics", orphanRemoval = true, fetch = EAGER, cascade = {PERSIST, MERGE})
+    private List<FuelStatistics> fuels;
+
+    /**
+     * Constructor...
+     */
+    public VehicleStatistics() {
+        this.cost = BigDecimal.ZERO;
+        this.liters = BigDecimal.ZERO;
+        this.unaccountedLiters = BigDecimal.ZERO;
+        this.fuels = new ArrayList<>();
+    }
+
+    /**
+     * Constructor...
+     *
+     * @param vehicle the {@link Vehicle} of this statistics
+     */
+    public VehicleStatistics(Vehicle vehicle) {
+        this();
+        this.vehicle = vehicle;
+    }
+
+    /**
+     * Get a unmodifiable list of {@link FuelStatistics}
+     *
+     * @return unmodifiable list of {@link FuelStatistics}
+     */
+    public List<FuelStatistics> getFuels() {
+        return Collections.unmodifiableList(this.fuels);
+    }
+
+    /**
+     * Add a saved {@link Refueling} to this statistics, the distance and the average consumption of the refueling
+     * must be already calculated using the values of this statistics
+     *
+     * @param refueling to be added
+     */
+    public void add(Refueling refueling) {
+
+        this.sum(refueling, 1);
+
+        this.lastOdometer = Math.max(this.lastOdometer, refueling.getOdometer());
+
+        if (refueling.isFullTank()) {
+            if (refueling.getAverageConsumption() != null) {
+                this.fuelOf(refueling.getPredominantFuelType()).addTank(
+                        this.unaccountedDistance + refueling.getDistance(),
+                        this.unaccountedLiters.add(refueling.getLiters()), 1);
+            }
+            this.unaccountedRefuelings = 0;
+            this.unaccountedDistance = 0;
+            this.unaccountedLiters = BigDecimal.ZERO;
+        } else {
+            this.unaccountedRefuelings++;
+            this.unaccountedDistance += refueling.getDistance();
+            this.unaccountedLiters = this.unaccountedLiters.add(refueling.getLiters());
+        }
+    }
+
+    /**
+     * Remove the last {@link Refueling} of the {@link Vehicle} from this statistics
+     *
+     * @param refueling to be removed
+     * @param accountedItems the {@link Refueling} accounted by the removed one, they are unaccounted again
+     */
+    public void remove(Refueling refueling, List<Refueling> accountedItems) {
+
+        this.sum(refueling, -1);
+
+        // the distance was calculated from the last odometer at the time the refueling was saved
+        this.lastOdometer = this.refuelings == 0 ? 0 : refueling.getOdometer() - refueling.getDistance();
+
+        if (refueling.isFullTank()) {
+
+            final long accountedDistance = accountedItems.stream()
+                    .mapToLong(Refueling::getDistance)
+                    .sum();
+
+            final BigDecimal accountedLiters = accountedItems.stream()
+                    .map(Refueling::getLiters)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+            if (refueling.getAverageConsumption() != null) {
+                this.fuelOf(refueling.getPredominantFuelType()).addTank(
+                        accountedDistance + refueling.getDistance(), accountedLiters.add(refueling.getLiters()), -1);
+            }
+
+            this.unaccountedRefuelings = accountedItems.size();
+            this.unaccountedDistance = accountedDistance;
+            this.unaccountedLiters = accountedLiters;
+        } else {
+            this.unaccountedRefuelings--;
+            this.unaccountedDistance -= refueling.getDistance();
+            this.unaccountedLiters = this.unaccountedLiters.subtract(refueling.getLiters());
+        }
+    }
+
+    /**
+     * Clear all the values of this statistics, used before a rebuild from the source rows
+     *
+     * @return this statistics
+     */
+    public VehicleStatistics clear() {
+        this.lastOdometer = 0;
+        this.refuelings = 0;
+        this.distance = 0;
+        this.liters = BigDecimal.ZERO;
+        this.cost = BigDecimal.ZERO;
+        this.unaccountedRefuelings = 0;
+        this.unaccountedDistance = 0;
+        this.unaccountedLiters = BigDecimal.ZERO;
+        this.fuels.forEach(FuelStatistics::clear);
+        return this;
+    }
+
+    /**
+     * To check if there are {@link Refueling} waiting for a full tank to be accounted
+     *
+     * @return true if there are, false otherwise
+     */
+    public boolean hasUnaccounted() {
+        return this.unaccountedRefuelings > 0;
+    }
+
+    /**
+     * The cost per distance travelled by the {@link Vehicle}
+     *
+     * @return the cost per distance, zero if the vehicle has not travelled yet
+     */
+    public BigDecimal getCostPerDistance() {
+        return this.distance == 0 ? BigDecimal.ZERO
+                : this.cost.divide(BigDecimal.valueOf(this.distance), 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * The average consumption of the {@link Vehicle} considering all the {@link FuelType}, in distance per liter
+     *
+     * @return the average consumption, zero if there is no full tank accounted yet
+     */
+    public BigDecimal getAverageConsumption() {
+
+        final long tankDistance = this.fuels.stream()
+                .mapToLong(FuelStatistics::getTankDistance)
+                .sum();
+
+        final BigDecimal tankLiters = this.fuels.stream()
+                .map(FuelStatistics::getTankLiters)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return tankLiters.signum() == 0 ? BigDecimal.ZERO
+                : BigDecimal.valueOf(tankDistance).divide(tankLiters, 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Add or subtract the values of a {@link Refueling} and its {@link Fuel} from the totals
+     *
+     * @param refueling to get the values
+     * @param signal one to add, minus one to subtract
+     */
+    private void sum(Refueling refueling, int signal) {
+
+        this.refuelings += signal;
+        this.distance += refueling.getDistance() * signal;
+        this.liters = this.liters.add(refueling.getLiters().multiply(BigDecimal.valueOf(signal)));
+        this.cost = this.cost.add(refueling.getCost().multiply(BigDecimal.valueOf(signal)));
+
+        refueling.getFuels().forEach(fuel -> this.fuelOf(fuel.getFuelType()).add(fuel, signal));
+    }
+
+    /**
+     * Get the {@link FuelStatistics} of a {@link FuelType}, creating it if this is the first time the fuel is used
+     *
+     * @param fuelType to find the statistics
+     * @return the {@link FuelStatistics} of the fuel
+     */
+    private FuelStatistics fuelOf(FuelType fuelType) {
+        return this.fuels.stream()
+                .filter(fuel -> fuel.getFuelType() == fuelType)
+                .findFirst()
+                .orElseGet(() -> {
+                    final FuelStatistics fuel = new FuelStatistics(this, fuelType);
+                    this.fuels.add(fuel);
+                    return fuel;
+                });
+    }
+}
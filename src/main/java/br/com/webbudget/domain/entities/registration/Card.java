@@ -40,6 +40,7 @@ import static br.com.webbudget.infrastructure.utils.DefaultSchemes.REGISTRATION_
  * @since 1.0.0, 03/04/2014
  */
 @Entity
+@Cacheable
 @Audited
 @ToString(callSuper = true)
 @EqualsAndHashCode(callSuper = true)
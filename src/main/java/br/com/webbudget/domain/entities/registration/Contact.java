@@ -25,6 +25,7 @@ import lombok.ToString;
 import org.apache.commons.lang3.StringUtils;
 import org.hibernate.envers.AuditTable;
 import org.hibernate.envers.Audited;
+import org.hibernate.envers.NotAudited;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
@@ -43,15 +44,15 @@ import static javax.persistence.CascadeType.REMOVE;
  *
  * @author Arthur Gregorio
  *
- * @version 1.1.0
+ * @version 1.2.0
  * @since 1.2.0, 07/04/2015
  */
 @Entity
 @Audited
 @Table(name = "contacts", schema = REGISTRATION)
 @AuditTable(value = "contacts", schema = REGISTRATION_AUDIT)
-@ToString(callSuper = true, exclude = {"telephones", "deletedTelephones"})
-@EqualsAndHashCode(callSuper = true, exclude = {"telephones", "deletedTelephones"})
+@ToString(callSuper = true, exclude = {"telephones", "deletedTelephones", "searchText"})
+@EqualsAndHashCode(callSuper = true, exclude = {"telephones", "deletedTelephones", "searchText"})
 @NamedEntityGraph(name = "Contact.withTelephones", attributeNodes = @NamedAttributeNode(value = "telephones"))
 public class Contact extends PersistentEntity {
 
@@ -123,6 +124,13 @@ public class Contact extends PersistentEntity {
     @Column(name = "contact_type", nullable = false, length = 45)
     private ContactType contactType;
 
+    /**
+     * The searchable fields normalized and written by the database, used by the generic search of the repository
+     */
+    @NotAudited
+    @Column(name = "search_text", insertable = false, updatable = false)
+    private String searchText;
+
     @Setter
     @OneToMany(mappedBy = "contact", cascade = REMOVE)
     private List<Telephone> telephones;
@@ -43,6 +43,7 @@ import static br.com.webbudget.infrastructure.utils.DefaultSchemes.REGISTRATION_
  * @since 1.0.0, 28/03/2014
  */
 @Entity
+@Cacheable
 @Audited
 @Table(name = "cost_centers", schema = REGISTRATION)
 @AuditTable(value = "cost_centers", schema = REGISTRATION_AUDIT)
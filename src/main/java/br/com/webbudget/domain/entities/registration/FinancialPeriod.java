@@ -24,7 +24,9 @@ import lombok.Setter;
 import lombok.ToString;
 import org.hibernate.envers.AuditTable;
 import org.hibernate.envers.Audited;
+import org.hibernate.envers.NotAudited;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.OneToOne;
@@ -42,13 +44,14 @@ import static br.com.webbudget.infrastructure.utils.DefaultSchemes.REGISTRATION_
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 1.0.0, 20/03/2014
  */
 @Entity
+@Cacheable
 @Audited
-@ToString(callSuper = true, exclude = "closing")
-@EqualsAndHashCode(callSuper = true, exclude = "closing")
+@ToString(callSuper = true, exclude = {"closing", "searchText"})
+@EqualsAndHashCode(callSuper = true, exclude = {"closing", "searchText"})
 @Table(name = "financial_periods", schema = REGISTRATION)
 @AuditTable(value = "financial_periods", schema = REGISTRATION_AUDIT)
 public class FinancialPeriod extends PersistentEntity {
@@ -92,6 +95,13 @@ public class FinancialPeriod extends PersistentEntity {
     @Column(name = "expired", nullable = false)
     private boolean expired;
 
+    /**
+     * The searchable fields normalized and written by the database, used by the generic search of the repository
+     */
+    @NotAudited
+    @Column(name = "search_text", insertable = false, updatable = false)
+    private String searchText;
+
     @Getter
     @OneToOne(mappedBy = "financialPeriod")
     private Closing closing;
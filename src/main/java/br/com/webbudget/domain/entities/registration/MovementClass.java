@@ -38,10 +38,11 @@ import static br.com.webbudget.infrastructure.utils.DefaultSchemes.REGISTRATION_
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 1.0.0, 04/03/2014
  */
 @Entity
+@Cacheable
 @Audited
 @ToString(callSuper = true, exclude = "totalMovements")
 @Table(name = "movement_classes", schema = REGISTRATION)
@@ -69,6 +70,10 @@ public class MovementClass extends PersistentEntity {
     @NotNull(message = "{movement-class.movement-class-type}")
     @Column(name = "movement_class_type", nullable = false, length = 45)
     private MovementClassType movementClassType;
+    @Getter
+    @Setter
+    @Column(name = "import_pattern")
+    private String importPattern;
 
     @Getter
     @Setter
@@ -76,7 +76,7 @@ public class Wallet extends PersistentEntity {
     @Getter
     @Setter
     @NotNull(message = "{wallet.balance}")
-    @Column(name = "actual_balance", nullable = false)
+    @Column(name = "actual_balance", nullable = false, updatable = false)
     private BigDecimal actualBalance;
     @Getter
     @Setter
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.entities.view;
+
+import static br.com.webbudget.infrastructure.utils.DefaultSchemes.FINANCIAL;
+
+/**
+ * The views used by the dashboards and statistics pages that can be materialized on the database
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public enum MaterializedView {
+
+    WB_VIEW_001("wb_view_001"),
+    WB_VIEW_002("wb_view_002"),
+    WB_VIEW_003("wb_view_003"),
+    WB_VIEW_006("wb_view_006"),
+    WB_VIEW_007("wb_view_007"),
+    WB_VIEW_008("wb_view_008"),
+    WB_VIEW_009("wb_view_009"),
+    WB_VIEW_010("wb_view_010"),
+    WB_VIEW_011("wb_view_011");
+
+    private final String viewName;
+
+    /**
+     * Constructor...
+     *
+     * @param viewName the name of the view on the database
+     */
+    MaterializedView(String viewName) {
+        this.viewName = viewName;
+    }
+
+    /**
+     * The name of the view on the database, without the schema
+     *
+     * @return the view name
+     */
+    public String getViewName() {
+        return this.viewName;
+    }
+
+    /**
+     * The name of the view on the database with the schema
+     *
+     * @return the qualified view name
+     */
+    public String getQualifiedName() {
+        return FINANCIAL + "." + this.viewName;
+    }
+}
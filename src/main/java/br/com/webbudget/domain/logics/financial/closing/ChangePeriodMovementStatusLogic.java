@@ -18,14 +18,15 @@ package br.com.webbudget.domain.logics.financial.closing;
 
 import br.com.webbudget.domain.entities.financial.Closing;
 import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import br.com.webbudget.domain.entities.financial.PeriodMovementState;
 import br.com.webbudget.domain.entities.registration.FinancialPeriod;
 import br.com.webbudget.domain.exceptions.BusinessLogicException;
 import br.com.webbudget.domain.logics.BusinessLogic;
 import br.com.webbudget.domain.repositories.financial.PeriodMovementRepository;
+import br.com.webbudget.infrastructure.utils.Configurations;
 
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
-import java.util.List;
 
 /**
  * {@link BusinessLogic} used to change the status for all {@link PeriodMovement} linked to the {@link FinancialPeriod}
@@ -50,16 +51,13 @@ public class ChangePeriodMovementStatusLogic implements ClosingSavingLogic {
     @Override
     public void run(Closing value) {
 
-        final List<PeriodMovement> movements = this.periodMovementRepository
-                .findByFinancialPeriod(value.getFinancialPeriod());
+        final FinancialPeriod financialPeriod = value.getFinancialPeriod();
 
-        movements.stream()
-                .filter(PeriodMovement::isOpen)
-                .findFirst()
-                .ifPresent(movement -> {
-                    throw new BusinessLogicException("error.closing.open-movement");
-                });
+        if (this.periodMovementRepository.existsByFinancialPeriodAndState(financialPeriod, PeriodMovementState.OPEN)) {
+            throw new BusinessLogicException("error.closing.open-movement");
+        }
 
-        movements.forEach(movement -> this.periodMovementRepository.saveAndFlush(movement.prepareToAccount()));
+        this.periodMovementRepository.changeStateInBatches(financialPeriod, PeriodMovementState.PAID,
+                PeriodMovement::prepareToAccount, Configurations.getAsInteger("persistence.batch-size"));
     }
 }
@@ -17,8 +17,10 @@
 package br.com.webbudget.domain.logics.financial.closing;
 
 import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import br.com.webbudget.domain.entities.financial.PeriodMovementState;
 import br.com.webbudget.domain.entities.registration.FinancialPeriod;
 import br.com.webbudget.domain.repositories.financial.PeriodMovementRepository;
+import br.com.webbudget.infrastructure.utils.Configurations;
 
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
@@ -44,7 +46,7 @@ public class RollbackPeriodMovementStatusLogic implements ReopenPeriodLogic {
      */
     @Override
     public void run(FinancialPeriod value) {
-        this.periodMovementRepository.findByFinancialPeriod(value)
-                .forEach(movement -> this.periodMovementRepository.saveAndFlush(movement.prepareToReopenPeriod()));
+        this.periodMovementRepository.changeStateInBatches(value, PeriodMovementState.ACCOUNTED,
+                PeriodMovement::prepareToReopenPeriod, Configurations.getAsInteger("persistence.batch-size"));
     }
 }
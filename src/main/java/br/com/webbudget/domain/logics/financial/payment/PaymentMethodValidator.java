@@ -22,11 +22,12 @@ import br.com.webbudget.domain.exceptions.BusinessLogicException;
 import javax.enterprise.context.Dependent;
 
 /**
- * Simple validator logic to check if we have a valid payment with method and wallet
+ * Simple validator logic to check if we have a valid payment with method and wallet, revenues and credit card invoices
+ * can only be paid with cash
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 3.0.2, 22/05/2019
  */
 @Dependent
@@ -41,6 +42,11 @@ public class PaymentMethodValidator implements PaymentSavingLogic {
     public void run(PaymentWrapper value) {
 
         final var payment = value.getPayment();
+        final var periodMovement = value.getPeriodMovement();
+
+        if (!payment.isPaidWithCash() && (periodMovement.isRevenue() || periodMovement.isCreditCardInvoice())) {
+            throw new BusinessLogicException("error.payment.only-cash", periodMovement.getIdentification());
+        }
 
         if ((payment.isPaidWithCreditCard() || payment.isPaidWithDebitCard()) && payment.getCard() == null) {
             throw new BusinessLogicException("error.payment.no-card");
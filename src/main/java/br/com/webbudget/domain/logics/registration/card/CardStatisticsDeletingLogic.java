@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.logics.registration.card;
+
+import br.com.webbudget.domain.entities.financial.CardStatistics;
+import br.com.webbudget.domain.entities.registration.Card;
+import br.com.webbudget.domain.logics.BusinessLogic;
+import br.com.webbudget.domain.repositories.financial.CardStatisticsRepository;
+
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+
+/**
+ * {@link BusinessLogic} to delete the {@link CardStatistics} before delete a {@link Card}
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Dependent
+public class CardStatisticsDeletingLogic implements CardDeletingLogic {
+
+    @Inject
+    private CardStatisticsRepository cardStatisticsRepository;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value
+     */
+    @Override
+    public void run(Card value) {
+        this.cardStatisticsRepository.findByCard(value)
+                .ifPresent(statistics -> this.cardStatisticsRepository.attachAndRemove(statistics));
+    }
+}
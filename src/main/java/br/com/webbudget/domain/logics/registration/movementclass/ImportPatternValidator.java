@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.logics.registration.movementclass;
+
+import br.com.webbudget.domain.entities.registration.MovementClass;
+import br.com.webbudget.domain.exceptions.BusinessLogicException;
+
+import javax.enterprise.context.Dependent;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Validate the import pattern of the {@link MovementClass}, it must be a valid regular expression
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Dependent
+public class ImportPatternValidator implements MovementClassSavingLogic, MovementClassUpdatingLogic {
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value
+     */
+    @Override
+    public void run(MovementClass value) {
+
+        final String importPattern = value.getImportPattern();
+
+        if (importPattern != null) {
+            try {
+                Pattern.compile(importPattern);
+            } catch (PatternSyntaxException ex) {
+                throw new BusinessLogicException("error.movement-class.invalid-import-pattern", importPattern);
+            }
+        }
+    }
+}
@@ -18,16 +18,20 @@ package br.com.webbudget.domain.repositories;
 
 import br.com.webbudget.domain.entities.PersistentEntity;
 import br.com.webbudget.domain.entities.PersistentEntity_;
+import br.com.webbudget.infrastructure.jpa.SearchColumns;
+import org.apache.deltaspike.data.api.EntityManagerDelegate;
 import org.apache.deltaspike.data.api.EntityRepository;
 import org.apache.deltaspike.data.api.criteria.Criteria;
 import org.apache.deltaspike.data.api.criteria.CriteriaSupport;
 
+import javax.persistence.EntityManager;
 import javax.persistence.metamodel.SingularAttribute;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.apache.commons.lang3.StringUtils.stripAccents;
 
 /**
  * The default repository, every repository inside this application should implement this interface
@@ -36,10 +40,11 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.2.0
  * @since 3.0.0, 20/03/2018
  */
-public interface DefaultRepository<T extends PersistentEntity> extends EntityRepository<T, Long>, CriteriaSupport<T> {
+public interface DefaultRepository<T extends PersistentEntity> extends EntityRepository<T, Long>, CriteriaSupport<T>,
+        EntityManagerDelegate<T> {
 
     /**
      * Generic method to find a entity by Id
@@ -99,6 +104,9 @@ public interface DefaultRepository<T extends PersistentEntity> extends EntityRep
      * Helper method to create {@link Criteria} instances, do not override this method or if you do this, keep in mind
      * that you are change a core behavior and problems here means problems in all queries inside de the application
      *
+     * When the repository has a {@link #getSearchProperty()} kept by the database the filter is searched only on it,
+     * otherwise the restrictions provided by {@link #getRestrictions(String)} are used, see {@link #isSearchable()}
+     *
      * @param filter the filters provided by the {@link #getRestrictions(String)}
      * @param active the active property provided by the {@link #getEntityStateProperty()}
      * @return a new criteria ready to query
@@ -108,7 +116,11 @@ public interface DefaultRepository<T extends PersistentEntity> extends EntityRep
         final Criteria<T, T> criteria = criteria();
 
         if (isNotBlank(filter)) {
-            criteria.or(this.getRestrictions(filter));
+            if (this.isSearchable()) {
+                criteria.like(this.getSearchProperty(), this.likeAny(this.searchTerm(filter)));
+            } else {
+                criteria.or(this.getRestrictions(filter));
+            }
         }
 
         if (active != null) {
@@ -150,6 +162,38 @@ public interface DefaultRepository<T extends PersistentEntity> extends EntityRep
         throw new RuntimeException("getBlockProperty not implemented for query");
     }
 
+    /**
+     * This method should be implemented by the repositories of the entities with a search column, a text column kept
+     * by the database with the searchable fields in lower case and without accents and indexed by trigram. With this
+     * the generic search is done with a single LIKE on the column instead of one LIKE for each field
+     *
+     * @return the attribute mapping the search column, null if the entity does not have one
+     */
+    default SingularAttribute<T, String> getSearchProperty() {
+        return null;
+    }
+
+    /**
+     * Check if the generic search can be done on the {@link #getSearchProperty()}, the column must exist and be kept
+     * by the triggers of the database, otherwise the {@link #getRestrictions(String)} are used
+     *
+     * @return true if the repository has a search column kept by the database
+     */
+    default boolean isSearchable() {
+        return this.getSearchProperty() != null && SearchColumns.areMaintained(this.unwrap(EntityManager.class));
+    }
+
+    /**
+     * Helper method to normalize the filter in the same way the database does with the search columns, without
+     * accents and in lower case
+     *
+     * @param filter the filter to normalize
+     * @return the filter ready to be searched on the search column
+     */
+    default String searchTerm(String filter) {
+        return stripAccents(filter.trim()).toLowerCase();
+    }
+
     /**
      * Helper method to make a simple LIKE clause look in both ways (begin and end) of the sentence.
      *
@@ -19,10 +19,21 @@ package br.com.webbudget.domain.repositories;
 import br.com.webbudget.application.components.ui.table.Page;
 import br.com.webbudget.domain.entities.PersistentEntity;
 import br.com.webbudget.domain.entities.PersistentEntity_;
+import org.apache.deltaspike.data.api.EntityManagerDelegate;
 import org.apache.deltaspike.data.api.criteria.Criteria;
 
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.ParameterExpression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SingularAttribute;
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
 /**
  * Implementation for {@link DefaultRepository} with lazy load support
  *
@@ -30,15 +41,19 @@ import java.util.List;
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 3.0.0, 06/01/2019
  */
-public interface LazyDefaultRepository<T extends PersistentEntity> extends DefaultRepository<T> {
+public interface LazyDefaultRepository<T extends PersistentEntity> extends DefaultRepository<T>,
+        EntityManagerDelegate<T> {
 
     /**
      * Generic search method with lazy pagination support. To use this method you must implement
      * {@link #getRestrictions(String)} and {@link #getEntityStateProperty()}
      *
+     * If the repository is {@link #isSearchable()} the results of a search are ranked by the similarity with
+     * the filter, see {@link #findRankedBy(String, Boolean, int, int)}
+     *
      * @param filter the filter to be used to find the objects
      * @param active the object state in the database, null means all states
      * @param start the starting page
@@ -49,6 +64,10 @@ public interface LazyDefaultRepository<T extends PersistentEntity> extends Defau
 
         final int totalRows = this.countPages(filter, active);
 
+        if (isNotBlank(filter) && this.isSearchable()) {
+            return Page.of(this.findRankedBy(filter, active, start, pageSize), totalRows);
+        }
+
         final Criteria<T, T> criteria = this.buildCriteria(filter, active);
 
         this.setOrder(criteria);
@@ -61,6 +80,48 @@ public interface LazyDefaultRepository<T extends PersistentEntity> extends Defau
         return Page.of(data, totalRows);
     }
 
+    /**
+     * Find a page of the entities matching the filter on the {@link #getSearchProperty()}, the most similar first
+     *
+     * The similarity is given by the trigram word similarity of the database, so the rows where the filter is a whole
+     * word come before the ones where it is only a piece of a word
+     *
+     * @param filter the filter to be used to find the objects
+     * @param active the object state in the database, null means all states
+     * @param start the starting page
+     * @param pageSize size of the page
+     * @return the {@link List} of the entities found
+     */
+    default List<T> findRankedBy(String filter, Boolean active, int start, int pageSize) {
+
+        final SingularAttribute<T, String> searchProperty = this.getSearchProperty();
+
+        final CriteriaBuilder builder = this.getCriteriaBuilder();
+        final CriteriaQuery<T> query = builder.createQuery(searchProperty.getDeclaringType().getJavaType());
+
+        final Root<T> root = query.from(searchProperty.getDeclaringType().getJavaType());
+        final ParameterExpression<String> term = builder.parameter(String.class);
+
+        final List<Predicate> predicates = new ArrayList<>();
+
+        predicates.add(builder.like(root.get(searchProperty), builder.concat(builder.concat("%", term), "%")));
+
+        if (active != null) {
+            predicates.add(builder.equal(root.get(this.getEntityStateProperty()), active));
+        }
+
+        query.where(predicates.toArray(new Predicate[0]))
+                .orderBy(builder.desc(builder.function("word_similarity", Double.class, term, root.get(searchProperty))),
+                        builder.asc(root.get(PersistentEntity_.id)));
+
+        return this.unwrap(EntityManager.class)
+                .createQuery(query)
+                .setParameter(term, this.searchTerm(filter))
+                .setFirstResult(start)
+                .setMaxResults(pageSize)
+                .getResultList();
+    }
+
     /**
      * Count the pages for pagination purpose
      *
@@ -21,8 +21,11 @@ import br.com.webbudget.domain.repositories.DefaultRepository;
 import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 /**
  * The {@link Configuration} repository
  *
@@ -39,7 +42,7 @@ public interface ConfigurationRepository extends DefaultRepository<Configuration
      *
      * @return an {@link Optional} of the current configuration
      */
-    @Query("FROM Configuration c " +
-            "WHERE c.id = (SELECT MAX(co.id) FROM Configuration co)")
+    @Query(value = "FROM Configuration c WHERE c.id = (SELECT MAX(co.id) FROM Configuration co)",
+            hints = @QueryHint(name = CACHEABLE, value = "true"))
     Optional<Configuration> findCurrent();
 }
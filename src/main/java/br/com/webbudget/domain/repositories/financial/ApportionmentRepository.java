@@ -17,16 +17,86 @@
 package br.com.webbudget.domain.repositories.financial;
 
 import br.com.webbudget.domain.entities.financial.Apportionment;
+import br.com.webbudget.domain.entities.financial.Movement;
 import br.com.webbudget.domain.repositories.DefaultRepository;
+import org.apache.deltaspike.data.api.EntityManagerDelegate;
+import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * The {@link Apportionment} repository
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 1.0.0, 22/04/2015
  */
 @Repository
-public interface ApportionmentRepository extends DefaultRepository<Apportionment> { }
+public interface ApportionmentRepository extends DefaultRepository<Apportionment>,
+        EntityManagerDelegate<Apportionment> {
+
+    /**
+     * Find all {@link Apportionment} of a given {@link Movement}
+     *
+     * @param movement to be used as a filter
+     * @return a {@link List} with the {@link Apportionment} found
+     */
+    @Query("FROM Apportionment ap WHERE ap.movement = ?1")
+    List<Apportionment> findByMovement(Movement movement);
+
+    /**
+     * Persist the {@link Apportionment} of a new {@link Movement} without flushing, the inserts go to the database in
+     * the same JDBC batch of the next flush
+     *
+     * @param movement the owner of the {@link Apportionment}
+     * @param apportionments to be persisted
+     */
+    default void persistAll(Movement movement, Collection<Apportionment> apportionments) {
+        apportionments.forEach(apportionment -> {
+            apportionment.setMovement(movement);
+            this.persist(apportionment);
+        });
+    }
+
+    /**
+     * Write all the {@link Apportionment} of a {@link Movement} with a single flush, so the inserts, updates and
+     * deletes go to the database in JDBC batches instead of one statement for each call
+     *
+     * The saved ones are loaded with one query before anything else, this way the merge and the remove of each one
+     * does not need to select it again
+     *
+     * @param movement the owner of the {@link Apportionment}
+     * @param apportionments to be inserted or updated
+     * @param deleted the {@link Apportionment} removed from the {@link Movement}
+     */
+    default void saveAll(Movement movement, Collection<Apportionment> apportionments,
+                         Collection<Apportionment> deleted) {
+
+        final Map<Long, Apportionment> saved = movement.isSaved() ? this.findByMovement(movement).stream()
+                .collect(Collectors.toMap(Apportionment::getId, Function.identity())) : Map.of();
+
+        deleted.stream()
+                .filter(Apportionment::isSaved)
+                .map(apportionment -> saved.get(apportionment.getId()))
+                .filter(Objects::nonNull)
+                .forEach(this::remove);
+
+        apportionments.forEach(apportionment -> {
+            apportionment.setMovement(movement);
+            if (apportionment.isSaved()) {
+                this.merge(apportionment);
+            } else {
+                this.persist(apportionment);
+            }
+        });
+
+        this.flush();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.repositories.financial;
+
+import br.com.webbudget.domain.entities.financial.CardStatistics;
+import br.com.webbudget.domain.entities.registration.Card;
+import br.com.webbudget.domain.repositories.DefaultRepository;
+import org.apache.deltaspike.data.api.Modifying;
+import org.apache.deltaspike.data.api.Query;
+import org.apache.deltaspike.data.api.Repository;
+
+import javax.persistence.LockModeType;
+
+import java.util.Optional;
+
+/**
+ * The {@link CardStatistics} repository
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.1.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Repository
+public interface CardStatisticsRepository extends DefaultRepository<CardStatistics> {
+
+    /**
+     * Find the {@link CardStatistics} of a given {@link Card}
+     *
+     * @param card to use as filter
+     * @return an {@link Optional} of the {@link CardStatistics}
+     */
+    Optional<CardStatistics> findByCard(Card card);
+
+    /**
+     * Same as {@link #findByCard(Card)} but lock the {@link CardStatistics} until the end of the transaction
+     *
+     * @param card to use as filter
+     * @return an {@link Optional} of the {@link CardStatistics}
+     */
+    @Query(value = "FROM CardStatistics cs WHERE cs.card = ?1", lock = LockModeType.PESSIMISTIC_WRITE)
+    Optional<CardStatistics> findByCardForUpdate(Card card);
+
+    /**
+     * Insert the empty {@link CardStatistics} of a {@link Card} if there is none, when a concurrent transaction is
+     * inserting it this one waits for it and inserts nothing
+     *
+     * @param cardId the id of the {@link Card}
+     * @return one if the statistics were inserted, zero if they already exist
+     */
+    @Modifying
+    @Query(value = "INSERT INTO financial.card_statistics (id, created_on, invoice_count, total_value, " +
+            "lowest_value, highest_value, id_card) " +
+            "VALUES (nextval('public.pooled_sequence_generator'), now(), 0, 0, 0, 0, ?1) " +
+            "ON CONFLICT (id_card) DO NOTHING", isNative = true)
+    int createIfAbsent(long cardId);
+}
@@ -17,7 +17,9 @@
 package br.com.webbudget.domain.repositories.financial;
 
 import br.com.webbudget.application.components.ui.table.Page;
+import br.com.webbudget.domain.entities.financial.CardStatistics;
 import br.com.webbudget.domain.entities.financial.CreditCardInvoice;
+import br.com.webbudget.domain.entities.financial.CreditCardInvoiceTotal;
 import br.com.webbudget.domain.entities.financial.CreditCardInvoice_;
 import br.com.webbudget.domain.entities.financial.InvoiceState;
 import br.com.webbudget.domain.entities.financial.PeriodMovement;
@@ -27,22 +29,32 @@ import br.com.webbudget.domain.entities.registration.FinancialPeriod;
 import br.com.webbudget.domain.entities.registration.FinancialPeriod_;
 import br.com.webbudget.domain.repositories.DefaultRepository;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.deltaspike.data.api.EntityManagerDelegate;
+import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.Repository;
 import org.apache.deltaspike.data.api.criteria.Criteria;
 
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.TypedQuery;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
 
 /**
  * The {@link CreditCardInvoice} repository
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.4.0
  * @since 3.0.0, 10/03/2019
  */
 @Repository
-public interface CreditCardInvoiceRepository extends DefaultRepository<CreditCardInvoice> {
+public interface CreditCardInvoiceRepository extends DefaultRepository<CreditCardInvoice>,
+        EntityManagerDelegate<CreditCardInvoice> {
 
     /**
      * Find a {@link CreditCardInvoice} by the {@link PeriodMovement} used to pay the invoice
@@ -78,6 +90,82 @@ public interface CreditCardInvoiceRepository extends DefaultRepository<CreditCar
      */
     List<CreditCardInvoice> findByFinancialPeriod(FinancialPeriod financialPeriod);
 
+    /**
+     * Read the {@link CreditCardInvoice} again locking the row until the end of the transaction, this way concurrent
+     * payments with the same card change the total one after the other and always from the value in the database
+     *
+     * @param invoice to be locked, must be managed
+     * @return the same {@link CreditCardInvoice} with the current state
+     */
+    default CreditCardInvoice lockForUpdate(CreditCardInvoice invoice) {
+        this.refresh(invoice, LockModeType.PESSIMISTIC_WRITE);
+        return invoice;
+    }
+
+    /**
+     * Calculate the total of every {@link CreditCardInvoice} in a given {@link InvoiceState} from the paid value of
+     * the {@link PeriodMovement} linked with them, all in a single grouped query
+     *
+     * @param invoiceState to filter the invoices
+     * @return a {@link List} with the stored and calculated totals of each invoice
+     */
+    @Query("SELECT NEW br.com.webbudget.domain.entities.financial.CreditCardInvoiceTotal(" +
+            "ci.id, ci.identification, ci.totalValue, SUM(py.paidValue)) " +
+            "FROM CreditCardInvoice ci " +
+            "LEFT JOIN ci.periodMovements pm " +
+            "LEFT JOIN pm.payment py " +
+            "WHERE ci.invoiceState = ?1 " +
+            "GROUP BY ci.id, ci.identification, ci.totalValue " +
+            "ORDER BY ci.id")
+    List<CreditCardInvoiceTotal> calculateTotalsByState(InvoiceState invoiceState);
+
+    /**
+     * Calculate the {@link CardStatistics} of a {@link Card} from the total of its {@link CreditCardInvoice} in the
+     * given states, all the aggregates are done by the database in a single row
+     *
+     * @param card to calculate the statistics
+     * @param invoiceStates the states of the invoices to be considered
+     * @return a transient {@link CardStatistics} with the calculated values
+     */
+    @Query("SELECT NEW br.com.webbudget.domain.entities.financial.CardStatistics(" +
+            "COUNT(ci), SUM(ci.totalValue), MIN(ci.totalValue), MAX(ci.totalValue)) " +
+            "FROM CreditCardInvoice ci " +
+            "WHERE ci.card = ?1 AND ci.invoiceState IN (?2)")
+    CardStatistics calculateStatistics(Card card, List<InvoiceState> invoiceStates);
+
+    /**
+     * Find the lowest total of the {@link CreditCardInvoice} of a {@link Card} in a given {@link InvoiceState}
+     *
+     * @param card to use as filter
+     * @param invoiceState to use as filter
+     * @return the lowest total, null if there is no invoice in this state
+     */
+    @Query("SELECT MIN(ci.totalValue) FROM CreditCardInvoice ci WHERE ci.card = ?1 AND ci.invoiceState = ?2")
+    BigDecimal findLowestTotalByCardAndState(Card card, InvoiceState invoiceState);
+
+    /**
+     * Count the {@link CreditCardInvoice} of a given {@link Card}
+     *
+     * @param card to use as filter
+     * @return the number of invoices
+     */
+    @Query("SELECT COUNT(ci) FROM CreditCardInvoice ci WHERE ci.card = ?1")
+    long countByCard(Card card);
+
+    /**
+     * Find the identification of the {@link FinancialPeriod} and the total of the last six {@link CreditCardInvoice} of
+     * a {@link Card}, only the values are selected so the movements of the invoices are not loaded
+     *
+     * @param card to use as filter
+     * @return a {@link List} with the period identification and the invoice total, newest first
+     */
+    @Query(value = "SELECT fp.identification, ci.totalValue " +
+            "FROM CreditCardInvoice ci " +
+            "JOIN ci.financialPeriod fp " +
+            "WHERE ci.card = ?1 " +
+            "ORDER BY fp.start DESC", max = 6)
+    List<Object[]> findLastTotalsByCard(Card card);
+
     /**
      * Lazy filter method to search for {@link CreditCardInvoice}
      *
@@ -118,6 +206,47 @@ public interface CreditCardInvoiceRepository extends DefaultRepository<CreditCar
                 .intValue();
     }
 
+    /**
+     * Stream the {@link CreditCardInvoice} found with the same restrictions of the listing as plain rows with the
+     * identification, card name, period identification, closing date, due date, payment date, total value and state.
+     * The rows come from a database cursor read in blocks of the fetch size and, being plain values, nothing is kept in
+     * the persistence context, the invoices and their movements are never loaded
+     *
+     * @param filter value
+     * @param invoiceState to filter
+     * @param fetchSize how many rows are read from the cursor at a time
+     * @return the {@link Stream} of rows, it must be closed and consumed inside a transaction
+     */
+    default Stream<Object[]> streamRowsBy(String filter, InvoiceState invoiceState, int fetchSize) {
+
+        final StringBuilder jpql = new StringBuilder("SELECT ci.identification, ca.name, fp.identification, " +
+                "ci.closingDate, ci.dueDate, ci.paymentDate, ci.totalValue, ci.invoiceState " +
+                "FROM CreditCardInvoice ci JOIN ci.card ca JOIN ci.financialPeriod fp WHERE 1 = 1");
+
+        if (invoiceState != null) {
+            jpql.append(" AND ci.invoiceState = :invoiceState");
+        }
+
+        if (StringUtils.isNotBlank(filter)) {
+            jpql.append(" AND (LOWER(ca.name) LIKE :filter OR LOWER(fp.identification) LIKE :filter)");
+        }
+
+        jpql.append(" ORDER BY fp.id ASC, ci.createdOn DESC");
+
+        final TypedQuery<Object[]> query = this.unwrap(EntityManager.class)
+                .createQuery(jpql.toString(), Object[].class);
+
+        if (invoiceState != null) {
+            query.setParameter("invoiceState", invoiceState);
+        }
+
+        if (StringUtils.isNotBlank(filter)) {
+            query.setParameter("filter", this.likeAny(filter).toLowerCase());
+        }
+
+        return query.setHint(FETCH_SIZE, fetchSize).getResultStream();
+    }
+
     /**
      * Build the {@link Criteria} to search for {@link CreditCardInvoice}
      *
@@ -24,6 +24,7 @@ import br.com.webbudget.domain.entities.financial.FixedMovement_;
 import br.com.webbudget.domain.entities.financial.PeriodMovement_;
 import br.com.webbudget.domain.repositories.DefaultRepository;
 import org.apache.deltaspike.data.api.EntityGraph;
+import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.Repository;
 import org.apache.deltaspike.data.api.criteria.Criteria;
 
@@ -64,6 +65,26 @@ public interface FixedMovementRepository extends DefaultRepository<FixedMovement
      */
     List<FixedMovement> findByAutoLaunchAndFixedMovementState(boolean autoLaunch, FixedMovementState state);
 
+    /**
+     * Same as {@link #findByAutoLaunchAndFixedMovementState(boolean, FixedMovementState)} but only the ids
+     *
+     * @param autoLaunch if is auto launch or not
+     * @param state the {@link FixedMovementState}
+     * @return a {@link List} with the ids of the {@link FixedMovement} found
+     */
+    @Query("SELECT fm.id FROM FixedMovement fm WHERE fm.autoLaunch = ?1 AND fm.fixedMovementState = ?2 ORDER BY fm.id")
+    List<Long> findIdsByAutoLaunchAndFixedMovementState(boolean autoLaunch, FixedMovementState state);
+
+    /**
+     * Find all {@link FixedMovement} by a list of ids with the apportionments already fetched
+     *
+     * @param ids of the {@link FixedMovement} to search for
+     * @return a {@link List} with the {@link FixedMovement} found
+     */
+    @EntityGraph(value = "Movement.full")
+    @Query("SELECT DISTINCT fm FROM FixedMovement fm WHERE fm.id IN (?1) ORDER BY fm.id")
+    List<FixedMovement> findByIds(List<Long> ids);
+
     /**
      * Method used to search for {@link FixedMovement} using pagination
      *
@@ -25,7 +25,9 @@ import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * {@link Launch} entity repository
@@ -49,6 +51,34 @@ public interface LaunchRepository extends DefaultRepository<Launch> {
             "WHERE lc.id = (SELECT MAX(id) FROM Launch WHERE fixedMovement.id = ?1)")
     Optional<Integer> findLastLaunchCounterFor(long fixedMovementId);
 
+    /**
+     * Find the quote number of the last {@link Launch} of each {@link FixedMovement} given
+     *
+     * @param fixedMovementIds the ids of the {@link FixedMovement} to search for
+     * @return a {@link List} of pairs with the {@link FixedMovement} id and the last quote number
+     */
+    @Query("SELECT lc.fixedMovement.id, lc.quoteNumber " +
+            "FROM Launch lc " +
+            "WHERE lc.id IN (SELECT MAX(l.id) FROM Launch l WHERE l.fixedMovement.id IN (?1) GROUP BY l.fixedMovement.id)")
+    List<Object[]> findLastQuoteNumbers(List<Long> fixedMovementIds);
+
+    /**
+     * Same as {@link #findLastLaunchCounterFor(long)} but for many {@link FixedMovement} in a single query
+     *
+     * @param fixedMovementIds the ids of the {@link FixedMovement} to search for
+     * @return a {@link Map} with the last quote number of each {@link FixedMovement} id, the ones without a
+     * {@link Launch} are not present
+     */
+    default Map<Long, Integer> findLastLaunchCountersFor(List<Long> fixedMovementIds) {
+
+        if (fixedMovementIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return this.findLastQuoteNumbers(fixedMovementIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Integer) row[1]));
+    }
+
     /**
      * Find all {@link Launch} for a given {@link FixedMovement}
      *
@@ -18,6 +18,7 @@ package br.com.webbudget.domain.repositories.financial;
 
 import br.com.webbudget.domain.entities.financial.Payment;
 import br.com.webbudget.domain.repositories.DefaultRepository;
+import org.apache.deltaspike.data.api.EntityManagerDelegate;
 import org.apache.deltaspike.data.api.Repository;
 
 /**
@@ -25,8 +26,8 @@ import org.apache.deltaspike.data.api.Repository;
  *
  * @author Arthur Gregorio
  *
- * @version 2.0.0
+ * @version 2.1.0
  * @since 1.0.0, 04/03/2013
  */
 @Repository
-public interface PaymentRepository extends DefaultRepository<Payment> { }
+public interface PaymentRepository extends DefaultRepository<Payment>, EntityManagerDelegate<Payment> { }
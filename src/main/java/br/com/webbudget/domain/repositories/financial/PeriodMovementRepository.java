@@ -20,33 +20,50 @@ import br.com.webbudget.application.components.ui.filter.PeriodMovementFilter;
 import br.com.webbudget.application.components.ui.table.Page;
 import br.com.webbudget.domain.entities.financial.Apportionment;
 import br.com.webbudget.domain.entities.financial.Apportionment_;
+import br.com.webbudget.domain.entities.financial.Movement_;
 import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import br.com.webbudget.domain.entities.financial.PeriodMovementState;
 import br.com.webbudget.domain.entities.financial.PeriodMovement_;
+import br.com.webbudget.domain.entities.financial.PeriodMovementTotal;
 import br.com.webbudget.domain.entities.registration.*;
 import br.com.webbudget.domain.repositories.DefaultRepository;
+import br.com.webbudget.infrastructure.jpa.SearchColumns;
 import org.apache.deltaspike.data.api.EntityGraph;
+import org.apache.deltaspike.data.api.EntityManagerDelegate;
+import org.apache.deltaspike.data.api.MaxResults;
 import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.Repository;
-import org.apache.deltaspike.data.api.criteria.Criteria;
 
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
 import java.math.BigDecimal;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+import static org.hibernate.annotations.QueryHints.READ_ONLY;
 
 /**
  * The {@link PeriodMovement} repository
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.5.0
  * @since 3.0.0, 04/12/2018
  */
 @Repository
-public interface PeriodMovementRepository extends DefaultRepository<PeriodMovement> {
+public interface PeriodMovementRepository extends DefaultRepository<PeriodMovement>,
+        EntityManagerDelegate<PeriodMovement> {
 
     /**
      * {@inheritDoc}
@@ -75,6 +92,140 @@ public interface PeriodMovementRepository extends DefaultRepository<PeriodMoveme
      */
     List<PeriodMovement> findByFinancialPeriod(FinancialPeriod period);
 
+    /**
+     * Find the {@link FinancialPeriod} currently persisted for a given {@link PeriodMovement}
+     *
+     * @param periodMovementId the id of the {@link PeriodMovement}
+     * @return an {@link Optional} of the {@link FinancialPeriod}
+     */
+    @Query("SELECT mv.financialPeriod FROM PeriodMovement mv WHERE mv.id = ?1")
+    Optional<FinancialPeriod> findFinancialPeriodOf(Long periodMovementId);
+
+    /**
+     * Find all {@link PeriodMovement} by a list of ids with the apportionments already fetched
+     *
+     * @param ids of the {@link PeriodMovement} to search for
+     * @return a {@link List} with the {@link PeriodMovement} found
+     */
+    @EntityGraph(value = "Movement.full")
+    @Query("SELECT DISTINCT mv FROM PeriodMovement mv WHERE mv.id IN (?1) ORDER BY mv.id")
+    List<PeriodMovement> findByIds(List<Long> ids);
+
+    /**
+     * Find which of the given import hashes are already used by some {@link PeriodMovement}
+     *
+     * @param importHashes the hashes of the imported statement lines
+     * @return a {@link List} with the hashes already imported
+     */
+    @Query("SELECT mv.importHash FROM PeriodMovement mv WHERE mv.importHash IN (?1)")
+    List<String> findImportHashes(List<String> importHashes);
+
+    /**
+     * Find all {@link PeriodMovement} in a given {@link PeriodMovementState} of the open {@link FinancialPeriod}, with
+     * the same associations of the listing already fetched
+     *
+     * @param state the {@link PeriodMovementState} to search for
+     * @return a {@link List} with the {@link PeriodMovement} found ordered by the due date
+     */
+    @EntityGraph(value = PeriodMovement.LISTING_GRAPH)
+    @Query("FROM PeriodMovement mv WHERE mv.periodMovementState = ?1 AND mv.financialPeriod.closed = false " +
+            "ORDER BY mv.dueDate, mv.id")
+    List<PeriodMovement> findByStateOnOpenPeriods(PeriodMovementState state);
+
+    /**
+     * Find the first {@link PeriodMovement} id of a {@link FinancialPeriod} in a given {@link PeriodMovementState}, the
+     * query is limited to one row so the database stops at the first match as in an exists clause
+     *
+     * @param period to be used as a filter
+     * @param state the {@link PeriodMovementState} to search for
+     * @return an {@link Optional} of the id found
+     */
+    @Query(value = "SELECT mv.id FROM PeriodMovement mv " +
+            "WHERE mv.financialPeriod = ?1 " +
+            "AND mv.periodMovementState = ?2", max = 1)
+    Optional<Long> findAnyByFinancialPeriodAndState(FinancialPeriod period, PeriodMovementState state);
+
+    /**
+     * Check if there is any {@link PeriodMovement} in a given {@link PeriodMovementState} for a {@link FinancialPeriod}
+     * without loading the movements
+     *
+     * @param period to be used as a filter
+     * @param state the {@link PeriodMovementState} to search for
+     * @return true if any, false otherwise
+     */
+    default boolean existsByFinancialPeriodAndState(FinancialPeriod period, PeriodMovementState state) {
+        return this.findAnyByFinancialPeriodAndState(period, state).isPresent();
+    }
+
+    /**
+     * List a chunk of the {@link PeriodMovement} of a {@link FinancialPeriod} in a given {@link PeriodMovementState}
+     *
+     * @param period to be used as a filter
+     * @param state the {@link PeriodMovementState} to search for
+     * @param maxResults the size of the chunk
+     * @return the {@link List} of {@link PeriodMovement} found
+     */
+    @Query("SELECT mv FROM PeriodMovement mv " +
+            "LEFT JOIN FETCH mv.payment " +
+            "WHERE mv.financialPeriod = ?1 " +
+            "AND mv.periodMovementState = ?2 " +
+            "ORDER BY mv.id")
+    List<PeriodMovement> findByFinancialPeriodAndState(FinancialPeriod period, PeriodMovementState state,
+                                                       @MaxResults int maxResults);
+
+    /**
+     * Change the {@link PeriodMovementState} of all {@link PeriodMovement} of a {@link FinancialPeriod} in chunks.
+     *
+     * Every chunk is flushed once, so the updates and the audit inserts go to the database in JDBC batches, and then
+     * detached to keep the persistence context small. The transition must move the movement out of the given state or
+     * the same chunk would be selected again
+     *
+     * @param period to be used as a filter
+     * @param state the {@link PeriodMovementState} of the movements to be changed
+     * @param transition the state transition to apply on each movement
+     * @param batchSize the size of each chunk
+     * @return the number of {@link PeriodMovement} changed
+     */
+    default int changeStateInBatches(FinancialPeriod period, PeriodMovementState state,
+                                     UnaryOperator<PeriodMovement> transition, int batchSize) {
+
+        int changed = 0;
+        List<PeriodMovement> chunk;
+
+        do {
+            chunk = this.findByFinancialPeriodAndState(period, state, batchSize);
+
+            chunk.forEach(transition::apply);
+            this.flush();
+            chunk.forEach(this::detach);
+
+            changed += chunk.size();
+        } while (chunk.size() == batchSize);
+
+        return changed;
+    }
+
+    /**
+     * Sum the values with discount of all {@link PeriodMovement} of a {@link FinancialPeriod} grouped by the type and
+     * the payment method in a single query
+     *
+     * The type of the movement is the type of his first {@link Apportionment}, here the one with the lowest id
+     *
+     * @param period to be used as a filter
+     * @return the {@link List} of {@link PeriodMovementTotal} for each group found
+     */
+    @Query("SELECT NEW br.com.webbudget.domain.entities.financial.PeriodMovementTotal(" +
+            "mc.movementClassType, pm.paymentMethod, " +
+            "SUM(CASE WHEN pm.id IS NULL THEN mv.value ELSE pm.paidValue END)) " +
+            "FROM PeriodMovement mv " +
+            "LEFT JOIN mv.payment pm, Apportionment ap " +
+            "JOIN ap.movementClass mc " +
+            "WHERE ap.movement = mv " +
+            "AND mv.financialPeriod = ?1 " +
+            "AND ap.id = (SELECT MIN(fa.id) FROM Apportionment fa WHERE fa.movement = mv) " +
+            "GROUP BY mc.movementClassType, pm.paymentMethod")
+    List<PeriodMovementTotal> calculateTotalsByType(FinancialPeriod period);
+
     /**
      * Calculate the total of paid or received {@link PeriodMovement} on a list of {@link FinancialPeriod}
      *
@@ -201,17 +352,125 @@ public interface PeriodMovementRepository extends DefaultRepository<PeriodMoveme
 
         final int totalRows = this.countPages(filter);
 
-        final Criteria<PeriodMovement, PeriodMovement> criteria = this.buildCriteria(filter);
+        return Page.of(this.findPageBy(filter, start, pageSize), totalRows);
+    }
 
-        criteria.orderDesc(PeriodMovement_.financialPeriod);
-        criteria.orderDesc(PeriodMovement_.createdOn);
+    /**
+     * Same as {@link #findAllBy(PeriodMovementFilter, int, int)} but without counting the rows
+     *
+     * @param filter the {@link PeriodMovementFilter}
+     * @param start starting row
+     * @param pageSize page size
+     * @return the {@link List} of {@link PeriodMovement} found
+     */
+    default List<PeriodMovement> findPageBy(PeriodMovementFilter filter, int start, int pageSize) {
+
+        final CriteriaBuilder builder = this.getCriteriaBuilder();
+        final CriteriaQuery<PeriodMovement> query = builder.createQuery(PeriodMovement.class);
+
+        final Root<PeriodMovement> root = query.from(PeriodMovement.class);
+
+        query.where(this.restrictionsOf(filter, builder, query, root))
+                .orderBy(this.listingOrderOf(builder, root));
 
-        final List<PeriodMovement> data = criteria.createQuery()
+        return this.withListingGraph(this.unwrap(EntityManager.class).createQuery(query))
                 .setFirstResult(start)
                 .setMaxResults(pageSize)
                 .getResultList();
+    }
+
+    /**
+     * Find a page of {@link PeriodMovement} by keyset, in the same order of {@link #findPageBy(PeriodMovementFilter,
+     * int, int)}: financial period, created on and id, all descending.
+     *
+     * The page starts right after the last row with a single row value comparison of the whole key, this way the
+     * database seeks on the index of the same three columns and the cost of a page does not grow with the number of
+     * pages before it
+     *
+     * @param filter the {@link PeriodMovementFilter}
+     * @param last the last {@link PeriodMovement} of the previous page, null for the first page
+     * @param pageSize page size
+     * @return the {@link List} of {@link PeriodMovement} found
+     */
+    default List<PeriodMovement> findPageAfter(PeriodMovementFilter filter, PeriodMovement last, int pageSize) {
+
+        final CriteriaBuilder builder = this.getCriteriaBuilder();
+        final CriteriaQuery<PeriodMovement> query = builder.createQuery(PeriodMovement.class);
+
+        final Root<PeriodMovement> root = query.from(PeriodMovement.class);
+
+        final Predicate restrictions = this.restrictionsOf(filter, builder, query, root);
+
+        if (last == null) {
+            query.where(restrictions);
+        } else {
+            query.where(restrictions, builder.isTrue(builder.function("row_less_than", Boolean.class,
+                    root.get(PeriodMovement_.financialPeriod).get(FinancialPeriod_.id),
+                    root.get(PeriodMovement_.createdOn),
+                    root.get(PeriodMovement_.id),
+                    builder.literal(last.getFinancialPeriod().getId()),
+                    builder.literal(last.getCreatedOn()),
+                    builder.literal(last.getId()))));
+        }
+
+        query.orderBy(this.listingOrderOf(builder, root));
+
+        return this.withListingGraph(this.unwrap(EntityManager.class).createQuery(query))
+                .setMaxResults(pageSize)
+                .getResultList();
+    }
+
+    /**
+     * Stream all the {@link PeriodMovement} found with the given filter, in the same order of the listing. The rows
+     * come from a database cursor read in blocks of the fetch size, so the result is never loaded at once
+     *
+     * The stream must be closed and consumed inside a transaction, the entities are read only and stay in the
+     * persistence context until it is cleared
+     *
+     * @param filter the {@link PeriodMovementFilter}
+     * @param fetchSize how many rows are read from the cursor at a time
+     * @return the {@link Stream} of {@link PeriodMovement}
+     */
+    default Stream<PeriodMovement> streamBy(PeriodMovementFilter filter, int fetchSize) {
+
+        final CriteriaBuilder builder = this.getCriteriaBuilder();
+        final CriteriaQuery<PeriodMovement> query = builder.createQuery(PeriodMovement.class);
+
+        final Root<PeriodMovement> root = query.from(PeriodMovement.class);
+
+        query.where(this.restrictionsOf(filter, builder, query, root))
+                .orderBy(this.listingOrderOf(builder, root));
+
+        return this.withListingGraph(this.unwrap(EntityManager.class).createQuery(query))
+                .setHint(FETCH_SIZE, fetchSize)
+                .setHint(READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * The order of the listing, financial period, created on and id, all descending, the same of the index used by
+     * the keyset pages
+     *
+     * @param builder the {@link CriteriaBuilder} of the query
+     * @param root the {@link PeriodMovement} root of the query
+     * @return the {@link List} of {@link Order}
+     */
+    default List<Order> listingOrderOf(CriteriaBuilder builder, Root<PeriodMovement> root) {
+        return List.of(builder.desc(root.get(PeriodMovement_.financialPeriod).get(FinancialPeriod_.id)),
+                builder.desc(root.get(PeriodMovement_.createdOn)),
+                builder.desc(root.get(PeriodMovement_.id)));
+    }
 
-        return Page.of(data, totalRows);
+    /**
+     * Apply the {@link PeriodMovement#LISTING_GRAPH} to a listing query, this way the associations shown on each row
+     * come in the same statement instead of one select for every row
+     *
+     * @param query to apply the graph
+     * @return the same query with the graph as a hint
+     */
+    default TypedQuery<PeriodMovement> withListingGraph(TypedQuery<PeriodMovement> query) {
+        return query.setHint("javax.persistence.loadgraph",
+                this.unwrap(EntityManager.class).getEntityGraph(PeriodMovement.LISTING_GRAPH));
     }
 
     /**
@@ -220,74 +479,107 @@ public interface PeriodMovementRepository extends DefaultRepository<PeriodMoveme
      * @param filter the {@link PeriodMovementFilter}
      * @return total size of the pages
      */
-    @SuppressWarnings("unchecked")
     default int countPages(PeriodMovementFilter filter) {
-        return this.buildCriteria(filter)
-                .select(Long.class, count(PeriodMovement_.id))
+
+        final CriteriaBuilder builder = this.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = builder.createQuery(Long.class);
+
+        final Root<PeriodMovement> root = query.from(PeriodMovement.class);
+
+        query.select(builder.count(root))
+                .where(this.restrictionsOf(filter, builder, query, root));
+
+        return this.unwrap(EntityManager.class)
+                .createQuery(query)
                 .getSingleResult()
                 .intValue();
     }
 
     /**
-     * This method is used to build the {@link Criteria} used to find the {@link PeriodMovement}
+     * The restrictions of the {@link PeriodMovementFilter}, used by all the queries by filter so the pages, the count
+     * and the export always see the same movements
+     *
+     * The cost center and the movement class are searched with a subquery on the {@link Apportionment}, this way a
+     * movement with many apportionments is found only once
      *
      * @param filter the {@link PeriodMovementFilter}
-     * @return the {@link Criteria} with the restrictions to find the {@link PeriodMovement}
+     * @param builder the {@link CriteriaBuilder} of the query
+     * @param query the query, to create the subquery of the apportionments
+     * @param root the {@link PeriodMovement} root of the query
+     * @return the {@link Predicate} with the restrictions of the filter
      */
-    default Criteria<PeriodMovement, PeriodMovement> buildCriteria(PeriodMovementFilter filter) {
+    default Predicate restrictionsOf(PeriodMovementFilter filter, CriteriaBuilder builder, CriteriaQuery<?> query,
+                                     Root<PeriodMovement> root) {
 
-        final Criteria<PeriodMovement, PeriodMovement> criteria = this.criteria();
+        final List<Predicate> restrictions = new ArrayList<>();
 
         // set the movement state filter if present
         if (filter.getPeriodMovementState() != null) {
-            criteria.eq(PeriodMovement_.periodMovementState, filter.getPeriodMovementState());
+            restrictions.add(builder.equal(root.get(PeriodMovement_.periodMovementState),
+                    filter.getPeriodMovementState()));
         }
 
         // the movement type filter if present
         if (filter.getPeriodMovementType() != null) {
-            criteria.eq(PeriodMovement_.periodMovementType, filter.getPeriodMovementType());
+            restrictions.add(builder.equal(root.get(PeriodMovement_.periodMovementType),
+                    filter.getPeriodMovementType()));
         }
 
-        // now the OR filters, more generic
+        // now the OR filters, more generic, the search column holds the code, identification, description and the
+        // identification of the financial period, without the triggers of the column each field is searched
         if (isNotBlank(filter.getValue())) {
 
-            final String anyFilter = this.likeAny(filter.getValue());
+            final List<Predicate> searches = new ArrayList<>();
 
-            final Set<Criteria<PeriodMovement, PeriodMovement>> restrictions = new HashSet<>();
+            if (SearchColumns.areMaintained(this.unwrap(EntityManager.class))) {
+                searches.add(builder.like(root.get(Movement_.searchText),
+                        this.likeAny(this.searchTerm(filter.getValue()))));
+            } else {
+                final String anyFilter = this.likeAny(filter.getValue().toLowerCase());
 
-            restrictions.add(this.criteria().eq(PeriodMovement_.code, anyFilter));
-            restrictions.add(this.criteria().likeIgnoreCase(PeriodMovement_.description, anyFilter));
-            restrictions.add(this.criteria().likeIgnoreCase(PeriodMovement_.identification, anyFilter));
-            restrictions.add(this.criteria().join(PeriodMovement_.financialPeriod,
-                    where(FinancialPeriod.class).likeIgnoreCase(FinancialPeriod_.identification, anyFilter)));
+                searches.add(builder.like(builder.lower(root.get(PeriodMovement_.code)), anyFilter));
+                searches.add(builder.like(builder.lower(root.get(PeriodMovement_.description)), anyFilter));
+                searches.add(builder.like(builder.lower(root.get(PeriodMovement_.identification)), anyFilter));
+                searches.add(builder.like(builder.lower(root.get(PeriodMovement_.financialPeriod)
+                        .get(FinancialPeriod_.identification)), anyFilter));
+            }
 
             // if we can cast the value of the filter to decimal, use this as filter
             filter.valueToBigDecimal()
-                    .ifPresent(value -> restrictions.add(this.criteria().eq(PeriodMovement_.value, value)));
+                    .ifPresent(value -> searches.add(builder.equal(root.get(PeriodMovement_.value), value)));
 
-            criteria.or(restrictions);
+            restrictions.add(builder.or(searches.toArray(new Predicate[0])));
         }
 
-        // put the selected cost center as a filter
+        // put the selected cost center as a filter, and the movement class if there is one
         if (filter.getCostCenter() != null) {
-            criteria.join(PeriodMovement_.apportionments,
-                    where(Apportionment.class).join(Apportionment_.costCenter,
-                            where(CostCenter.class).eq(CostCenter_.id, filter.getCostCenter().getId())));
 
-            // if we have a cost center them check if we have a movement class to filter too
+            final Subquery<Long> subquery = query.subquery(Long.class);
+            final Root<Apportionment> apportionment = subquery.from(Apportionment.class);
+
+            final List<Predicate> apportionments = new ArrayList<>();
+
+            apportionments.add(builder.equal(apportionment.get(Apportionment_.movement), root));
+            apportionments.add(builder.equal(apportionment.get(Apportionment_.costCenter).get(CostCenter_.id),
+                    filter.getCostCenter().getId()));
+
             if (filter.getMovementClass() != null) {
-                criteria.join(PeriodMovement_.apportionments,
-                        where(Apportionment.class).join(Apportionment_.movementClass,
-                                where(MovementClass.class).eq(MovementClass_.id, filter.getMovementClass().getId())));
+                apportionments.add(builder.equal(apportionment.get(Apportionment_.movementClass)
+                        .get(MovementClass_.id), filter.getMovementClass().getId()));
             }
+
+            subquery.select(apportionment.get(Apportionment_.id))
+                    .where(apportionments.toArray(new Predicate[0]));
+
+            restrictions.add(builder.exists(subquery));
         }
 
         // put the selected financial periods as a filter
         if (filter.getSelectedFinancialPeriods() != null && !filter.getSelectedFinancialPeriods().isEmpty()) {
-            criteria.join(PeriodMovement_.financialPeriod, where(FinancialPeriod.class)
-                    .in(FinancialPeriod_.identification, filter.getSelectedFinancialPeriodsAsStringArray()));
+            restrictions.add(root.get(PeriodMovement_.financialPeriod).get(FinancialPeriod_.identification)
+                    .in((Object[]) filter.getSelectedFinancialPeriodsAsStringArray()));
         }
 
-        return criteria;
+        return builder.and(restrictions.toArray(new Predicate[0]));
     }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.repositories.financial;
+
+import br.com.webbudget.domain.entities.financial.PeriodTotal;
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import br.com.webbudget.domain.repositories.DefaultRepository;
+import org.apache.deltaspike.data.api.Modifying;
+import org.apache.deltaspike.data.api.Query;
+import org.apache.deltaspike.data.api.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The {@link PeriodTotal} repository
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Repository
+public interface PeriodTotalRepository extends DefaultRepository<PeriodTotal> {
+
+    /**
+     * Find the {@link PeriodTotal} of a given {@link FinancialPeriod}
+     *
+     * @param financialPeriod to use as filter
+     * @return an {@link Optional} of the {@link PeriodTotal}
+     */
+    Optional<PeriodTotal> findByFinancialPeriod(FinancialPeriod financialPeriod);
+
+    /**
+     * Find all the {@link PeriodTotal} of a list of {@link FinancialPeriod}
+     *
+     * @param periods the list of {@link FinancialPeriod} ids to search for
+     * @return a {@link List} with the {@link PeriodTotal} found
+     */
+    @Query("FROM PeriodTotal pt WHERE pt.financialPeriod.id IN (?1)")
+    List<PeriodTotal> findByFinancialPeriods(List<Long> periods);
+
+    /**
+     * Apply the given deltas to the {@link PeriodTotal} of a {@link FinancialPeriod} in a single atomic update, this
+     * way concurrent payments on the same period never lose an update
+     *
+     * @param financialPeriod the {@link FinancialPeriod} to be updated
+     * @param openValue the delta for the open value
+     * @param paidValue the delta for the paid value
+     * @param revenues the delta for the revenues
+     * @param expenses the delta for the expenses
+     * @return the number of rows updated, zero if the period has no totals yet
+     */
+    @Modifying
+    @Query("UPDATE PeriodTotal pt " +
+            "SET pt.openValue = pt.openValue + ?2, " +
+            "pt.paidValue = pt.paidValue + ?3, " +
+            "pt.revenues = pt.revenues + ?4, " +
+            "pt.expenses = pt.expenses + ?5 " +
+            "WHERE pt.financialPeriod = ?1")
+    int applyDelta(FinancialPeriod financialPeriod, BigDecimal openValue, BigDecimal paidValue,
+                   BigDecimal revenues, BigDecimal expenses);
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.repositories.financial;
+
+import br.com.webbudget.domain.entities.financial.StatementImport;
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import br.com.webbudget.domain.repositories.DefaultRepository;
+import org.apache.deltaspike.data.api.Modifying;
+import org.apache.deltaspike.data.api.Query;
+import org.apache.deltaspike.data.api.Repository;
+
+import java.util.Optional;
+
+/**
+ * The {@link StatementImport} repository
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Repository
+public interface StatementImportRepository extends DefaultRepository<StatementImport> {
+
+    /**
+     * Find the {@link StatementImport} of a given file
+     *
+     * @param fileHash the SHA-256 of the file content
+     * @return an {@link Optional} of the {@link StatementImport}
+     */
+    Optional<StatementImport> findByFileHash(String fileHash);
+
+    /**
+     * Delete all the {@link StatementImport} of a given {@link FinancialPeriod}
+     *
+     * @param financialPeriod to use as filter
+     * @return the number of {@link StatementImport} deleted
+     */
+    @Modifying
+    @Query("DELETE FROM StatementImport si WHERE si.financialPeriod = ?1")
+    int deleteByFinancialPeriod(FinancialPeriod financialPeriod);
+}
@@ -18,13 +18,17 @@ package br.com.webbudget.domain.repositories.journal;
 
 import br.com.webbudget.domain.entities.financial.PeriodMovement;
 import br.com.webbudget.domain.entities.journal.Refueling;
+import br.com.webbudget.domain.entities.journal.RefuelingMonth;
 import br.com.webbudget.domain.entities.journal.Refueling_;
+import br.com.webbudget.domain.entities.journal.VehicleStatistics;
 import br.com.webbudget.domain.entities.registration.*;
 import br.com.webbudget.domain.repositories.LazyDefaultRepository;
+import org.apache.deltaspike.data.api.MaxResults;
 import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.Repository;
 import org.apache.deltaspike.data.api.criteria.Criteria;
 
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -34,7 +38,7 @@ import java.util.Optional;
  *
  * @author Arthur Gregorio
  *
- * @version 2.0.0
+ * @version 2.2.0
  * @since 2.3.0, 05/06/2016
  */
 @Repository
@@ -49,22 +53,59 @@ public interface RefuelingRepository extends LazyDefaultRepository<Refueling> {
     List<Refueling> findByAccountedBy(String refuelingCode);
 
     /**
-     * Use this method to find all the {@link Refueling} not accounted by any other {@link Refueling}
+     * Find all the {@link Refueling} of a {@link Vehicle} in the order they were saved, used to rebuild the
+     * {@link VehicleStatistics} from the source rows
      *
      * @param vehicle the {@link Vehicle} to search the {@link Refueling}
-     * @return the list of unaccounted {@link Refueling}
+     * @return the list of {@link Refueling}
      */
-    @Query("FROM Refueling re WHERE re.accounted = false AND re.vehicle = ?1")
-    List<Refueling> findUnaccountedByVehicle(Vehicle vehicle);
+    List<Refueling> findByVehicleOrderByIdAsc(Vehicle vehicle);
 
     /**
-     * This method is used to find the last {@link Refueling} odometer from a {@link Vehicle}
+     * Find the {@link Refueling} of a {@link Vehicle} by the accounted flag
      *
-     * @param vehicle the {@link Vehicle} to find the last odometer
-     * @return the last odometer
+     * @param vehicle the {@link Vehicle} of the {@link Refueling}
+     * @param accounted if the refueling is accounted or not
+     * @return the {@link List} of {@link Refueling}
      */
-    @Query("SELECT MAX(re.odometer) FROM Refueling re WHERE re.vehicle = ?1")
-    Optional<Long> findLastOdometerByVehicle(Vehicle vehicle);
+    List<Refueling> findByVehicleAndAccounted(Vehicle vehicle, boolean accounted);
+
+    /**
+     * Sum the {@link Refueling} of a {@link Vehicle} by month
+     *
+     * @param vehicle the {@link Vehicle} to search the {@link Refueling}
+     * @param since the first day to be considered
+     * @return a {@link List} with the totals of every month with refuelings, oldest first
+     */
+    @Query("SELECT NEW br.com.webbudget.domain.entities.journal.RefuelingMonth(" +
+            "YEAR(re.eventDate), MONTH(re.eventDate), COUNT(re), SUM(re.distance), SUM(re.liters), SUM(re.cost)) " +
+            "FROM Refueling re " +
+            "WHERE re.vehicle = ?1 AND re.eventDate >= ?2 " +
+            "GROUP BY YEAR(re.eventDate), MONTH(re.eventDate) " +
+            "ORDER BY YEAR(re.eventDate), MONTH(re.eventDate)")
+    List<RefuelingMonth> findMonthlyByVehicle(Vehicle vehicle, LocalDate since);
+
+    /**
+     * Find the full tanks with the best consumption of a {@link Vehicle}
+     *
+     * @param vehicle the {@link Vehicle} to search the {@link Refueling}
+     * @param maxResults the number of tanks to find
+     * @return the list of {@link Refueling}, the best first
+     */
+    @Query("FROM Refueling re WHERE re.vehicle = ?1 AND re.averageConsumption IS NOT NULL " +
+            "ORDER BY re.averageConsumption DESC, re.id DESC")
+    List<Refueling> findBestTanksByVehicle(Vehicle vehicle, @MaxResults int maxResults);
+
+    /**
+     * Find the full tanks with the worst consumption of a {@link Vehicle}
+     *
+     * @param vehicle the {@link Vehicle} to search the {@link Refueling}
+     * @param maxResults the number of tanks to find
+     * @return the list of {@link Refueling}, the worst first
+     */
+    @Query("FROM Refueling re WHERE re.vehicle = ?1 AND re.averageConsumption IS NOT NULL " +
+            "ORDER BY re.averageConsumption ASC, re.id DESC")
+    List<Refueling> findWorstTanksByVehicle(Vehicle vehicle, @MaxResults int maxResults);
 
     /**
      * Find the last {@link Refueling} of a given {@link Vehicle}
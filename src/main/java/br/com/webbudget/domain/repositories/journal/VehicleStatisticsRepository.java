@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.repositories.journal;
+
+import br.com.webbudget.domain.entities.journal.Refueling;
+import br.com.webbudget.domain.entities.journal.VehicleStatistics;
+import br.com.webbudget.domain.entities.registration.Vehicle;
+import br.com.webbudget.domain.repositories.DefaultRepository;
+import org.apache.deltaspike.data.api.Modifying;
+import org.apache.deltaspike.data.api.Query;
+import org.apache.deltaspike.data.api.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+/**
+ * The {@link VehicleStatistics} repository
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.1.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Repository
+public interface VehicleStatisticsRepository extends DefaultRepository<VehicleStatistics> {
+
+    /**
+     * Find the {@link VehicleStatistics} of a given {@link Vehicle}
+     *
+     * @param vehicle to use as filter
+     * @return an {@link Optional} of the {@link VehicleStatistics}
+     */
+    Optional<VehicleStatistics> findByVehicle(Vehicle vehicle);
+
+    /**
+     * Find the {@link VehicleStatistics} of a given {@link Vehicle} locking the row until the end of the transaction,
+     * this way two {@link Refueling} of the same vehicle are always calculated one after the other
+     *
+     * @param vehicle to use as filter
+     * @return an {@link Optional} of the {@link VehicleStatistics}
+     */
+    @Query(value = "FROM VehicleStatistics vs WHERE vs.vehicle = ?1", lock = LockModeType.PESSIMISTIC_WRITE)
+    Optional<VehicleStatistics> findByVehicleForUpdate(Vehicle vehicle);
+
+    /**
+     * Insert the empty {@link VehicleStatistics} of a {@link Vehicle} if there is none, when a concurrent transaction
+     * is inserting it this one waits for it and inserts nothing
+     *
+     * @param vehicleId the id of the {@link Vehicle}
+     * @return one if the statistics were inserted, zero if they already exist
+     */
+    @Modifying
+    @Query(value = "INSERT INTO journal.vehicle_statistics (id, created_on, last_odometer, refuelings, distance, " +
+            "liters, cost, unaccounted_refuelings, unaccounted_distance, unaccounted_liters, id_vehicle) " +
+            "VALUES (nextval('public.pooled_sequence_generator'), now(), 0, 0, 0, 0, 0, 0, 0, 0, ?1) " +
+            "ON CONFLICT (id_vehicle) DO NOTHING", isNative = true)
+    int createIfAbsent(long vehicleId);
+}
@@ -20,14 +20,18 @@ import br.com.webbudget.domain.entities.registration.Card;
 import br.com.webbudget.domain.entities.registration.CardType;
 import br.com.webbudget.domain.entities.registration.Card_;
 import br.com.webbudget.domain.repositories.LazyDefaultRepository;
+import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.Repository;
 import org.apache.deltaspike.data.api.criteria.Criteria;
 
+import javax.persistence.QueryHint;
 import javax.persistence.metamodel.SingularAttribute;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 /**
  * The {@link Card} repository
  *
@@ -55,6 +59,8 @@ public interface CardRepository extends LazyDefaultRepository<Card> {
      * @param active which status you want to get
      * @return the {@link List} of {@link Card} found
      */
+    @Query(value = "FROM Card c WHERE c.cardType = ?1 AND c.active = ?2",
+            hints = @QueryHint(name = CACHEABLE, value = "true"))
     List<Card> findByCardTypeAndActive(CardType cardType, boolean active);
 
     /**
@@ -33,7 +33,7 @@ import java.util.Optional;
  *
  * @author Arthur Gregorio
  *
- * @version 3.0.0
+ * @version 3.2.0
  * @since 1.2.0, 12/04/2015
  */
 @Repository
@@ -62,6 +62,8 @@ public interface ContactRepository extends LazyDefaultRepository<Contact> {
     /**
      * {@inheritDoc}
      *
+     * Used only when the search column is not kept by the database
+     *
      * @param filter
      * @return
      */
@@ -71,7 +73,18 @@ public interface ContactRepository extends LazyDefaultRepository<Contact> {
                 this.criteria().likeIgnoreCase(Contact_.name, this.likeAny(filter)),
                 this.criteria().likeIgnoreCase(Contact_.city, this.likeAny(filter)),
                 this.criteria().likeIgnoreCase(Contact_.email, this.likeAny(filter)),
-                this.criteria().likeIgnoreCase(Contact_.city, this.likeAny(filter)),
                 this.criteria().likeIgnoreCase(Contact_.document, this.likeAny(filter)));
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The search column of the contacts holds the name, city, email and document
+     *
+     * @return
+     */
+    @Override
+    default SingularAttribute<Contact, String> getSearchProperty() {
+        return Contact_.searchText;
+    }
 }
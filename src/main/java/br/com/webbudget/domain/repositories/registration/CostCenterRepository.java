@@ -19,14 +19,18 @@ package br.com.webbudget.domain.repositories.registration;
 import br.com.webbudget.domain.entities.registration.CostCenter;
 import br.com.webbudget.domain.entities.registration.CostCenter_;
 import br.com.webbudget.domain.repositories.LazyDefaultRepository;
+import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.Repository;
 import org.apache.deltaspike.data.api.criteria.Criteria;
 
+import javax.persistence.QueryHint;
 import javax.persistence.metamodel.SingularAttribute;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 /**
  * The {@link CostCenter} repository
  *
@@ -46,6 +50,17 @@ public interface CostCenterRepository extends LazyDefaultRepository<CostCenter>
      */
     Optional<CostCenter> findByName(String name);
 
+    /**
+     * {@inheritDoc}
+     *
+     * This one is cached at the query cache, the {@link CostCenter} changes a lot less than it is read
+     *
+     * @return
+     */
+    @Override
+    @Query(value = "FROM CostCenter cc", hints = @QueryHint(name = CACHEABLE, value = "true"))
+    List<CostCenter> findAll();
+
     /**
      * {@inheritDoc}
      *
@@ -23,18 +23,21 @@ import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.Repository;
 import org.apache.deltaspike.data.api.criteria.Criteria;
 
+import javax.persistence.QueryHint;
 import javax.persistence.metamodel.SingularAttribute;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 /**
  * The {@link FinancialPeriod} repository
  *
  * @author Arthur Gregorio
  *
- * @version 3.0.0
+ * @version 3.2.0
  * @since 1.0.0, 04/03/2013
  */
 @Repository
@@ -58,8 +61,21 @@ public interface FinancialPeriodRepository extends LazyDefaultRepository<Financi
      * @param isClosed true for closed periods or false for open periods
      * @return a {@link List} of {@link FinancialPeriod}
      */
+    @Query(value = "FROM FinancialPeriod fp WHERE fp.closed = ?1 ORDER BY fp.identification ASC",
+            hints = @QueryHint(name = CACHEABLE, value = "true"))
     List<FinancialPeriod> findByClosedOrderByIdentificationAsc(boolean isClosed);
 
+    /**
+     * {@inheritDoc}
+     *
+     * Cached at the query cache, the periods are read by almost every financial screen
+     *
+     * @return
+     */
+    @Override
+    @Query(value = "FROM FinancialPeriod fp", hints = @QueryHint(name = CACHEABLE, value = "true"))
+    List<FinancialPeriod> findAll();
+
     /**
      * Find a {@link FinancialPeriod} by the identification
      * 
@@ -80,6 +96,8 @@ public interface FinancialPeriodRepository extends LazyDefaultRepository<Financi
     /**
      * {@inheritDoc}
      *
+     * Used only when the search column is not kept by the database
+     *
      * @param filter
      * @return
      */
@@ -88,6 +106,18 @@ public interface FinancialPeriodRepository extends LazyDefaultRepository<Financi
         return List.of(this.criteria().likeIgnoreCase(FinancialPeriod_.identification, this.likeAny(filter)));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The search column of the financial periods holds the identification
+     *
+     * @return
+     */
+    @Override
+    default SingularAttribute<FinancialPeriod, String> getSearchProperty() {
+        return FinancialPeriod_.searchText;
+    }
+
     /**
      * {@inheritDoc}
      *
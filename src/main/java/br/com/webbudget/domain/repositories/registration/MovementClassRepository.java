@@ -18,20 +18,24 @@ package br.com.webbudget.domain.repositories.registration;
 
 import br.com.webbudget.domain.entities.registration.*;
 import br.com.webbudget.domain.repositories.LazyDefaultRepository;
+import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.Repository;
 import org.apache.deltaspike.data.api.criteria.Criteria;
 
+import javax.persistence.QueryHint;
 import javax.persistence.metamodel.SingularAttribute;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 /**
  * The {@link MovementClass} repository
  *
  * @author Arthur Gregorio
  *
- * @version 2.0.0
+ * @version 2.1.0
  * @since 1.0.0, 04/03/2013
  */
 @Repository
@@ -62,6 +66,8 @@ public interface MovementClassRepository extends LazyDefaultRepository<MovementC
      * @param costCenter the {@link CostCenter}
      * @return the {@link List} of {@link MovementClass}
      */
+    @Query(value = "FROM MovementClass mc WHERE mc.active = ?1 AND mc.costCenter = ?2 ORDER BY mc.name ASC",
+            hints = @QueryHint(name = CACHEABLE, value = "true"))
     List<MovementClass> findByActiveAndCostCenterOrderByNameAsc(boolean active, CostCenter costCenter);
 
     /**
@@ -70,8 +76,27 @@ public interface MovementClassRepository extends LazyDefaultRepository<MovementC
      * @param costCenter to use as a filter
      * @return a {@link List} of {@link MovementClass}
      */
+    @Query(value = "FROM MovementClass mc WHERE mc.costCenter = ?1 ORDER BY mc.name ASC",
+            hints = @QueryHint(name = CACHEABLE, value = "true"))
     List<MovementClass> findByCostCenterOrderByNameAsc(CostCenter costCenter);
 
+    /**
+     * Find all the {@link MovementClass} of a given {@link MovementClassType} filtering by the status
+     *
+     * @param active if is active or not
+     * @param classType the {@link MovementClassType} enum type
+     * @return the {@link List} of {@link MovementClass}
+     */
+    List<MovementClass> findByActiveAndMovementClassTypeOrderByNameAsc(boolean active, MovementClassType classType);
+
+    /**
+     * Find all the active {@link MovementClass} with a pattern to apportion the imported statement lines
+     *
+     * @return the {@link List} of {@link MovementClass}
+     */
+    @Query("FROM MovementClass mc WHERE mc.active = true AND mc.importPattern IS NOT NULL ORDER BY mc.name ASC")
+    List<MovementClass> findActiveWithImportPattern();
+
     /**
      * {@inheritDoc}
      *
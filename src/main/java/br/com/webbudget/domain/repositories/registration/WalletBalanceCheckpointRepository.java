@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.repositories.registration;
+
+import br.com.webbudget.domain.entities.financial.WalletBalanceCheckpoint;
+import br.com.webbudget.domain.entities.registration.Wallet;
+import br.com.webbudget.domain.repositories.DefaultRepository;
+import org.apache.deltaspike.data.api.Modifying;
+import org.apache.deltaspike.data.api.Query;
+import org.apache.deltaspike.data.api.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * The {@link WalletBalanceCheckpoint} repository
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Repository
+public interface WalletBalanceCheckpointRepository extends DefaultRepository<WalletBalanceCheckpoint> {
+
+    /**
+     * Find the {@link WalletBalanceCheckpoint} of a {@link Wallet} for a given day
+     *
+     * @param walletId the id of the {@link Wallet}
+     * @param checkpointDate the day of the checkpoint
+     * @return an {@link Optional} of the {@link WalletBalanceCheckpoint}
+     */
+    Optional<WalletBalanceCheckpoint> findByWallet_idAndCheckpointDate(long walletId, LocalDate checkpointDate);
+
+    /**
+     * Find the last {@link WalletBalanceCheckpoint} of a {@link Wallet} closed before the given day
+     *
+     * @param walletId the id of the {@link Wallet}
+     * @param date the day to use as limit, checkpoints of this day are not considered
+     * @return an {@link Optional} of the {@link WalletBalanceCheckpoint}
+     */
+    @Query(value = "FROM WalletBalanceCheckpoint wc WHERE wc.wallet.id = ?1 AND wc.checkpointDate < ?2 " +
+            "ORDER BY wc.checkpointDate DESC", max = 1)
+    Optional<WalletBalanceCheckpoint> findLastBefore(long walletId, LocalDate date);
+
+    /**
+     * Delete the {@link WalletBalanceCheckpoint} of a {@link Wallet} from the given day onwards, used when a balance
+     * is registered with a date already covered by the checkpoints
+     *
+     * @param walletId the id of the {@link Wallet}
+     * @param date the first day to be deleted
+     * @return the number of checkpoints deleted
+     */
+    @Modifying
+    @Query("DELETE FROM WalletBalanceCheckpoint wc WHERE wc.wallet.id = ?1 AND wc.checkpointDate >= ?2")
+    int deleteFrom(long walletId, LocalDate date);
+
+    /**
+     * Delete all the {@link WalletBalanceCheckpoint} of a {@link Wallet}
+     *
+     * @param walletId the id of the {@link Wallet}
+     * @return the number of checkpoints deleted
+     */
+    @Modifying
+    @Query("DELETE FROM WalletBalanceCheckpoint wc WHERE wc.wallet.id = ?1")
+    int deleteByWallet(long walletId);
+}
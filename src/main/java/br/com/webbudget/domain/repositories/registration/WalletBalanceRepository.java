@@ -22,22 +22,39 @@ import br.com.webbudget.domain.entities.financial.WalletBalance_;
 import br.com.webbudget.domain.entities.registration.Wallet;
 import br.com.webbudget.domain.entities.registration.Wallet_;
 import br.com.webbudget.domain.repositories.DefaultRepository;
+import org.apache.deltaspike.data.api.EntityManagerDelegate;
+import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.Repository;
-import org.apache.deltaspike.data.api.criteria.Criteria;
 
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+import static org.hibernate.annotations.QueryHints.READ_ONLY;
 
 /**
  * The {@link WalletBalance} repository
  *
  * @author Arthur Gregorio
  *
- * @version 2.2.0
+ * @version 2.6.0
  * @since 1.0.0, 04/03/2013
  */
 @Repository
-public interface WalletBalanceRepository extends DefaultRepository<WalletBalance> {
+public interface WalletBalanceRepository extends DefaultRepository<WalletBalance>,
+        EntityManagerDelegate<WalletBalance> {
 
     /**
      * Method to find all the {@link WalletBalance} of the given {@link Wallet}
@@ -48,23 +65,181 @@ public interface WalletBalanceRepository extends DefaultRepository<WalletBalance
     List<WalletBalance> findByWallet_id(long walletId);
 
     /**
-     * Find the {@link WalletBalance} by a given filter
+     * Sum the transaction values of a {@link Wallet} moved before the given instant
+     *
+     * @param walletId the id of the {@link Wallet}
+     * @param end the limit instant, exclusive
+     * @return the sum of the values, zero if there is no balances
+     */
+    @Query("SELECT COALESCE(SUM(wb.transactionValue), 0) FROM WalletBalance wb " +
+            "WHERE wb.wallet.id = ?1 AND wb.movementDateTime < ?2")
+    BigDecimal sumBefore(long walletId, LocalDateTime end);
+
+    /**
+     * Sum the transaction values of a {@link Wallet} moved between two instants
+     *
+     * @param walletId the id of the {@link Wallet}
+     * @param start the initial instant, inclusive
+     * @param end the limit instant, exclusive
+     * @return the sum of the values, zero if there is no balances
+     */
+    @Query("SELECT COALESCE(SUM(wb.transactionValue), 0) FROM WalletBalance wb " +
+            "WHERE wb.wallet.id = ?1 AND wb.movementDateTime >= ?2 AND wb.movementDateTime < ?3")
+    BigDecimal sumBetween(long walletId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Count the {@link WalletBalance} of a {@link Wallet} moved between two instants
+     *
+     * @param walletId the id of the {@link Wallet}
+     * @param start the initial instant, inclusive
+     * @param end the limit instant, exclusive
+     * @return the number of balances
+     */
+    @Query("SELECT COUNT(wb) FROM WalletBalance wb " +
+            "WHERE wb.wallet.id = ?1 AND wb.movementDateTime >= ?2 AND wb.movementDateTime < ?3")
+    long countBetween(long walletId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Sum the transaction values of a {@link Wallet} by day between two instants
+     *
+     * @param walletId the id of the {@link Wallet}
+     * @param start the initial instant, inclusive
+     * @param end the limit instant, exclusive
+     * @return a {@link List} with the day and the sum of the values of the day, ordered by the day
+     */
+    @Query(value = "SELECT CAST(wb.movement_date_time AS date), SUM(wb.transaction_value) " +
+            "FROM financial.wallet_balances wb " +
+            "WHERE wb.id_wallet = ?1 AND wb.movement_date_time >= ?2 AND wb.movement_date_time < ?3 " +
+            "GROUP BY CAST(wb.movement_date_time AS date) " +
+            "ORDER BY 1", isNative = true)
+    List<Object[]> sumByDayBetween(long walletId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Find the distinct days with {@link WalletBalance} matching the given filter, newest first
+     *
+     * @param filter to be used on the search process
+     * @param start the first day to be returned, zero based
+     * @param pageSize the maximum number of days to be returned
+     * @return a {@link List} with the days found
+     */
+    default List<LocalDate> findMovementDatesByFilter(WalletBalanceFilter filter, int start, int pageSize) {
+
+        final CriteriaBuilder builder = this.getCriteriaBuilder();
+        final CriteriaQuery<Date> query = builder.createQuery(Date.class);
+
+        final Root<WalletBalance> root = query.from(WalletBalance.class);
+        final Expression<Date> movementDate = builder.function("date", Date.class,
+                root.get(WalletBalance_.movementDateTime));
+
+        query.select(movementDate)
+                .where(this.restrictionsOf(filter, builder, root))
+                .groupBy(movementDate)
+                .orderBy(builder.desc(movementDate));
+
+        return this.unwrap(EntityManager.class)
+                .createQuery(query)
+                .setFirstResult(start)
+                .setMaxResults(pageSize)
+                .getResultStream()
+                .map(Date::toLocalDate)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Count the distinct days with {@link WalletBalance} matching the given filter
+     *
+     * @param filter to be used on the search process
+     * @return the number of days
+     */
+    default long countMovementDatesByFilter(WalletBalanceFilter filter) {
+
+        final CriteriaBuilder builder = this.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = builder.createQuery(Long.class);
+
+        final Root<WalletBalance> root = query.from(WalletBalance.class);
+
+        query.select(builder.countDistinct(builder.function("date", Date.class,
+                root.get(WalletBalance_.movementDateTime))))
+                .where(this.restrictionsOf(filter, builder, root));
+
+        return this.unwrap(EntityManager.class)
+                .createQuery(query)
+                .getSingleResult();
+    }
+
+    /**
+     * Find the {@link WalletBalance} by a given filter moved between two days, newest first
      *
      * @param filter to be used on the search process
+     * @param oldest the first day of the interval
+     * @param newest the last day of the interval
      * @return a {@link List} of the {@link WalletBalance} found
      */
-    default List<WalletBalance> findByFilter(WalletBalanceFilter filter) {
+    default List<WalletBalance> findByFilterBetween(WalletBalanceFilter filter, LocalDate oldest, LocalDate newest) {
+
+        final CriteriaBuilder builder = this.getCriteriaBuilder();
+        final CriteriaQuery<WalletBalance> query = builder.createQuery(WalletBalance.class);
+
+        final Root<WalletBalance> root = query.from(WalletBalance.class);
+
+        query.where(this.restrictionsOf(filter, builder, root),
+                builder.greaterThanOrEqualTo(root.get(WalletBalance_.movementDateTime), oldest.atStartOfDay()),
+                builder.lessThan(root.get(WalletBalance_.movementDateTime), newest.plusDays(1).atStartOfDay()))
+                .orderBy(builder.desc(root.get(WalletBalance_.movementDateTime)));
+
+        return this.unwrap(EntityManager.class)
+                .createQuery(query)
+                .getResultList();
+    }
+
+    /**
+     * Stream all the {@link WalletBalance} found by a given filter, newest first. The rows come from a database cursor
+     * read in blocks of the fetch size, so the result is never loaded at once
+     *
+     * The stream must be closed and consumed inside a transaction, the entities are read only and stay in the
+     * persistence context until it is cleared
+     *
+     * @param filter to be used on the search process
+     * @param fetchSize how many rows are read from the cursor at a time
+     * @return the {@link Stream} of {@link WalletBalance}
+     */
+    default Stream<WalletBalance> streamBy(WalletBalanceFilter filter, int fetchSize) {
+
+        final CriteriaBuilder builder = this.getCriteriaBuilder();
+        final CriteriaQuery<WalletBalance> query = builder.createQuery(WalletBalance.class);
 
-        final Criteria<WalletBalance, WalletBalance> criteria = this.criteria();
+        final Root<WalletBalance> root = query.from(WalletBalance.class);
 
-        final List<Criteria<WalletBalance, WalletBalance>> restrictions = new ArrayList<>();
+        query.where(this.restrictionsOf(filter, builder, root))
+                .orderBy(builder.desc(root.get(WalletBalance_.movementDateTime)),
+                        builder.desc(root.get(WalletBalance_.id)));
+
+        return this.unwrap(EntityManager.class)
+                .createQuery(query)
+                .setHint(FETCH_SIZE, fetchSize)
+                .setHint(READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * The restrictions of the filter over the {@link WalletBalance} of the {@link Wallet} in the filter, used by all
+     * the queries by filter so the listing, the pages of days and the export always see the same balances
+     *
+     * @param filter to be used on the search process
+     * @param builder the {@link CriteriaBuilder} of the query
+     * @param root the {@link WalletBalance} root of the query
+     * @return the {@link Predicate} with the restrictions of the filter
+     */
+    default Predicate restrictionsOf(WalletBalanceFilter filter, CriteriaBuilder builder, Root<WalletBalance> root) {
+
+        final List<Predicate> restrictions = new ArrayList<>();
 
         if (filter.getReasonType() != null) {
-            restrictions.add(this.criteria().eq(WalletBalance_.reasonType, filter.getReasonType()));
+            restrictions.add(builder.equal(root.get(WalletBalance_.reasonType), filter.getReasonType()));
         }
 
         if (filter.getBalanceType() != null) {
-            restrictions.add(this.criteria().eq(WalletBalance_.balanceType, filter.getBalanceType()));
+            restrictions.add(builder.equal(root.get(WalletBalance_.balanceType), filter.getBalanceType()));
         }
 
         if (filter.getOperationDate() != null) {
@@ -72,16 +247,15 @@ public interface WalletBalanceRepository extends DefaultRepository<WalletBalance
             final var start = filter.getOperationDate().atTime(0, 0);
             final var end = filter.getOperationDate().atTime(23, 59);
 
-            restrictions.add(this.criteria().between(WalletBalance_.movementDateTime, start, end));
+            restrictions.add(builder.between(root.get(WalletBalance_.movementDateTime), start, end));
         }
 
-        if (!restrictions.isEmpty()) {
-            criteria.or(restrictions);
-        }
-
-        criteria.join(WalletBalance_.wallet,
-                where(Wallet.class).eq(Wallet_.id, filter.getWallet().getId()));
+        final Predicate wallet = builder.equal(root.get(WalletBalance_.wallet).get(Wallet_.id),
+                filter.getWallet().getId());
 
-        return criteria.getResultList();
+        if (restrictions.isEmpty()) {
+            return wallet;
+        }
+        return builder.and(wallet, builder.or(restrictions.toArray(new Predicate[0])));
     }
 }
@@ -20,10 +20,12 @@ import br.com.webbudget.domain.entities.registration.Wallet;
 import br.com.webbudget.domain.entities.registration.WalletType;
 import br.com.webbudget.domain.entities.registration.Wallet_;
 import br.com.webbudget.domain.repositories.LazyDefaultRepository;
+import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.Repository;
 import org.apache.deltaspike.data.api.criteria.Criteria;
 
 import javax.persistence.metamodel.SingularAttribute;
+import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -49,6 +51,21 @@ public interface WalletRepository extends LazyDefaultRepository<Wallet> {
      */
     Optional<Wallet> findByNameAndBankAndWalletType(String name, String bank, WalletType walletType);
 
+    /**
+     * Add a value to the actual balance of a {@link Wallet} in a single atomic statement
+     *
+     * The row stays locked until the end of the transaction, so concurrent updates of the same {@link Wallet} are
+     * applied one after the other and none of them is lost. This is the only way the balance is written after the
+     * {@link Wallet} is created, the column is not updatable by the entity
+     *
+     * @param value to be added, negative for debits
+     * @param walletId the id of the {@link Wallet}
+     * @return the actual balance of the {@link Wallet} after the value is added
+     */
+    @Query(value = "UPDATE registration.wallets SET actual_balance = actual_balance + ?1 " +
+            "WHERE id = ?2 RETURNING actual_balance", isNative = true)
+    BigDecimal addToBalance(BigDecimal value, long walletId);
+
     /**
      * {@inheritDoc}
      *
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.schedules;
+
+import br.com.webbudget.infrastructure.jpa.CacheStatisticsCollector;
+import org.slf4j.Logger;
+
+import javax.ejb.Schedule;
+import javax.ejb.Singleton;
+import javax.ejb.Startup;
+import javax.inject.Inject;
+
+/**
+ * Scheduled task to report the hit and miss metrics of every second level cache region
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Startup
+@Singleton
+public class CacheStatisticsTask {
+
+    @Inject
+    private Logger logger;
+
+    @Inject
+    private CacheStatisticsCollector cacheStatisticsCollector;
+
+    /**
+     * This method is scheduled to run every hour and log the metrics of each cache region
+     */
+    @Schedule(hour = "*", persistent = false, info = "Every hour")
+    public void report() {
+
+        if (!this.cacheStatisticsCollector.isEnabled()) {
+            return;
+        }
+
+        this.cacheStatisticsCollector.collect().forEach(metrics ->
+                this.logger.info("Cache region {}: {} hits, {} misses, {} puts, {} elements, hit ratio {}",
+                        metrics.getRegion(), metrics.getHits(), metrics.getMisses(), metrics.getPuts(),
+                        metrics.getElements(), String.format("%.2f", metrics.getHitRatio())));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.schedules;
+
+import br.com.webbudget.domain.entities.financial.CreditCardInvoice;
+import br.com.webbudget.domain.services.CreditCardInvoiceService;
+import org.slf4j.Logger;
+
+import javax.ejb.Schedule;
+import javax.ejb.Singleton;
+import javax.ejb.Startup;
+import javax.inject.Inject;
+
+/**
+ * Scheduled task to check the total of the open {@link CreditCardInvoice} against the linked movements and fix the
+ * drifted ones
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Startup
+@Singleton
+public class CreditCardInvoiceReconciliationTask {
+
+    @Inject
+    private Logger logger;
+
+    @Inject
+    private CreditCardInvoiceService creditCardInvoiceService;
+
+    /**
+     * This method is scheduled to run everyday at three in the morning and check all the open {@link CreditCardInvoice}
+     */
+    @Schedule(hour = "3", persistent = false, info = "Everyday at three in the morning")
+    public void reconcileTotals() {
+        final int drifted = this.creditCardInvoiceService.reconcileTotals();
+        this.logger.info("Credit card invoices reconciled, {} totals drifted", drifted);
+    }
+}
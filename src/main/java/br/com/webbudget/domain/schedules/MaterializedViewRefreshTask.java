@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.schedules;
+
+import br.com.webbudget.domain.entities.view.MaterializedView;
+import br.com.webbudget.domain.services.MaterializedViewService;
+import org.slf4j.Logger;
+
+import javax.ejb.Schedule;
+import javax.ejb.Singleton;
+import javax.ejb.Startup;
+import javax.inject.Inject;
+import java.util.Collection;
+import java.util.EnumSet;
+
+/**
+ * Scheduled task to refresh the {@link MaterializedView} used by the dashboards and statistics pages
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Startup
+@Singleton
+public class MaterializedViewRefreshTask {
+
+    @Inject
+    private Logger logger;
+
+    @Inject
+    private MaterializedViewService materializedViewService;
+
+    /**
+     * This method is scheduled to run every thirty seconds and refresh only the views marked as pending by the events
+     */
+    @Schedule(second = "*/30", minute = "*", hour = "*", persistent = false, info = "Every thirty seconds")
+    public void refreshPending() {
+        this.refresh(this.materializedViewService.takePending());
+    }
+
+    /**
+     * This method is scheduled to run everyday after the {@link FinancialPeriodExpiredTask} and refresh all the views,
+     * this way the changes without events, like the expired periods or a new cost center color, are also visible
+     */
+    @Schedule(minute = "15", persistent = false, info = "Everyday at fifteen past midnight")
+    public void refreshAll() {
+        this.refresh(EnumSet.allOf(MaterializedView.class));
+    }
+
+    /**
+     * Refresh the given views, if one of them fail it is marked as pending again to be refreshed on the next run
+     *
+     * @param views to be refreshed
+     */
+    private void refresh(Collection<MaterializedView> views) {
+        views.forEach(view -> {
+            try {
+                this.materializedViewService.refresh(view);
+            } catch (Exception ex) {
+                this.logger.error("Can't refresh the view {}", view.getQualifiedName(), ex);
+                this.materializedViewService.markPending(EnumSet.of(view));
+            }
+        });
+    }
+}
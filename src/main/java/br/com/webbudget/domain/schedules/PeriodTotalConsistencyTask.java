@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.schedules;
+
+import br.com.webbudget.domain.entities.financial.PeriodTotal;
+import br.com.webbudget.domain.services.PeriodTotalService;
+import org.slf4j.Logger;
+
+import javax.ejb.Schedule;
+import javax.ejb.Singleton;
+import javax.ejb.Startup;
+import javax.inject.Inject;
+
+/**
+ * Scheduled task to check the {@link PeriodTotal} ledger against the source rows and rebuild the drifted ones
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Startup
+@Singleton
+public class PeriodTotalConsistencyTask {
+
+    @Inject
+    private Logger logger;
+
+    @Inject
+    private PeriodTotalService periodTotalService;
+
+    /**
+     * This method is scheduled to run everyday at two in the morning and check all the {@link PeriodTotal}
+     */
+    @Schedule(hour = "2", persistent = false, info = "Everyday at two in the morning")
+    public void checkConsistency() {
+        final int drifted = this.periodTotalService.checkConsistency();
+        this.logger.info("Period totals checked, {} financial periods rebuilt", drifted);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.schedules;
+
+import br.com.webbudget.domain.entities.financial.WalletBalanceCheckpoint;
+import br.com.webbudget.domain.services.WalletService;
+import org.slf4j.Logger;
+
+import javax.ejb.Schedule;
+import javax.ejb.Singleton;
+import javax.ejb.Startup;
+import javax.inject.Inject;
+import java.time.LocalDate;
+
+/**
+ * Scheduled task to write the {@link WalletBalanceCheckpoint} of the day before for every wallet
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Startup
+@Singleton
+public class WalletBalanceCheckpointTask {
+
+    @Inject
+    private Logger logger;
+
+    @Inject
+    private WalletService walletService;
+
+    /**
+     * This method is scheduled to run everyday at half past midnight and close the balances of the day before, if
+     * some run is lost the next one covers the missing days with a single checkpoint
+     */
+    @Schedule(hour = "0", minute = "30", persistent = false, info = "Everyday at half past midnight")
+    public void writeCheckpoints() {
+        final LocalDate yesterday = LocalDate.now().minusDays(1);
+        final int written = this.walletService.writeCheckpoints(yesterday);
+        this.logger.info("Wallet balances closed for {}, {} checkpoints written", yesterday, written);
+    }
+}
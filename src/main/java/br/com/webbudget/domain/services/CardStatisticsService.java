@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.services;
+
+import br.com.webbudget.domain.entities.financial.CardStatistics;
+import br.com.webbudget.domain.entities.financial.CreditCardInvoice;
+import br.com.webbudget.domain.entities.financial.InvoiceState;
+import br.com.webbudget.domain.entities.registration.Card;
+import br.com.webbudget.domain.repositories.financial.CardStatisticsRepository;
+import br.com.webbudget.domain.repositories.financial.CreditCardInvoiceRepository;
+import br.com.webbudget.infrastructure.jpa.PersistenceMonitored;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.transaction.Transactional;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The service responsible for keeping the {@link CardStatistics} of every {@link Card} in sync with the closed and
+ * paid {@link CreditCardInvoice}
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.2.0
+ * @since 3.1.0, 18/10/2026
+ */
+@PersistenceMonitored
+@ApplicationScoped
+public class CardStatisticsService {
+
+    private static final List<InvoiceState> CLOSED_STATES = List.of(InvoiceState.CLOSED, InvoiceState.PAID);
+
+    @Inject
+    private CardStatisticsRepository cardStatisticsRepository;
+    @Inject
+    private CreditCardInvoiceRepository creditCardInvoiceRepository;
+
+    /**
+     * Get the {@link CardStatistics} of a {@link Card}, if the card has no statistics yet they are built from the
+     * source rows
+     *
+     * @param card to get the statistics
+     * @return the {@link CardStatistics} of the card
+     */
+    @Transactional
+    public CardStatistics statisticsOf(Card card) {
+        return this.cardStatisticsRepository.findByCard(card)
+                .orElseGet(() -> this.rebuild(card));
+    }
+
+    /**
+     * Rebuild the {@link CardStatistics} of a {@link Card} using the closed and paid {@link CreditCardInvoice}, this
+     * is called every time the state of an invoice of the card changes
+     *
+     * @param card to be rebuilt
+     * @return the rebuilt {@link CardStatistics}
+     */
+    @Transactional
+    public CardStatistics rebuild(Card card) {
+
+        final CardStatistics statistics = this.lockStatisticsOf(card);
+
+        statistics.update(this.creditCardInvoiceRepository.calculateStatistics(card, CLOSED_STATES));
+
+        return this.cardStatisticsRepository.saveAndFlush(statistics);
+    }
+
+    /**
+     * Lock the {@link CardStatistics} of a {@link Card} until the end of the transaction, on the first use the empty
+     * row is inserted if absent so two concurrent transactions never insert it twice
+     *
+     * @param card to lock the statistics
+     * @return the locked {@link CardStatistics}
+     */
+    private CardStatistics lockStatisticsOf(Card card) {
+
+        final Optional<CardStatistics> statistics = this.cardStatisticsRepository.findByCardForUpdate(card);
+
+        if (statistics.isPresent()) {
+            return statistics.get();
+        }
+
+        this.cardStatisticsRepository.createIfAbsent(card.getId());
+
+        return this.cardStatisticsRepository.findByCardForUpdate(card)
+                .orElseThrow(() -> new IllegalStateException("Can't find the statistics of card " + card.getId()));
+    }
+}
@@ -17,36 +17,60 @@
 package br.com.webbudget.domain.services;
 
 import br.com.webbudget.domain.calculators.PeriodMovementCalculator;
+import br.com.webbudget.domain.calculators.PeriodMovementTotalCalculator;
 import br.com.webbudget.domain.entities.financial.Closing;
 import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import br.com.webbudget.domain.events.FinancialPeriodClosed;
+import br.com.webbudget.domain.events.FinancialPeriodReopened;
 import br.com.webbudget.domain.exceptions.BusinessLogicException;
 import br.com.webbudget.domain.logics.financial.closing.ClosingSavingLogic;
 import br.com.webbudget.domain.logics.financial.closing.ReopenPeriodLogic;
 import br.com.webbudget.domain.repositories.financial.ClosingRepository;
+import br.com.webbudget.infrastructure.jfr.ClosingEvent;
+import br.com.webbudget.infrastructure.jfr.FlightRecorded;
+import br.com.webbudget.infrastructure.jfr.WorkflowEvent;
+import br.com.webbudget.infrastructure.jpa.PersistenceMonitored;
+import br.com.webbudget.infrastructure.utils.Configurations;
+import org.slf4j.Logger;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Event;
 import javax.enterprise.inject.Any;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.transaction.Transactional;
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 /**
  * Service used by the {@link Closing} process
  *
  * @author Arthur Gregorio
  *
- * @version 2.0.0
+ * @version 2.3.0
  * @since 1.0.0, 09/04/2014
  */
+@PersistenceMonitored
 @ApplicationScoped
 public class ClosingService {
 
+    @Inject
+    private Logger logger;
+
     @Inject
     private ClosingRepository closingRepository;
 
     @Inject
     private PeriodMovementCalculator periodMovementCalculator;
+    @Inject
+    private PeriodMovementTotalCalculator periodMovementTotalCalculator;
+
+    @Inject
+    @FinancialPeriodClosed
+    private Event<FinancialPeriod> financialPeriodClosedEvent;
+    @Inject
+    @FinancialPeriodReopened
+    private Event<FinancialPeriod> financialPeriodReopenedEvent;
 
     @Any
     @Inject
@@ -61,6 +85,7 @@ public class ClosingService {
      * @param financialPeriod to be closed
      */
     @Transactional
+    @FlightRecorded(ClosingEvent.class)
     public void close(FinancialPeriod financialPeriod) {
 
         // use the simulation to get the values to be saved as resume
@@ -76,6 +101,12 @@ public class ClosingService {
         closing.setAccumulated(lastClosingAccumulated.add(closing.getBalance()));
 
         this.closingRepository.save(closing);
+
+        // fire a event to notify the listeners
+        this.financialPeriodClosedEvent.fire(financialPeriod);
+
+        WorkflowEvent.current(ClosingEvent.class)
+                .ifPresent(event -> event.describe(financialPeriod.getIdentification(), false));
     }
 
     /**
@@ -84,6 +115,7 @@ public class ClosingService {
      * @param financialPeriod to reopened
      */
     @Transactional
+    @FlightRecorded(ClosingEvent.class)
     public void reopen(FinancialPeriod financialPeriod) {
 
         this.closingRepository.findLastClosing().ifPresent(closing -> {
@@ -93,11 +125,20 @@ public class ClosingService {
         });
 
         this.reopenPeriodLogics.forEach(logic -> logic.run(financialPeriod));
+
+        // fire a event to notify the listeners
+        this.financialPeriodReopenedEvent.fire(financialPeriod);
+
+        WorkflowEvent.current(ClosingEvent.class)
+                .ifPresent(event -> event.describe(financialPeriod.getIdentification(), true));
     }
 
     /**
      * Simulate the closing process for the given {@link FinancialPeriod}
      *
+     * If the closing.simulation.verify configuration is enabled the values are also calculated with the
+     * {@link PeriodMovementCalculator} and any difference is logged
+     *
      * @param financialPeriod to be simulated
      */
     public Closing simulate(FinancialPeriod financialPeriod) {
@@ -106,21 +147,65 @@ public class ClosingService {
             throw new BusinessLogicException("error.closing.no-period-selected");
         }
 
-        this.periodMovementCalculator.load(financialPeriod);
+        this.periodMovementTotalCalculator.load(financialPeriod);
 
         final Closing closing = new Closing();
 
-        closing.setCreditCardExpenses(this.periodMovementCalculator.getCreditCardExpensesValue());
-        closing.setDebitCardExpenses(this.periodMovementCalculator.getDebitCardExpensesValue());
-        closing.setCashExpenses(this.periodMovementCalculator.getCashExpensesValue());
+        closing.setCreditCardExpenses(this.periodMovementTotalCalculator.getCreditCardExpensesValue());
+        closing.setDebitCardExpenses(this.periodMovementTotalCalculator.getDebitCardExpensesValue());
+        closing.setCashExpenses(this.periodMovementTotalCalculator.getCashExpensesValue());
 
-        closing.setRevenues(this.periodMovementCalculator.getRevenuesValue());
-        closing.setExpenses(this.periodMovementCalculator.getExpensesValue());
+        closing.setRevenues(this.periodMovementTotalCalculator.getRevenuesValue());
+        closing.setExpenses(this.periodMovementTotalCalculator.getExpensesValue());
 
         closing.setBalance(closing.getRevenues().subtract(closing.getExpenses()));
 
         closing.setFinancialPeriod(financialPeriod);
 
+        if (Configurations.getAsBoolean("closing.simulation.verify")) {
+            this.verify(closing);
+        }
+
         return closing;
     }
+
+    /**
+     * Calculate the values of the simulated {@link Closing} again using the {@link PeriodMovementCalculator}, the one
+     * loading all the movements, and log any difference found
+     *
+     * @param closing the simulated {@link Closing} to be verified
+     */
+    private void verify(Closing closing) {
+
+        this.periodMovementCalculator.load(closing.getFinancialPeriod());
+
+        this.compare(closing, "credit card expenses", Closing::getCreditCardExpenses,
+                this.periodMovementCalculator.getCreditCardExpensesValue());
+        this.compare(closing, "debit card expenses", Closing::getDebitCardExpenses,
+                this.periodMovementCalculator.getDebitCardExpensesValue());
+        this.compare(closing, "cash expenses", Closing::getCashExpenses,
+                this.periodMovementCalculator.getCashExpensesValue());
+        this.compare(closing, "revenues", Closing::getRevenues,
+                this.periodMovementCalculator.getRevenuesValue());
+        this.compare(closing, "expenses", Closing::getExpenses,
+                this.periodMovementCalculator.getExpensesValue());
+    }
+
+    /**
+     * Compare one value of the simulated {@link Closing} with the expected one
+     *
+     * @param closing the simulated {@link Closing}
+     * @param name the name of the value, used in the log
+     * @param getter to get the value from the {@link Closing}
+     * @param expected the value calculated by the {@link PeriodMovementCalculator}
+     */
+    private void compare(Closing closing, String name, Function<Closing, BigDecimal> getter, BigDecimal expected) {
+
+        final BigDecimal simulated = getter.apply(closing);
+
+        if (simulated.compareTo(expected) != 0) {
+            this.logger.warn("Closing simulation of {} differs on {}, simulated {} but expected {}",
+                    closing.getFinancialPeriod().getIdentification(), name, simulated, expected);
+        }
+    }
 }
@@ -19,6 +19,8 @@ package br.com.webbudget.domain.services;
 import br.com.webbudget.application.components.builder.CreditCardInvoiceBuilder;
 import br.com.webbudget.domain.entities.configuration.Configuration;
 import br.com.webbudget.domain.entities.financial.CreditCardInvoice;
+import br.com.webbudget.domain.entities.financial.CreditCardInvoiceTotal;
+import br.com.webbudget.domain.entities.financial.InvoiceState;
 import br.com.webbudget.domain.entities.financial.Payment;
 import br.com.webbudget.domain.entities.financial.PeriodMovement;
 import br.com.webbudget.domain.entities.registration.Card;
@@ -31,6 +33,11 @@ import br.com.webbudget.domain.repositories.financial.CreditCardInvoiceRepositor
 import br.com.webbudget.domain.repositories.financial.PeriodMovementRepository;
 import br.com.webbudget.domain.repositories.registration.CardRepository;
 import br.com.webbudget.domain.repositories.registration.FinancialPeriodRepository;
+import br.com.webbudget.infrastructure.jfr.FlightRecorded;
+import br.com.webbudget.infrastructure.jfr.InvoiceClosingEvent;
+import br.com.webbudget.infrastructure.jfr.WorkflowEvent;
+import br.com.webbudget.infrastructure.jpa.PersistenceMonitored;
+import org.slf4j.Logger;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
@@ -38,19 +45,30 @@ import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 import javax.transaction.Transactional;
 import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 /**
  * The {@link CreditCardInvoice} service
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.7.0
  * @since 3.0.0, 10/03/2019
  */
+@PersistenceMonitored
 @ApplicationScoped
 public class CreditCardInvoiceService {
 
+    @Inject
+    private Logger logger;
+
+    @Inject
+    private CardStatisticsService cardStatisticsService;
     @Inject
     private PeriodMovementService periodMovementService;
 
@@ -71,6 +89,7 @@ public class CreditCardInvoiceService {
      * @param invoiceId to search for the {@link CreditCardInvoice} to be closed
      */
     @Transactional
+    @FlightRecorded(InvoiceClosingEvent.class)
     public void close(long invoiceId) {
 
         final CreditCardInvoice invoice = this.creditCardInvoiceRepository.findById(invoiceId)
@@ -88,6 +107,37 @@ public class CreditCardInvoiceService {
                 .save(invoice.toPeriodMovement(configuration.getCreditCardClass()));
 
         this.creditCardInvoiceRepository.saveAndFlushAndRefresh(invoice.prepareToClose(periodMovement));
+
+        this.cardStatisticsService.rebuild(invoice.getCard());
+
+        WorkflowEvent.current(InvoiceClosingEvent.class).ifPresent(event -> event.describe(
+                invoice.getFinancialPeriod().getIdentification(), invoiceId, invoice.getCard().getReadableName()));
+    }
+
+    /**
+     * Recalculate the total of every open {@link CreditCardInvoice} from the linked {@link PeriodMovement}, log and fix
+     * any drift found
+     *
+     * @return the number of {@link CreditCardInvoice} with drift
+     */
+    @Transactional
+    public int reconcileTotals() {
+
+        int drifted = 0;
+
+        final List<CreditCardInvoiceTotal> totals = this.creditCardInvoiceRepository
+                .calculateTotalsByState(InvoiceState.OPEN);
+
+        for (CreditCardInvoiceTotal total : totals) {
+            if (total.isDrifted()) {
+                this.logger.warn("Credit card invoice {} drifted, stored {} but calculated {}",
+                        total.getIdentification(), total.getStoredValue(), total.getCalculatedValue());
+                this.fixTotal(total);
+                drifted++;
+            }
+        }
+
+        return drifted;
     }
 
     /**
@@ -137,6 +187,8 @@ public class CreditCardInvoiceService {
                 .orElseThrow(() -> new BusinessLogicException("error.credit-card-invoice.not-found"));
 
         this.creditCardInvoiceRepository.saveAndFlushAndRefresh(invoice.prepareToPay());
+
+        this.cardStatisticsService.rebuild(invoice.getCard());
     }
 
     /**
@@ -161,13 +213,61 @@ public class CreditCardInvoiceService {
                 .orElseThrow(() -> new BusinessLogicException("error.credit-card-invoice.no-invoice",
                         card.getReadableName(), financialPeriod.getIdentification()));
 
-        // link the period movement
+        // link the period movement, it is already managed so the link goes with the transaction
         periodMovement.setCreditCardInvoice(invoice);
-        this.periodMovementRepository.saveAndFlushAndRefresh(periodMovement);
+        this.periodMovementRepository.save(periodMovement);
 
-        // update the invoice total
-        invoice.setTotalValue(invoice.getTotalValue().add(periodMovement.getValueWithDiscount()));
-        this.creditCardInvoiceRepository.saveAndFlushAndRefresh(invoice);
+        this.addToTotal(invoice, periodMovement.getValueWithDiscount());
+    }
+
+    /**
+     * Listen to the {@link Event} about many {@link PeriodMovement} paid at once, the invoices paid are marked as paid
+     * and the movements paid with a credit {@link Card} are linked to their {@link CreditCardInvoice}, every invoice
+     * is searched and updated only once no matter how many movements it receives
+     *
+     * @param periodMovements paid
+     */
+    @Transactional
+    public void updateInvoicesAfterPayment(@Observes @PeriodMovementsPaid List<PeriodMovement> periodMovements) {
+
+        periodMovements.stream()
+                .filter(PeriodMovement::isCreditCardInvoice)
+                .forEach(this::changeInvoiceStatus);
+
+        final Map<List<Long>, List<PeriodMovement>> byInvoice = periodMovements.stream()
+                .filter(PeriodMovement::isPaidWithCreditCard)
+                .collect(Collectors.groupingBy(periodMovement -> List.of(periodMovement.getPayment().getCard().getId(),
+                        periodMovement.getFinancialPeriod().getId()), LinkedHashMap::new, Collectors.toList()));
+
+        if (byInvoice.isEmpty()) {
+            return;
+        }
+
+        final Map<CreditCardInvoice, List<PeriodMovement>> invoices = new TreeMap<>(
+                Comparator.comparing(CreditCardInvoice::getId));
+
+        byInvoice.values().forEach(movements -> {
+
+            final Card card = movements.get(0).getPayment().getCard();
+            final FinancialPeriod financialPeriod = movements.get(0).getFinancialPeriod();
+
+            final CreditCardInvoice invoice = this.creditCardInvoiceRepository
+                    .findByCardAndFinancialPeriod(card, financialPeriod)
+                    .orElseThrow(() -> new BusinessLogicException("error.credit-card-invoice.no-invoice",
+                            card.getReadableName(), financialPeriod.getIdentification()));
+
+            movements.forEach(periodMovement -> periodMovement.setCreditCardInvoice(invoice));
+
+            invoices.put(invoice, movements);
+        });
+
+        // the invoices are locked in the order of their ids to avoid deadlocks with concurrent payments
+        invoices.forEach((invoice, movements) -> this.addToTotal(invoice, movements.stream()
+                .map(PeriodMovement::getValueWithDiscount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add)));
+
+        // the links of all the movements go to the database in a single batch
+        this.periodMovementRepository.flush();
     }
 
     /**
@@ -183,11 +283,11 @@ public class CreditCardInvoiceService {
             return;
         }
 
-        final CreditCardInvoice invoice = periodMovement.getCreditCardInvoice();
-
-        invoice.setTotalValue(invoice.getTotalValue().subtract(periodMovement.getValueWithDiscount()));
+        final CreditCardInvoice invoice = this.creditCardInvoiceRepository
+                .findById(periodMovement.getCreditCardInvoice().getId())
+                .orElseThrow(() -> new BusinessLogicException("error.credit-card-invoice.not-found"));
 
-        this.creditCardInvoiceRepository.saveAndFlushAndRefresh(invoice);
+        this.addToTotal(invoice, periodMovement.getValueWithDiscount().negate());
     }
 
     /**
@@ -237,16 +337,45 @@ public class CreditCardInvoiceService {
 
             this.periodMovementRepository.save(periodMovement);
 
-            // update correct invoice value
-            correctInvoice.setTotalValue(correctInvoice.getTotalValue().add(periodMovement.getValueWithDiscount()));
+            // move the value from the incorrect invoice to the correct one, locking them in the order of their ids
+            final BigDecimal value = periodMovement.getValueWithDiscount();
+
+            if (correctInvoice.getId() < incorrectInvoice.getId()) {
+                this.addToTotal(correctInvoice, value);
+                this.addToTotal(incorrectInvoice, value.negate());
+            } else {
+                this.addToTotal(incorrectInvoice, value.negate());
+                this.addToTotal(correctInvoice, value);
+            }
+        }
+    }
+
+    /**
+     * Add a value to the total of a {@link CreditCardInvoice}, the invoice is locked and read again before the change
+     * so concurrent payments with the same card never lose an update and the change is audited as any other
+     *
+     * @param invoice to be updated
+     * @param value to be added, negative to subtract
+     */
+    private void addToTotal(CreditCardInvoice invoice, BigDecimal value) {
+        final CreditCardInvoice locked = this.creditCardInvoiceRepository.lockForUpdate(invoice);
+        this.creditCardInvoiceRepository.save(locked.addToTotal(value));
+    }
 
-            this.creditCardInvoiceRepository.save(correctInvoice);
+    /**
+     * Replace the total of a drifted {@link CreditCardInvoice} by the calculated one, if a payment changed the total
+     * after the calculation nothing is done and the next run checks it again
+     *
+     * @param total the stored and calculated totals of the invoice
+     */
+    private void fixTotal(CreditCardInvoiceTotal total) {
 
-            // update incorrect invoice value
-            incorrectInvoice.setTotalValue(incorrectInvoice.getTotalValue()
-                    .subtract(periodMovement.getValueWithDiscount()));
+        final CreditCardInvoice invoice = this.creditCardInvoiceRepository.lockForUpdate(
+                this.creditCardInvoiceRepository.findById(total.getInvoiceId())
+                        .orElseThrow(() -> new BusinessLogicException("error.credit-card-invoice.not-found")));
 
-            this.creditCardInvoiceRepository.save(incorrectInvoice);
+        if (invoice.getTotalValue().compareTo(total.getStoredValue()) == 0) {
+            this.creditCardInvoiceRepository.save(invoice.fixTotal(total.getCalculatedValue()));
         }
     }
 }
\ No newline at end of file
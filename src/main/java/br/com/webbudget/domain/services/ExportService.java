@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.services;
+
+import br.com.webbudget.application.components.ui.filter.PeriodMovementFilter;
+import br.com.webbudget.application.components.ui.filter.WalletBalanceFilter;
+import br.com.webbudget.domain.entities.financial.CreditCardInvoice;
+import br.com.webbudget.domain.entities.financial.InvoiceState;
+import br.com.webbudget.domain.entities.financial.Payment;
+import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import br.com.webbudget.domain.entities.financial.WalletBalance;
+import br.com.webbudget.domain.repositories.financial.CreditCardInvoiceRepository;
+import br.com.webbudget.domain.repositories.financial.PeriodMovementRepository;
+import br.com.webbudget.domain.repositories.registration.WalletBalanceRepository;
+import br.com.webbudget.infrastructure.export.ExportFormat;
+import br.com.webbudget.infrastructure.export.ExportWriter;
+import br.com.webbudget.infrastructure.utils.Configurations;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.transaction.Transactional;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The service responsible for the exports of the {@link PeriodMovement}, the {@link WalletBalance} historic and the
+ * {@link CreditCardInvoice}
+ *
+ * The rows are read from a database cursor and written straight to the output, every block of rows the output is
+ * flushed and the persistence context is cleared, so the memory used does not depend on how many rows are exported
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ApplicationScoped
+public class ExportService {
+
+    private static final List<String> MOVEMENT_COLUMNS = List.of("code", "identification", "description",
+            "financialPeriod", "dueDate", "value", "periodMovementState", "periodMovementType", "contact",
+            "paymentDate", "paidValue");
+
+    private static final List<String> BALANCE_COLUMNS = List.of("movementDateTime", "movementCode", "reasonType",
+            "balanceType", "oldBalance", "transactionValue", "actualBalance", "observations");
+
+    private static final List<String> INVOICE_COLUMNS = List.of("identification", "card", "financialPeriod",
+            "closingDate", "dueDate", "paymentDate", "totalValue", "invoiceState");
+
+    @Inject
+    private PeriodMovementRepository periodMovementRepository;
+    @Inject
+    private WalletBalanceRepository walletBalanceRepository;
+    @Inject
+    private CreditCardInvoiceRepository creditCardInvoiceRepository;
+
+    /**
+     * Export the {@link PeriodMovement} found with the filter of the listing
+     *
+     * @param filter the {@link PeriodMovementFilter}
+     * @param exportFormat the format of the export
+     * @param output where to write the rows
+     * @return the number of rows exported
+     */
+    @Transactional
+    public long exportPeriodMovements(PeriodMovementFilter filter, ExportFormat exportFormat, OutputStream output) {
+
+        final int blockSize = Configurations.getAsInteger("persistence.batch-size");
+
+        try (Stream<PeriodMovement> movements = this.periodMovementRepository.streamBy(filter, blockSize);
+             ExportWriter writer = ExportWriter.open(exportFormat, output, MOVEMENT_COLUMNS)) {
+
+            long rows = 0;
+
+            final Iterator<PeriodMovement> iterator = movements.iterator();
+
+            while (iterator.hasNext()) {
+
+                final PeriodMovement movement = iterator.next();
+                final Payment payment = movement.getPayment();
+
+                writer.write(movement.getCode(), movement.getIdentification(), movement.getDescription(),
+                        movement.getFinancialPeriod().getIdentification(), movement.getDueDate(),
+                        movement.getValue(), movement.getPeriodMovementState(), movement.getPeriodMovementType(),
+                        movement.getContact() != null ? movement.getContact().getName() : null,
+                        movement.getPaymentDate(), payment != null ? payment.getPaidValue() : null);
+
+                if (++rows % blockSize == 0) {
+                    writer.flush();
+                    this.periodMovementRepository.clear();
+                }
+            }
+
+            return rows;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Export the {@link WalletBalance} historic found with the filter of the historic page
+     *
+     * @param filter the {@link WalletBalanceFilter}
+     * @param exportFormat the format of the export
+     * @param output where to write the rows
+     * @return the number of rows exported
+     */
+    @Transactional
+    public long exportWalletBalances(WalletBalanceFilter filter, ExportFormat exportFormat, OutputStream output) {
+
+        final int blockSize = Configurations.getAsInteger("persistence.batch-size");
+
+        try (Stream<WalletBalance> balances = this.walletBalanceRepository.streamBy(filter, blockSize);
+             ExportWriter writer = ExportWriter.open(exportFormat, output, BALANCE_COLUMNS)) {
+
+            long rows = 0;
+
+            final Iterator<WalletBalance> iterator = balances.iterator();
+
+            while (iterator.hasNext()) {
+
+                final WalletBalance balance = iterator.next();
+
+                writer.write(balance.getMovementDateTime(), balance.getMovementCode(), balance.getReasonType(),
+                        balance.getBalanceType(), balance.getOldBalance(), balance.getTransactionValue(),
+                        balance.getActualBalance(), balance.getObservations());
+
+                if (++rows % blockSize == 0) {
+                    writer.flush();
+                    this.walletBalanceRepository.clear();
+                }
+            }
+
+            return rows;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Export the {@link CreditCardInvoice} found with the filter of the listing
+     *
+     * @param filter value
+     * @param invoiceState to filter
+     * @param exportFormat the format of the export
+     * @param output where to write the rows
+     * @return the number of rows exported
+     */
+    @Transactional
+    public long exportCreditCardInvoices(String filter, InvoiceState invoiceState, ExportFormat exportFormat,
+                                         OutputStream output) {
+
+        final int blockSize = Configurations.getAsInteger("persistence.batch-size");
+
+        try (Stream<Object[]> invoices = this.creditCardInvoiceRepository
+                .streamRowsBy(filter, invoiceState, blockSize);
+             ExportWriter writer = ExportWriter.open(exportFormat, output, INVOICE_COLUMNS)) {
+
+            long rows = 0;
+
+            final Iterator<Object[]> iterator = invoices.iterator();
+
+            while (iterator.hasNext()) {
+
+                writer.write(iterator.next());
+
+                // plain rows are not kept in the persistence context, only the output needs to be flushed
+                if (++rows % blockSize == 0) {
+                    writer.flush();
+                }
+            }
+
+            return rows;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import br.com.webbudget.domain.events.FinancialPeriodOpened;
 import br.com.webbudget.domain.logics.registration.financialperiod.PeriodDeletingLogic;
 import br.com.webbudget.domain.logics.registration.financialperiod.PeriodSavingLogic;
 import br.com.webbudget.domain.repositories.registration.FinancialPeriodRepository;
+import br.com.webbudget.infrastructure.jpa.PersistenceMonitored;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
@@ -35,9 +36,10 @@ import java.time.LocalDate;
  *
  * @author Arthur Gregorio
  *
- * @version 1.3.0
+ * @version 1.4.0
  * @since 1.0.0, 20/03/2014
  */
+@PersistenceMonitored
 @ApplicationScoped
 public class FinancialPeriodService {
 
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.services;
+
+import br.com.webbudget.domain.entities.financial.FixedMovement;
+import br.com.webbudget.domain.entities.financial.FixedMovementState;
+import br.com.webbudget.domain.entities.financial.LaunchProgress;
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import br.com.webbudget.domain.events.FinancialPeriodOpened;
+import br.com.webbudget.domain.events.LaunchFixedMovements;
+import br.com.webbudget.domain.repositories.financial.FixedMovementRepository;
+import br.com.webbudget.infrastructure.jpa.PersistenceMonitored;
+import br.com.webbudget.infrastructure.utils.Configurations;
+import org.slf4j.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.ObservesAsync;
+import javax.enterprise.event.TransactionPhase;
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The service responsible for the automatic launch of the {@link FixedMovement} when a new {@link FinancialPeriod} is
+ * opened
+ *
+ * The launch runs asynchronously after the opening is committed, in chunks with one transaction each, so the user does
+ * not wait for it and a failure in one chunk does not roll back the others. The progress of each period can be
+ * followed by {@link #getProgress(FinancialPeriod)} until some minutes after it is finished
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.2.0
+ * @since 3.1.0, 18/10/2026
+ */
+@PersistenceMonitored
+@ApplicationScoped
+public class FixedMovementLaunchService {
+
+    @Inject
+    private Logger logger;
+
+    @Inject
+    private FixedMovementService fixedMovementService;
+
+    @Inject
+    private FixedMovementRepository fixedMovementRepository;
+
+    @Inject
+    @LaunchFixedMovements
+    private Event<FinancialPeriod> launchFixedMovementsEvent;
+
+    private Duration progressTimeToLive;
+
+    private final Map<Long, LaunchProgress> progresses;
+
+    /**
+     * Constructor...
+     */
+    public FixedMovementLaunchService() {
+        this.progresses = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Initialize the time the finished progresses are kept
+     */
+    @PostConstruct
+    protected void initialize() {
+        this.progressTimeToLive = Duration.ofMinutes(
+                Configurations.getAsInteger("fixed-movements.launch-progress-minutes"));
+    }
+
+    /**
+     * When a new {@link FinancialPeriod} is opened and the transaction is committed this method start the launch of
+     * all the {@link FixedMovement} marked as auto-launch
+     *
+     * @param financialPeriod opened
+     */
+    public void onFinancialPeriodOpen(@Observes(during = TransactionPhase.AFTER_SUCCESS)
+                                      @FinancialPeriodOpened FinancialPeriod financialPeriod) {
+        this.evictExpired();
+        this.progresses.put(financialPeriod.getId(), new LaunchProgress());
+        this.launchFixedMovementsEvent.fireAsync(financialPeriod);
+    }
+
+    /**
+     * Launch all the auto-launch {@link FixedMovement} into the given {@link FinancialPeriod} in chunks
+     *
+     * @param financialPeriod to be used to launch the {@link FixedMovement}
+     */
+    public void launch(@ObservesAsync @LaunchFixedMovements FinancialPeriod financialPeriod) {
+
+        final LaunchProgress progress = this.progresses
+                .computeIfAbsent(financialPeriod.getId(), id -> new LaunchProgress());
+
+        try {
+            final List<Long> fixedMovementIds = this.fixedMovementRepository
+                    .findIdsByAutoLaunchAndFixedMovementState(true, FixedMovementState.ACTIVE);
+
+            progress.start(fixedMovementIds.size());
+
+            final int batchSize = Configurations.getAsInteger("persistence.batch-size");
+
+            for (int start = 0; start < fixedMovementIds.size(); start += batchSize) {
+
+                final List<Long> chunk = fixedMovementIds.subList(start,
+                        Math.min(start + batchSize, fixedMovementIds.size()));
+
+                try {
+                    this.fixedMovementService.launchAll(chunk, financialPeriod);
+                    progress.launched(chunk.size());
+                } catch (Exception ex) {
+                    this.logger.error("Can't launch the fixed movements {} into {}",
+                            chunk, financialPeriod.getIdentification(), ex);
+                    progress.failed(chunk.size());
+                }
+            }
+        } finally {
+            progress.finish();
+        }
+
+        this.logger.info("Fixed movements launched into {}, {}", financialPeriod.getIdentification(), progress);
+    }
+
+    /**
+     * Get the progress of the {@link FixedMovement} launch for a {@link FinancialPeriod}
+     *
+     * @param financialPeriod to get the progress
+     * @return an {@link Optional} of the {@link LaunchProgress}, empty if there was no recent launch for this period
+     */
+    public Optional<LaunchProgress> getProgress(FinancialPeriod financialPeriod) {
+        this.evictExpired();
+        return Optional.ofNullable(this.progresses.get(financialPeriod.getId()));
+    }
+
+    /**
+     * Remove the progresses finished longer than the time to live ago
+     */
+    private void evictExpired() {
+        this.progresses.values().removeIf(progress -> progress.isExpired(this.progressTimeToLive));
+    }
+}
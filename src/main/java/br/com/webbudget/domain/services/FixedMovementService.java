@@ -22,30 +22,35 @@ import br.com.webbudget.domain.entities.financial.FixedMovementState;
 import br.com.webbudget.domain.entities.financial.Launch;
 import br.com.webbudget.domain.entities.financial.PeriodMovement;
 import br.com.webbudget.domain.entities.registration.FinancialPeriod;
-import br.com.webbudget.domain.events.FinancialPeriodOpened;
 import br.com.webbudget.domain.logics.financial.movement.fixed.FixedMovementDeletingLogic;
 import br.com.webbudget.domain.logics.financial.movement.fixed.FixedMovementSavingLogic;
 import br.com.webbudget.domain.repositories.financial.ApportionmentRepository;
 import br.com.webbudget.domain.repositories.financial.FixedMovementRepository;
 import br.com.webbudget.domain.repositories.financial.LaunchRepository;
+import br.com.webbudget.infrastructure.jfr.FlightRecorded;
+import br.com.webbudget.infrastructure.jfr.LaunchEvent;
+import br.com.webbudget.infrastructure.jfr.WorkflowEvent;
+import br.com.webbudget.infrastructure.jpa.PersistenceMonitored;
 
 import javax.enterprise.context.ApplicationScoped;
-import javax.enterprise.event.Observes;
 import javax.enterprise.inject.Any;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.transaction.Transactional;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service to make all operations related to the {@link FixedMovement}
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.3.0
  * @since 3.0.0, 21/03/2019
  */
+@PersistenceMonitored
 @ApplicationScoped
 public class FixedMovementService {
 
@@ -78,10 +83,7 @@ public class FixedMovementService {
 
         final FixedMovement saved = this.fixedMovementRepository.save(fixedMovement);
 
-        fixedMovement.getApportionments().forEach(apportionment -> {
-            apportionment.setMovement(saved);
-            this.apportionmentRepository.save(apportionment);
-        });
+        this.apportionmentRepository.saveAll(saved, fixedMovement.getApportionments(), Set.of());
     }
 
     /**
@@ -115,10 +117,90 @@ public class FixedMovementService {
      */
     @Transactional
     public void launch(long fixedMovementId, FinancialPeriod financialPeriod) {
+        this.launchAll(List.of(fixedMovementId), financialPeriod);
+    }
+
+    /**
+     * Same as {@link #launch(long, FinancialPeriod)} but this one takes a {@link List} as parameter and for every
+     * {@link FixedMovement} make a launch
+     *
+     * @param fixedMovements {@link List} to be launched
+     * @param financialPeriod to be used to launch the {@link FixedMovement}
+     */
+    @Transactional
+    public void launch(List<FixedMovement> fixedMovements, FinancialPeriod financialPeriod) {
+        this.launchAll(fixedMovements.stream()
+                .map(FixedMovement::getId)
+                .collect(Collectors.toList()), financialPeriod);
+    }
+
+    /**
+     * Launch a batch of {@link FixedMovement} into a {@link FinancialPeriod}
+     *
+     * The {@link FixedMovement} and the last quote of each one are loaded with one query each, then all the
+     * {@link PeriodMovement} and {@link Launch} are written together, so the cost of the batch does not grow with one
+     * round trip for every launch
+     *
+     * @param fixedMovementIds the ids of the {@link FixedMovement} to be launched
+     * @param financialPeriod to be used to launch the {@link FixedMovement}
+     */
+    @Transactional
+    @FlightRecorded(LaunchEvent.class)
+    public void launchAll(List<Long> fixedMovementIds, FinancialPeriod financialPeriod) {
+
+        final List<FixedMovement> fixedMovements = this.fixedMovementRepository.findByIds(fixedMovementIds);
+
+        if (fixedMovements.size() != fixedMovementIds.size()) {
+            throw new IllegalStateException("Can't find all fixed movements with ids: " + fixedMovementIds);
+        }
+
+        final Map<Long, Integer> lastQuotes = this.launchRepository.findLastLaunchCountersFor(fixedMovementIds);
+
+        // create the period movement for each launch
+        final List<PeriodMovement> periodMovements = fixedMovements.stream()
+                .map(fixedMovement -> this.toPeriodMovement(fixedMovement, financialPeriod,
+                        lastQuotes.getOrDefault(fixedMovement.getId(), 0)))
+                .collect(Collectors.toList());
+
+        // save the period movements
+        final List<PeriodMovement> saved = this.periodMovementService.saveAll(periodMovements);
+
+        for (int i = 0; i < fixedMovements.size(); i++) {
+
+            final FixedMovement fixedMovement = fixedMovements.get(i);
+
+            // create the launch to link the fixed and the period movement
+            final Launch launch = new Launch();
+
+            launch.setFinancialPeriod(financialPeriod);
+            launch.setFixedMovement(fixedMovement);
+            launch.setPeriodMovement(saved.get(i));
+            launch.setQuoteNumber(fixedMovement.getActualQuote());
+
+            this.launchRepository.save(launch);
+
+            // update the fixed movement, it is managed so the update goes with the next flush
+            if (launch.isLastQuote() && !fixedMovement.isUndetermined()) {
+                fixedMovement.setFixedMovementState(FixedMovementState.FINISHED);
+            }
+        }
 
-        // query the fixed movement by the id
-        final FixedMovement fixedMovement = this.fixedMovementRepository.findById(fixedMovementId)
-                .orElseThrow(() -> new IllegalStateException("Can't find fixed movement with id: " + fixedMovementId));
+        this.launchRepository.flush();
+
+        WorkflowEvent.current(LaunchEvent.class)
+                .ifPresent(event -> event.describe(financialPeriod.getIdentification(), fixedMovements.size()));
+    }
+
+    /**
+     * Create the {@link PeriodMovement} for the launch of a {@link FixedMovement}
+     *
+     * @param fixedMovement to be launched
+     * @param financialPeriod to be used to launch the {@link FixedMovement}
+     * @param lastQuote the quote number of the last launch or zero if there is no launch yet
+     * @return the {@link PeriodMovement} to be saved
+     */
+    private PeriodMovement toPeriodMovement(FixedMovement fixedMovement, FinancialPeriod financialPeriod,
+                                            int lastQuote) {
 
         // create the identification
         final String identification;
@@ -127,8 +209,6 @@ public class FixedMovementService {
             identification = fixedMovement.getIdentification();
         } else {
 
-            // find the last launch for this fixed movement
-            final int lastQuote = this.launchRepository.findLastLaunchCounterFor(fixedMovement.getId()).orElse(0);
             final int actualQuote = lastQuote == 0 ? fixedMovement.getStartingQuote() : (lastQuote + 1);
 
             fixedMovement.setActualQuote(actualQuote);
@@ -136,8 +216,7 @@ public class FixedMovementService {
             identification = fixedMovement.getIdentification() + " " + actualQuote + "/" + fixedMovement.getTotalQuotes();
         }
 
-        // create the period movement for the launch
-        final PeriodMovement periodMovement = new PeriodMovementBuilder()
+        return new PeriodMovementBuilder()
                 .financialPeriod(financialPeriod)
                 .contact(fixedMovement.getContact())
                 .value(fixedMovement.getValue())
@@ -146,48 +225,5 @@ public class FixedMovementService {
                 .dueDate(fixedMovement.getStartDate())
                 .addApportionments(fixedMovement.copyApportionments())
                 .build();
-
-        // save the period movement
-        final PeriodMovement saved = this.periodMovementService.save(periodMovement);
-
-        // create the launch to link the fixed and the period movement
-        final Launch launch = new Launch();
-
-        launch.setFinancialPeriod(financialPeriod);
-        launch.setFixedMovement(fixedMovement);
-        launch.setPeriodMovement(saved);
-        launch.setQuoteNumber(fixedMovement.getActualQuote());
-
-        this.launchRepository.save(launch);
-
-        // update the fixed movement
-        if (launch.isLastQuote() && !fixedMovement.isUndetermined()) {
-            fixedMovement.setFixedMovementState(FixedMovementState.FINISHED);
-        }
-
-        this.fixedMovementRepository.saveAndFlushAndRefresh(fixedMovement);
-    }
-
-    /**
-     * Same as {@link #launch(long, FinancialPeriod)} but this one takes a {@link Set} as parameter and for every
-     * {@link FixedMovement} make a launch
-     *
-     * @param fixedMovements {@link Set} to be launched
-     * @param financialPeriod to be used to launch the {@link FixedMovement}
-     */
-    @Transactional
-    public void launch(List<FixedMovement> fixedMovements, FinancialPeriod financialPeriod) {
-        fixedMovements.forEach(fixedMovement -> this.launch(fixedMovement.getId(), financialPeriod));
-    }
-
-    /**
-     * When a new {@link FinancialPeriod} is opened this method listen to the event and launch all the {@link FixedMovement}
-     * marked as auto-launch
-     *
-     * @param financialPeriod opened
-     */
-    public void onFinancialPeriodOpen(@Observes @FinancialPeriodOpened FinancialPeriod financialPeriod) {
-        this.launch(this.fixedMovementRepository.findByAutoLaunchAndFixedMovementState(
-                true, FixedMovementState.ACTIVE), financialPeriod);
     }
-}
\ No newline at end of file
+}
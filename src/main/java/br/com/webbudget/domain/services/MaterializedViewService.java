@@ -0,0 +1,270 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.services;
+
+import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import br.com.webbudget.domain.entities.view.MaterializedView;
+import br.com.webbudget.domain.events.*;
+import br.com.webbudget.infrastructure.jpa.MaterializedViewNamingStrategy;
+import br.com.webbudget.infrastructure.utils.Configurations;
+import org.slf4j.Logger;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static br.com.webbudget.domain.entities.view.MaterializedView.*;
+import static br.com.webbudget.infrastructure.utils.DefaultSchemes.FINANCIAL;
+
+/**
+ * Service to keep the {@link MaterializedView} up to date
+ *
+ * The events only mark the affected views as pending after the transaction commits, the refresh itself is done by the
+ * scheduled task, so a burst of payments cause only one refresh of each view. If the views are not materialized on the
+ * database, as in development where the schema is generated by the ORM, nothing is refreshed
+ *
+ * With the views.materialized configuration disabled the entities read the live views, see the
+ * {@link MaterializedViewNamingStrategy}, and this service does nothing
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.2.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ApplicationScoped
+public class MaterializedViewService {
+
+    private static final Set<MaterializedView> OPEN_MOVEMENT_VIEWS = EnumSet.of(WB_VIEW_003);
+    private static final Set<MaterializedView> PAYMENT_VIEWS =
+            EnumSet.of(WB_VIEW_001, WB_VIEW_002, WB_VIEW_003, WB_VIEW_008, WB_VIEW_009, WB_VIEW_010, WB_VIEW_011);
+    private static final Set<MaterializedView> CREDIT_CARD_VIEWS = EnumSet.of(WB_VIEW_006, WB_VIEW_007);
+    private static final Set<MaterializedView> PERIOD_VIEWS = EnumSet.of(WB_VIEW_001, WB_VIEW_002, WB_VIEW_003, WB_VIEW_011);
+
+    private boolean enabled;
+
+    private final Set<MaterializedView> pending = ConcurrentHashMap.newKeySet();
+
+    @Inject
+    private Logger logger;
+
+    @Inject
+    private EntityManager entityManager;
+
+    /**
+     * Initialize the service with the values of the configuration
+     */
+    @PostConstruct
+    protected void initialize() {
+        this.enabled = Configurations.getAsBoolean("views.materialized");
+    }
+
+    /**
+     * Mark the given views to be refreshed on the next run of the scheduled task
+     *
+     * @param views to be refreshed
+     */
+    public void markPending(Collection<MaterializedView> views) {
+        if (this.enabled) {
+            this.pending.addAll(views);
+        }
+    }
+
+    /**
+     * Take all the pending views, after this call they are not pending anymore
+     *
+     * @return the {@link Set} of views to be refreshed
+     */
+    public Set<MaterializedView> takePending() {
+
+        final Set<MaterializedView> views = EnumSet.noneOf(MaterializedView.class);
+
+        for (MaterializedView view : MaterializedView.values()) {
+            if (this.pending.remove(view)) {
+                views.add(view);
+            }
+        }
+        return views;
+    }
+
+    /**
+     * Refresh a {@link MaterializedView} in his own transaction, concurrently so the readers are not blocked
+     *
+     * @param view to be refreshed
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void refresh(MaterializedView view) {
+
+        if (!this.enabled) {
+            return;
+        }
+
+        this.entityManager.joinTransaction();
+
+        if (!this.isMaterialized(view)) {
+            this.logger.debug("View {} is not materialized, nothing to refresh", view.getQualifiedName());
+            return;
+        }
+
+        final long start = System.currentTimeMillis();
+
+        this.entityManager.createNativeQuery("REFRESH MATERIALIZED VIEW CONCURRENTLY " + view.getQualifiedName())
+                .executeUpdate();
+
+        this.logger.debug("View {} refreshed in {}ms", view.getQualifiedName(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Check on the database catalog if the {@link MaterializedView} is really materialized
+     *
+     * @param view to be checked
+     * @return true if it is, false if it is a plain view or a table
+     */
+    private boolean isMaterialized(MaterializedView view) {
+
+        final List<?> found = this.entityManager
+                .createNativeQuery("SELECT 1 FROM pg_matviews WHERE schemaname = ?1 AND matviewname = ?2")
+                .setParameter(1, FINANCIAL)
+                .setParameter(2, view.getViewName())
+                .getResultList();
+
+        return !found.isEmpty();
+    }
+
+    /**
+     * The views changed by the given movements, an open movement change only the open values and a paid one change the
+     * paid values and, if paid with a credit card, the card views
+     *
+     * @param periodMovements changed
+     * @return the {@link Set} of views affected
+     */
+    private Set<MaterializedView> affectedBy(Collection<PeriodMovement> periodMovements) {
+
+        final Set<MaterializedView> views = EnumSet.noneOf(MaterializedView.class);
+
+        for (PeriodMovement periodMovement : periodMovements) {
+            if (periodMovement.isOpen()) {
+                views.addAll(OPEN_MOVEMENT_VIEWS);
+            } else {
+                views.addAll(PAYMENT_VIEWS);
+                if (periodMovement.isPaidWithCreditCard()) {
+                    views.addAll(CREDIT_CARD_VIEWS);
+                }
+            }
+        }
+        return views;
+    }
+
+    /**
+     * A new {@link PeriodMovement} change only the open values
+     *
+     * @param periodMovement created
+     */
+    public void onPeriodMovementCreate(@Observes(during = TransactionPhase.AFTER_SUCCESS)
+                                       @PeriodMovementCreated PeriodMovement periodMovement) {
+        this.markPending(OPEN_MOVEMENT_VIEWS);
+    }
+
+    /**
+     * Many new {@link PeriodMovement} change only the open values as a single one does
+     *
+     * @param periodMovements created
+     */
+    public void onPeriodMovementsCreate(@Observes(during = TransactionPhase.AFTER_SUCCESS)
+                                        @PeriodMovementsCreated List<PeriodMovement> periodMovements) {
+        this.markPending(OPEN_MOVEMENT_VIEWS);
+    }
+
+    /**
+     * A payment change the paid values and, if paid with a credit card, the card views
+     *
+     * @param periodMovement paid
+     */
+    public void onPeriodMovementPaid(@Observes(during = TransactionPhase.AFTER_SUCCESS)
+                                     @PeriodMovementPaid PeriodMovement periodMovement) {
+        this.markPending(this.affectedBy(List.of(periodMovement)));
+    }
+
+    /**
+     * Many payments at once change the views of each payment
+     *
+     * @param periodMovements paid
+     */
+    public void onPeriodMovementsPaid(@Observes(during = TransactionPhase.AFTER_SUCCESS)
+                                      @PeriodMovementsPaid List<PeriodMovement> periodMovements) {
+        this.markPending(this.affectedBy(periodMovements));
+    }
+
+    /**
+     * An update change the views of the movement as it is now
+     *
+     * @param periodMovement updated
+     */
+    public void onPeriodMovementUpdate(@Observes(during = TransactionPhase.AFTER_SUCCESS)
+                                       @PeriodMovementUpdated PeriodMovement periodMovement) {
+        this.markPending(this.affectedBy(List.of(periodMovement)));
+    }
+
+    /**
+     * A delete change the views of the movement as it was before it
+     *
+     * @param periodMovement deleted
+     */
+    public void onPeriodMovementDelete(@Observes(during = TransactionPhase.AFTER_SUCCESS)
+                                       @PeriodMovementDeleted PeriodMovement periodMovement) {
+        this.markPending(this.affectedBy(List.of(periodMovement)));
+    }
+
+    /**
+     * A new {@link FinancialPeriod} change the views of the open periods
+     *
+     * @param financialPeriod opened
+     */
+    public void onFinancialPeriodOpen(@Observes(during = TransactionPhase.AFTER_SUCCESS)
+                                      @FinancialPeriodOpened FinancialPeriod financialPeriod) {
+        this.markPending(PERIOD_VIEWS);
+    }
+
+    /**
+     * A closed {@link FinancialPeriod} leave the views of the open periods
+     *
+     * @param financialPeriod closed
+     */
+    public void onFinancialPeriodClose(@Observes(during = TransactionPhase.AFTER_SUCCESS)
+                                       @FinancialPeriodClosed FinancialPeriod financialPeriod) {
+        this.markPending(PERIOD_VIEWS);
+    }
+
+    /**
+     * A reopened {@link FinancialPeriod} come back to the views of the open periods
+     *
+     * @param financialPeriod reopened
+     */
+    public void onFinancialPeriodReopen(@Observes(during = TransactionPhase.AFTER_SUCCESS)
+                                        @FinancialPeriodReopened FinancialPeriod financialPeriod) {
+        this.markPending(PERIOD_VIEWS);
+    }
+}
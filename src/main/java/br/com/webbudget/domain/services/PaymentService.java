@@ -23,12 +23,17 @@ import br.com.webbudget.domain.entities.financial.ReasonType;
 import br.com.webbudget.domain.entities.financial.WalletBalance;
 import br.com.webbudget.domain.entities.registration.Wallet;
 import br.com.webbudget.domain.events.PeriodMovementPaid;
+import br.com.webbudget.domain.events.PeriodMovementsPaid;
 import br.com.webbudget.domain.events.UpdateWalletBalance;
 import br.com.webbudget.domain.exceptions.BusinessLogicException;
 import br.com.webbudget.domain.logics.financial.payment.PaymentSavingLogic;
 import br.com.webbudget.domain.repositories.financial.PaymentRepository;
 import br.com.webbudget.domain.repositories.financial.PeriodMovementRepository;
 import br.com.webbudget.application.components.builder.WalletBalanceBuilder;
+import br.com.webbudget.infrastructure.jfr.FlightRecorded;
+import br.com.webbudget.infrastructure.jfr.PaymentEvent;
+import br.com.webbudget.infrastructure.jfr.WorkflowEvent;
+import br.com.webbudget.infrastructure.jpa.PersistenceMonitored;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
@@ -36,15 +41,22 @@ import javax.enterprise.inject.Any;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.transaction.Transactional;
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 /**
  * The {@link Payment} service
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.5.0
  * @since 3.0.0, 23/02/2019
  */
+@PersistenceMonitored
 @ApplicationScoped
 public class PaymentService {
 
@@ -59,6 +71,9 @@ public class PaymentService {
     @Inject
     @PeriodMovementPaid
     private Event<PeriodMovement> periodMovementPaidEvent;
+    @Inject
+    @PeriodMovementsPaid
+    private Event<List<PeriodMovement>> periodMovementsPaidEvent;
 
     @Any
     @Inject
@@ -71,6 +86,7 @@ public class PaymentService {
      * @param payment object with the information about the payment
      */
     @Transactional
+    @FlightRecorded(PaymentEvent.class)
     public void pay(PeriodMovement periodMovement, Payment payment) {
 
         this.paymentSavingLogics.forEach(logic -> logic.run(new PaymentWrapper(payment, periodMovement)));
@@ -89,6 +105,148 @@ public class PaymentService {
         }
 
         this.periodMovementPaidEvent.fire(saved);
+
+        WorkflowEvent.current(PaymentEvent.class).ifPresent(event -> event.describe(
+                saved.getFinancialPeriod().getIdentification(), 1, payment.getPaymentMethod().name()));
+    }
+
+    /**
+     * Service method to pay many {@link PeriodMovement} at once with the same {@link Payment} options
+     *
+     * Every movement is validated before anything is written, the payments are inserted in batch with a single flush
+     * and the wallets receive one {@link WalletBalance} for each reason instead of one for each movement
+     *
+     * @param periodMovements to be paid, the ones already paid are ignored
+     * @param template the {@link Payment} with the options to be used by every movement
+     * @return the number of {@link PeriodMovement} paid
+     */
+    @Transactional
+    @FlightRecorded(PaymentEvent.class)
+    public int payAll(List<PeriodMovement> periodMovements, Payment template) {
+
+        if (periodMovements.isEmpty()) {
+            return 0;
+        }
+
+        // the same discount would be given to every movement, so it is only accepted on the single payment
+        if (template.getDiscount() != null && template.getDiscount().signum() != 0) {
+            throw new BusinessLogicException("error.bulk-payment.discount");
+        }
+
+        final List<PeriodMovement> toPay = this.periodMovementRepository.findByIds(periodMovements.stream()
+                .map(PeriodMovement::getId)
+                .collect(Collectors.toList()))
+                .stream()
+                .filter(PeriodMovement::isOpen)
+                .collect(Collectors.toList());
+
+        final List<Payment> payments = toPay.stream()
+                .map(periodMovement -> this.validatedPaymentOf(periodMovement, template))
+                .collect(Collectors.toList());
+
+        for (int i = 0; i < toPay.size(); i++) {
+            this.paymentRepository.persist(payments.get(i));
+            toPay.get(i).prepareToPay(payments.get(i));
+        }
+
+        this.periodMovementRepository.flush();
+
+        this.updateWalletBalances(toPay);
+
+        this.periodMovementsPaidEvent.fire(toPay);
+
+        WorkflowEvent.current(PaymentEvent.class).ifPresent(event -> event.describe(
+                this.identificationsOf(toPay), toPay.size(), template.getPaymentMethod().name()));
+
+        return toPay.size();
+    }
+
+    /**
+     * The identification of the distinct financial periods of the paid {@link PeriodMovement}
+     *
+     * @param periodMovements paid
+     * @return the identifications separated by comma
+     */
+    private String identificationsOf(List<PeriodMovement> periodMovements) {
+        return periodMovements.stream()
+                .map(periodMovement -> periodMovement.getFinancialPeriod().getIdentification())
+                .distinct()
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Create the {@link Payment} of a {@link PeriodMovement} using the template options and run the validations
+     *
+     * @param periodMovement to be paid
+     * @param template the {@link Payment} with the options to be used
+     * @return the validated {@link Payment} ready to be persisted
+     */
+    private Payment validatedPaymentOf(PeriodMovement periodMovement, Payment template) {
+
+        final Payment payment = template.copy();
+
+        this.paymentSavingLogics.forEach(logic -> logic.run(new PaymentWrapper(payment, periodMovement)));
+
+        payment.setPaidValue(periodMovement.getValue().subtract(payment.getDiscount()));
+
+        return payment;
+    }
+
+    /**
+     * Group the paid {@link PeriodMovement} by {@link Wallet} and {@link ReasonType} and fire one {@link WalletBalance}
+     * for each group, the wallets are updated in the order of their ids to avoid deadlocks with concurrent payments
+     *
+     * @param periodMovements paid
+     */
+    private void updateWalletBalances(List<PeriodMovement> periodMovements) {
+
+        final Map<Long, Map<ReasonType, List<PeriodMovement>>> grouped = periodMovements.stream()
+                .filter(periodMovement -> !periodMovement.isPaidWithCreditCard())
+                .collect(Collectors.groupingBy(periodMovement -> this.walletOf(periodMovement).getId(), TreeMap::new,
+                        Collectors.groupingBy(this::reasonOf, () -> new EnumMap<>(ReasonType.class),
+                                Collectors.toList())));
+
+        grouped.values().forEach(byReason -> byReason.forEach((reason, movements) -> {
+
+            final BigDecimal value = movements.stream()
+                    .map(periodMovement -> periodMovement.isRevenue() ? periodMovement.getPayment().getPaidValue()
+                            : periodMovement.getPayment().getPaidValue().negate())
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+            final WalletBalanceBuilder builder = WalletBalanceBuilder.getInstance()
+                    .to(this.walletOf(movements.get(0)))
+                    .withReason(reason)
+                    .value(value)
+                    .withObservations(movements.stream()
+                            .map(PeriodMovement::getCode)
+                            .collect(Collectors.joining(", ")));
+
+            this.updateWalletBalanceEvent.fire(builder.build());
+        }));
+    }
+
+    /**
+     * The {@link Wallet} affected by the {@link Payment} of a {@link PeriodMovement}
+     *
+     * @param periodMovement paid with cash or debit card
+     * @return the {@link Wallet} of the payment or of the debit card
+     */
+    private Wallet walletOf(PeriodMovement periodMovement) {
+        final Payment payment = periodMovement.getPayment();
+        return payment.isPaidWithDebitCard() ? payment.getDebitCardWallet() : payment.getWallet();
+    }
+
+    /**
+     * The {@link ReasonType} of the {@link WalletBalance} for the {@link Payment} of a {@link PeriodMovement}
+     *
+     * @param periodMovement paid with cash or debit card
+     * @return the {@link ReasonType}
+     */
+    private ReasonType reasonOf(PeriodMovement periodMovement) {
+        if (periodMovement.getPayment().isPaidWithDebitCard()) {
+            return ReasonType.DEBIT_CARD;
+        }
+        return periodMovement.isRevenue() ? ReasonType.REVENUE : ReasonType.EXPENSE;
     }
 
     /**
@@ -21,6 +21,7 @@ import br.com.webbudget.domain.entities.financial.CreditCardInvoice;
 import br.com.webbudget.domain.entities.financial.PeriodMovement;
 import br.com.webbudget.domain.entities.financial.ReasonType;
 import br.com.webbudget.domain.entities.financial.WalletBalance;
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
 import br.com.webbudget.domain.entities.registration.Wallet;
 import br.com.webbudget.domain.events.*;
 import br.com.webbudget.domain.exceptions.BusinessLogicException;
@@ -30,6 +31,7 @@ import br.com.webbudget.domain.logics.financial.movement.period.PeriodMovementUp
 import br.com.webbudget.domain.repositories.financial.ApportionmentRepository;
 import br.com.webbudget.domain.repositories.financial.CreditCardInvoiceRepository;
 import br.com.webbudget.domain.repositories.financial.PeriodMovementRepository;
+import br.com.webbudget.infrastructure.jpa.PersistenceMonitored;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
@@ -38,15 +40,18 @@ import javax.enterprise.inject.Any;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.transaction.Transactional;
+import java.util.List;
+import java.util.Set;
 
 /**
  * The {@link PeriodMovement} service
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.3.0
  * @since 3.0.0, 04/12/2018
  */
+@PersistenceMonitored
 @ApplicationScoped
 public class PeriodMovementService {
 
@@ -57,10 +62,21 @@ public class PeriodMovementService {
     @Inject
     private CreditCardInvoiceRepository creditCardInvoiceRepository;
 
+    @Inject
+    private PeriodTotalService periodTotalService;
+    @Inject
+    private CardStatisticsService cardStatisticsService;
+
     @Inject
     @UpdateWalletBalance
     private Event<WalletBalance> updateWalletBalanceEvent;
     @Inject
+    @PeriodMovementCreated
+    private Event<PeriodMovement> periodMovementCreatedEvent;
+    @Inject
+    @PeriodMovementsCreated
+    private Event<List<PeriodMovement>> periodMovementsCreatedEvent;
+    @Inject
     @PeriodMovementDeleted
     private Event<PeriodMovement> periodMovementDeletedEvent;
     @Inject
@@ -90,14 +106,54 @@ public class PeriodMovementService {
 
         final PeriodMovement saved = this.periodMovementRepository.save(periodMovement);
 
-        periodMovement.getApportionments().forEach(apportionment -> {
-            apportionment.setMovement(saved);
-            this.apportionmentRepository.save(apportionment);
-        });
+        this.apportionmentRepository.saveAll(saved, periodMovement.getApportionments(), Set.of());
+
+        // fire an event telling about the new movement
+        this.periodMovementCreatedEvent.fire(saved);
 
         return saved;
     }
 
+    /**
+     * Same as {@link #save(PeriodMovement)} but for many {@link PeriodMovement} at once, all the movements and their
+     * apportionments are written with a single flush so the inserts go to the database in JDBC batches and the
+     * observers are notified only once with all of them
+     *
+     * @param periodMovements the {@link List} of {@link PeriodMovement} to be saved
+     * @return the {@link List} of {@link PeriodMovement} saved
+     */
+    @Transactional
+    public List<PeriodMovement> saveAll(List<PeriodMovement> periodMovements) {
+
+        periodMovements.forEach(periodMovement ->
+                this.periodMovementSavingLogics.forEach(logic -> logic.run(periodMovement)));
+
+        return this.saveAllValidated(periodMovements);
+    }
+
+    /**
+     * Same as {@link #saveAll(List)} but without running the saving logics, to be used when the caller already run
+     * them on each {@link PeriodMovement}, like the statement import that rejects the invalid lines one by one
+     *
+     * @param periodMovements the {@link List} of {@link PeriodMovement} already validated
+     * @return the {@link List} of {@link PeriodMovement} saved
+     */
+    @Transactional
+    public List<PeriodMovement> saveAllValidated(List<PeriodMovement> periodMovements) {
+
+        periodMovements.forEach(periodMovement -> {
+            this.periodMovementRepository.persist(periodMovement);
+            this.apportionmentRepository.persistAll(periodMovement, periodMovement.getApportionments());
+        });
+
+        this.periodMovementRepository.flush();
+
+        // fire a single event telling about all the new movements
+        this.periodMovementsCreatedEvent.fire(periodMovements);
+
+        return periodMovements;
+    }
+
     /**
      * Update the {@link PeriodMovement}
      *
@@ -109,21 +165,24 @@ public class PeriodMovementService {
 
         this.periodMovementUpdatingLogics.forEach(logic -> logic.run(periodMovement));
 
-        // delete all removed apportionments
-        periodMovement.getDeletedApportionments()
-                .forEach(apportionment -> this.apportionmentRepository.attachAndRemove(apportionment));
+        // keep the period as it is now, if the movement changes the period we need to rebuild the old one totals
+        final FinancialPeriod previousPeriod = this.periodMovementRepository
+                .findFinancialPeriodOf(periodMovement.getId())
+                .orElse(null);
 
         final PeriodMovement saved = this.periodMovementRepository.saveAndFlushAndRefresh(periodMovement);
 
-        // save all current apportionments
-        periodMovement.getApportionments().forEach(apportionment -> {
-            apportionment.setMovement(saved);
-            this.apportionmentRepository.save(apportionment);
-        });
+        // save the current apportionments and delete the removed ones in one batch
+        this.apportionmentRepository.saveAll(saved, periodMovement.getApportionments(),
+                periodMovement.getDeletedApportionments());
 
         // fire an event telling about the update
         this.periodMovementUpdatedEvent.fire(saved);
 
+        if (previousPeriod != null && !previousPeriod.getId().equals(saved.getFinancialPeriod().getId())) {
+            this.periodTotalService.rebuild(previousPeriod);
+        }
+
         return saved;
     }
 
@@ -144,6 +203,7 @@ public class PeriodMovementService {
                     .orElseThrow(() -> new BusinessLogicException("error.credit-card-invoice.not-found"));
 
             this.creditCardInvoiceRepository.saveAndFlushAndRefresh(invoice.prepareToReopen());
+            this.cardStatisticsService.rebuild(invoice.getCard());
         }
 
         this.periodMovementRepository.attachAndRemove(periodMovement);
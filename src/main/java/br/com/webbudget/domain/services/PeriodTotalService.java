@@ -0,0 +1,336 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.services;
+
+import br.com.webbudget.domain.entities.financial.Apportionment;
+import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import br.com.webbudget.domain.entities.financial.PeriodTotal;
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import br.com.webbudget.domain.events.*;
+import br.com.webbudget.domain.repositories.financial.PeriodMovementRepository;
+import br.com.webbudget.domain.repositories.financial.PeriodTotalRepository;
+import br.com.webbudget.domain.repositories.registration.FinancialPeriodRepository;
+import br.com.webbudget.infrastructure.jpa.PersistenceMonitored;
+import org.slf4j.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.transaction.Transactional;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * The service responsible for keeping the {@link PeriodTotal} ledger in sync with the {@link PeriodMovement} of every
+ * {@link FinancialPeriod}
+ *
+ * The values follow exactly the same rules of the totals queries at the {@link PeriodMovementRepository}, so a rebuild
+ * from the source rows must always give the same result of the incremental updates
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.2.0
+ * @since 3.1.0, 18/10/2026
+ */
+@PersistenceMonitored
+@ApplicationScoped
+public class PeriodTotalService {
+
+    @Inject
+    private Logger logger;
+
+    @Inject
+    private PeriodTotalRepository periodTotalRepository;
+    @Inject
+    private PeriodMovementRepository periodMovementRepository;
+    @Inject
+    private FinancialPeriodRepository financialPeriodRepository;
+
+    /**
+     * Sum the {@link PeriodTotal} of the given {@link FinancialPeriod} list, if some of them has no totals yet they
+     * are rebuilt from the source rows
+     *
+     * @param financialPeriods to sum the totals
+     * @return a new transient {@link PeriodTotal} with the sum of all the given periods
+     */
+    @Transactional
+    public PeriodTotal sumOf(List<FinancialPeriod> financialPeriods) {
+
+        final List<Long> periods = financialPeriods.stream()
+                .map(FinancialPeriod::getId)
+                .collect(Collectors.toList());
+
+        final PeriodTotal sum = new PeriodTotal();
+
+        if (periods.isEmpty()) {
+            return sum;
+        }
+
+        final Map<Long, PeriodTotal> totals = this.periodTotalRepository.findByFinancialPeriods(periods).stream()
+                .collect(Collectors.toMap(total -> total.getFinancialPeriod().getId(), Function.identity()));
+
+        financialPeriods.forEach(period -> sum.add(totals.computeIfAbsent(period.getId(), id -> this.rebuild(period))));
+
+        return sum;
+    }
+
+    /**
+     * Rebuild the {@link PeriodTotal} of a {@link FinancialPeriod} using the source rows
+     *
+     * @param financialPeriod to be rebuilt
+     * @return the rebuilt {@link PeriodTotal}
+     */
+    @Transactional
+    public PeriodTotal rebuild(FinancialPeriod financialPeriod) {
+
+        final PeriodTotal total = this.periodTotalRepository.findByFinancialPeriod(financialPeriod)
+                .orElseGet(() -> new PeriodTotal(financialPeriod));
+
+        final PeriodTotal calculated = this.calculate(financialPeriod);
+
+        total.update(calculated.getOpenValue(), calculated.getPaidValue(),
+                calculated.getRevenues(), calculated.getExpenses());
+
+        return this.periodTotalRepository.saveAndFlush(total);
+    }
+
+    /**
+     * Check every {@link PeriodTotal} against the source rows, log and fix any drift found
+     *
+     * @return the number of {@link FinancialPeriod} with drift
+     */
+    @Transactional
+    public int checkConsistency() {
+
+        int drifted = 0;
+
+        for (FinancialPeriod period : this.financialPeriodRepository.findAll()) {
+
+            final PeriodTotal calculated = this.calculate(period);
+            final PeriodTotal stored = this.periodTotalRepository.findByFinancialPeriod(period).orElse(null);
+
+            if (stored == null || !stored.isSameValuesOf(calculated)) {
+                this.logger.warn("Period totals for {} drifted, stored {} but calculated {}",
+                        period.getIdentification(), stored, calculated);
+                this.rebuild(period);
+                drifted++;
+            }
+        }
+
+        return drifted;
+    }
+
+    /**
+     * Create the empty {@link PeriodTotal} as soon as the {@link FinancialPeriod} is opened
+     *
+     * @param financialPeriod opened
+     */
+    @Transactional
+    public void onFinancialPeriodOpen(@Observes @FinancialPeriodOpened FinancialPeriod financialPeriod) {
+        // other observers of this event can create movements first and those already built the totals
+        if (this.periodTotalRepository.findByFinancialPeriod(financialPeriod).isEmpty()) {
+            this.periodTotalRepository.save(new PeriodTotal(financialPeriod));
+        }
+    }
+
+    /**
+     * A new {@link PeriodMovement} is always open, so only the open value changes
+     *
+     * @param periodMovement created
+     */
+    @Transactional
+    public void onPeriodMovementCreate(@Observes @PeriodMovementCreated PeriodMovement periodMovement) {
+        this.applyDelta(periodMovement.getFinancialPeriod(), periodMovement.getValue(),
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    /**
+     * Many {@link PeriodMovement} created at once are summed by {@link FinancialPeriod}, so every period receive a
+     * single update no matter how many movements were created
+     *
+     * @param periodMovements created
+     */
+    @Transactional
+    public void onPeriodMovementsCreate(@Observes @PeriodMovementsCreated List<PeriodMovement> periodMovements) {
+
+        final Map<FinancialPeriod, List<PeriodMovement>> byPeriod = periodMovements.stream()
+                .collect(Collectors.groupingBy(PeriodMovement::getFinancialPeriod));
+
+        byPeriod.forEach((period, movements) -> this.applyDelta(period,
+                this.sumOf(movements, PeriodMovement::getValue), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO));
+    }
+
+    /**
+     * After the {@link PeriodMovement} is paid the value moves from open to the paid totals
+     *
+     * @param periodMovement paid
+     */
+    @Transactional
+    public void onPeriodMovementPaid(@Observes @PeriodMovementPaid PeriodMovement periodMovement) {
+        this.applyDelta(periodMovement.getFinancialPeriod(), periodMovement.getValue().negate(),
+                this.paidValueOf(periodMovement), this.revenuesOf(periodMovement), this.expensesOf(periodMovement));
+    }
+
+    /**
+     * Many {@link PeriodMovement} paid at once are summed by {@link FinancialPeriod}, so every period receive a single
+     * update no matter how many movements were paid
+     *
+     * @param periodMovements paid
+     */
+    @Transactional
+    public void onPeriodMovementsPaid(@Observes @PeriodMovementsPaid List<PeriodMovement> periodMovements) {
+
+        final Map<FinancialPeriod, List<PeriodMovement>> byPeriod = periodMovements.stream()
+                .collect(Collectors.groupingBy(PeriodMovement::getFinancialPeriod));
+
+        byPeriod.forEach((period, movements) -> this.applyDelta(period,
+                this.sumOf(movements, periodMovement -> periodMovement.getValue().negate()),
+                this.sumOf(movements, this::paidValueOf),
+                this.sumOf(movements, this::revenuesOf),
+                this.sumOf(movements, this::expensesOf)));
+    }
+
+    /**
+     * Remove the values of a deleted {@link PeriodMovement} from the totals
+     *
+     * @param periodMovement deleted
+     */
+    @Transactional
+    public void onPeriodMovementDelete(@Observes @PeriodMovementDeleted PeriodMovement periodMovement) {
+        if (periodMovement.isOpen()) {
+            this.applyDelta(periodMovement.getFinancialPeriod(), periodMovement.getValue().negate(),
+                    BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+        } else {
+            this.applyDelta(periodMovement.getFinancialPeriod(), BigDecimal.ZERO,
+                    this.paidValueOf(periodMovement).negate(), this.revenuesOf(periodMovement).negate(),
+                    this.expensesOf(periodMovement).negate());
+        }
+    }
+
+    /**
+     * An update can change almost everything in the {@link PeriodMovement}, so the totals of the period are rebuilt
+     *
+     * @param periodMovement updated
+     */
+    @Transactional
+    public void onPeriodMovementUpdate(@Observes @PeriodMovementUpdated PeriodMovement periodMovement) {
+        this.rebuild(periodMovement.getFinancialPeriod());
+    }
+
+    /**
+     * Apply the deltas to the {@link PeriodTotal} of the {@link FinancialPeriod}, if there is no totals for the period
+     * yet, build it from the source rows
+     *
+     * @param financialPeriod to be updated
+     * @param openValue delta for the open value
+     * @param paidValue delta for the paid value
+     * @param revenues delta for the revenues
+     * @param expenses delta for the expenses
+     */
+    private void applyDelta(FinancialPeriod financialPeriod, BigDecimal openValue, BigDecimal paidValue,
+                            BigDecimal revenues, BigDecimal expenses) {
+
+        final int updated = this.periodTotalRepository.applyDelta(financialPeriod, openValue, paidValue,
+                revenues, expenses);
+
+        if (updated == 0) {
+            this.rebuild(financialPeriod);
+        }
+    }
+
+    /**
+     * Calculate the totals of a {@link FinancialPeriod} using the source rows
+     *
+     * @param financialPeriod to be calculated
+     * @return a transient {@link PeriodTotal} with the values
+     */
+    private PeriodTotal calculate(FinancialPeriod financialPeriod) {
+
+        final List<Long> periods = List.of(financialPeriod.getId());
+
+        return new PeriodTotal(financialPeriod).update(
+                this.periodMovementRepository.calculateTotalOpen(periods),
+                this.periodMovementRepository.calculateTotalPaidAndReceived(periods),
+                this.periodMovementRepository.calculateTotalRevenues(periods),
+                this.periodMovementRepository.calculateTotalExpenses(periods));
+    }
+
+    /**
+     * Sum a value of every {@link PeriodMovement} in the list
+     *
+     * @param periodMovements to be summed
+     * @param value the function to get the value of each {@link PeriodMovement}
+     * @return the sum of the values
+     */
+    private BigDecimal sumOf(List<PeriodMovement> periodMovements, Function<PeriodMovement, BigDecimal> value) {
+        return periodMovements.stream()
+                .map(value)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /**
+     * The paid value of a {@link PeriodMovement}, credit card payments are not considered here
+     *
+     * @param periodMovement to get the value
+     * @return the paid value
+     */
+    private BigDecimal paidValueOf(PeriodMovement periodMovement) {
+        return periodMovement.isPaidWithCreditCard() ? BigDecimal.ZERO : periodMovement.getPayment().getPaidValue();
+    }
+
+    /**
+     * The revenues of a {@link PeriodMovement}
+     *
+     * @param periodMovement to get the value
+     * @return the value as revenue
+     */
+    private BigDecimal revenuesOf(PeriodMovement periodMovement) {
+        return this.paidByApportionment(periodMovement, Apportionment::isRevenue);
+    }
+
+    /**
+     * The expenses of a {@link PeriodMovement}, credit card payments are not considered here
+     *
+     * @param periodMovement to get the value
+     * @return the value as expense
+     */
+    private BigDecimal expensesOf(PeriodMovement periodMovement) {
+        return periodMovement.isPaidWithCreditCard() ? BigDecimal.ZERO
+                : this.paidByApportionment(periodMovement, Apportionment::isExpense);
+    }
+
+    /**
+     * The totals queries join the {@link Apportionment} with the payment, so the paid value is counted once for every
+     * {@link Apportionment} matching the filter. Here we do the same to keep the incremental values equal to a rebuild
+     *
+     * @param periodMovement to get the value
+     * @param filter to select the {@link Apportionment}
+     * @return the paid value multiplied by the number of matching {@link Apportionment}
+     */
+    private BigDecimal paidByApportionment(PeriodMovement periodMovement, Predicate<Apportionment> filter) {
+
+        final long matching = periodMovement.getApportionments().stream()
+                .filter(filter)
+                .count();
+
+        return periodMovement.getPayment().getPaidValue().multiply(BigDecimal.valueOf(matching));
+    }
+}
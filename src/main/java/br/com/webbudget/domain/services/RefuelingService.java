@@ -21,16 +21,21 @@ import br.com.webbudget.domain.entities.financial.Apportionment;
 import br.com.webbudget.domain.entities.financial.PeriodMovement;
 import br.com.webbudget.domain.entities.financial.PeriodMovementType;
 import br.com.webbudget.domain.entities.journal.Refueling;
+import br.com.webbudget.domain.entities.journal.VehicleStatistics;
 import br.com.webbudget.domain.events.PeriodMovementDeleted;
 import br.com.webbudget.domain.exceptions.BusinessLogicException;
 import br.com.webbudget.domain.repositories.journal.RefuelingRepository;
+import br.com.webbudget.domain.repositories.journal.VehicleStatisticsRepository;
 import br.com.webbudget.domain.repositories.registration.VehicleRepository;
+import br.com.webbudget.infrastructure.jfr.FlightRecorded;
+import br.com.webbudget.infrastructure.jfr.RefuelingEvent;
+import br.com.webbudget.infrastructure.jfr.WorkflowEvent;
+import br.com.webbudget.infrastructure.jpa.PersistenceMonitored;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 import javax.transaction.Transactional;
-import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -38,19 +43,24 @@ import java.util.List;
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.4.0
  * @since 3.0.0, 27/05/2018
  */
+@PersistenceMonitored
 @ApplicationScoped
 public class RefuelingService {
 
     @Inject
     private PeriodMovementService periodMovementService;
+    @Inject
+    private VehicleStatisticsService vehicleStatisticsService;
 
     @Inject
     private VehicleRepository vehicleRepository;
     @Inject
     private RefuelingRepository refuelingRepository;
+    @Inject
+    private VehicleStatisticsRepository vehicleStatisticsRepository;
 
     /**
      * Method to save the {@link Refueling}
@@ -59,53 +69,35 @@ public class RefuelingService {
      * @param shouldCreateMovement indicate if we should create the financial movement or not
      */
     @Transactional
+    @FlightRecorded(RefuelingEvent.class)
     public void save(Refueling refueling, boolean shouldCreateMovement) {
 
         if (!refueling.isFuelsValid()) {
             throw new BusinessLogicException("error.refueling.invalid-fuels");
         }
 
-        // get the last odometer to calculate the distance traveled
-        final long lastOdometer = this.refuelingRepository
-                .findLastOdometerByVehicle(refueling.getVehicle())
-                .orElse(0L);
+        // the statistics are locked, so the last odometer and the unaccounted values can't change until we finish
+        final VehicleStatistics statistics = this.vehicleStatisticsService.lockStatisticsOf(refueling.getVehicle());
 
         // calculate the distance
-        refueling.setFirstRefueling(lastOdometer == 0);
-        refueling.calculateDistance(lastOdometer);
-
-        // get a list of unaccounted refueling
-        final List<Refueling> unaccountedItems = this.refuelingRepository.findUnaccountedByVehicle(refueling.getVehicle());
+        refueling.setFirstRefueling(statistics.getLastOdometer() == 0);
+        refueling.calculateDistance(statistics.getLastOdometer());
 
-        // if its not a full tank, don't calculate the performance, if is full
-        // tank start the process for performance calculation
+        // if its not a full tank, don't calculate the performance, if is full tank calculate the performance with the
+        // unaccounted refueling since the last full tank
         if (refueling.isFullTank()) {
 
-            // calculate the last odometer by the unaccounted refueling or with the last full tank refueling
-            if (!unaccountedItems.isEmpty()) {
-                final long totalDistance = unaccountedItems
-                        .stream()
-                        .mapToLong(Refueling::getDistance)
-                        .sum() + refueling.getDistance();
-
-                // get total utilized in liters
-                final BigDecimal liters = unaccountedItems.stream()
-                        .map(Refueling::getLiters)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add)
-                        .add(refueling.getLiters());
-
-                // put the unaccounted litters and calculate
-                refueling.calculateAverageConsumption(totalDistance, liters);
-            } else {
-                refueling.calculateAverageConsumption();
-            }
+            refueling.calculateAverageConsumption(statistics.getUnaccountedDistance() + refueling.getDistance(),
+                    statistics.getUnaccountedLiters().add(refueling.getLiters()));
 
-            // set the unaccounted to accounted and save
-            unaccountedItems.forEach(unaccounted -> {
-                unaccounted.setAccounted(true);
-                unaccounted.setAccountedBy(refueling.getCode());
-                this.refuelingRepository.save(unaccounted);
-            });
+            // set the unaccounted to accounted
+            if (statistics.hasUnaccounted()) {
+                this.refuelingRepository.findByVehicleAndAccounted(refueling.getVehicle(), false)
+                        .forEach(unaccounted -> {
+                            unaccounted.setAccounted(true);
+                            unaccounted.setAccountedBy(refueling.getCode());
+                        });
+            }
 
             // set as accounted
             refueling.setAccounted(true);
@@ -122,6 +114,9 @@ public class RefuelingService {
         // finally, save the refueling
         this.refuelingRepository.save(refueling);
 
+        statistics.add(refueling);
+        this.vehicleStatisticsRepository.save(statistics);
+
         final long vehicleOdometer = this.vehicleRepository.findLastOdometer(refueling.getVehicle().getId());
 
         // check if the vehicle odometer needs to be updated
@@ -129,6 +124,10 @@ public class RefuelingService {
             refueling.updateVehicleOdometer();
             this.vehicleRepository.save(refueling.getVehicle());
         }
+
+        WorkflowEvent.current(RefuelingEvent.class).ifPresent(event -> event.describe(
+                refueling.getFinancialPeriod().getIdentification(), refueling.getVehicle().getIdentification(),
+                refueling.isFullTank(), shouldCreateMovement));
     }
 
     /**
@@ -146,15 +145,20 @@ public class RefuelingService {
             throw new BusinessLogicException("error.refueling.not-last");
         }
 
+        final VehicleStatistics statistics = this.vehicleStatisticsService.lockStatisticsOf(refueling.getVehicle());
+
         // list all accounted refueling by this refueling to change his status
         final List<Refueling> accountedItems = this.refuelingRepository.findByAccountedBy(refueling.getCode());
 
         accountedItems.forEach(accounted -> {
             accounted.setAccounted(false);
             accounted.setAccountedBy(null);
-            this.refuelingRepository.save(refueling);
+            this.refuelingRepository.save(accounted);
         });
 
+        statistics.remove(refueling, accountedItems);
+        this.vehicleStatisticsRepository.save(statistics);
+
         // delete the refueling
         this.refuelingRepository.attachAndRemove(refueling);
 
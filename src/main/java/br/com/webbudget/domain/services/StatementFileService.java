@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.services;
+
+import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import br.com.webbudget.domain.entities.financial.StatementFormat;
+import br.com.webbudget.domain.entities.financial.StatementImport;
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import br.com.webbudget.domain.entities.registration.MovementClass;
+import br.com.webbudget.domain.exceptions.BusinessLogicException;
+import br.com.webbudget.domain.repositories.financial.PeriodMovementRepository;
+import br.com.webbudget.infrastructure.statement.ApportionmentRules;
+import br.com.webbudget.infrastructure.statement.StatementLine;
+import br.com.webbudget.infrastructure.statement.StatementReader;
+import br.com.webbudget.infrastructure.utils.Configurations;
+import com.google.common.io.BaseEncoding;
+import org.slf4j.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The service responsible for reading the bank statement files and import them as {@link PeriodMovement}
+ *
+ * The file is read as a stream and imported in chunks with one transaction each through the
+ * {@link StatementImportService}, so the memory used does not depend on the size of the file. Every chunk committed
+ * is a checkpoint, if the import fails it can be restarted sending the same file again and the lines already
+ * committed are skipped
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ApplicationScoped
+public class StatementFileService {
+
+    @Inject
+    private Logger logger;
+
+    @Inject
+    private StatementImportService statementImportService;
+
+    @Inject
+    private PeriodMovementRepository periodMovementRepository;
+
+    /**
+     * Import a bank statement file as {@link PeriodMovement}
+     *
+     * @param fileName the name of the file
+     * @param content the content of the file
+     * @param statementFormat the format of the file
+     * @param financialPeriod the {@link FinancialPeriod} of the movements
+     * @param expenseClass the {@link MovementClass} used when no rule matches an expense
+     * @param revenueClass the {@link MovementClass} used when no rule matches a revenue
+     * @return the {@link StatementImport} finished
+     */
+    public StatementImport importFile(String fileName, InputStream content, StatementFormat statementFormat,
+                                      FinancialPeriod financialPeriod, MovementClass expenseClass,
+                                      MovementClass revenueClass) {
+
+        Path file = null;
+        StatementImport statementImport = null;
+
+        try {
+            file = Files.createTempFile("statement-", "." + statementFormat.name().toLowerCase());
+
+            final String fileHash = this.copy(content, file);
+
+            statementImport = this.statementImportService.begin(fileName, fileHash, statementFormat,
+                    financialPeriod, expenseClass, revenueClass);
+
+            statementImport = this.importLines(statementImport, file);
+
+            this.logger.info("Statement {} imported, {} movements created, {} duplicated and {} rejected",
+                    fileName, statementImport.getImported(), statementImport.getDuplicated(),
+                    statementImport.getRejected());
+
+            return this.statementImportService.finish(statementImport);
+        } catch (IOException | UncheckedIOException ex) {
+            this.failed(statementImport, ex);
+            throw new BusinessLogicException("error.statement-import.read-error", ex);
+        } catch (RuntimeException ex) {
+            this.failed(statementImport, ex);
+            throw ex;
+        } finally {
+            this.delete(file);
+        }
+    }
+
+    /**
+     * Read the lines of the file and import them in chunks, the lines before the last checkpoint are skipped
+     *
+     * @param statementImport running
+     * @param file to be read
+     * @return the {@link StatementImport} with the last checkpoint
+     * @throws IOException if the file can't be read
+     */
+    private StatementImport importLines(StatementImport statementImport, Path file) throws IOException {
+
+        final ApportionmentRules rules = this.statementImportService.rulesFor(statementImport);
+
+        final int chunkSize = Configurations.getAsInteger("persistence.batch-size");
+
+        final long lastLine = statementImport.getLastLine();
+        final List<StatementLine> chunk = new ArrayList<>(chunkSize);
+
+        StatementImport current = statementImport;
+
+        try (StatementReader reader = StatementReader.open(statementImport.getStatementFormat(), file)) {
+            while (reader.hasNext()) {
+
+                final StatementLine line = reader.next();
+
+                if (line.getNumber() <= lastLine) {
+                    continue;
+                }
+
+                chunk.add(line);
+
+                if (chunk.size() == chunkSize) {
+                    current = this.importChunk(current, chunk, rules);
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            current = this.importChunk(current, chunk, rules);
+        }
+
+        return current;
+    }
+
+    /**
+     * Import a chunk and clear it, the persistence context is also cleared so the movements of the previous chunks
+     * are not kept in memory until the end of the import
+     *
+     * @param statementImport running
+     * @param chunk the lines to be imported
+     * @param rules the {@link ApportionmentRules} to be used
+     * @return the {@link StatementImport} with the checkpoint updated
+     */
+    private StatementImport importChunk(StatementImport statementImport, List<StatementLine> chunk,
+                                        ApportionmentRules rules) {
+
+        final StatementImport current = this.statementImportService.importChunk(statementImport, chunk, rules);
+
+        chunk.clear();
+        this.periodMovementRepository.clear();
+
+        return current;
+    }
+
+    /**
+     * Copy the content to the given file calculating the SHA-256 of the content, the hash is what identifies the file
+     * when it is sent again
+     *
+     * @param content to be copied
+     * @param file the destination
+     * @return the hash of the content
+     * @throws IOException if the content can't be copied
+     */
+    private String copy(InputStream content, Path file) throws IOException {
+
+        final MessageDigest digest;
+
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+
+        try (DigestInputStream input = new DigestInputStream(content, digest)) {
+            Files.copy(input, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        return BaseEncoding.base16().lowerCase().encode(digest.digest());
+    }
+
+    /**
+     * Mark the {@link StatementImport} as failed, if it was started
+     *
+     * @param statementImport to be marked
+     * @param cause of the failure
+     */
+    private void failed(StatementImport statementImport, Exception cause) {
+
+        if (statementImport != null) {
+
+            this.logger.error("Can't import the statement file {}", statementImport.getFileName(), cause);
+
+            try {
+                this.statementImportService.fail(statementImport);
+            } catch (RuntimeException ex) {
+                this.logger.error("Can't mark the statement import {} as failed", statementImport.getId(), ex);
+            }
+        }
+    }
+
+    /**
+     * Delete the temporary file
+     *
+     * @param file to be deleted
+     */
+    private void delete(Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ex) {
+                this.logger.warn("Can't delete the temporary file {}", file, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.services;
+
+import br.com.webbudget.application.components.builder.PeriodMovementBuilder;
+import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import br.com.webbudget.domain.entities.financial.PeriodMovementType;
+import br.com.webbudget.domain.entities.financial.StatementFormat;
+import br.com.webbudget.domain.entities.financial.StatementImport;
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import br.com.webbudget.domain.entities.registration.MovementClass;
+import br.com.webbudget.domain.exceptions.BusinessLogicException;
+import br.com.webbudget.domain.logics.financial.movement.period.PeriodMovementSavingLogic;
+import br.com.webbudget.domain.repositories.financial.PeriodMovementRepository;
+import br.com.webbudget.domain.repositories.financial.StatementImportRepository;
+import br.com.webbudget.domain.repositories.registration.MovementClassRepository;
+import br.com.webbudget.infrastructure.jpa.PersistenceMonitored;
+import br.com.webbudget.infrastructure.statement.ApportionmentRules;
+import br.com.webbudget.infrastructure.statement.StatementLine;
+import org.slf4j.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import javax.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The service responsible for the business operations of the {@link StatementImport}, each method runs in its own
+ * transaction so every chunk of lines imported is committed alone
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.2.0
+ * @since 3.1.0, 18/10/2026
+ */
+@PersistenceMonitored
+@ApplicationScoped
+public class StatementImportService {
+
+    @Inject
+    private Logger logger;
+
+    @Inject
+    private PeriodMovementService periodMovementService;
+
+    @Inject
+    private MovementClassRepository movementClassRepository;
+    @Inject
+    private PeriodMovementRepository periodMovementRepository;
+    @Inject
+    private StatementImportRepository statementImportRepository;
+
+    @Any
+    @Inject
+    private Instance<PeriodMovementSavingLogic> periodMovementSavingLogics;
+
+    /**
+     * Start the import of a file, if the same file was already sent and the import did not finish it is restarted
+     * from the last line committed
+     *
+     * @param fileName the name of the file
+     * @param fileHash the hash of the file content
+     * @param statementFormat the format of the file
+     * @param financialPeriod the {@link FinancialPeriod} of the movements
+     * @param expenseClass the {@link MovementClass} used when no rule matches an expense
+     * @param revenueClass the {@link MovementClass} used when no rule matches a revenue
+     * @return the {@link StatementImport} running
+     */
+    @Transactional
+    public StatementImport begin(String fileName, String fileHash, StatementFormat statementFormat,
+                                 FinancialPeriod financialPeriod, MovementClass expenseClass,
+                                 MovementClass revenueClass) {
+
+        if (financialPeriod == null) {
+            throw new BusinessLogicException("error.statement-import.no-financial-period");
+        }
+
+        if (expenseClass == null || revenueClass == null) {
+            throw new BusinessLogicException("error.statement-import.no-default-classes");
+        }
+
+        if (financialPeriod.isClosed()) {
+            throw new BusinessLogicException("error.statement-import.closed-financial-period");
+        }
+
+        final StatementImport statementImport = this.statementImportRepository.findByFileHash(fileHash)
+                .orElseGet(() -> new StatementImport(fileName, fileHash, statementFormat));
+
+        if (statementImport.isFinished()) {
+            throw new BusinessLogicException("error.statement-import.already-imported");
+        }
+
+        return this.statementImportRepository.save(
+                statementImport.prepareToRun(financialPeriod, expenseClass, revenueClass));
+    }
+
+    /**
+     * Load the {@link ApportionmentRules} for the given {@link StatementImport}
+     *
+     * @param statementImport running
+     * @return the {@link ApportionmentRules} to be used
+     */
+    public ApportionmentRules rulesFor(StatementImport statementImport) {
+        return new ApportionmentRules(this.movementClassRepository.findActiveWithImportPattern(),
+                statementImport.getExpenseClass(), statementImport.getRevenueClass());
+    }
+
+    /**
+     * Import a chunk of {@link StatementLine} as {@link PeriodMovement}. The lines already imported are skipped, the
+     * lines rejected by the {@link PeriodMovementSavingLogic} are counted and the others are saved in batch, at the
+     * end the last line of the chunk is saved as the checkpoint of the import in the same transaction
+     *
+     * @param statementImport running
+     * @param lines the chunk of {@link StatementLine} to be imported
+     * @param rules the {@link ApportionmentRules} to be used
+     * @return the {@link StatementImport} with the checkpoint updated
+     */
+    @Transactional
+    public StatementImport importChunk(StatementImport statementImport, List<StatementLine> lines,
+                                       ApportionmentRules rules) {
+
+        final Set<String> existing = new HashSet<>(this.periodMovementRepository.findImportHashes(
+                lines.stream().map(StatementLine::getHash).collect(Collectors.toList())));
+
+        final Set<String> seen = new HashSet<>(lines.size());
+
+        int duplicated = 0;
+        int rejected = 0;
+
+        final List<PeriodMovement> periodMovements = new ArrayList<>(lines.size());
+
+        for (StatementLine line : lines) {
+
+            // a hash found in the database or twice in the same chunk is a line already imported
+            if (existing.contains(line.getHash()) || !seen.add(line.getHash())) {
+                duplicated++;
+                continue;
+            }
+
+            final PeriodMovement periodMovement = new PeriodMovementBuilder()
+                    .identification(line.getIdentification())
+                    .description(line.getDescription())
+                    .dueDate(line.getDate())
+                    .value(line.getValue().abs())
+                    .financialPeriod(statementImport.getFinancialPeriod())
+                    .type(PeriodMovementType.MOVEMENT)
+                    .addApportionment(rules.apportionmentFor(line))
+                    .importHash(line.getHash())
+                    .build();
+
+            try {
+                this.periodMovementSavingLogics.forEach(logic -> logic.run(periodMovement));
+                periodMovements.add(periodMovement);
+            } catch (BusinessLogicException ex) {
+                this.logger.warn("Statement line {} rejected: {}", line.getNumber(), ex.getMessage());
+                rejected++;
+            }
+        }
+
+        if (!periodMovements.isEmpty()) {
+            // the saving logics already run on each line above
+            this.periodMovementService.saveAllValidated(periodMovements);
+        }
+
+        final StatementImport current = this.statementImportRepository.findBy(statementImport.getId());
+
+        current.checkpoint(lines.get(lines.size() - 1).getNumber(), periodMovements.size(), duplicated, rejected);
+
+        return this.statementImportRepository.save(current);
+    }
+
+    /**
+     * Mark the {@link StatementImport} as finished
+     *
+     * @param statementImport to be finished
+     * @return the {@link StatementImport} finished
+     */
+    @Transactional
+    public StatementImport finish(StatementImport statementImport) {
+        final StatementImport current = this.statementImportRepository.findBy(statementImport.getId());
+        current.finish();
+        return this.statementImportRepository.save(current);
+    }
+
+    /**
+     * Mark the {@link StatementImport} as failed, it can be restarted by sending the same file again
+     *
+     * @param statementImport failed
+     */
+    @Transactional
+    public void fail(StatementImport statementImport) {
+        final StatementImport current = this.statementImportRepository.findBy(statementImport.getId());
+        current.fail();
+        this.statementImportRepository.save(current);
+    }
+}
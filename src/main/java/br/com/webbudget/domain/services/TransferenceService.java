@@ -23,6 +23,7 @@ import br.com.webbudget.domain.events.UpdateWalletBalance;
 import br.com.webbudget.domain.logics.financial.transference.TransferenceSavingLogic;
 import br.com.webbudget.domain.repositories.financial.TransferenceRepository;
 import br.com.webbudget.application.components.builder.WalletBalanceBuilder;
+import br.com.webbudget.infrastructure.jpa.PersistenceMonitored;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
@@ -30,15 +31,18 @@ import javax.enterprise.inject.Any;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.transaction.Transactional;
+import java.util.Comparator;
+import java.util.stream.Stream;
 
 /**
  * The {@link WalletBalance} transference service
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 3.0.0, 06/10/2018
  */
+@PersistenceMonitored
 @ApplicationScoped
 public class TransferenceService {
 
@@ -65,20 +69,22 @@ public class TransferenceService {
 
         this.transferenceRepository.save(transference);
 
-        // transfer
-        this.updateWalletBalanceEvent.fire(WalletBalanceBuilder.getInstance()
+        final WalletBalance credit = WalletBalanceBuilder.getInstance()
                 .to(transference.getDestination())
                 .value(transference.getValue())
                 .withReason(ReasonType.TRANSFERENCE)
-                .build()
-        );
+                .build();
 
-        // adjust the origin balance
-        this.updateWalletBalanceEvent.fire(WalletBalanceBuilder.getInstance()
+        final WalletBalance debit = WalletBalanceBuilder.getInstance()
                 .to(transference.getOrigin())
                 .value(transference.getValue().negate())
                 .withReason(ReasonType.TRANSFERENCE)
-                .build()
-        );
+                .build();
+
+        // the balance update locks the wallet until the commit, so always lock the wallets in the same order to
+        // avoid a deadlock between two transfers in opposite directions
+        Stream.of(credit, debit)
+                .sorted(Comparator.comparing(balance -> balance.getWallet().getId()))
+                .forEach(this.updateWalletBalanceEvent::fire);
     }
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.domain.services;
+
+import br.com.webbudget.domain.entities.journal.Refueling;
+import br.com.webbudget.domain.entities.journal.RefuelingMonth;
+import br.com.webbudget.domain.entities.journal.VehicleStatistics;
+import br.com.webbudget.domain.entities.registration.Vehicle;
+import br.com.webbudget.domain.repositories.journal.RefuelingRepository;
+import br.com.webbudget.domain.repositories.journal.VehicleStatisticsRepository;
+import br.com.webbudget.infrastructure.jpa.PersistenceMonitored;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.transaction.Transactional;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The service responsible for the {@link VehicleStatistics} and the analytics of the {@link Refueling} of every
+ * {@link Vehicle}
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.2.0
+ * @since 3.1.0, 18/10/2026
+ */
+@PersistenceMonitored
+@ApplicationScoped
+public class VehicleStatisticsService {
+
+    @Inject
+    private RefuelingRepository refuelingRepository;
+    @Inject
+    private VehicleStatisticsRepository vehicleStatisticsRepository;
+
+    /**
+     * Get the {@link VehicleStatistics} of a {@link Vehicle}, if the vehicle has no statistics yet they are built from
+     * the source rows
+     *
+     * @param vehicle to get the statistics
+     * @return the {@link VehicleStatistics} of the vehicle
+     */
+    @Transactional
+    public VehicleStatistics statisticsOf(Vehicle vehicle) {
+        return this.vehicleStatisticsRepository.findByVehicle(vehicle)
+                .orElseGet(() -> this.lockStatisticsOf(vehicle));
+    }
+
+    /**
+     * Same as {@link #statisticsOf(Vehicle)} but the statistics are locked until the end of the transaction, use this
+     * before changing them
+     *
+     * On the first use the empty row is inserted if absent and then locked, so two concurrent transactions never
+     * insert it twice. Only the one that inserted it replays the {@link Refueling}, the other waits and gets it built
+     *
+     * @param vehicle to get the statistics
+     * @return the {@link VehicleStatistics} of the vehicle
+     */
+    @Transactional
+    public VehicleStatistics lockStatisticsOf(Vehicle vehicle) {
+
+        final Optional<VehicleStatistics> statistics = this.vehicleStatisticsRepository.findByVehicleForUpdate(vehicle);
+
+        if (statistics.isPresent()) {
+            return statistics.get();
+        }
+
+        final boolean created = this.vehicleStatisticsRepository.createIfAbsent(vehicle.getId()) > 0;
+
+        final VehicleStatistics locked = this.vehicleStatisticsRepository.findByVehicleForUpdate(vehicle)
+                .orElseThrow(() -> new IllegalStateException("Can't find the statistics of vehicle " + vehicle.getId()));
+
+        return created ? this.replay(locked) : locked;
+    }
+
+    /**
+     * Rebuild the {@link VehicleStatistics} of a {@link Vehicle} replaying all the {@link Refueling} in the order they
+     * were saved
+     *
+     * @param vehicle to be rebuilt
+     * @return the rebuilt {@link VehicleStatistics}
+     */
+    @Transactional
+    public VehicleStatistics rebuild(Vehicle vehicle) {
+        return this.replay(this.lockStatisticsOf(vehicle));
+    }
+
+    /**
+     * Clear the {@link VehicleStatistics} and add all the {@link Refueling} of the vehicle again
+     *
+     * @param statistics to be replayed, already locked
+     * @return the replayed {@link VehicleStatistics}
+     */
+    private VehicleStatistics replay(VehicleStatistics statistics) {
+
+        statistics.clear();
+
+        this.refuelingRepository.findByVehicleOrderByIdAsc(statistics.getVehicle()).forEach(statistics::add);
+
+        return this.vehicleStatisticsRepository.saveAndFlush(statistics);
+    }
+
+    /**
+     * The totals of the {@link Refueling} of a {@link Vehicle} by month
+     *
+     * @param vehicle to get the series
+     * @param months the number of months to consider, the current included
+     * @return the {@link List} of {@link RefuelingMonth}, oldest first, months without refueling are not included
+     */
+    public List<RefuelingMonth> monthlySeries(Vehicle vehicle, int months) {
+        final LocalDate since = LocalDate.now().withDayOfMonth(1).minusMonths(months - 1L);
+        return this.refuelingRepository.findMonthlyByVehicle(vehicle, since);
+    }
+
+    /**
+     * The full tanks with the best consumption of a {@link Vehicle}
+     *
+     * @param vehicle to get the tanks
+     * @param count the number of tanks
+     * @return the {@link List} of {@link Refueling}, the best first
+     */
+    public List<Refueling> bestTanks(Vehicle vehicle, int count) {
+        return this.refuelingRepository.findBestTanksByVehicle(vehicle, count);
+    }
+
+    /**
+     * The full tanks with the worst consumption of a {@link Vehicle}
+     *
+     * @param vehicle to get the tanks
+     * @param count the number of tanks
+     * @return the {@link List} of {@link Refueling}, the worst first
+     */
+    public List<Refueling> worstTanks(Vehicle vehicle, int count) {
+        return this.refuelingRepository.findWorstTanksByVehicle(vehicle, count);
+    }
+}
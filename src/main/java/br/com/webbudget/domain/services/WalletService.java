@@ -18,13 +18,18 @@ package br.com.webbudget.domain.services;
 
 import br.com.webbudget.domain.entities.financial.ReasonType;
 import br.com.webbudget.domain.entities.financial.WalletBalance;
+import br.com.webbudget.domain.entities.financial.WalletBalanceCheckpoint;
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
 import br.com.webbudget.domain.entities.registration.Wallet;
+import br.com.webbudget.domain.events.FinancialPeriodClosed;
 import br.com.webbudget.domain.events.UpdateWalletBalance;
 import br.com.webbudget.domain.logics.registration.wallet.WalletSavingLogic;
 import br.com.webbudget.domain.logics.registration.wallet.WalletUpdatingLogic;
+import br.com.webbudget.domain.repositories.registration.WalletBalanceCheckpointRepository;
 import br.com.webbudget.domain.repositories.registration.WalletBalanceRepository;
 import br.com.webbudget.domain.repositories.registration.WalletRepository;
 import br.com.webbudget.application.components.builder.WalletBalanceBuilder;
+import br.com.webbudget.infrastructure.jpa.PersistenceMonitored;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
@@ -33,16 +38,24 @@ import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.transaction.Transactional;
 import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * The service responsible for the business operations with {@link Wallet}
  *
  * @author Arthur Gregorio
  *
- * @version 2.0.0
+ * @version 2.2.0
  * @since 1.0.0, 12/03/2014
  */
+@PersistenceMonitored
 @ApplicationScoped
 public class WalletService {
 
@@ -50,6 +63,8 @@ public class WalletService {
     private WalletRepository walletRepository;
     @Inject
     private WalletBalanceRepository walletBalanceRepository;
+    @Inject
+    private WalletBalanceCheckpointRepository walletBalanceCheckpointRepository;
 
     @Any
     @Inject
@@ -74,7 +89,8 @@ public class WalletService {
         // set it to zero before save the wallet
         wallet.setActualBalance(BigDecimal.ZERO);
 
-        final Wallet saved = this.walletRepository.save(wallet);
+        // flush to have the row in the database before the balance update
+        final Wallet saved = this.walletRepository.saveAndFlush(wallet);
 
         // now put the balance by the standard way, with the builder
         final WalletBalanceBuilder builder = WalletBalanceBuilder.getInstance();
@@ -105,6 +121,7 @@ public class WalletService {
      */
     @Transactional
     public void delete(Wallet wallet) {
+        this.walletBalanceCheckpointRepository.deleteByWallet(wallet.getId());
         final List<WalletBalance> balances = this.walletBalanceRepository.findByWallet_id(wallet.getId());
         balances.forEach(balance -> this.walletBalanceRepository.removeAndFlush(balance));
         this.walletRepository.attachAndRemove(wallet);
@@ -129,6 +146,142 @@ public class WalletService {
         this.updateWalletBalance(builder.build());
     }
 
+    /**
+     * Calculate the balance of a {@link Wallet} at a given instant
+     *
+     * Only the last {@link WalletBalanceCheckpoint} before the instant and the {@link WalletBalance} registered after
+     * this checkpoint are read, so the cost does not grow with the size of the historic
+     *
+     * @param wallet to calculate the balance
+     * @param instant to calculate the balance, movements at this instant or after it are not considered
+     * @return the balance of the {@link Wallet}
+     */
+    public BigDecimal balanceAt(Wallet wallet, LocalDateTime instant) {
+        return this.balanceFrom(this.walletBalanceCheckpointRepository.findLastBefore(
+                wallet.getId(), instant.toLocalDate()), wallet, instant);
+    }
+
+    /**
+     * Calculate the closing balance of a {@link Wallet} for every day in the given interval, used by the historic
+     * charts
+     *
+     * @param wallet to calculate the balances
+     * @param start the first day of the interval
+     * @param end the last day of the interval
+     * @return a {@link Map} of the days and the closing balance of each day, ordered by the day
+     */
+    public Map<LocalDate, BigDecimal> dailyBalances(Wallet wallet, LocalDate start, LocalDate end) {
+
+        final Map<LocalDate, BigDecimal> valuesByDay = this.walletBalanceRepository
+                .sumByDayBetween(wallet.getId(), start.atStartOfDay(), end.plusDays(1).atStartOfDay())
+                .stream()
+                .collect(Collectors.toMap(row -> ((Date) row[0]).toLocalDate(), row -> (BigDecimal) row[1]));
+
+        final Map<LocalDate, BigDecimal> balances = new LinkedHashMap<>();
+
+        BigDecimal balance = this.balanceAt(wallet, start.atStartOfDay());
+
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            balance = balance.add(valuesByDay.getOrDefault(day, BigDecimal.ZERO));
+            balances.put(day, balance);
+        }
+
+        return balances;
+    }
+
+    /**
+     * Write the {@link WalletBalanceCheckpoint} closing the given day for every {@link Wallet} with balances since
+     * their last checkpoint
+     *
+     * @param date the day to be closed
+     * @return the number of checkpoints written
+     */
+    @Transactional
+    public int writeCheckpoints(LocalDate date) {
+
+        int written = 0;
+
+        for (Wallet wallet : this.walletRepository.findAll()) {
+            if (this.writeCheckpoint(wallet, date)) {
+                written++;
+            }
+        }
+
+        return written;
+    }
+
+    /**
+     * When a {@link FinancialPeriod} is closed, close the last day of it in the balances of the {@link Wallet}
+     *
+     * @param financialPeriod closed
+     */
+    @Transactional
+    public void onFinancialPeriodClose(@Observes @FinancialPeriodClosed FinancialPeriod financialPeriod) {
+
+        final LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        // only finished days can be closed, the movements of today can still change the balance
+        this.writeCheckpoints(financialPeriod.getEnd().isBefore(yesterday) ? financialPeriod.getEnd() : yesterday);
+    }
+
+    /**
+     * Write the {@link WalletBalanceCheckpoint} of a {@link Wallet} for a given day
+     *
+     * @param wallet to write the checkpoint
+     * @param date the day to be closed
+     * @return true if the checkpoint was written, false if there is nothing new to be closed
+     */
+    private boolean writeCheckpoint(Wallet wallet, LocalDate date) {
+
+        final LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
+
+        final Optional<WalletBalanceCheckpoint> last =
+                this.walletBalanceCheckpointRepository.findLastBefore(wallet.getId(), date);
+
+        if (last.isPresent()) {
+            if (this.walletBalanceRepository.countBetween(wallet.getId(), this.endOf(last.get()), endOfDay) == 0) {
+                return false;
+            }
+        } else if (wallet.getCreatedOn().isAfter(endOfDay)) {
+            return false;
+        }
+
+        final WalletBalanceCheckpoint checkpoint = this.walletBalanceCheckpointRepository
+                .findByWallet_idAndCheckpointDate(wallet.getId(), date)
+                .orElseGet(() -> new WalletBalanceCheckpoint(wallet, date));
+
+        this.walletBalanceCheckpointRepository.save(checkpoint.update(this.balanceFrom(last, wallet, endOfDay)));
+
+        return true;
+    }
+
+    /**
+     * Calculate the balance of a {@link Wallet} at a given instant starting from a {@link WalletBalanceCheckpoint}, if
+     * there is no checkpoint the whole historic before the instant is summed
+     *
+     * @param checkpoint the {@link Optional} of the last {@link WalletBalanceCheckpoint} before the instant
+     * @param wallet to calculate the balance
+     * @param instant to calculate the balance
+     * @return the balance of the {@link Wallet}
+     */
+    private BigDecimal balanceFrom(Optional<WalletBalanceCheckpoint> checkpoint, Wallet wallet,
+                                   LocalDateTime instant) {
+        return checkpoint
+                .map(value -> value.getBalance().add(this.walletBalanceRepository.sumBetween(
+                        wallet.getId(), this.endOf(value), instant)))
+                .orElseGet(() -> this.walletBalanceRepository.sumBefore(wallet.getId(), instant));
+    }
+
+    /**
+     * The instant where the day closed by a {@link WalletBalanceCheckpoint} ends
+     *
+     * @param checkpoint to get the end
+     * @return the start of the next day
+     */
+    private LocalDateTime endOf(WalletBalanceCheckpoint checkpoint) {
+        return checkpoint.getCheckpointDate().plusDays(1).atStartOfDay();
+    }
+
     /**
      * Update the {@link WalletBalance} for a given wallet
      *
@@ -137,8 +290,17 @@ public class WalletService {
     @Transactional
     private void updateWalletBalance(@Observes @UpdateWalletBalance WalletBalance walletBalance) {
 
-        // update the actual balance on the wallet
-        this.walletRepository.save(walletBalance.getWallet());
+        // update the actual balance on the wallet, the old and actual balances come from the updated row
+        final BigDecimal actualBalance = this.walletRepository.addToBalance(
+                walletBalance.getTransactionValue(), walletBalance.getWallet().getId());
+
+        walletBalance.processBalances(actualBalance);
+
+        // a balance registered in a day already closed makes the checkpoints from this day onwards outdated
+        if (walletBalance.getMovementDate().isBefore(LocalDate.now())) {
+            this.walletBalanceCheckpointRepository.deleteFrom(
+                    walletBalance.getWallet().getId(), walletBalance.getMovementDate());
+        }
 
         // save the new balance history
         this.walletBalanceRepository.save(walletBalance);
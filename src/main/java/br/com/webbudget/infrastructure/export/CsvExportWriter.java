@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * The {@link ExportWriter} for CSV files, the columns are separated by comma and the values are quoted only when needed
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+final class CsvExportWriter extends ExportWriter {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final Writer writer;
+
+    /**
+     * Constructor...
+     *
+     * @param output where to write the rows
+     * @param columns the names of the columns
+     * @throws IOException if the header can't be written
+     */
+    CsvExportWriter(OutputStream output, List<String> columns) throws IOException {
+        super(columns);
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        this.write(columns.toArray());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param values
+     * @throws IOException
+     */
+    @Override
+    public void write(Object... values) throws IOException {
+
+        for (int i = 0; i < values.length; i++) {
+
+            if (i > 0) {
+                this.writer.write(SEPARATOR);
+            }
+
+            final String text = this.textOf(values[i]);
+
+            if (text != null) {
+                this.writer.write(this.escape(text));
+            }
+        }
+
+        this.writer.write("\r\n");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IOException
+     */
+    @Override
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+
+    /**
+     * Quote the value if it has a separator, a quote or a line break, the quotes inside are doubled
+     *
+     * @param text to be escaped
+     * @return the text ready to be written
+     */
+    private String escape(String text) {
+
+        if (text.indexOf(SEPARATOR) < 0 && text.indexOf(QUOTE) < 0
+                && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+
+        return QUOTE + text.replace("\"", "\"\"") + QUOTE;
+    }
+}
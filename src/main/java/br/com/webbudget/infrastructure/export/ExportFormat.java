@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.export;
+
+/**
+ * The file formats of the exports
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public enum ExportFormat {
+
+    CSV("text/csv", "csv"),
+    JSON("application/json", "json");
+
+    private final String contentType;
+    private final String extension;
+
+    /**
+     * Constructor...
+     *
+     * @param contentType the content type of the response
+     * @param extension the extension of the file
+     */
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    /**
+     * @return the content type of the response
+     */
+    public String getContentType() {
+        return this.contentType;
+    }
+
+    /**
+     * Create the name of the exported file
+     *
+     * @param name the name of the file without extension
+     * @return the name of the file with the extension of this format
+     */
+    public String fileName(String name) {
+        return name + "." + this.extension;
+    }
+}
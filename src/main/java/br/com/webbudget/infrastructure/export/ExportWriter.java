@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The base of the export writers. Every row is written straight to the output as soon as it is received, so nothing
+ * but the current row is kept in memory
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public abstract class ExportWriter implements Closeable {
+
+    protected final List<String> columns;
+
+    /**
+     * Constructor...
+     *
+     * @param columns the names of the columns, in the same order of the values of each row
+     */
+    protected ExportWriter(List<String> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Open a writer for the given format
+     *
+     * @param exportFormat the format of the export
+     * @param output where to write the rows
+     * @param columns the names of the columns
+     * @return the {@link ExportWriter} for the format
+     * @throws IOException if the output can't be written
+     */
+    public static ExportWriter open(ExportFormat exportFormat, OutputStream output, List<String> columns)
+            throws IOException {
+        switch (exportFormat) {
+            case CSV:
+                return new CsvExportWriter(output, columns);
+            case JSON:
+                return new JsonExportWriter(output, columns);
+            default:
+                throw new IllegalArgumentException("Unsupported export format " + exportFormat);
+        }
+    }
+
+    /**
+     * Write a row, the values must be in the same order of the columns
+     *
+     * @param values of the row
+     * @throws IOException if the output can't be written
+     */
+    public abstract void write(Object... values) throws IOException;
+
+    /**
+     * Send what is buffered to the output
+     *
+     * @throws IOException if the output can't be written
+     */
+    public abstract void flush() throws IOException;
+
+    /**
+     * Transform a value to the text written in the file, enums are written by the name and the dates in ISO format
+     *
+     * @param value to be transformed
+     * @return the text of the value, null if the value is null
+     */
+    protected String textOf(Object value) {
+        if (value == null) {
+            return null;
+        } else if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        } else if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The {@link ExportWriter} for JSON files, the file is an array with one object for each row and the columns as the
+ * names of the fields
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+final class JsonExportWriter extends ExportWriter {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    /**
+     * Constructor...
+     *
+     * @param output where to write the rows
+     * @param columns the names of the columns
+     * @throws IOException if the start of the array can't be written
+     */
+    JsonExportWriter(OutputStream output, List<String> columns) throws IOException {
+        super(columns);
+        this.generator = FACTORY.createGenerator(output, JsonEncoding.UTF8);
+        this.generator.writeStartArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param values
+     * @throws IOException
+     */
+    @Override
+    public void write(Object... values) throws IOException {
+
+        this.generator.writeStartObject();
+
+        for (int i = 0; i < values.length; i++) {
+
+            final String column = this.columns.get(i);
+            final Object value = values[i];
+
+            if (value == null) {
+                this.generator.writeNullField(column);
+            } else if (value instanceof BigDecimal) {
+                this.generator.writeNumberField(column, (BigDecimal) value);
+            } else if (value instanceof Long || value instanceof Integer) {
+                this.generator.writeNumberField(column, ((Number) value).longValue());
+            } else if (value instanceof Boolean) {
+                this.generator.writeBooleanField(column, (Boolean) value);
+            } else {
+                this.generator.writeStringField(column, this.textOf(value));
+            }
+        }
+
+        this.generator.writeEndObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IOException
+     */
+    @Override
+    public void flush() throws IOException {
+        this.generator.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        this.generator.writeEndArray();
+        this.generator.close();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.generator;
+
+import br.com.webbudget.domain.entities.financial.FixedMovement;
+import br.com.webbudget.domain.entities.financial.Payment;
+import br.com.webbudget.domain.entities.financial.PaymentMethod;
+import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import br.com.webbudget.domain.entities.registration.Card;
+import br.com.webbudget.domain.entities.registration.Contact;
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import br.com.webbudget.domain.entities.registration.MovementClass;
+import br.com.webbudget.domain.entities.registration.Vehicle;
+import br.com.webbudget.domain.entities.registration.Wallet;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The state of one sample data generation, the registrations created at the start and used by every month after
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public final class SampleData {
+
+    private static final BigDecimal SMALL_PURCHASE = BigDecimal.valueOf(100);
+
+    @Getter
+    private final SampleDataOptions options;
+    @Getter
+    private final SampleDataRandom random;
+
+    @Getter
+    private final Map<SampleMovementClass, MovementClass> movementClasses;
+    @Getter
+    private final Map<SampleMovementClass, List<Contact>> contacts;
+    @Getter
+    private final List<Long> fixedMovementIds;
+
+    @Getter
+    @Setter
+    private Wallet bankAccount;
+    @Getter
+    @Setter
+    private Wallet personalWallet;
+    @Getter
+    @Setter
+    private Card creditCard;
+    @Getter
+    @Setter
+    private Card debitCard;
+    @Getter
+    @Setter
+    private Vehicle vehicle;
+    @Getter
+    @Setter
+    private long odometer;
+
+    /**
+     * Constructor...
+     *
+     * @param options of this generation
+     */
+    public SampleData(SampleDataOptions options) {
+        this.options = options;
+        this.random = new SampleDataRandom(options.getSeed());
+        this.movementClasses = new EnumMap<>(SampleMovementClass.class);
+        this.contacts = new EnumMap<>(SampleMovementClass.class);
+        this.fixedMovementIds = new ArrayList<>();
+    }
+
+    /**
+     * Keep the {@link FixedMovement} to be launched every month
+     *
+     * @param fixedMovement saved
+     */
+    public void addFixedMovement(FixedMovement fixedMovement) {
+        this.fixedMovementIds.add(fixedMovement.getId());
+    }
+
+    /**
+     * The factor to scale the frequency of the variable classes to the movements per month of the options
+     *
+     * @return the scale factor
+     */
+    public double getFrequencyScale() {
+        return this.options.getMovementsPerMonth() / SampleMovementClass.variableFrequency();
+    }
+
+    /**
+     * The prices grow a little every month, like a 5% inflation in a year
+     *
+     * @param monthIndex the number of months since the first one
+     * @return the factor to multiply the values of the month
+     */
+    public BigDecimal inflation(int monthIndex) {
+        return BigDecimal.valueOf(Math.pow(1.004, monthIndex));
+    }
+
+    /**
+     * @param month to pick the day
+     * @return a random day of the month
+     */
+    public LocalDate randomDay(YearMonth month) {
+        return month.atDay(this.random.between(1, month.lengthOfMonth()));
+    }
+
+    /**
+     * Create the {@link Payment} of a {@link PeriodMovement}
+     *
+     * The revenues and the invoices can only be paid with cash, on the bank account. The expenses are paid with the
+     * credit card, the debit card or cash, the small ones in cash from the personal wallet
+     *
+     * @param periodMovement to be paid
+     * @param financialPeriod of the movement, the payment date is always inside of it
+     * @param cashOnly to skip the cards, used on the closing when the invoices can't receive new movements
+     * @return the {@link Payment}
+     */
+    public Payment paymentFor(PeriodMovement periodMovement, FinancialPeriod financialPeriod, boolean cashOnly) {
+
+        final Payment payment = new Payment();
+
+        final YearMonth month = YearMonth.from(financialPeriod.getStart());
+        payment.setPaidOn(month.atDay(Math.min(periodMovement.getDueDate().getDayOfMonth(), month.lengthOfMonth())));
+
+        if (cashOnly || periodMovement.isRevenue() || periodMovement.isCreditCardInvoice()) {
+            payment.setPaymentMethod(PaymentMethod.CASH);
+            payment.setWallet(this.bankAccount);
+            return payment;
+        }
+
+        switch (this.random.weighted(45, 35, 20)) {
+            case 0:
+                payment.setPaymentMethod(PaymentMethod.CREDIT_CARD);
+                payment.setCard(this.creditCard);
+                break;
+            case 1:
+                payment.setPaymentMethod(PaymentMethod.DEBIT_CARD);
+                payment.setCard(this.debitCard);
+                break;
+            default:
+                payment.setPaymentMethod(PaymentMethod.CASH);
+                payment.setWallet(periodMovement.getValue().compareTo(SMALL_PURCHASE) < 0
+                        ? this.personalWallet : this.bankAccount);
+        }
+        return payment;
+    }
+}
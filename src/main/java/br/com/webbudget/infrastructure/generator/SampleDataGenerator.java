@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.generator;
+
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import br.com.webbudget.domain.events.GenerateSampleData;
+import br.com.webbudget.infrastructure.utils.RandomCode;
+import org.slf4j.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+import java.time.YearMonth;
+
+/**
+ * Generate years of sample data, a budget with the size and the shape of a real one to try the performance of the
+ * application without a copy of the production database
+ *
+ * For each month a {@link FinancialPeriod} is opened, filled with the fixed, variable and refueling movements, paid
+ * and closed with the invoices of the credit card, only the last month stays open with some movements to be paid. The
+ * same seed and the same last month always give the same data, the codes included, only the audit dates change
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.1.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ApplicationScoped
+public class SampleDataGenerator {
+
+    @Inject
+    private Logger logger;
+
+    @Inject
+    private SampleDataWriter sampleDataWriter;
+
+    /**
+     * Generate the sample data described by the {@link SampleDataOptions}, this runs asynchronously and can take a few
+     * minutes for many years
+     *
+     * @param options of the generation
+     */
+    public void generate(@ObservesAsync @GenerateSampleData SampleDataOptions options) {
+
+        this.logger.info("Generating sample data with {}", options);
+
+        final long start = System.currentTimeMillis();
+
+        final SampleData data = new SampleData(options);
+
+        // every entity created on this thread takes its code from the seed
+        RandomCode.seed(options.getSeed());
+        try {
+            this.sampleDataWriter.createRegistrations(data);
+
+            int monthIndex = 0;
+            int movements = 0;
+
+            for (YearMonth month = options.getFirstMonth(); !month.isAfter(options.getLastMonth());
+                 month = month.plusMonths(1)) {
+
+                final boolean last = month.equals(options.getLastMonth());
+
+                final FinancialPeriod financialPeriod = this.sampleDataWriter.openPeriod(month);
+
+                movements += this.sampleDataWriter.fillPeriod(data, financialPeriod, monthIndex++, last);
+
+                if (!last) {
+                    this.sampleDataWriter.closePeriod(data, financialPeriod);
+                }
+
+                this.logger.info("Sample data of {} generated, {} movements so far",
+                        financialPeriod.getIdentification(), movements);
+            }
+
+            this.logger.info("Sample data generated in {}s, {} months and {} movements",
+                    (System.currentTimeMillis() - start) / 1000, monthIndex, movements);
+        } catch (Exception ex) {
+            this.logger.error("Can't generate the sample data", ex);
+        } finally {
+            RandomCode.unseed();
+        }
+    }
+}
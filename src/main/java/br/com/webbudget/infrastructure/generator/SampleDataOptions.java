@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.generator;
+
+import br.com.webbudget.infrastructure.utils.Configurations;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.YearMonth;
+
+/**
+ * The options of one sample data generation, how many years back from the last month, the seed of the random values
+ * and the average of variable movements in each month
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ToString
+public final class SampleDataOptions {
+
+    @Getter
+    private final long seed;
+    @Getter
+    private final int years;
+    @Getter
+    private final int movementsPerMonth;
+    @Getter
+    private final YearMonth lastMonth;
+
+    /**
+     * Constructor...
+     *
+     * @param seed of the random values
+     * @param years of data to be generated
+     * @param movementsPerMonth average of variable movements in each month
+     * @param lastMonth the last month to be generated, this one is left open
+     */
+    public SampleDataOptions(long seed, int years, int movementsPerMonth, YearMonth lastMonth) {
+        this.seed = seed;
+        this.years = years;
+        this.movementsPerMonth = movementsPerMonth;
+        this.lastMonth = lastMonth;
+    }
+
+    /**
+     * Read the options from the sample-data configurations, the last month is always the current one
+     *
+     * @return the {@link SampleDataOptions} configured
+     */
+    public static SampleDataOptions fromConfiguration() {
+        return new SampleDataOptions(
+                Long.parseLong(Configurations.get("sample-data.seed")),
+                Configurations.getAsInteger("sample-data.years"),
+                Configurations.getAsInteger("sample-data.movements-per-month"),
+                YearMonth.now());
+    }
+
+    /**
+     * @return true if there is something to be generated
+     */
+    public boolean isEnabled() {
+        return this.years > 0;
+    }
+
+    /**
+     * @return the first month to be generated
+     */
+    public YearMonth getFirstMonth() {
+        return this.lastMonth.minusMonths(this.years * 12L - 1);
+    }
+}
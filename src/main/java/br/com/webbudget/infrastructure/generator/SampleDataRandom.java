@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.generator;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The source of all the random values of the sample data, every value comes from the same seeded {@link Random} so the
+ * same seed and the same order of calls always give the same data
+ *
+ * The distributions try to look like a real household budget: the number of purchases in a month is a Poisson, the
+ * values are log-normal around a median (a lot of small purchases, a few big ones) and the merchants are picked with
+ * a Zipf skew, the same supermarket most of the time and the others once in a while
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public final class SampleDataRandom {
+
+    private final Random random;
+
+    /**
+     * Constructor...
+     *
+     * @param seed of the random values
+     */
+    public SampleDataRandom(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * @param bound the upper bound, exclusive
+     * @return a random int between zero and the bound
+     */
+    public int nextInt(int bound) {
+        return this.random.nextInt(bound);
+    }
+
+    /**
+     * @param min the lower bound, inclusive
+     * @param max the upper bound, inclusive
+     * @return a random int between min and max
+     */
+    public int between(int min, int max) {
+        return min + this.random.nextInt(max - min + 1);
+    }
+
+    /**
+     * @param probability of a true, between zero and one
+     * @return true with the given probability
+     */
+    public boolean chance(double probability) {
+        return this.random.nextDouble() < probability;
+    }
+
+    /**
+     * Number of events in a month with the given average, by the Knuth multiplication method
+     *
+     * @param lambda the average of events
+     * @return the number of events
+     */
+    public int poisson(double lambda) {
+
+        final double limit = Math.exp(-lambda);
+
+        int count = 0;
+        double product = this.random.nextDouble();
+
+        while (product > limit) {
+            count++;
+            product *= this.random.nextDouble();
+        }
+        return count;
+    }
+
+    /**
+     * A money value with the given median and the sigma of the log of the values, a sigma of 0.5 gives values mostly
+     * between the half and the double of the median
+     *
+     * @param median of the values
+     * @param sigma the standard deviation of the log of the values
+     * @return the value with two decimals, never lower than one cent
+     */
+    public BigDecimal logNormal(BigDecimal median, double sigma) {
+        final double value = median.doubleValue() * Math.exp(sigma * this.random.nextGaussian());
+        return BigDecimal.valueOf(Math.max(value, 0.01)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * A money value between the given bounds
+     *
+     * @param min the lower bound
+     * @param max the upper bound
+     * @return the value with two decimals
+     */
+    public BigDecimal money(double min, double max) {
+        return BigDecimal.valueOf(min + (max - min) * this.random.nextDouble()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Pick an index with the given weights, they don't need to sum one
+     *
+     * @param weights of each index
+     * @return the index picked
+     */
+    public int weighted(double... weights) {
+
+        double total = 0;
+
+        for (double weight : weights) {
+            total += weight;
+        }
+
+        double target = this.random.nextDouble() * total;
+
+        for (int i = 0; i < weights.length - 1; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    /**
+     * Pick an element with a Zipf skew, the first element is picked twice as much as the second, three times as much
+     * as the third and so on
+     *
+     * @param elements to pick from
+     * @param <T> the type of the elements
+     * @return the element picked
+     */
+    public <T> T zipf(List<T> elements) {
+
+        final double[] weights = new double[elements.size()];
+
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = 1d / (i + 1);
+        }
+        return elements.get(this.weighted(weights));
+    }
+
+    /**
+     * @param elements to pick from
+     * @param <T> the type of the elements
+     * @return an element picked with the same probability for all
+     */
+    public <T> T pick(List<T> elements) {
+        return elements.get(this.random.nextInt(elements.size()));
+    }
+}
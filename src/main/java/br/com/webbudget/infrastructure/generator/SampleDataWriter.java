@@ -0,0 +1,512 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.generator;
+
+import br.com.webbudget.application.components.builder.PeriodMovementBuilder;
+import br.com.webbudget.application.components.dto.Color;
+import br.com.webbudget.domain.entities.financial.Apportionment;
+import br.com.webbudget.domain.entities.financial.CreditCardInvoice;
+import br.com.webbudget.domain.entities.financial.FixedMovement;
+import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import br.com.webbudget.domain.entities.journal.Fuel;
+import br.com.webbudget.domain.entities.journal.FuelType;
+import br.com.webbudget.domain.entities.journal.Refueling;
+import br.com.webbudget.domain.entities.registration.Card;
+import br.com.webbudget.domain.entities.registration.CardType;
+import br.com.webbudget.domain.entities.registration.Contact;
+import br.com.webbudget.domain.entities.registration.ContactType;
+import br.com.webbudget.domain.entities.registration.CostCenter;
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import br.com.webbudget.domain.entities.registration.MovementClass;
+import br.com.webbudget.domain.entities.registration.Vehicle;
+import br.com.webbudget.domain.entities.registration.VehicleType;
+import br.com.webbudget.domain.entities.registration.Wallet;
+import br.com.webbudget.domain.entities.registration.WalletType;
+import br.com.webbudget.domain.events.CardCreated;
+import br.com.webbudget.domain.logics.registration.card.CardSavingLogic;
+import br.com.webbudget.domain.logics.registration.costcenter.CostCenterSavingLogic;
+import br.com.webbudget.domain.logics.registration.movementclass.MovementClassSavingLogic;
+import br.com.webbudget.domain.logics.registration.vehicle.VehicleSavingLogic;
+import br.com.webbudget.domain.repositories.financial.CreditCardInvoiceRepository;
+import br.com.webbudget.domain.repositories.financial.PeriodMovementRepository;
+import br.com.webbudget.domain.repositories.registration.CardRepository;
+import br.com.webbudget.domain.repositories.registration.CostCenterRepository;
+import br.com.webbudget.domain.repositories.registration.MovementClassRepository;
+import br.com.webbudget.domain.repositories.registration.VehicleRepository;
+import br.com.webbudget.domain.services.ClosingService;
+import br.com.webbudget.domain.services.ContactService;
+import br.com.webbudget.domain.services.CreditCardInvoiceService;
+import br.com.webbudget.domain.services.FinancialPeriodService;
+import br.com.webbudget.domain.services.FixedMovementService;
+import br.com.webbudget.domain.services.PaymentService;
+import br.com.webbudget.domain.services.PeriodMovementService;
+import br.com.webbudget.domain.services.RefuelingService;
+import br.com.webbudget.domain.services.WalletService;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Event;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import javax.transaction.Transactional;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Write the sample data through the same services and business logics used by the views, so the data is valid and
+ * every derived value (balances, invoices, totals, statistics) is kept as it would be by a real user
+ *
+ * Each step is a transaction of its own, a month that fails does not take the previous ones with it
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ApplicationScoped
+public class SampleDataWriter {
+
+    private static final List<String> SURNAMES = List.of("Silva", "Souza", "Oliveira", "Costa", "Pereira",
+            "Almeida", "Ferreira", "Rodrigues", "Lima", "Gomes");
+
+    private static final List<String> CITIES = List.of("Curitiba", "Londrina", "Maringá", "Ponta Grossa");
+
+    private static final BigDecimal FUEL_PRICE = new BigDecimal("5.79");
+
+    @Inject
+    private ContactService contactService;
+    @Inject
+    private WalletService walletService;
+    @Inject
+    private FixedMovementService fixedMovementService;
+    @Inject
+    private FinancialPeriodService financialPeriodService;
+    @Inject
+    private PeriodMovementService periodMovementService;
+    @Inject
+    private RefuelingService refuelingService;
+    @Inject
+    private PaymentService paymentService;
+    @Inject
+    private CreditCardInvoiceService creditCardInvoiceService;
+    @Inject
+    private ClosingService closingService;
+
+    @Inject
+    private CardRepository cardRepository;
+    @Inject
+    private VehicleRepository vehicleRepository;
+    @Inject
+    private CostCenterRepository costCenterRepository;
+    @Inject
+    private MovementClassRepository movementClassRepository;
+    @Inject
+    private PeriodMovementRepository periodMovementRepository;
+    @Inject
+    private CreditCardInvoiceRepository creditCardInvoiceRepository;
+
+    @Inject
+    @CardCreated
+    private Event<Card> cardCreatedEvent;
+
+    @Any
+    @Inject
+    private Instance<CardSavingLogic> cardSavingLogics;
+    @Any
+    @Inject
+    private Instance<VehicleSavingLogic> vehicleSavingLogics;
+    @Any
+    @Inject
+    private Instance<CostCenterSavingLogic> costCenterSavingLogics;
+    @Any
+    @Inject
+    private Instance<MovementClassSavingLogic> movementClassSavingLogics;
+
+    /**
+     * Create the registrations used by all the months: cost centers, movement classes, contacts, wallets, cards, the
+     * vehicle and the fixed movements
+     *
+     * @param data of the generation
+     */
+    @Transactional
+    public void createRegistrations(SampleData data) {
+
+        final SampleDataRandom random = data.getRandom();
+
+        final Map<String, CostCenter> costCenters = new HashMap<>();
+
+        for (SampleMovementClass sample : SampleMovementClass.values()) {
+
+            final CostCenter costCenter = costCenters.computeIfAbsent(sample.getCostCenter(), name -> {
+
+                final CostCenter value = new CostCenter();
+
+                value.setName(name);
+                value.setColor(new Color(random.between(40, 220), random.between(40, 220), random.between(40, 220)));
+
+                this.costCenterSavingLogics.forEach(logic -> logic.run(value));
+                return this.costCenterRepository.save(value);
+            });
+
+            final MovementClass movementClass = new MovementClass();
+
+            movementClass.setName(sample.getName());
+            movementClass.setCostCenter(costCenter);
+            movementClass.setMovementClassType(sample.getMovementClassType());
+
+            this.movementClassSavingLogics.forEach(logic -> logic.run(movementClass));
+            data.getMovementClasses().put(sample, this.movementClassRepository.save(movementClass));
+
+            final List<Contact> contacts = new ArrayList<>();
+
+            for (int i = 0; i < sample.getMerchants(); i++) {
+
+                final Contact contact = new Contact();
+
+                contact.setName(sample.getMerchants() == 1 ? sample.getMerchant()
+                        : sample.getMerchant() + " " + SURNAMES.get(i % SURNAMES.size()));
+                contact.setContactType(ContactType.LEGAL);
+                contact.setProvince("PR");
+                contact.setCity(random.zipf(CITIES));
+
+                this.contactService.save(contact);
+                contacts.add(contact);
+            }
+            data.getContacts().put(sample, contacts);
+        }
+
+        this.createWallets(data);
+        this.createCards(data);
+        this.createVehicle(data, costCenters.get(SampleMovementClass.FUEL.getCostCenter()));
+        this.createFixedMovements(data);
+    }
+
+    /**
+     * Open the {@link FinancialPeriod} of a month, the invoices of the cards are created by the service
+     *
+     * @param month of the period
+     * @return the {@link FinancialPeriod} opened
+     */
+    @Transactional
+    public FinancialPeriod openPeriod(YearMonth month) {
+
+        final FinancialPeriod financialPeriod = new FinancialPeriod();
+
+        financialPeriod.setIdentification(month.format(DateTimeFormatter.ofPattern("MM/yyyy")));
+        financialPeriod.setStart(month.atDay(1));
+        financialPeriod.setEnd(month.atEndOfMonth());
+        financialPeriod.setRevenuesGoal(BigDecimal.valueOf(10000));
+        financialPeriod.setExpensesGoal(BigDecimal.valueOf(9000));
+        financialPeriod.setCreditCardGoal(BigDecimal.valueOf(2500));
+
+        this.financialPeriodService.save(financialPeriod);
+
+        return financialPeriod;
+    }
+
+    /**
+     * Fill a {@link FinancialPeriod} with the fixed, the variable and the refueling movements and pay them, on the last
+     * month some of them are left open
+     *
+     * @param data of the generation
+     * @param financialPeriod to be filled
+     * @param monthIndex the number of months since the first one
+     * @param last if this is the last month, the one that stays open
+     * @return the number of movements created
+     */
+    @Transactional
+    public int fillPeriod(SampleData data, FinancialPeriod financialPeriod, int monthIndex, boolean last) {
+
+        final SampleDataRandom random = data.getRandom();
+        final YearMonth month = YearMonth.from(financialPeriod.getStart());
+        final BigDecimal inflation = data.inflation(monthIndex);
+
+        this.fixedMovementService.launchAll(data.getFixedMovementIds(), financialPeriod);
+
+        final List<PeriodMovement> periodMovements = new ArrayList<>();
+
+        for (SampleMovementClass sample : SampleMovementClass.values()) {
+
+            final int count;
+
+            if (sample.getKind() == SampleMovementClass.Kind.VARIABLE) {
+                count = random.poisson(sample.getFrequency() * data.getFrequencyScale());
+            } else if (sample.getKind() == SampleMovementClass.Kind.MONTHLY) {
+                count = 1;
+            } else {
+                continue;
+            }
+
+            for (int i = 0; i < count; i++) {
+
+                final Contact contact = random.zipf(data.getContacts().get(sample));
+                final BigDecimal value = random.logNormal(sample.getMedian().multiply(inflation), sample.getSigma());
+
+                periodMovements.add(new PeriodMovementBuilder()
+                        .financialPeriod(financialPeriod)
+                        .identification(contact.getName())
+                        .description(sample.getName())
+                        .dueDate(data.randomDay(month))
+                        .contact(contact)
+                        .value(value)
+                        .addApportionment(new Apportionment(value, data.getMovementClasses().get(sample)))
+                        .build());
+            }
+        }
+
+        this.periodMovementService.saveAll(periodMovements);
+
+        final int refuelings = random.poisson(SampleMovementClass.FUEL.getFrequency());
+
+        for (int i = 0; i < refuelings; i++) {
+            this.refuel(data, financialPeriod, inflation);
+        }
+
+        // pay what is open, the ones launched by the fixed movements and the refuelings included
+        final List<PeriodMovement> open = this.findOpenMovements(financialPeriod);
+
+        for (PeriodMovement periodMovement : open) {
+            if (!last || random.chance(0.6)) {
+                this.paymentService.pay(periodMovement, data.paymentFor(periodMovement, financialPeriod, false));
+            }
+        }
+
+        return periodMovements.size() + refuelings + data.getFixedMovementIds().size();
+    }
+
+    /**
+     * Close the {@link FinancialPeriod}: the invoices of the credit card are closed, every movement still open is paid
+     * with cash and then the period is closed
+     *
+     * @param data of the generation
+     * @param financialPeriod to be closed
+     */
+    @Transactional
+    public void closePeriod(SampleData data, FinancialPeriod financialPeriod) {
+
+        final List<CreditCardInvoice> invoices = this.creditCardInvoiceRepository
+                .findByFinancialPeriod(financialPeriod);
+
+        for (CreditCardInvoice invoice : invoices) {
+            if (invoice.isOpen() && !invoice.isEmpty()) {
+                this.creditCardInvoiceService.close(invoice.getId());
+            }
+        }
+
+        for (PeriodMovement periodMovement : this.findOpenMovements(financialPeriod)) {
+            this.paymentService.pay(periodMovement, data.paymentFor(periodMovement, financialPeriod, true));
+        }
+
+        this.closingService.close(financialPeriod);
+    }
+
+    /**
+     * @param financialPeriod to search for
+     * @return the {@link PeriodMovement} still open on the {@link FinancialPeriod}
+     */
+    private List<PeriodMovement> findOpenMovements(FinancialPeriod financialPeriod) {
+        return this.periodMovementRepository.findByFinancialPeriod(financialPeriod)
+                .stream()
+                .filter(PeriodMovement::isOpen)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Create the bank account, where the salary goes, and the personal wallet for the small purchases
+     *
+     * @param data of the generation
+     */
+    private void createWallets(SampleData data) {
+
+        final Wallet bankAccount = new Wallet();
+
+        bankAccount.setName("Conta corrente");
+        bankAccount.setBank("Banco do Brasil");
+        bankAccount.setAgency("1234");
+        bankAccount.setAccount("56789");
+        bankAccount.setDigit("0");
+        bankAccount.setWalletType(WalletType.BANK_ACCOUNT);
+        bankAccount.setActualBalance(BigDecimal.valueOf(5000));
+
+        this.walletService.save(bankAccount);
+        data.setBankAccount(bankAccount);
+
+        final Wallet personalWallet = new Wallet();
+
+        personalWallet.setName("Carteira");
+        personalWallet.setWalletType(WalletType.PERSONAL);
+        personalWallet.setActualBalance(BigDecimal.valueOf(300));
+
+        this.walletService.save(personalWallet);
+        data.setPersonalWallet(personalWallet);
+    }
+
+    /**
+     * Create the credit card and the debit card of the bank account
+     *
+     * @param data of the generation
+     */
+    private void createCards(SampleData data) {
+
+        final Card creditCard = new Card();
+
+        creditCard.setName("Cartão de crédito");
+        creditCard.setNumber(this.cardNumber(data.getRandom()));
+        creditCard.setFlag("Mastercard");
+        creditCard.setOwner("Web Budget");
+        creditCard.setCardType(CardType.CREDIT);
+        creditCard.setExpirationDay(10);
+        creditCard.setCreditLimit(BigDecimal.valueOf(8000));
+
+        data.setCreditCard(this.saveCard(creditCard));
+
+        final Card debitCard = new Card();
+
+        debitCard.setName("Cartão de débito");
+        debitCard.setNumber(this.cardNumber(data.getRandom()));
+        debitCard.setFlag("Visa");
+        debitCard.setOwner("Web Budget");
+        debitCard.setCardType(CardType.DEBIT);
+        debitCard.setWallet(data.getBankAccount());
+
+        data.setDebitCard(this.saveCard(debitCard));
+    }
+
+    /**
+     * Save a {@link Card} the same way the view does
+     *
+     * @param card to be saved
+     * @return the saved {@link Card}
+     */
+    private Card saveCard(Card card) {
+        this.cardSavingLogics.forEach(logic -> logic.run(card));
+        final Card saved = this.cardRepository.save(card);
+        this.cardCreatedEvent.fire(saved);
+        return saved;
+    }
+
+    /**
+     * @param random the source of the digits
+     * @return a random card number with sixteen digits
+     */
+    private String cardNumber(SampleDataRandom random) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 16; i++) {
+            builder.append(random.nextInt(10));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Create the {@link Vehicle} used by the refuelings
+     *
+     * @param data of the generation
+     * @param costCenter of the vehicle
+     */
+    private void createVehicle(SampleData data, CostCenter costCenter) {
+
+        final Vehicle vehicle = new Vehicle();
+
+        vehicle.setIdentification("Carro da família");
+        vehicle.setBrand("Volkswagen");
+        vehicle.setModel("Gol");
+        vehicle.setLicensePlate("ABC1D23");
+        vehicle.setOdometer(35000L);
+        vehicle.setFuelCapacity(55);
+        vehicle.setVehicleType(VehicleType.PRIVATE_CAR);
+        vehicle.setCostCenter(costCenter);
+
+        this.vehicleSavingLogics.forEach(logic -> logic.run(vehicle));
+
+        data.setVehicle(this.vehicleRepository.save(vehicle));
+        data.setOdometer(vehicle.getOdometer());
+    }
+
+    /**
+     * Create the {@link FixedMovement} of the fixed classes, they are launched by the generator on each month
+     *
+     * @param data of the generation
+     */
+    private void createFixedMovements(SampleData data) {
+
+        for (SampleMovementClass sample : SampleMovementClass.values()) {
+
+            if (sample.getKind() != SampleMovementClass.Kind.FIXED) {
+                continue;
+            }
+
+            final FixedMovement fixedMovement = new FixedMovement();
+
+            fixedMovement.setIdentification(sample.getName());
+            fixedMovement.setDescription(sample.getName());
+            fixedMovement.setValue(sample.getMedian());
+            fixedMovement.setContact(data.getContacts().get(sample).get(0));
+            fixedMovement.setAutoLaunch(false);
+            fixedMovement.setUndetermined(true);
+            fixedMovement.setStartDate(data.getOptions().getFirstMonth().atDay(data.getRandom().between(1, 28)));
+            fixedMovement.add(new Apportionment(sample.getMedian(), data.getMovementClasses().get(sample)));
+
+            this.fixedMovementService.save(fixedMovement);
+            data.addFixedMovement(fixedMovement);
+        }
+    }
+
+    /**
+     * Save a {@link Refueling} of the vehicle with his movement, the odometer goes forward a few hundred kilometers
+     * each time
+     *
+     * @param data of the generation
+     * @param financialPeriod of the refueling
+     * @param inflation to be applied on the price of the fuel
+     */
+    private void refuel(SampleData data, FinancialPeriod financialPeriod, BigDecimal inflation) {
+
+        final SampleDataRandom random = data.getRandom();
+
+        data.setOdometer(data.getOdometer() + random.between(250, 550));
+
+        final Refueling refueling = new Refueling();
+
+        refueling.setVehicle(data.getVehicle());
+        refueling.setMovementClass(data.getMovementClasses().get(SampleMovementClass.FUEL));
+        refueling.setFinancialPeriod(financialPeriod);
+        refueling.setOdometer(data.getOdometer());
+        refueling.setEventDate(data.randomDay(YearMonth.from(financialPeriod.getStart())));
+        refueling.setPlace("Posto " + random.zipf(SURNAMES));
+        refueling.setFullTank(random.chance(0.8));
+
+        refueling.addFuel();
+
+        final Fuel fuel = refueling.getFuels().get(0);
+
+        fuel.setFuelType(random.chance(0.7) ? FuelType.GASOLINE : FuelType.ETHANOL);
+        fuel.setLiters(random.money(25, 45));
+        fuel.setValuePerLiter(FUEL_PRICE.multiply(inflation).add(random.money(-0.3, 0.3))
+                .setScale(2, RoundingMode.HALF_UP));
+
+        refueling.totalsFuels();
+
+        this.refuelingService.save(refueling, true);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.generator;
+
+import br.com.webbudget.domain.entities.registration.MovementClass;
+import br.com.webbudget.domain.entities.registration.MovementClassType;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+import static br.com.webbudget.domain.entities.registration.MovementClassType.EXPENSE;
+import static br.com.webbudget.domain.entities.registration.MovementClassType.REVENUE;
+
+/**
+ * The {@link MovementClass} created by the sample data and how the movements of each one are generated every month
+ *
+ * The frequency is the average of movements in a month for the variable classes, the median and the sigma describe
+ * the log-normal distribution of the values and the merchants are the number of contacts to choose from
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public enum SampleMovementClass {
+
+    SUPERMARKET("Alimentação", "Supermercado", EXPENSE, Kind.VARIABLE, 8, 180, 0.6, "Supermercado", 5),
+    RESTAURANTS("Alimentação", "Restaurantes", EXPENSE, Kind.VARIABLE, 6, 55, 0.5, "Restaurante", 8),
+    BAKERY("Alimentação", "Padaria", EXPENSE, Kind.VARIABLE, 10, 18, 0.5, "Padaria", 3),
+    ENERGY("Moradia", "Energia elétrica", EXPENSE, Kind.MONTHLY, 1, 190, 0.25, "Companhia de Energia", 1),
+    WATER("Moradia", "Água e esgoto", EXPENSE, Kind.MONTHLY, 1, 85, 0.2, "Companhia de Saneamento", 1),
+    RENT("Moradia", "Aluguel", EXPENSE, Kind.FIXED, 1, 1800, 0, "Imobiliária", 1),
+    INTERNET("Moradia", "Internet", EXPENSE, Kind.FIXED, 1, 120, 0, "Provedor", 1),
+    PHARMACY("Saúde", "Farmácia", EXPENSE, Kind.VARIABLE, 2, 60, 0.7, "Farmácia", 4),
+    HEALTH_PLAN("Saúde", "Plano de saúde", EXPENSE, Kind.FIXED, 1, 650, 0, "Operadora de Saúde", 1),
+    FUEL("Transporte", "Combustível", EXPENSE, Kind.REFUELING, 3, 230, 0.2, null, 0),
+    RIDES("Transporte", "Transporte por aplicativo", EXPENSE, Kind.VARIABLE, 5, 22, 0.5, "Mobilidade", 2),
+    SCHOOL("Educação", "Escola", EXPENSE, Kind.FIXED, 1, 1100, 0, "Colégio", 1),
+    COURSES("Educação", "Cursos", EXPENSE, Kind.VARIABLE, 0.2, 450, 0.5, "Escola de Cursos", 3),
+    LEISURE("Lazer", "Passeios e eventos", EXPENSE, Kind.VARIABLE, 3, 90, 0.8, "Entretenimento", 6),
+    CLOTHING("Lazer", "Vestuário", EXPENSE, Kind.VARIABLE, 1, 160, 0.7, "Loja", 5),
+    SALARY("Renda", "Salário", REVENUE, Kind.FIXED, 1, 9500, 0, "Empregador", 1),
+    INVESTMENTS("Renda", "Rendimentos", REVENUE, Kind.MONTHLY, 1, 85, 0.6, "Corretora", 1),
+    FREELANCE("Renda", "Trabalhos extras", REVENUE, Kind.VARIABLE, 0.3, 1500, 0.5, "Cliente", 4);
+
+    @Getter
+    private final String costCenter;
+    @Getter
+    private final String name;
+    @Getter
+    private final MovementClassType movementClassType;
+    @Getter
+    private final Kind kind;
+    @Getter
+    private final double frequency;
+    @Getter
+    private final BigDecimal median;
+    @Getter
+    private final double sigma;
+    @Getter
+    private final String merchant;
+    @Getter
+    private final int merchants;
+
+    /**
+     * Constructor...
+     *
+     * @param costCenter the name of the cost center of the class
+     * @param name the name of the class
+     * @param movementClassType the type of the class
+     * @param kind how the movements are generated
+     * @param frequency average of movements in a month
+     * @param median of the values
+     * @param sigma the standard deviation of the log of the values
+     * @param merchant the prefix of the name of the contacts
+     * @param merchants the number of contacts
+     */
+    SampleMovementClass(String costCenter, String name, MovementClassType movementClassType, Kind kind,
+                        double frequency, double median, double sigma, String merchant, int merchants) {
+        this.costCenter = costCenter;
+        this.name = name;
+        this.movementClassType = movementClassType;
+        this.kind = kind;
+        this.frequency = frequency;
+        this.median = BigDecimal.valueOf(median);
+        this.sigma = sigma;
+        this.merchant = merchant;
+        this.merchants = merchants;
+    }
+
+    /**
+     * @return the sum of the frequencies of the variable classes, the base to scale them to the movements per month
+     */
+    public static double variableFrequency() {
+        double total = 0;
+        for (SampleMovementClass value : values()) {
+            if (value.kind == Kind.VARIABLE) {
+                total += value.frequency;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * How the movements of a class are generated
+     */
+    public enum Kind {
+
+        /**
+         * A random number of movements with random values every month
+         */
+        VARIABLE,
+        /**
+         * One movement with a random value every month, like a bill
+         */
+        MONTHLY,
+        /**
+         * A fixed movement launched every month
+         */
+        FIXED,
+        /**
+         * The movements come from the refuelings of the vehicle
+         */
+        REFUELING
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.initializer.tasks;
+
+import br.com.webbudget.domain.entities.registration.FinancialPeriod;
+import br.com.webbudget.domain.events.GenerateSampleData;
+import br.com.webbudget.domain.repositories.registration.FinancialPeriodRepository;
+import br.com.webbudget.infrastructure.generator.SampleDataOptions;
+import br.com.webbudget.infrastructure.initializer.InitializationTask;
+import org.apache.deltaspike.core.api.exclude.Exclude;
+import org.apache.deltaspike.core.api.projectstage.ProjectStage.Development;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Event;
+import javax.inject.Inject;
+
+/**
+ * {@link InitializationTask} to generate the sample data on a development database without any {@link FinancialPeriod}
+ *
+ * The generation is enabled by the sample-data.years configuration, usually from the command line of the server, and
+ * runs asynchronously so the deploy does not wait for it
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Dependent
+@Exclude(exceptIfProjectStage = Development.class)
+public class GenerateSampleDataTask implements InitializationTask {
+
+    @Inject
+    private FinancialPeriodRepository financialPeriodRepository;
+
+    @Inject
+    @GenerateSampleData
+    private Event<SampleDataOptions> generateSampleDataEvent;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+
+        final SampleDataOptions options = SampleDataOptions.fromConfiguration();
+
+        if (options.isEnabled() && this.financialPeriodRepository.count() == 0) {
+            this.generateSampleDataEvent.fireAsync(options);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return
+     */
+    @Override
+    public int getPriority() {
+        return 10;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.initializer.tasks;
+
+import br.com.webbudget.infrastructure.initializer.InitializationTask;
+import br.com.webbudget.infrastructure.jfr.FlightRecordings;
+import br.com.webbudget.infrastructure.utils.Configurations;
+
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+
+/**
+ * {@link InitializationTask} to start the flight recording at the deploy when the jfr.start-on-deploy configuration is
+ * enabled, this way the workflows are always recorded
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Dependent
+public class StartFlightRecordingTask implements InitializationTask {
+
+    @Inject
+    private FlightRecordings flightRecordings;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+        if (Configurations.getAsBoolean("jfr.start-on-deploy")) {
+            this.flightRecordings.start();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return
+     */
+    @Override
+    public int getPriority() {
+        return 20;
+    }
+}
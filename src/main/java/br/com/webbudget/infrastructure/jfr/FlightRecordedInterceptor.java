@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jfr;
+
+import br.com.webbudget.infrastructure.jpa.PersistenceMonitor;
+import br.com.webbudget.infrastructure.jpa.PersistenceTracker;
+
+import javax.annotation.Priority;
+import javax.annotation.Resource;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+import java.lang.reflect.Method;
+
+/**
+ * The interceptor of the {@link FlightRecorded} workflows, it runs before the transaction interceptor so the event
+ * covers the flush and the commit of the workflow and is committed only if the transaction commits
+ *
+ * When the workflow joins a transaction started by the caller the event is committed after the completion of that
+ * transaction, if it was not rolled back
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Interceptor
+@FlightRecorded
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+public class FlightRecordedInterceptor {
+
+    @Inject
+    private PersistenceMonitor persistenceMonitor;
+
+    @Resource
+    private TransactionSynchronizationRegistry transactionRegistry;
+
+    /**
+     * Record the event of the intercepted workflow
+     *
+     * @param context of the invocation
+     * @return the value returned by the method
+     * @throws Exception if the method fails
+     */
+    @AroundInvoke
+    public Object record(InvocationContext context) throws Exception {
+
+        final WorkflowEvent event = this.eventOf(context.getMethod());
+
+        final boolean joined = this.transactionRegistry.getTransactionKey() != null;
+        final boolean owner = this.persistenceMonitor.isEnabled() && PersistenceTracker.begin(null);
+
+        event.start();
+        try {
+            final Object result = context.proceed();
+
+            event.measure();
+
+            if (joined) {
+                this.transactionRegistry.registerInterposedSynchronization(new CommitOnSuccess(event));
+            } else {
+                event.commit();
+            }
+            return result;
+        } finally {
+            event.stop();
+
+            if (owner) {
+                this.persistenceMonitor.record(PersistenceTracker.end());
+            }
+        }
+    }
+
+    /**
+     * Create the event declared on the method or on its class
+     *
+     * @param method intercepted
+     * @return the event to record
+     * @throws ReflectiveOperationException if the event could not be created
+     */
+    private WorkflowEvent eventOf(Method method) throws ReflectiveOperationException {
+
+        FlightRecorded flightRecorded = method.getAnnotation(FlightRecorded.class);
+
+        if (flightRecorded == null) {
+            flightRecorded = method.getDeclaringClass().getAnnotation(FlightRecorded.class);
+        }
+
+        return flightRecorded.value().getDeclaredConstructor().newInstance();
+    }
+
+    /**
+     * Commit the event after the completion of the transaction joined by the workflow, if it was committed
+     */
+    private static final class CommitOnSuccess implements Synchronization {
+
+        private final WorkflowEvent event;
+
+        /**
+         * Constructor...
+         *
+         * @param event to commit
+         */
+        private CommitOnSuccess(WorkflowEvent event) {
+            this.event = event;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void beforeCompletion() { }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param status
+         */
+        @Override
+        public void afterCompletion(int status) {
+            if (status == Status.STATUS_COMMITTED) {
+                this.event.commit();
+            }
+        }
+    }
+}
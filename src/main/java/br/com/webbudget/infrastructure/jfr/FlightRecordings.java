@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jfr;
+
+import br.com.webbudget.domain.exceptions.BusinessLogicException;
+import br.com.webbudget.infrastructure.utils.Configurations;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Keep the flight recording of the application, started with the {@link #PROFILE} bundled with the application so the
+ * {@link WorkflowEvent} are recorded together with the JVM events that matter to them
+ *
+ * The recording is kept on disk limited by the jfr.max-age-minutes and jfr.max-size-mb configurations, a dump has only
+ * the events still kept by it
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ApplicationScoped
+public class FlightRecordings {
+
+    public static final String PROFILE = "/jfr/webbudget.jfc";
+
+    private static final String NAME = "webbudget";
+
+    private Recording recording;
+
+    @Inject
+    private Logger logger;
+
+    /**
+     * Start the recording, nothing is done if it is already running
+     */
+    public synchronized void start() {
+
+        if (this.isRecording()) {
+            return;
+        }
+
+        this.recording = new Recording(this.loadProfile());
+
+        this.recording.setName(NAME);
+        this.recording.setToDisk(true);
+        this.recording.setMaxAge(Duration.ofMinutes(Configurations.getAsInteger("jfr.max-age-minutes")));
+        this.recording.setMaxSize(Configurations.getAsInteger("jfr.max-size-mb") * 1024L * 1024L);
+
+        this.recording.start();
+
+        this.logger.info("Flight recording started with the profile {}", PROFILE);
+    }
+
+    /**
+     * Stop and discard the recording
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (this.recording != null) {
+            this.recording.close();
+            this.recording = null;
+        }
+    }
+
+    /**
+     * @return if the recording is running
+     */
+    public synchronized boolean isRecording() {
+        return this.recording != null && this.recording.getState() == RecordingState.RUNNING;
+    }
+
+    /**
+     * @return when the recording was started, null if it is not running
+     */
+    public synchronized Instant getStartTime() {
+        return this.isRecording() ? this.recording.getStartTime() : null;
+    }
+
+    /**
+     * Dump the events kept by the recording, the recording continues running
+     *
+     * @param output to write the dump to
+     * @throws IOException if the dump can't be written
+     */
+    public synchronized void dump(OutputStream output) throws IOException {
+
+        if (!this.isRecording()) {
+            throw new BusinessLogicException("error.flight-recorder.not-recording");
+        }
+
+        final Path file = Files.createTempFile(NAME, ".jfr");
+        try {
+            this.recording.dump(file);
+            Files.copy(file, output);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * @return the {@link Configuration} of the bundled profile
+     */
+    private Configuration loadProfile() {
+        try (final InputStream stream = this.getClass().getResourceAsStream(PROFILE);
+             final Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+            return Configuration.create(reader);
+        } catch (IOException | ParseException ex) {
+            throw new IllegalStateException("Can't load the flight recorder profile " + PROFILE, ex);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event of the closing of a credit card invoice
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.1.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Label("Invoice Closing")
+@Name("br.com.webbudget.InvoiceClosing")
+@Description("Closing of a credit card invoice into a period movement")
+public class InvoiceClosingEvent extends WorkflowEvent {
+
+    @Label("Invoice")
+    private long invoice;
+
+    @Label("Card")
+    private String card;
+
+    /**
+     * Describe the event, it is committed by the {@link FlightRecordedInterceptor} after the transaction
+     *
+     * @param financialPeriod the identification of the period of the invoice
+     * @param invoice the id of the invoice
+     * @param card the name of the card
+     */
+    public void describe(String financialPeriod, long invoice, String card) {
+        this.invoice = invoice;
+        this.card = card;
+        this.describe(financialPeriod);
+    }
+}
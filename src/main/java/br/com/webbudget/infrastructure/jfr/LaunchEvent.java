@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event of the launch of fixed movements into a financial period
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.1.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Label("Fixed Movements Launch")
+@Name("br.com.webbudget.Launch")
+@Description("Launch of fixed movements as period movements")
+public class LaunchEvent extends WorkflowEvent {
+
+    @Label("Fixed Movements")
+    private long fixedMovements;
+
+    /**
+     * Describe the event, it is committed by the {@link FlightRecordedInterceptor} after the transaction
+     *
+     * @param financialPeriod the identification of the period
+     * @param fixedMovements the number of fixed movements launched
+     */
+    public void describe(String financialPeriod, long fixedMovements) {
+        this.fixedMovements = fixedMovements;
+        this.describe(financialPeriod);
+    }
+}
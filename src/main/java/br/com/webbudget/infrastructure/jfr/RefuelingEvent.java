@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event of the saving of a refueling with the update of the vehicle statistics
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.1.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Label("Refueling")
+@Name("br.com.webbudget.Refueling")
+@Description("Saving of a refueling and the update of the vehicle statistics")
+public class RefuelingEvent extends WorkflowEvent {
+
+    @Label("Vehicle")
+    private String vehicle;
+
+    @Label("Full Tank")
+    private boolean fullTank;
+
+    @Label("Movement Created")
+    private boolean movementCreated;
+
+    /**
+     * Describe the event, it is committed by the {@link FlightRecordedInterceptor} after the transaction
+     *
+     * @param financialPeriod the identification of the period of the refueling
+     * @param vehicle the identification of the vehicle
+     * @param fullTank if the tank was filled
+     * @param movementCreated if a period movement was created for the refueling
+     */
+    public void describe(String financialPeriod, String vehicle, boolean fullTank, boolean movementCreated) {
+        this.vehicle = vehicle;
+        this.fullTank = fullTank;
+        this.movementCreated = movementCreated;
+        this.describe(financialPeriod);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jfr;
+
+import br.com.webbudget.infrastructure.jpa.PersistenceTracker;
+import br.com.webbudget.infrastructure.jpa.PersistenceUsage;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+/**
+ * Base of the flight recorder events of the heavy workflows of the services, the duration comes from the event itself
+ * and the database usage from the {@link PersistenceTracker}, so it is zero when the persistence monitor is disabled
+ *
+ * The events are started and committed by the {@link FlightRecordedInterceptor} around the transaction of the
+ * workflow, the workflow itself only describes the event it is running, see {@link #current(Class)}
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.1.0
+ * @since 3.1.0, 18/10/2026
+ */
+@StackTrace(false)
+@Category({"Web Budget", "Workflows"})
+public abstract class WorkflowEvent extends Event {
+
+    private static final ThreadLocal<Deque<WorkflowEvent>> RUNNING = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Label("Financial Period")
+    protected String financialPeriod;
+
+    @Label("Statements")
+    @Description("SQL statements executed by the workflow")
+    protected long statements;
+
+    @Label("Entities Loaded")
+    @Description("Entities loaded from the rows read by the workflow")
+    protected long entities;
+
+    @Timespan
+    @Label("SQL Time")
+    @Description("Time spent executing the SQL statements")
+    protected long sqlTime;
+
+    private transient PersistenceUsage before;
+
+    /**
+     * Find the innermost event of the given type running on the current thread
+     *
+     * @param type of the event
+     * @param <T> the type of the event
+     * @return the event, empty if the workflow was not called through the {@link FlightRecordedInterceptor}
+     */
+    public static <T extends WorkflowEvent> Optional<T> current(Class<T> type) {
+        return RUNNING.get().stream()
+                .filter(type::isInstance)
+                .map(type::cast)
+                .findFirst();
+    }
+
+    /**
+     * Start the event, before anything is done by the workflow
+     */
+    void start() {
+        RUNNING.get().push(this);
+        if (this.isEnabled()) {
+            this.before = PersistenceTracker.usage();
+        }
+        this.begin();
+    }
+
+    /**
+     * End the event and take the database usage of the workflow, nothing is committed here
+     */
+    void measure() {
+
+        this.end();
+
+        if (this.before == null || !this.shouldCommit()) {
+            return;
+        }
+
+        final PersistenceUsage usage = PersistenceTracker.usage().minus(this.before);
+
+        this.statements = usage.getStatements();
+        this.entities = usage.getEntities();
+        this.sqlTime = usage.getSqlNanos();
+    }
+
+    /**
+     * Remove the event from the running ones of the current thread
+     */
+    void stop() {
+        RUNNING.get().remove(this);
+    }
+
+    /**
+     * Describe the event, it is committed by the {@link FlightRecordedInterceptor} after the transaction
+     *
+     * @param financialPeriod the identification of the period of the workflow
+     */
+    protected void describe(String financialPeriod) {
+        this.financialPeriod = financialPeriod;
+    }
+}
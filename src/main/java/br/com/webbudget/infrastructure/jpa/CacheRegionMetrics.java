@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jpa;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The hit and miss metrics of a single second level cache region
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ToString
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class CacheRegionMetrics {
+
+    @Getter
+    private final String region;
+    @Getter
+    private final long hits;
+    @Getter
+    private final long misses;
+    @Getter
+    private final long puts;
+    @Getter
+    private final long elements;
+
+    /**
+     * The ratio of hits over all the reads of this region
+     *
+     * @return the hit ratio, from zero to one
+     */
+    public double getHitRatio() {
+        final long reads = this.hits + this.misses;
+        return reads == 0 ? 0 : (double) this.hits / reads;
+    }
+}
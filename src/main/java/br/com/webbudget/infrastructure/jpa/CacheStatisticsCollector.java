@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jpa;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Collect the per region metrics of the second level and query caches from the hibernate {@link Statistics}
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ApplicationScoped
+public class CacheStatisticsCollector {
+
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Collect the metrics of every cache region known by the persistence unit
+     *
+     * @return a {@link List} of {@link CacheRegionMetrics}, one for each region
+     */
+    public List<CacheRegionMetrics> collect() {
+
+        final Statistics statistics = this.getStatistics();
+
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(statistics::getCacheRegionStatistics)
+                .filter(Objects::nonNull)
+                .map(this::toMetrics)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return true if the hibernate statistics are enabled for the persistence unit
+     */
+    public boolean isEnabled() {
+        return this.getStatistics().isStatisticsEnabled();
+    }
+
+    /**
+     * @return the {@link Statistics} of the hibernate {@link SessionFactory}
+     */
+    private Statistics getStatistics() {
+        return this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Convert the hibernate {@link CacheRegionStatistics} to our {@link CacheRegionMetrics}
+     *
+     * @param statistics to be converted
+     * @return the {@link CacheRegionMetrics}
+     */
+    private CacheRegionMetrics toMetrics(CacheRegionStatistics statistics) {
+        return new CacheRegionMetrics(statistics.getRegionName(), statistics.getHitCount(),
+                statistics.getMissCount(), statistics.getPutCount(), statistics.getElementCountInMemory());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jpa;
+
+import br.com.webbudget.domain.entities.view.MaterializedView;
+import br.com.webbudget.infrastructure.utils.Configurations;
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.naming.PhysicalNamingStrategyStandardImpl;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The naming strategy to turn off the {@link MaterializedView} without a new migration, when the views.materialized
+ * configuration is disabled the entities of the views are mapped to the live views they are built from, so the
+ * dashboards always read the current values and nothing needs to be refreshed
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public class MaterializedViewNamingStrategy extends PhysicalNamingStrategyStandardImpl {
+
+    private static final String LIVE_SUFFIX = "_live";
+
+    private final boolean materialized;
+    private final Set<String> viewNames;
+
+    /**
+     * Constructor...
+     */
+    public MaterializedViewNamingStrategy() {
+        this.materialized = Configurations.getAsBoolean("views.materialized");
+        this.viewNames = Arrays.stream(MaterializedView.values())
+                .map(MaterializedView::getViewName)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param name
+     * @param context
+     * @return
+     */
+    @Override
+    public Identifier toPhysicalTableName(Identifier name, JdbcEnvironment context) {
+
+        if (this.materialized || !this.viewNames.contains(name.getText())) {
+            return name;
+        }
+        return Identifier.toIdentifier(name.getText() + LIVE_SUFFIX, name.isQuoted());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jpa;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The sum of the {@link PersistenceUsage} of every execution of a request, an action or a service method
+ *
+ * The average of statements by execution is the number to look at when searching for N+1 problems, a listing that does
+ * a few statements for each row shows an average that grows with the size of the data
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public final class PersistenceAggregate {
+
+    @Getter
+    private final String name;
+
+    private final LongAdder executions;
+    private final LongAdder statements;
+    private final LongAdder entities;
+    private final LongAdder sqlNanos;
+    private final LongAccumulator maxStatements;
+
+    /**
+     * Constructor...
+     *
+     * @param name of the request, action or method
+     */
+    PersistenceAggregate(String name) {
+        this.name = name;
+        this.executions = new LongAdder();
+        this.statements = new LongAdder();
+        this.entities = new LongAdder();
+        this.sqlNanos = new LongAdder();
+        this.maxStatements = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * Add one execution
+     *
+     * @param usage of the execution
+     */
+    void add(PersistenceUsage usage) {
+        this.executions.increment();
+        this.statements.add(usage.getStatements());
+        this.entities.add(usage.getEntities());
+        this.sqlNanos.add(usage.getSqlNanos());
+        this.maxStatements.accumulate(usage.getStatements());
+    }
+
+    /**
+     * @return the number of executions
+     */
+    public long getExecutions() {
+        return this.executions.sum();
+    }
+
+    /**
+     * @return the total of statements of all the executions
+     */
+    public long getStatements() {
+        return this.statements.sum();
+    }
+
+    /**
+     * @return the total of entities loaded by all the executions
+     */
+    public long getEntities() {
+        return this.entities.sum();
+    }
+
+    /**
+     * @return the total time executing statements, in milliseconds
+     */
+    public long getSqlMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(this.sqlNanos.sum());
+    }
+
+    /**
+     * @return the highest number of statements of a single execution
+     */
+    public long getMaxStatements() {
+        return this.maxStatements.get();
+    }
+
+    /**
+     * @return the average of statements by execution
+     */
+    public double getAverageStatements() {
+        final long count = this.getExecutions();
+        return count == 0 ? 0 : (double) this.getStatements() / count;
+    }
+
+    /**
+     * @return the average time executing statements by execution, in milliseconds
+     */
+    public double getAverageSqlMillis() {
+        final long count = this.getExecutions();
+        return count == 0 ? 0 : (double) this.getSqlMillis() / count;
+    }
+}
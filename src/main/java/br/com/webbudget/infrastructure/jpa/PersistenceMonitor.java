@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jpa;
+
+import br.com.webbudget.infrastructure.utils.Configurations;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.stream.Collectors;
+
+/**
+ * Keep the aggregates of the database usage by request, by action and by service method since the start of the
+ * application or the last reset, and the last slow queries found
+ *
+ * The tracking is done by the {@link PersistenceTracker} and the values are recorded here by the servlet filter, at the
+ * end of each request, and by the {@link PersistenceMonitorInterceptor}, at the end of each service method. Each kind
+ * of aggregate keeps at most {@link #AGGREGATES_KEPT} names, the usage of the names found after that is recorded on
+ * the {@link #OTHERS} aggregate
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.1.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ApplicationScoped
+public class PersistenceMonitor {
+
+    private static final int SLOW_QUERIES_KEPT = 100;
+    private static final int AGGREGATES_KEPT = 500;
+
+    private static final String OTHERS = "(others)";
+
+    private boolean enabled;
+
+    private Map<String, PersistenceAggregate> requests;
+    private Map<String, PersistenceAggregate> actions;
+    private Map<String, PersistenceAggregate> methods;
+
+    private Deque<SlowQuery> slowQueries;
+
+    /**
+     * Initialize the aggregates
+     */
+    @PostConstruct
+    protected void initialize() {
+        this.enabled = Configurations.getAsBoolean("persistence.monitor");
+        this.requests = new ConcurrentHashMap<>();
+        this.actions = new ConcurrentHashMap<>();
+        this.methods = new ConcurrentHashMap<>();
+        this.slowQueries = new ConcurrentLinkedDeque<>();
+    }
+
+    /**
+     * @return true if the monitoring is enabled by the persistence.monitor configuration
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Record the usage of a finished {@link PersistenceTracker.Tracking}, by his request and action, and keep his slow
+     * queries
+     *
+     * @param tracking finished, null is ignored
+     */
+    public void record(PersistenceTracker.Tracking tracking) {
+
+        if (tracking == null) {
+            return;
+        }
+
+        final PersistenceUsage usage = tracking.getUsage();
+
+        if (tracking.getRequest() != null) {
+            this.aggregateOf(this.requests, tracking.getRequest()).add(usage);
+        }
+
+        if (tracking.getAction() != null) {
+            this.aggregateOf(this.actions, tracking.getAction()).add(usage);
+        }
+
+        for (SlowQuery slowQuery : tracking.getSlowQueries()) {
+            this.slowQueries.addFirst(slowQuery);
+            if (this.slowQueries.size() > SLOW_QUERIES_KEPT) {
+                this.slowQueries.pollLast();
+            }
+        }
+    }
+
+    /**
+     * Record the usage of one execution of a service method
+     *
+     * @param method the class and the name of the method
+     * @param usage of the execution
+     */
+    public void recordMethod(String method, PersistenceUsage usage) {
+        this.aggregateOf(this.methods, method).add(usage);
+    }
+
+    /**
+     * @return the aggregates by request, the ones with more SQL time first
+     */
+    public List<PersistenceAggregate> getRequests() {
+        return this.sorted(this.requests);
+    }
+
+    /**
+     * @return the aggregates by bean action, the ones with more SQL time first
+     */
+    public List<PersistenceAggregate> getActions() {
+        return this.sorted(this.actions);
+    }
+
+    /**
+     * @return the aggregates by service method, the ones with more SQL time first
+     */
+    public List<PersistenceAggregate> getMethods() {
+        return this.sorted(this.methods);
+    }
+
+    /**
+     * @return the last slow queries, the newest first
+     */
+    public List<SlowQuery> getSlowQueries() {
+        return new ArrayList<>(this.slowQueries);
+    }
+
+    /**
+     * Clear all the aggregates and slow queries
+     */
+    public void reset() {
+        this.requests.clear();
+        this.actions.clear();
+        this.methods.clear();
+        this.slowQueries.clear();
+    }
+
+    /**
+     * @param aggregates where the aggregate is
+     * @param name of the aggregate
+     * @return the aggregate with the given name or the {@link #OTHERS} aggregate when the limit of names is reached
+     */
+    private PersistenceAggregate aggregateOf(Map<String, PersistenceAggregate> aggregates, String name) {
+
+        final PersistenceAggregate aggregate = aggregates.get(name);
+
+        if (aggregate != null) {
+            return aggregate;
+        }
+
+        if (aggregates.size() >= AGGREGATES_KEPT) {
+            return aggregates.computeIfAbsent(OTHERS, PersistenceAggregate::new);
+        }
+
+        return aggregates.computeIfAbsent(name, PersistenceAggregate::new);
+    }
+
+    /**
+     * @param aggregates to be sorted
+     * @return the aggregates sorted by SQL time and then by statements, the highest first
+     */
+    private List<PersistenceAggregate> sorted(Map<String, PersistenceAggregate> aggregates) {
+        return aggregates.values()
+                .stream()
+                .sorted(Comparator.comparingLong(PersistenceAggregate::getSqlMillis)
+                        .thenComparingLong(PersistenceAggregate::getStatements)
+                        .reversed())
+                .collect(Collectors.toList());
+    }
+}
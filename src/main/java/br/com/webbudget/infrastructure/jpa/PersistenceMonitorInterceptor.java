@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jpa;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+
+/**
+ * The interceptor of the {@link PersistenceMonitored} services, the usage of each method is recorded on the
+ * {@link PersistenceMonitor} including the usage of the services it calls
+ *
+ * Outside of an HTTP request, like in the asynchronous launches, the outermost method starts the tracking so the slow
+ * queries are still found
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Interceptor
+@PersistenceMonitored
+@Priority(Interceptor.Priority.APPLICATION)
+public class PersistenceMonitorInterceptor {
+
+    @Inject
+    private PersistenceMonitor persistenceMonitor;
+
+    /**
+     * Measure the usage of the intercepted method
+     *
+     * @param context of the invocation
+     * @return the value returned by the method
+     * @throws Exception if the method fails
+     */
+    @AroundInvoke
+    public Object monitor(InvocationContext context) throws Exception {
+
+        if (!this.persistenceMonitor.isEnabled()) {
+            return context.proceed();
+        }
+
+        final Method method = context.getMethod();
+        final String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+
+        final boolean owner = PersistenceTracker.begin(null);
+        final PersistenceUsage before = PersistenceTracker.usage();
+
+        PersistenceTracker.enter(name);
+        try {
+            return context.proceed();
+        } finally {
+            PersistenceTracker.exit();
+            this.persistenceMonitor.recordMethod(name, PersistenceTracker.usage().minus(before));
+
+            if (owner) {
+                this.persistenceMonitor.record(PersistenceTracker.end());
+            }
+        }
+    }
+}
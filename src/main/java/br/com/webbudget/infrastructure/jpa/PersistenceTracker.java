@@ -0,0 +1,244 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jpa;
+
+import br.com.webbudget.infrastructure.utils.Configurations;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Track what the current thread does on the database while it works on a request, an action or a service method
+ *
+ * The hibernate hooks ({@link QueryCountInspector}, {@link StatementTimingListener} and {@link EntityLoadInterceptor})
+ * are not managed beans, so the state is kept in a thread local started by the {@link PersistenceMonitor} users and
+ * the threads without a tracking started pay only the thread local lookup
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public final class PersistenceTracker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PersistenceTracker.class);
+
+    private static final long SLOW_QUERY_NANOS = TimeUnit.MILLISECONDS.toNanos(
+            Configurations.getAsInteger("persistence.slow-query-millis"));
+
+    private static final ThreadLocal<Tracking> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Constructor...
+     */
+    private PersistenceTracker() { }
+
+    /**
+     * Start the tracking of the current thread, if there is one already started nothing is done and the caller is not
+     * the owner of the tracking
+     *
+     * @param request the view or the URI being requested, null if this is not an HTTP request
+     * @return true if the tracking was started by this call and must be ended by the caller
+     */
+    public static boolean begin(String request) {
+
+        if (CURRENT.get() != null) {
+            return false;
+        }
+
+        CURRENT.set(new Tracking(request));
+        return true;
+    }
+
+    /**
+     * End the tracking of the current thread
+     *
+     * @return the {@link Tracking} ended, null if there was none
+     */
+    public static Tracking end() {
+        final Tracking tracking = CURRENT.get();
+        CURRENT.remove();
+        return tracking;
+    }
+
+    /**
+     * Tell which action of a bean is being executed
+     *
+     * @param action the expression of the action
+     */
+    public static void action(String action) {
+        final Tracking tracking = CURRENT.get();
+        if (tracking != null) {
+            tracking.action = action;
+        }
+    }
+
+    /**
+     * Tell that a service method has started
+     *
+     * @param method the class and the name of the method
+     */
+    public static void enter(String method) {
+        final Tracking tracking = CURRENT.get();
+        if (tracking != null) {
+            tracking.methods.push(method);
+        }
+    }
+
+    /**
+     * Tell that the last service method started has finished
+     */
+    public static void exit() {
+        final Tracking tracking = CURRENT.get();
+        if (tracking != null && !tracking.methods.isEmpty()) {
+            tracking.methods.pop();
+        }
+    }
+
+    /**
+     * @return the usage so far of the current thread, {@link PersistenceUsage#NONE} if there is no tracking
+     */
+    public static PersistenceUsage usage() {
+        final Tracking tracking = CURRENT.get();
+        return tracking != null ? tracking.getUsage() : PersistenceUsage.NONE;
+    }
+
+    /**
+     * Count a statement prepared
+     *
+     * @param sql of the statement
+     */
+    static void prepared(String sql) {
+        final Tracking tracking = CURRENT.get();
+        if (tracking != null) {
+            tracking.statements++;
+            tracking.lastSql = sql;
+        }
+    }
+
+    /**
+     * Count an entity loaded
+     */
+    static void entityLoaded() {
+        final Tracking tracking = CURRENT.get();
+        if (tracking != null) {
+            tracking.entities++;
+        }
+    }
+
+    /**
+     * Mark the start of a statement execution
+     */
+    static void executionStarted() {
+        final Tracking tracking = CURRENT.get();
+        if (tracking != null) {
+            tracking.executionStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * Mark the end of a statement execution, a slow one is logged with the request, the action and the method that
+     * were running
+     */
+    static void executionFinished() {
+
+        final Tracking tracking = CURRENT.get();
+
+        if (tracking == null || tracking.executionStart == 0) {
+            return;
+        }
+
+        final long elapsed = System.nanoTime() - tracking.executionStart;
+
+        tracking.executionStart = 0;
+        tracking.sqlNanos += elapsed;
+
+        if (elapsed >= SLOW_QUERY_NANOS) {
+
+            final SlowQuery slowQuery = new SlowQuery(LocalDateTime.now(), TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    tracking.request, tracking.action, tracking.methods.peek(), tracking.lastSql);
+
+            tracking.slowQueries.add(slowQuery);
+
+            LOGGER.warn("Slow query of {}ms on {}, action {}, method {}: {}", slowQuery.getMillis(),
+                    slowQuery.getRequest(), slowQuery.getAction(), slowQuery.getMethod(), slowQuery.getSql());
+        }
+    }
+
+    /**
+     * The tracking state of one thread
+     */
+    public static final class Tracking {
+
+        private final String request;
+        private final Deque<String> methods;
+        private final List<SlowQuery> slowQueries;
+
+        private String action;
+        private String lastSql;
+
+        private long statements;
+        private long entities;
+        private long sqlNanos;
+        private long executionStart;
+
+        /**
+         * Constructor...
+         *
+         * @param request being tracked, null if this is not an HTTP request
+         */
+        private Tracking(String request) {
+            this.request = request;
+            this.methods = new ArrayDeque<>();
+            this.slowQueries = new ArrayList<>();
+        }
+
+        /**
+         * @return the view or URI requested, null if this is not an HTTP request
+         */
+        public String getRequest() {
+            return this.request;
+        }
+
+        /**
+         * @return the expression of the last action executed, null if there was none
+         */
+        public String getAction() {
+            return this.action;
+        }
+
+        /**
+         * @return the slow queries found
+         */
+        public List<SlowQuery> getSlowQueries() {
+            return this.slowQueries;
+        }
+
+        /**
+         * @return the usage so far
+         */
+        public PersistenceUsage getUsage() {
+            return new PersistenceUsage(this.statements, this.entities, this.sqlNanos);
+        }
+    }
+}
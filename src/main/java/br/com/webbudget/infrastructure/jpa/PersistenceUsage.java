@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jpa;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * What was done on the database by a piece of work: the statements prepared, the entities loaded and the time spent
+ * executing the statements
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ToString
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class PersistenceUsage {
+
+    static final PersistenceUsage NONE = new PersistenceUsage(0, 0, 0);
+
+    @Getter
+    private final long statements;
+    @Getter
+    private final long entities;
+    @Getter
+    private final long sqlNanos;
+
+    /**
+     * @param before the usage at the start of the work
+     * @return the usage between the start of the work and this one
+     */
+    public PersistenceUsage minus(PersistenceUsage before) {
+        return new PersistenceUsage(this.statements - before.statements, this.entities - before.entities,
+                this.sqlNanos - before.sqlNanos);
+    }
+}
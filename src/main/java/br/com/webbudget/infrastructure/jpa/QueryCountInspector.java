@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jpa;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * A {@link StatementInspector} to count the SQL statements prepared by hibernate in the current thread
+ *
+ * The counting is off by default, it only happens between the calls to {@link #start()} and {@link #stop()} so the
+ * cost for the threads not being measured is a single thread local lookup. Every statement is also given to the
+ * {@link PersistenceTracker}, for the threads tracked by the {@link PersistenceMonitor}
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.1.0
+ * @since 3.1.0, 18/10/2026
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param sql
+     * @return
+     */
+    @Override
+    public String inspect(String sql) {
+
+        final int[] counter = COUNTER.get();
+
+        if (counter != null) {
+            counter[0]++;
+        }
+
+        PersistenceTracker.prepared(sql);
+
+        return sql;
+    }
+
+    /**
+     * Start to count the statements of the current thread
+     */
+    public static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * @return the number of statements counted so far in the current thread, zero if the counting was not started
+     */
+    public static int current() {
+        final int[] counter = COUNTER.get();
+        return counter != null ? counter[0] : 0;
+    }
+
+    /**
+     * Stop the counting of the current thread
+     *
+     * @return the number of statements counted
+     */
+    public static int stop() {
+        final int count = current();
+        COUNTER.remove();
+        return count;
+    }
+}
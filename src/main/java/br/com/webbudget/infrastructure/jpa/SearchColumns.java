@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jpa;
+
+import javax.persistence.EntityManager;
+
+/**
+ * Tell if the search columns of the movements, contacts and financial periods are kept by the triggers of the
+ * database, a schema created by hibernate instead of the migrations has the columns but not the triggers, so they are
+ * always null and the searches fall back to the fields of the entities
+ *
+ * The catalog is read only once, the triggers do not come and go while the application is running
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public final class SearchColumns {
+
+    private static final String TRIGGERS_QUERY = "SELECT count(*) FROM pg_trigger WHERE NOT tgisinternal AND " +
+            "tgname IN ('tg_movements_search_text', 'tg_contacts_search_text', 'tg_financial_periods_search_text')";
+
+    private static final int TRIGGERS = 3;
+
+    private static volatile Boolean maintained;
+
+    /**
+     * Constructor...
+     */
+    private SearchColumns() { }
+
+    /**
+     * Check on the database catalog if the triggers of the search columns are there
+     *
+     * @param entityManager to read the catalog on the first call
+     * @return true if the search columns are kept by the database and can be searched
+     */
+    public static boolean areMaintained(EntityManager entityManager) {
+
+        Boolean result = maintained;
+
+        if (result == null) {
+            final Number triggers = (Number) entityManager.createNativeQuery(TRIGGERS_QUERY).getSingleResult();
+            maintained = result = triggers.intValue() == TRIGGERS;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jpa;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.dialect.function.StandardSQLFunction;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * A {@link MetadataBuilderContributor} to register the trigram functions of the database used by the search, the
+ * date function used to group by day and the row value comparison used by the keyset pages, this way they can be used
+ * on the JPQL and criteria queries
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.2.0
+ * @since 3.1.0, 18/10/2026
+ */
+public class SearchFunctionContributor implements MetadataBuilderContributor {
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param metadataBuilder
+     */
+    @Override
+    public void contribute(MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction("similarity",
+                new StandardSQLFunction("similarity", StandardBasicTypes.DOUBLE));
+        metadataBuilder.applySqlFunction("word_similarity",
+                new StandardSQLFunction("word_similarity", StandardBasicTypes.DOUBLE));
+        metadataBuilder.applySqlFunction("date",
+                new StandardSQLFunction("date", StandardBasicTypes.DATE));
+        metadataBuilder.applySqlFunction("row_less_than",
+                new SQLFunctionTemplate(StandardBasicTypes.BOOLEAN, "((?1, ?2, ?3) < (?4, ?5, ?6))"));
+    }
+}
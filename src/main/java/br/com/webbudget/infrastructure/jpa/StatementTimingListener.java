@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jpa;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.SessionEventListener;
+
+/**
+ * A hibernate {@link SessionEventListener} to measure the time of the statements executed by the tracked threads, see
+ * {@link PersistenceTracker}
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public class StatementTimingListener extends BaseSessionEventListener {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void jdbcExecuteStatementStart() {
+        PersistenceTracker.executionStarted();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        PersistenceTracker.executionFinished();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void jdbcExecuteBatchStart() {
+        PersistenceTracker.executionStarted();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        PersistenceTracker.executionFinished();
+    }
+}
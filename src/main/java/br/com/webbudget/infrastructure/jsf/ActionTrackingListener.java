@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.jsf;
+
+import br.com.webbudget.infrastructure.jpa.PersistenceTracker;
+
+import javax.el.MethodExpression;
+import javax.faces.component.ActionSource2;
+import javax.faces.event.AbortProcessingException;
+import javax.faces.event.ActionEvent;
+import javax.faces.event.ActionListener;
+
+/**
+ * The default {@link ActionListener} of the application, before invoking the action it gives the expression to the
+ * {@link PersistenceTracker} so the database usage of the request can be grouped by the action of the views
+ *
+ * Components with only an action listener are not attributed and stay on the view of the request
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public class ActionTrackingListener implements ActionListener {
+
+    private final ActionListener wrapped;
+
+    /**
+     * Constructor...
+     *
+     * @param wrapped the default {@link ActionListener} of the implementation
+     */
+    public ActionTrackingListener(ActionListener wrapped) {
+        this.wrapped = wrapped;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param event
+     * @throws AbortProcessingException
+     */
+    @Override
+    public void processAction(ActionEvent event) throws AbortProcessingException {
+
+        if (event.getComponent() instanceof ActionSource2) {
+            final MethodExpression expression = ((ActionSource2) event.getComponent()).getActionExpression();
+            if (expression != null) {
+                PersistenceTracker.action(expression.getExpressionString());
+            }
+        }
+
+        this.wrapped.processAction(event);
+    }
+}
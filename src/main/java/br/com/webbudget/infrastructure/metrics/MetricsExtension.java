@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.metrics;
+
+import br.com.webbudget.domain.logics.BusinessLogic;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.Extension;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import javax.enterprise.inject.spi.WithAnnotations;
+
+/**
+ * CDI {@link Extension} to add the {@link Timed} binding to the domain services and to the run method of the
+ * {@link BusinessLogic} implementations, this way every new service or logic is measured without any change
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public class MetricsExtension implements Extension {
+
+    private static final String SERVICES_PACKAGE = "br.com.webbudget.domain.services";
+
+    /**
+     * Add the binding to the application scoped services of the domain
+     *
+     * @param event of the type being processed
+     * @param <T> the type of the service
+     */
+    <T> void timeServices(@Observes @WithAnnotations(ApplicationScoped.class) ProcessAnnotatedType<T> event) {
+
+        final Class<T> type = event.getAnnotatedType().getJavaClass();
+
+        if (type.getPackageName().equals(SERVICES_PACKAGE)) {
+            event.configureAnnotatedType().add(Timed.Literal.INSTANCE);
+        }
+    }
+
+    /**
+     * Add the binding to the run method of the logics
+     *
+     * @param event of the logic being processed
+     * @param <T> the type of the logic
+     */
+    <T extends BusinessLogic<?>> void timeLogics(@Observes ProcessAnnotatedType<T> event) {
+
+        if (event.getAnnotatedType().getJavaClass().isInterface()) {
+            return;
+        }
+
+        event.configureAnnotatedType()
+                .filterMethods(method -> method.getJavaMember().getName().equals("run")
+                        && !method.getJavaMember().isBridge())
+                .forEach(method -> method.add(Timed.Literal.INSTANCE));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.metrics;
+
+import br.com.webbudget.domain.logics.BusinessLogic;
+import br.com.webbudget.infrastructure.utils.Configurations;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * The registry of the {@link Timer} of each measured method
+ *
+ * The services are identified by the class and the method, the overloads share the same timer. The logics are
+ * identified by the chain, the interface injected as an instance on the services, and by the implementation
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ApplicationScoped
+public class MetricsRegistry {
+
+    private boolean enabled;
+
+    private final Map<Method, Timer> methods;
+    private final Map<List<String>, Timer> timers;
+
+    /**
+     * Constructor...
+     */
+    public MetricsRegistry() {
+        this.methods = new ConcurrentHashMap<>();
+        this.timers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Initialize the registry with the values of the configuration
+     */
+    @PostConstruct
+    protected void initialize() {
+        this.enabled = Configurations.getAsBoolean("metrics.enabled");
+    }
+
+    /**
+     * @return if the methods are being measured
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Find the {@link Timer} of the method, creating it on the first call
+     *
+     * @param method the method being measured
+     * @return the {@link Timer} of the method
+     */
+    public Timer timerOf(Method method) {
+        return this.methods.computeIfAbsent(method, this::createTimer);
+    }
+
+    /**
+     * List the timers of a kind of method
+     *
+     * @param kind of the method
+     * @return the timers sorted by the labels
+     */
+    public List<Timer> getTimers(Timer.Kind kind) {
+        return this.timers.values()
+                .stream()
+                .filter(timer -> timer.getKind() == kind)
+                .sorted(Comparator.comparing(timer -> String.join(",", timer.getLabels().values())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Create or find the timer for the labels of the method
+     *
+     * @param method to be measured
+     * @return the {@link Timer}
+     */
+    private Timer createTimer(Method method) {
+
+        final Class<?> type = method.getDeclaringClass();
+        final Map<String, String> labels = new LinkedHashMap<>();
+
+        final Timer.Kind kind;
+
+        if (BusinessLogic.class.isAssignableFrom(type)) {
+            kind = Timer.Kind.LOGIC;
+            labels.put("chain", this.chainOf(type).getSimpleName());
+            labels.put("logic", type.getSimpleName());
+        } else {
+            kind = Timer.Kind.SERVICE;
+            labels.put("service", type.getSimpleName());
+            labels.put("method", method.getName());
+        }
+
+        final List<String> key = new ArrayList<>();
+        key.add(kind.name());
+        key.addAll(labels.values());
+
+        return this.timers.computeIfAbsent(key, k -> new Timer(kind, Collections.unmodifiableMap(labels)));
+    }
+
+    /**
+     * Find the interface of the logic chain implemented by the logic
+     *
+     * @param type of the logic
+     * @return the interface of the chain, the {@link BusinessLogic} itself if the logic implements it directly
+     */
+    private Class<?> chainOf(Class<?> type) {
+        return Arrays.stream(type.getInterfaces())
+                .filter(BusinessLogic.class::isAssignableFrom)
+                .findFirst()
+                .orElse(BusinessLogic.class);
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.metrics;
+
+import br.com.webbudget.infrastructure.jpa.CacheRegionMetrics;
+import br.com.webbudget.infrastructure.jpa.CacheStatisticsCollector;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Write the metrics of the {@link MetricsRegistry} and of the second level cache in the Prometheus text format
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ApplicationScoped
+public class PrometheusWriter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    @Inject
+    private MetricsRegistry metricsRegistry;
+    @Inject
+    private CacheStatisticsCollector cacheStatisticsCollector;
+
+    /**
+     * Write all the metrics
+     *
+     * @param writer to write to
+     * @throws IOException if the writer fails
+     */
+    public void write(Writer writer) throws IOException {
+
+        for (Timer.Kind kind : Timer.Kind.values()) {
+            this.writeTimers(writer, kind, this.metricsRegistry.getTimers(kind));
+        }
+
+        if (this.cacheStatisticsCollector.isEnabled()) {
+            this.writeCaches(writer, this.cacheStatisticsCollector.collect());
+        }
+
+        writer.flush();
+    }
+
+    /**
+     * Write the histogram, the max and the failures of the timers of one kind
+     *
+     * @param writer to write to
+     * @param kind of the timers
+     * @param timers to be written
+     * @throws IOException if the writer fails
+     */
+    private void writeTimers(Writer writer, Timer.Kind kind, List<Timer> timers) throws IOException {
+
+        if (timers.isEmpty()) {
+            return;
+        }
+
+        final String duration = kind.getMetric() + "_duration_seconds";
+
+        this.writeHeader(writer, duration, "histogram", "Duration of " + kind.getDescription());
+
+        for (Timer timer : timers) {
+
+            final String labels = this.labels(timer.getLabels());
+            final long[] counts = timer.getBucketCounts();
+
+            long cumulative = 0;
+            for (int i = 0; i < Timer.BUCKETS.length; i++) {
+                cumulative += counts[i];
+                this.writeSample(writer, duration + "_bucket",
+                        this.withLabel(labels, "le", String.valueOf(Timer.BUCKETS[i])), cumulative);
+            }
+
+            this.writeSample(writer, duration + "_bucket", this.withLabel(labels, "le", "+Inf"), timer.getCount());
+            this.writeSample(writer, duration + "_sum", labels, timer.getSumSeconds());
+            this.writeSample(writer, duration + "_count", labels, timer.getCount());
+        }
+
+        final String max = duration + "_max";
+
+        this.writeHeader(writer, max, "gauge", "Longest call of " + kind.getDescription() + " since the start");
+
+        for (Timer timer : timers) {
+            this.writeSample(writer, max, this.labels(timer.getLabels()), timer.getMaxSeconds());
+        }
+
+        final String failures = kind.getMetric() + "_failures_total";
+
+        this.writeHeader(writer, failures, "counter", "Calls of " + kind.getDescription() + " ended by an exception");
+
+        for (Timer timer : timers) {
+            this.writeSample(writer, failures, this.labels(timer.getLabels()), timer.getFailures());
+        }
+    }
+
+    /**
+     * Write the counters of the cache regions
+     *
+     * @param writer to write to
+     * @param regions the metrics of each region
+     * @throws IOException if the writer fails
+     */
+    private void writeCaches(Writer writer, List<CacheRegionMetrics> regions) throws IOException {
+        this.writeCache(writer, regions, "webbudget_cache_hits_total", "counter",
+                "Hits of the second level cache", CacheRegionMetrics::getHits);
+        this.writeCache(writer, regions, "webbudget_cache_misses_total", "counter",
+                "Misses of the second level cache", CacheRegionMetrics::getMisses);
+        this.writeCache(writer, regions, "webbudget_cache_puts_total", "counter",
+                "Puts on the second level cache", CacheRegionMetrics::getPuts);
+        this.writeCache(writer, regions, "webbudget_cache_elements", "gauge",
+                "Elements in memory on the second level cache", CacheRegionMetrics::getElements);
+    }
+
+    /**
+     * Write one metric of the cache regions
+     *
+     * @param writer to write to
+     * @param regions the metrics of each region
+     * @param name of the metric
+     * @param type of the metric
+     * @param help the description of the metric
+     * @param value the function to get the value from the region
+     * @throws IOException if the writer fails
+     */
+    private void writeCache(Writer writer, List<CacheRegionMetrics> regions, String name, String type, String help,
+                            ToLongFunction<CacheRegionMetrics> value) throws IOException {
+
+        if (regions.isEmpty()) {
+            return;
+        }
+
+        this.writeHeader(writer, name, type, help);
+
+        for (CacheRegionMetrics region : regions) {
+            this.writeSample(writer, name, this.labels(Map.of("region", region.getRegion())),
+                    value.applyAsLong(region));
+        }
+    }
+
+    /**
+     * Write the help and the type of a metric
+     *
+     * @param writer to write to
+     * @param name of the metric
+     * @param type of the metric
+     * @param help the description of the metric
+     * @throws IOException if the writer fails
+     */
+    private void writeHeader(Writer writer, String name, String type, String help) throws IOException {
+        writer.write("# HELP " + name + " " + help + "\n");
+        writer.write("# TYPE " + name + " " + type + "\n");
+    }
+
+    /**
+     * Write one sample
+     *
+     * @param writer to write to
+     * @param name of the metric
+     * @param labels already formatted
+     * @param value of the sample
+     * @throws IOException if the writer fails
+     */
+    private void writeSample(Writer writer, String name, String labels, Number value) throws IOException {
+        writer.write(name + labels + " " + value + "\n");
+    }
+
+    /**
+     * Format the labels
+     *
+     * @param labels the names and values
+     * @return the labels between braces
+     */
+    private String labels(Map<String, String> labels) {
+        return labels.entrySet()
+                .stream()
+                .map(entry -> entry.getKey() + "=\"" + this.escape(entry.getValue()) + "\"")
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+
+    /**
+     * Add one more label to the labels already formatted
+     *
+     * @param labels already formatted
+     * @param name of the new label
+     * @param value of the new label
+     * @return the labels with the new one
+     */
+    private String withLabel(String labels, String name, String value) {
+        return labels.substring(0, labels.length() - 1) + "," + name + "=\"" + value + "\"}";
+    }
+
+    /**
+     * Escape the value of a label
+     *
+     * @param value to be escaped
+     * @return the value escaped
+     */
+    private String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
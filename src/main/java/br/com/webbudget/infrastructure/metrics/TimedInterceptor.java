@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.metrics;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+/**
+ * The interceptor of the {@link Timed} methods, the duration of each call goes to the timer of the method on the
+ * {@link MetricsRegistry}
+ *
+ * It runs before the transaction interceptor, so the duration includes the flush and the commit of the transaction
+ * started by the method
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.1.0
+ * @since 3.1.0, 18/10/2026
+ */
+@Timed
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 50)
+public class TimedInterceptor {
+
+    @Inject
+    private MetricsRegistry metricsRegistry;
+
+    /**
+     * Measure the duration of the intercepted method
+     *
+     * @param context of the invocation
+     * @return the value returned by the method
+     * @throws Exception if the method fails
+     */
+    @AroundInvoke
+    public Object time(InvocationContext context) throws Exception {
+
+        if (!this.metricsRegistry.isEnabled()) {
+            return context.proceed();
+        }
+
+        final Timer timer = this.metricsRegistry.timerOf(context.getMethod());
+
+        boolean failed = true;
+        final long start = System.nanoTime();
+        try {
+            final Object result = context.proceed();
+            failed = false;
+            return result;
+        } finally {
+            timer.record(System.nanoTime() - start, failed);
+        }
+    }
+}
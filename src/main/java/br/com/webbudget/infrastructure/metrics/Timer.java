@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.metrics;
+
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The duration of the calls of one method, kept as an histogram with fixed buckets plus the sum, the max and the number
+ * of calls that failed
+ *
+ * The counts of the buckets are not cumulative here, the {@link PrometheusWriter} sums them when writing
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public final class Timer {
+
+    static final double[] BUCKETS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30};
+
+    private static final long[] BUCKETS_NANOS = new long[BUCKETS.length];
+
+    static {
+        for (int i = 0; i < BUCKETS.length; i++) {
+            BUCKETS_NANOS[i] = (long) (BUCKETS[i] * TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    @Getter
+    private final Kind kind;
+    @Getter
+    private final Map<String, String> labels;
+
+    private final LongAdder[] buckets;
+    private final LongAdder count;
+    private final LongAdder sumNanos;
+    private final LongAdder failures;
+    private final LongAccumulator maxNanos;
+
+    /**
+     * Constructor...
+     *
+     * @param kind of the method measured
+     * @param labels to identify the method, in the order they are written
+     */
+    Timer(Kind kind, Map<String, String> labels) {
+        this.kind = kind;
+        this.labels = labels;
+        this.buckets = new LongAdder[BUCKETS.length];
+        for (int i = 0; i < BUCKETS.length; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+        this.count = new LongAdder();
+        this.sumNanos = new LongAdder();
+        this.failures = new LongAdder();
+        this.maxNanos = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * Record one call
+     *
+     * @param nanos the duration of the call
+     * @param failed if the call has thrown an exception
+     */
+    void record(long nanos, boolean failed) {
+
+        for (int i = 0; i < BUCKETS_NANOS.length; i++) {
+            if (nanos <= BUCKETS_NANOS[i]) {
+                this.buckets[i].increment();
+                break;
+            }
+        }
+
+        this.count.increment();
+        this.sumNanos.add(nanos);
+        this.maxNanos.accumulate(nanos);
+
+        if (failed) {
+            this.failures.increment();
+        }
+    }
+
+    /**
+     * @return the number of calls of each bucket, not cumulative, the calls above the last bucket are not in it
+     */
+    long[] getBucketCounts() {
+        final long[] counts = new long[this.buckets.length];
+        for (int i = 0; i < this.buckets.length; i++) {
+            counts[i] = this.buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * @return the number of calls
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * @return the number of calls that failed
+     */
+    public long getFailures() {
+        return this.failures.sum();
+    }
+
+    /**
+     * @return the time spent on all the calls in seconds
+     */
+    public double getSumSeconds() {
+        return this.sumNanos.sum() / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * @return the longest call since the start of the application in seconds
+     */
+    public double getMaxSeconds() {
+        return this.maxNanos.get() / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * The kinds of methods measured, each one is a different metric
+     */
+    public enum Kind {
+
+        SERVICE("webbudget_service", "the domain service methods"),
+        LOGIC("webbudget_logic", "the business logics run by the services");
+
+        @Getter
+        private final String metric;
+        @Getter
+        private final String description;
+
+        /**
+         * Constructor...
+         *
+         * @param metric the prefix of the metric names
+         * @param description of what is measured
+         */
+        Kind(String metric, String description) {
+            this.metric = metric;
+            this.description = description;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.servlet;
+
+import br.com.webbudget.infrastructure.metrics.PrometheusWriter;
+import br.com.webbudget.infrastructure.utils.Configurations;
+
+import javax.inject.Inject;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Servlet to expose the metrics of the application to be scraped by Prometheus
+ *
+ * The scraper must send the metrics.token as a bearer token, without a token configured the endpoint is not found
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public class MetricsServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String BEARER = "Bearer ";
+
+    private String token;
+
+    @Inject
+    private PrometheusWriter prometheusWriter;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void init() {
+        this.token = Configurations.get("metrics.token");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param request
+     * @param response
+     * @throws IOException
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        if (this.token == null || this.token.isBlank()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        if (!this.isAuthorized(request.getHeader("Authorization"))) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        response.setContentType(PrometheusWriter.CONTENT_TYPE);
+        response.setHeader("Cache-Control", "no-cache");
+
+        this.prometheusWriter.write(response.getWriter());
+    }
+
+    /**
+     * Check the token sent by the scraper
+     *
+     * @param authorization the value of the authorization header
+     * @return true if the token sent is the configured one
+     */
+    private boolean isAuthorized(String authorization) {
+
+        if (authorization == null || !authorization.startsWith(BEARER)) {
+            return false;
+        }
+
+        return MessageDigest.isEqual(this.token.getBytes(StandardCharsets.UTF_8),
+                authorization.substring(BEARER.length()).getBytes(StandardCharsets.UTF_8));
+    }
+}
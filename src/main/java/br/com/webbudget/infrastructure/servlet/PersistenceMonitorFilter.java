@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.servlet;
+
+import br.com.webbudget.infrastructure.jpa.PersistenceMonitor;
+import br.com.webbudget.infrastructure.jpa.PersistenceTracker;
+
+import javax.faces.application.ResourceHandler;
+import javax.inject.Inject;
+import javax.servlet.*;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Filter to track the database usage of each request to a view and record it on the {@link PersistenceMonitor}, the
+ * requests of the JSF resources are ignored and only the requests answered without error are recorded, so paths that
+ * are not views, like the ones answered with a 404, do not become an aggregate on the monitor
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.1.0
+ * @since 3.1.0, 18/10/2026
+ */
+public class PersistenceMonitorFilter implements Filter {
+
+    @Inject
+    private PersistenceMonitor persistenceMonitor;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param filterConfig
+     */
+    @Override
+    public void init(FilterConfig filterConfig) { }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param request
+     * @param response
+     * @param chain
+     * @throws IOException
+     * @throws ServletException
+     */
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        final String view = ((HttpServletRequest) request).getServletPath();
+
+        if (!this.persistenceMonitor.isEnabled() || view.startsWith(ResourceHandler.RESOURCE_IDENTIFIER)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        final boolean owner = PersistenceTracker.begin(view);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (owner) {
+                final PersistenceTracker.Tracking tracking = PersistenceTracker.end();
+                if (((HttpServletResponse) response).getStatus() < HttpServletResponse.SC_BAD_REQUEST) {
+                    this.persistenceMonitor.record(tracking);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void destroy() { }
+}
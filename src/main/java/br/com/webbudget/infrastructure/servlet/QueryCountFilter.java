@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.servlet;
+
+import br.com.webbudget.infrastructure.jpa.QueryCountInspector;
+import br.com.webbudget.infrastructure.utils.Configurations;
+import org.slf4j.Logger;
+
+import javax.inject.Inject;
+import javax.servlet.*;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Debug filter to tell how many SQL statements each request has done, the value goes in the {@link #HEADER} of the
+ * response and to the log
+ *
+ * Most of the queries of a JSF page run while it is rendered, so the response buffer is enlarged to keep it from being
+ * committed before the end of the request. If even so the response is committed, only the log is written
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public class QueryCountFilter implements Filter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private boolean enabled;
+
+    @Inject
+    private Logger logger;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param filterConfig
+     */
+    @Override
+    public void init(FilterConfig filterConfig) {
+        this.enabled = Configurations.getAsBoolean("persistence.count-queries");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param request
+     * @param response
+     * @param chain
+     * @throws IOException
+     * @throws ServletException
+     */
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        if (!this.enabled) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        final HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        httpResponse.setBufferSize(BUFFER_SIZE);
+
+        QueryCountInspector.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            final int count = QueryCountInspector.stop();
+
+            if (!httpResponse.isCommitted()) {
+                httpResponse.setIntHeader(HEADER, count);
+            }
+
+            this.logger.debug("{} statements executed for {}", count, ((HttpServletRequest) request).getRequestURI());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void destroy() { }
+}
@@ -29,7 +29,7 @@ import javax.inject.Inject;
  *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 3.0.0, 06/03/2018
  */
 @ApplicationScoped
@@ -51,6 +51,7 @@ public class PathSecurityConfiguration implements HttpSecurityConfiguration {
         builder.add("/secured/configuration/user/**", this.permissions.getUSER_ACCESS(), true)
                 .add("/secured/configuration/group/**", this.permissions.getGROUP_ACCESS(), true)
                 .add("/secured/configuration/configuration/**", this.permissions.getCONFIGURATION_ACCESS(), true)
+                .add("/secured/configuration/monitoring/**", this.permissions.getCONFIGURATION_ACCESS(), true)
                 .add("/secured/registration/card/**", this.permissions.getCARD_ACCESS(), true)
                 .add("/secured/registration/vehicle/**", this.permissions.getVEHICLE_ACCESS(), true)
                 .add("/secured/registration/contact/**", this.permissions.getCONTACT_ACCESS(), true)
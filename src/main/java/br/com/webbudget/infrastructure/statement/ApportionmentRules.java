@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.statement;
+
+import br.com.webbudget.domain.entities.financial.Apportionment;
+import br.com.webbudget.domain.entities.registration.MovementClass;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * The rules to choose the {@link MovementClass} of the {@link Apportionment} of each {@link StatementLine}. Every
+ * {@link MovementClass} with an import pattern is a rule, the first one of the same type of the line with the pattern
+ * found in the description is chosen, if none is found the default class of the type is used
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+public final class ApportionmentRules {
+
+    private final List<Rule> rules;
+
+    private final MovementClass expenseClass;
+    private final MovementClass revenueClass;
+
+    /**
+     * Constructor...
+     *
+     * @param movementClasses the {@link MovementClass} with an import pattern
+     * @param expenseClass the {@link MovementClass} used when no rule matches an expense
+     * @param revenueClass the {@link MovementClass} used when no rule matches a revenue
+     */
+    public ApportionmentRules(List<MovementClass> movementClasses, MovementClass expenseClass,
+                              MovementClass revenueClass) {
+        this.expenseClass = expenseClass;
+        this.revenueClass = revenueClass;
+        this.rules = movementClasses.stream()
+                .map(movementClass -> new Rule(movementClass,
+                        Pattern.compile(movementClass.getImportPattern(), Pattern.CASE_INSENSITIVE)))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Create the {@link Apportionment} for the given {@link StatementLine}
+     *
+     * @param line to be apportioned
+     * @return the {@link Apportionment} with the absolute value of the line
+     */
+    public Apportionment apportionmentFor(StatementLine line) {
+        return new Apportionment(line.getValue().abs(), this.movementClassFor(line));
+    }
+
+    /**
+     * Choose the {@link MovementClass} for the given {@link StatementLine}
+     *
+     * @param line to search for a rule
+     * @return the {@link MovementClass} of the first rule matched or the default one
+     */
+    private MovementClass movementClassFor(StatementLine line) {
+        return this.rules.stream()
+                .filter(rule -> rule.matches(line))
+                .map(Rule::getMovementClass)
+                .findFirst()
+                .orElse(line.isExpense() ? this.expenseClass : this.revenueClass);
+    }
+
+    /**
+     * A single rule, the {@link MovementClass} and its compiled pattern
+     */
+    private static final class Rule {
+
+        private final MovementClass movementClass;
+        private final Pattern pattern;
+
+        /**
+         * Constructor...
+         *
+         * @param movementClass of this rule
+         * @param pattern compiled from the import pattern of the {@link MovementClass}
+         */
+        Rule(MovementClass movementClass, Pattern pattern) {
+            this.movementClass = movementClass;
+            this.pattern = pattern;
+        }
+
+        /**
+         * To check if this rule matches the given {@link StatementLine}
+         *
+         * @param line to check
+         * @return true if the type is the same and the pattern is found in the description
+         */
+        boolean matches(StatementLine line) {
+            return this.movementClass.isExpense() == line.isExpense()
+                    && this.pattern.matcher(line.getDescription()).find();
+        }
+
+        /**
+         * @return the {@link MovementClass} of this rule
+         */
+        MovementClass getMovementClass() {
+            return this.movementClass;
+        }
+    }
+}
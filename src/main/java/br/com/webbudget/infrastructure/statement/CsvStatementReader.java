@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.statement;
+
+import br.com.webbudget.domain.exceptions.BusinessLogicException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@link StatementReader} for CSV files with the columns date, description and value, in this order. The columns
+ * can be separated by semicolon or comma and the first line can be a header
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+final class CsvStatementReader extends StatementReader {
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ofPattern("dd/MM/yyyy"),
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+
+    private long physicalLine;
+    private char separator;
+
+    /**
+     * Constructor...
+     *
+     * @param reader to read the file content
+     */
+    CsvStatementReader(BufferedReader reader) {
+        super(reader);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return
+     * @throws IOException
+     */
+    @Override
+    protected StatementLine readNext() throws IOException {
+
+        String line;
+
+        while ((line = this.reader.readLine()) != null) {
+
+            this.physicalLine++;
+
+            if (line.isBlank()) {
+                continue;
+            }
+
+            // the first line tells the separator and can be the header
+            if (this.separator == 0) {
+                this.separator = line.chars().filter(c -> c == ';').count() >= 2 ? ';' : ',';
+                if (this.parseDate(this.split(line).get(0)) == null) {
+                    continue;
+                }
+            }
+
+            final List<String> columns = this.split(line);
+            final LocalDate date = columns.size() < 3 ? null : this.parseDate(columns.get(0));
+
+            if (date == null) {
+                throw new BusinessLogicException("error.statement-import.invalid-line", this.physicalLine);
+            }
+
+            try {
+                return this.lineOf(date, columns.get(1), this.parseValue(columns.get(2)), null);
+            } catch (NumberFormatException ex) {
+                throw new BusinessLogicException("error.statement-import.invalid-line", this.physicalLine);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Split a line in columns, values with the separator must be quoted and quotes inside them must be doubled
+     *
+     * @param line to be split
+     * @return the {@link List} of columns
+     */
+    private List<String> split(String line) {
+
+        final List<String> columns = new ArrayList<>();
+        final StringBuilder column = new StringBuilder();
+
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+
+            final char current = line.charAt(i);
+
+            if (current == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    column.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (current == this.separator && !quoted) {
+                columns.add(column.toString().trim());
+                column.setLength(0);
+            } else {
+                column.append(current);
+            }
+        }
+
+        columns.add(column.toString().trim());
+
+        return columns;
+    }
+
+    /**
+     * Parse the date using the formats accepted
+     *
+     * @param value to be parsed
+     * @return the date or null if the value is not a date
+     */
+    private LocalDate parseDate(String value) {
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(value, format);
+            } catch (DateTimeParseException ex) {
+                // try the next format
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parse the value, the last dot or comma is the decimal separator and the others are thousand separators
+     *
+     * @param value to be parsed
+     * @return the value
+     */
+    private BigDecimal parseValue(String value) {
+
+        final String cleaned = value.replaceAll("[^0-9,.\\-]", "");
+        final int decimalSeparator = Math.max(cleaned.lastIndexOf(','), cleaned.lastIndexOf('.'));
+
+        if (decimalSeparator < 0) {
+            return new BigDecimal(cleaned);
+        }
+
+        return new BigDecimal(cleaned.substring(0, decimalSeparator).replaceAll("[,.]", "")
+                + "." + cleaned.substring(decimalSeparator + 1));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.statement;
+
+import br.com.webbudget.domain.exceptions.BusinessLogicException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link StatementReader} for OFX files. The file is read tag by tag, this way the old SGML files, without the
+ * closing tags, and the newer XML files are read the same way and no matter how the tags are split in lines
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+final class OfxStatementReader extends StatementReader {
+
+    private static final String TRANSACTION = "STMTTRN";
+
+    private final Map<String, String> fields;
+
+    /**
+     * Constructor...
+     *
+     * @param reader to read the file content
+     */
+    OfxStatementReader(BufferedReader reader) {
+        super(reader);
+        this.fields = new HashMap<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return
+     * @throws IOException
+     */
+    @Override
+    protected StatementLine readNext() throws IOException {
+
+        boolean inTransaction = false;
+
+        String tag;
+
+        while ((tag = this.nextTag()) != null) {
+            if (tag.equals(TRANSACTION)) {
+                inTransaction = true;
+                this.fields.clear();
+            } else if (tag.equals("/" + TRANSACTION)) {
+                return this.toLine();
+            } else if (inTransaction && !tag.startsWith("/")) {
+                this.fields.put(tag, this.text());
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Create the {@link StatementLine} with the fields of the transaction
+     *
+     * @return the {@link StatementLine}
+     */
+    private StatementLine toLine() {
+
+        final String posted = this.fields.getOrDefault("DTPOSTED", "");
+        final String amount = this.fields.getOrDefault("TRNAMT", "");
+
+        final String memo = this.fields.getOrDefault("MEMO", "");
+        final String description = memo.isBlank() ? this.fields.getOrDefault("NAME", "") : memo;
+
+        try {
+            final LocalDate date = LocalDate.parse(posted.substring(0, Math.min(8, posted.length())),
+                    DateTimeFormatter.BASIC_ISO_DATE);
+            return this.lineOf(date, description, new BigDecimal(amount.replace(',', '.')),
+                    this.fields.get("FITID"));
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw new BusinessLogicException("error.statement-import.invalid-transaction", this.fields.get("FITID"));
+        }
+    }
+
+    /**
+     * Read until the next tag and return its name, everything outside the tags, like the SGML header, is skipped
+     *
+     * @return the name of the tag, the closing tags start with a slash, null if the file is over
+     * @throws IOException if the file can't be read
+     */
+    private String nextTag() throws IOException {
+
+        int current;
+
+        while ((current = this.reader.read()) != -1 && current != '<') {
+            // skip until the tag starts
+        }
+
+        if (current == -1) {
+            return null;
+        }
+
+        final StringBuilder name = new StringBuilder();
+
+        while ((current = this.reader.read()) != -1 && current != '>') {
+            name.append((char) current);
+        }
+
+        return name.toString().trim().toUpperCase();
+    }
+
+    /**
+     * Read the text of the current tag, it ends when the next tag starts
+     *
+     * @return the text of the tag
+     * @throws IOException if the file can't be read
+     */
+    private String text() throws IOException {
+
+        final StringBuilder text = new StringBuilder();
+
+        this.reader.mark(1);
+
+        int current;
+
+        while ((current = this.reader.read()) != -1 && current != '<') {
+            text.append((char) current);
+            this.reader.mark(1);
+        }
+
+        // give back the start of the next tag
+        if (current == '<') {
+            this.reader.reset();
+        }
+
+        return text.toString().trim();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.statement;
+
+import br.com.webbudget.domain.entities.financial.PeriodMovement;
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * A single transaction read from a bank statement file
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.0.0
+ * @since 3.1.0, 18/10/2026
+ */
+@ToString
+public final class StatementLine {
+
+    @Getter
+    private final long number;
+    @Getter
+    private final LocalDate date;
+    @Getter
+    private final String description;
+    @Getter
+    private final BigDecimal value;
+    @Getter
+    private final String hash;
+
+    /**
+     * Constructor...
+     *
+     * @param number the sequential number of this line in the file, used as the import checkpoint
+     * @param date the date of the transaction
+     * @param description the description of the transaction
+     * @param value the value of the transaction, negative for expenses
+     * @param identity what makes this transaction unique for the bank, the content hash is calculated from it
+     */
+    StatementLine(long number, LocalDate date, String description, BigDecimal value, String identity) {
+        this.number = number;
+        this.date = date;
+        this.description = description;
+        this.value = value;
+        this.hash = Hashing.sha256().hashString(identity, StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * To check if this line is an expense
+     *
+     * @return true if it is, false if it is a revenue
+     */
+    public boolean isExpense() {
+        return this.value.signum() < 0;
+    }
+
+    /**
+     * The identification of the {@link PeriodMovement} created from this line, limited to the size of the column
+     *
+     * @return the identification
+     */
+    public String getIdentification() {
+        return this.description.length() > 90 ? this.description.substring(0, 90) : this.description;
+    }
+}
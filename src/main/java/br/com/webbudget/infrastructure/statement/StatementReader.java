@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2026 Arthur Gregorio, AG.Software
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.webbudget.infrastructure.statement;
+
+import br.com.webbudget.domain.entities.financial.StatementFormat;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * The base of the bank statement readers. The file is read one transaction at a time, so the memory used does not
+ * depend on the size of the file
+ *
+ * @author Arthur Gregorio
+ *
+ * @version 1.2.0
+ * @since 3.1.0, 18/10/2026
+ */
+public abstract class StatementReader implements Iterator<StatementLine>, Closeable {
+
+    private long number;
+    private StatementLine next;
+
+    private LocalDate date;
+    private int firstOccurrence;
+
+    private final Map<String, Integer> occurrences;
+    private final Map<LocalDate, Integer> lastOccurrences;
+
+    protected final BufferedReader reader;
+
+    /**
+     * Constructor...
+     *
+     * @param reader to read the file content
+     */
+    protected StatementReader(BufferedReader reader) {
+        this.reader = reader;
+        this.occurrences = new HashMap<>();
+        this.lastOccurrences = new HashMap<>();
+    }
+
+    /**
+     * Open a reader for the given file
+     *
+     * @param statementFormat the format of the file
+     * @param file to be read
+     * @return the {@link StatementReader} for the format
+     * @throws IOException if the file can't be opened
+     */
+    public static StatementReader open(StatementFormat statementFormat, Path file) throws IOException {
+        switch (statementFormat) {
+            case CSV:
+                return new CsvStatementReader(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+            case OFX:
+                return new OfxStatementReader(Files.newBufferedReader(file, Charset.forName("windows-1252")));
+            default:
+                throw new IllegalArgumentException("Unsupported statement format " + statementFormat);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return
+     */
+    @Override
+    public boolean hasNext() {
+        if (this.next == null) {
+            try {
+                this.next = this.readNext();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return this.next != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return
+     */
+    @Override
+    public StatementLine next() {
+
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final StatementLine line = this.next;
+        this.next = null;
+        return line;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    /**
+     * Read the next transaction of the file
+     *
+     * @return the next {@link StatementLine} or null if the file is over
+     * @throws IOException if the file can't be read
+     */
+    protected abstract StatementLine readNext() throws IOException;
+
+    /**
+     * Create the {@link StatementLine} for a transaction read from the file
+     *
+     * When the bank gives an unique reference to the transaction it is used to identify the line, otherwise the
+     * content is used. Two transactions with the same content in the same day are different transactions, so the
+     * order they appear in the file tells them apart.
+     *
+     * The occurrences are counted only for the lines of the current date, so the memory used depends on the lines of
+     * a day and not on the size of the file. Not every bank sorts the statement by date, if a date comes back later in
+     * the file its occurrences continue after the last one given to that date, this way the identities are still
+     * unique and the same file always gives the same identities
+     *
+     * @param date of the transaction
+     * @param description of the transaction
+     * @param value of the transaction, negative for expenses
+     * @param reference given by the bank to the transaction, can be null
+     * @return the {@link StatementLine}
+     */
+    protected StatementLine lineOf(LocalDate date, String description, BigDecimal value, String reference) {
+
+        final String identity;
+
+        if (reference != null && !reference.isBlank()) {
+            identity = reference.trim() + "|" + date + "|" + value.stripTrailingZeros().toPlainString();
+        } else {
+
+            final String content = date + "|" + value.stripTrailingZeros().toPlainString() + "|"
+                    + description.trim().toLowerCase();
+
+            identity = content + "|" + this.occurrenceOf(date, content);
+        }
+
+        return new StatementLine(++this.number, date, description.trim(), value, identity);
+    }
+
+    /**
+     * Count one more occurrence of the content in the given date, the counting starts again on every change of date
+     *
+     * @param date of the transaction
+     * @param content of the transaction
+     * @return the occurrence of the content
+     */
+    private int occurrenceOf(LocalDate date, String content) {
+
+        if (!date.equals(this.date)) {
+
+            if (this.date != null) {
+                this.lastOccurrences.put(this.date, this.occurrences.values()
+                        .stream()
+                        .reduce(this.firstOccurrence, Math::max));
+            }
+
+            this.date = date;
+            this.firstOccurrence = this.lastOccurrences.getOrDefault(date, 0);
+            this.occurrences.clear();
+        }
+
+        return this.occurrences.merge(content, this.firstOccurrence + 1, (current, first) -> current + 1);
+    }
+}
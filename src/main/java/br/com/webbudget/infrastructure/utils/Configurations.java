@@ -25,13 +25,18 @@ import java.util.ResourceBundle;
 /**
  * This is a utility class to help the process of get some configuration from the system properties file
  *
+ * A JVM system property with the same key of a sample data configuration takes precedence over the file, this way the
+ * generation can be asked at the server start, like -Dsample-data.years=3, without a new build
+ *
  * @author Arthur Gregorio
  *
- * @version 1.1.0
+ * @version 1.3.0
  * @since 2.0.0, 07/07/2015
  */
 public final class Configurations {
 
+    private static final String OVERRIDABLE_PREFIX = "sample-data.";
+
     private static final ResourceBundle CONFIG_PROPERTIES;
 
     static {
@@ -45,8 +50,18 @@ public final class Configurations {
      * @return the value for this configuration
      */
     public static String get(String configuration) {
+
+        if (Objects.requireNonNull(configuration).startsWith(OVERRIDABLE_PREFIX)) {
+
+            final String override = System.getProperty(configuration);
+
+            if (override != null) {
+                return override;
+            }
+        }
+
         try {
-            return CONFIG_PROPERTIES.getString(Objects.requireNonNull(configuration));
+            return CONFIG_PROPERTIES.getString(configuration);
         } catch (MissingResourceException ex) {
             return null;
         }
@@ -16,12 +16,17 @@
  */
 package br.com.webbudget.infrastructure.utils;
 
+import java.util.Random;
+
 /**
  * Class that's generate sequences of random codes to use in unique identifications of certain objects of this project
  *
+ * The codes come from the current time, unless the current thread was given a seed by {@link #seed(long)}, then they
+ * come from a sequence of that seed and the same seed always gives the same codes in the same order
+ *
  * @author Arthur Gregorio
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 3.0.0, 22/11/2017
  */
 public final class RandomCode {
@@ -29,6 +34,24 @@ public final class RandomCode {
     private static final String NUMERIC = "1234567890";
     private static final String ALPHANUMERIC = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
 
+    private static final ThreadLocal<SeededSequence> SEEDED = new ThreadLocal<>();
+
+    /**
+     * Generate the codes of the current thread from the given seed until {@link #unseed()} is called
+     *
+     * @param seed of the codes
+     */
+    public static void seed(long seed) {
+        SEEDED.set(new SeededSequence(seed));
+    }
+
+    /**
+     * Go back to the codes from the current time on the current thread
+     */
+    public static void unseed() {
+        SEEDED.remove();
+    }
+
     /**
      * Generates a random code of numbers to identify something
      *
@@ -50,7 +73,7 @@ public final class RandomCode {
     }
 
     /**
-     * The real method that generate the codes based on the current time in nanos
+     * The real method that generate the codes based on the current time in nanos or on the seed of the thread
      *
      * @param length the size of the code
      * @param baseSequence the sequence to be used to create de codes
@@ -58,7 +81,9 @@ public final class RandomCode {
      */
     private static String generate(int length, String baseSequence) {
 
-        long decimalNumber = System.nanoTime();
+        final SeededSequence sequence = SEEDED.get();
+
+        long decimalNumber = sequence != null ? sequence.next(length, baseSequence.length()) : System.nanoTime();
 
         int mod;
         int codeLength = 0;
@@ -74,4 +99,41 @@ public final class RandomCode {
 
         return builder.toString();
     }
+
+    /**
+     * The sequence of numbers of a seed, each one is the previous plus a prime step modulo the number of codes of the
+     * length, so no number is repeated before all the codes of the length were given
+     */
+    private static final class SeededSequence {
+
+        private static final long STEP = 1_299_709;
+
+        private final long offset;
+
+        private long count;
+
+        /**
+         * Constructor...
+         *
+         * @param seed of the sequence
+         */
+        private SeededSequence(long seed) {
+            this.offset = new Random(seed).nextLong();
+        }
+
+        /**
+         * @param length of the code
+         * @param radix the number of symbols of the code
+         * @return the next number of the sequence, lower than radix raised to length
+         */
+        private long next(int length, int radix) {
+
+            long modulus = 1;
+
+            for (int i = 0; i < length; i++) {
+                modulus *= radix;
+            }
+            return Math.floorMod(Math.floorMod(this.offset, modulus) + this.count++ * STEP, modulus);
+        }
+    }
 }
@@ -0,0 +1,57 @@
+CREATE TABLE financial.period_totals (
+    id bigint NOT NULL,
+    created_on timestamp without time zone NOT NULL,
+    updated_on timestamp without time zone,
+    open_value numeric(19,2) NOT NULL,
+    paid_value numeric(19,2) NOT NULL,
+    revenues numeric(19,2) NOT NULL,
+    expenses numeric(19,2) NOT NULL,
+    id_financial_period bigint NOT NULL
+);
+
+ALTER TABLE ONLY financial.period_totals
+    ADD CONSTRAINT period_totals_pkey PRIMARY KEY (id);
+
+ALTER TABLE ONLY financial.period_totals
+    ADD CONSTRAINT uk_period_totals_financial_period UNIQUE (id_financial_period);
+
+ALTER TABLE ONLY financial.period_totals
+    ADD CONSTRAINT fk_period_totals_financial_period FOREIGN KEY (id_financial_period) REFERENCES registration.financial_periods(id);
+
+-- build the totals for the existing periods, same rules of the totals queries on the period movement repository
+INSERT INTO financial.period_totals (id, created_on, open_value, paid_value, revenues, expenses, id_financial_period)
+SELECT nextval('public.pooled_sequence_generator'),
+       now(),
+       (SELECT COALESCE(sum(mv.value), 0)
+        FROM financial.movements mv
+        WHERE mv.id_financial_period = fp.id
+          AND mv.discriminator_value = 'PERIOD_MOVEMENT'
+          AND mv.period_movement_state = 'OPEN'),
+       (SELECT COALESCE(sum(pm.paid_value), 0)
+        FROM financial.movements mv
+                 JOIN financial.payments pm ON pm.id = mv.id_payment
+        WHERE mv.id_financial_period = fp.id
+          AND mv.discriminator_value = 'PERIOD_MOVEMENT'
+          AND mv.period_movement_state <> 'OPEN'
+          AND pm.payment_method <> 'CREDIT_CARD'),
+       (SELECT COALESCE(sum(pm.paid_value), 0)
+        FROM financial.movements mv
+                 JOIN financial.payments pm ON pm.id = mv.id_payment
+                 JOIN financial.apportionments ap ON ap.id_movement = mv.id
+                 JOIN registration.movement_classes mc ON mc.id = ap.id_movement_class
+        WHERE mv.id_financial_period = fp.id
+          AND mv.discriminator_value = 'PERIOD_MOVEMENT'
+          AND mv.period_movement_state <> 'OPEN'
+          AND mc.movement_class_type = 'REVENUE'),
+       (SELECT COALESCE(sum(pm.paid_value), 0)
+        FROM financial.movements mv
+                 JOIN financial.payments pm ON pm.id = mv.id_payment
+                 JOIN financial.apportionments ap ON ap.id_movement = mv.id
+                 JOIN registration.movement_classes mc ON mc.id = ap.id_movement_class
+        WHERE mv.id_financial_period = fp.id
+          AND mv.discriminator_value = 'PERIOD_MOVEMENT'
+          AND mv.period_movement_state <> 'OPEN'
+          AND pm.payment_method <> 'CREDIT_CARD'
+          AND mc.movement_class_type = 'EXPENSE'),
+       fp.id
+FROM registration.financial_periods fp;
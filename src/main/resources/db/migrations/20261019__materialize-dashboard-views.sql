@@ -0,0 +1,95 @@
+/*
+  Materialize the views used by the dashboards and statistics pages. The original views are kept with the _live suffix
+  as the source of the materialized ones, this way the entities still map to the same names and the definitions are
+  not duplicated. The unique index on the id is required to refresh them concurrently
+*/
+
+-- view 001
+ALTER VIEW financial.wb_view_001 RENAME TO wb_view_001_live;
+
+CREATE MATERIALIZED VIEW financial.wb_view_001 AS
+SELECT * FROM financial.wb_view_001_live;
+
+CREATE UNIQUE INDEX uk_wb_view_001_id ON financial.wb_view_001 (id);
+
+COMMENT ON MATERIALIZED VIEW financial.wb_view_001 IS 'List by the open financial periods all cost centers and the respective value spent or received in each one';
+
+-- view 002
+ALTER VIEW financial.wb_view_002 RENAME TO wb_view_002_live;
+
+CREATE MATERIALIZED VIEW financial.wb_view_002 AS
+SELECT * FROM financial.wb_view_002_live;
+
+CREATE UNIQUE INDEX uk_wb_view_002_id ON financial.wb_view_002 (id);
+
+COMMENT ON MATERIALIZED VIEW financial.wb_view_002 IS 'List by the open financial periods all movement classes and the value spent or received in each one';
+
+-- view 003
+ALTER VIEW financial.wb_view_003 RENAME TO wb_view_003_live;
+
+CREATE MATERIALIZED VIEW financial.wb_view_003 AS
+SELECT * FROM financial.wb_view_003_live;
+
+CREATE UNIQUE INDEX uk_wb_view_003_id ON financial.wb_view_003 (id);
+
+COMMENT ON MATERIALIZED VIEW financial.wb_view_003 IS 'Quick resume of the open financial periods';
+
+-- view 006
+ALTER VIEW financial.wb_view_006 RENAME TO wb_view_006_live;
+
+CREATE MATERIALIZED VIEW financial.wb_view_006 AS
+SELECT * FROM financial.wb_view_006_live;
+
+CREATE UNIQUE INDEX uk_wb_view_006_id ON financial.wb_view_006 (id);
+
+COMMENT ON MATERIALIZED VIEW financial.wb_view_006 IS 'Consume of every card grouped by cost center';
+
+-- view 007
+ALTER VIEW financial.wb_view_007 RENAME TO wb_view_007_live;
+
+CREATE MATERIALIZED VIEW financial.wb_view_007 AS
+SELECT * FROM financial.wb_view_007_live;
+
+CREATE UNIQUE INDEX uk_wb_view_007_id ON financial.wb_view_007 (id);
+
+COMMENT ON MATERIALIZED VIEW financial.wb_view_007 IS 'A more detailed resume of every card consume';
+
+-- view 008
+ALTER VIEW financial.wb_view_008 RENAME TO wb_view_008_live;
+
+CREATE MATERIALIZED VIEW financial.wb_view_008 AS
+SELECT * FROM financial.wb_view_008_live;
+
+CREATE UNIQUE INDEX uk_wb_view_008_id ON financial.wb_view_008 (id);
+
+COMMENT ON MATERIALIZED VIEW financial.wb_view_008 IS 'Daily consumption grouped by cost center';
+
+-- view 009
+ALTER VIEW financial.wb_view_009 RENAME TO wb_view_009_live;
+
+CREATE MATERIALIZED VIEW financial.wb_view_009 AS
+SELECT * FROM financial.wb_view_009_live;
+
+CREATE UNIQUE INDEX uk_wb_view_009_id ON financial.wb_view_009 (id);
+
+COMMENT ON MATERIALIZED VIEW financial.wb_view_009 IS 'Daily consumption grouped by cost center and movement class';
+
+-- view 010
+ALTER VIEW financial.wb_view_010 RENAME TO wb_view_010_live;
+
+CREATE MATERIALIZED VIEW financial.wb_view_010 AS
+SELECT * FROM financial.wb_view_010_live;
+
+CREATE UNIQUE INDEX uk_wb_view_010_id ON financial.wb_view_010 (id);
+
+COMMENT ON MATERIALIZED VIEW financial.wb_view_010 IS 'Daily consumption grouped by day of payment';
+
+-- view 011
+ALTER VIEW financial.wb_view_011 RENAME TO wb_view_011_live;
+
+CREATE MATERIALIZED VIEW financial.wb_view_011 AS
+SELECT * FROM financial.wb_view_011_live;
+
+CREATE UNIQUE INDEX uk_wb_view_011_id ON financial.wb_view_011 (id);
+
+COMMENT ON MATERIALIZED VIEW financial.wb_view_011 IS 'Quick resume of the current open period, excluding expired ones';
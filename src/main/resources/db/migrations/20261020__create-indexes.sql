@@ -0,0 +1,61 @@
+/*
+  Secondary indexes for the most used queries, the ones on the movements are partial by the discriminator because
+  every query done by the ORM on the period or fixed movements already have this filter
+*/
+
+-- movements
+CREATE INDEX ix_movements_period_state ON financial.movements (id_financial_period, period_movement_state)
+    WHERE discriminator_value = 'PERIOD_MOVEMENT';
+
+CREATE INDEX ix_movements_period_created_on ON financial.movements (id_financial_period DESC, created_on DESC)
+    WHERE discriminator_value = 'PERIOD_MOVEMENT';
+
+CREATE INDEX ix_movements_credit_card_invoice ON financial.movements (id_credit_card_invoice)
+    WHERE id_credit_card_invoice IS NOT NULL;
+
+CREATE INDEX ix_movements_payment ON financial.movements (id_payment)
+    WHERE id_payment IS NOT NULL;
+
+-- apportionments
+CREATE INDEX ix_apportionments_movement ON financial.apportionments (id_movement);
+
+CREATE INDEX ix_apportionments_cost_center ON financial.apportionments (id_cost_center);
+
+CREATE INDEX ix_apportionments_movement_class ON financial.apportionments (id_movement_class);
+
+-- payments
+CREATE INDEX ix_payments_card ON financial.payments (id_card)
+    WHERE payment_method = 'CREDIT_CARD';
+
+-- wallet balances
+CREATE INDEX ix_wallet_balances_wallet_date ON financial.wallet_balances (id_wallet, movement_date_time DESC);
+
+-- credit card invoices
+CREATE INDEX ix_credit_card_invoices_card_period ON financial.credit_card_invoices (id_card, id_financial_period);
+
+CREATE INDEX ix_credit_card_invoices_period ON financial.credit_card_invoices (id_financial_period);
+
+-- launches
+CREATE INDEX ix_launches_fixed_movement_quote ON financial.launches (id_fixed_movement, quote_number);
+
+CREATE INDEX ix_launches_period_movement ON financial.launches (id_period_movement);
+
+-- refuelings
+CREATE INDEX ix_refuelings_vehicle_unaccounted ON journal.refuelings (id_vehicle)
+    WHERE accounted = false;
+
+CREATE INDEX ix_refuelings_vehicle_odometer ON journal.refuelings (id_vehicle, odometer);
+
+CREATE INDEX ix_refuelings_vehicle_id ON journal.refuelings (id_vehicle, id);
+
+CREATE INDEX ix_refuelings_period_movement ON journal.refuelings (id_period_movement)
+    WHERE id_period_movement IS NOT NULL;
+
+-- update the statistics so the planner can use the new indexes right away
+ANALYZE financial.movements;
+ANALYZE financial.apportionments;
+ANALYZE financial.payments;
+ANALYZE financial.wallet_balances;
+ANALYZE financial.credit_card_invoices;
+ANALYZE financial.launches;
+ANALYZE journal.refuelings;
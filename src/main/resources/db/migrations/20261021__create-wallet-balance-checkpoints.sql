@@ -0,0 +1,32 @@
+CREATE TABLE financial.wallet_balance_checkpoints (
+    id bigint NOT NULL,
+    created_on timestamp without time zone NOT NULL,
+    updated_on timestamp without time zone,
+    checkpoint_date date NOT NULL,
+    balance numeric(19,2) NOT NULL,
+    id_wallet bigint NOT NULL
+);
+
+ALTER TABLE ONLY financial.wallet_balance_checkpoints
+    ADD CONSTRAINT wallet_balance_checkpoints_pkey PRIMARY KEY (id);
+
+-- the unique constraint index also serves the last checkpoint lookup by wallet and date
+ALTER TABLE ONLY financial.wallet_balance_checkpoints
+    ADD CONSTRAINT uk_wallet_balance_checkpoints_wallet_date UNIQUE (id_wallet, checkpoint_date);
+
+ALTER TABLE ONLY financial.wallet_balance_checkpoints
+    ADD CONSTRAINT fk_wallet_balance_checkpoints_wallet FOREIGN KEY (id_wallet) REFERENCES registration.wallets(id);
+
+-- close every day with movements up to yesterday for the existing wallets
+INSERT INTO financial.wallet_balance_checkpoints (id, created_on, checkpoint_date, balance, id_wallet)
+SELECT nextval('public.pooled_sequence_generator'),
+       now(),
+       days.checkpoint_date,
+       sum(days.day_value) OVER (PARTITION BY days.id_wallet ORDER BY days.checkpoint_date),
+       days.id_wallet
+FROM (SELECT wb.id_wallet,
+             CAST(wb.movement_date_time AS date) AS checkpoint_date,
+             sum(wb.transaction_value)           AS day_value
+      FROM financial.wallet_balances wb
+      GROUP BY wb.id_wallet, CAST(wb.movement_date_time AS date)) days
+WHERE days.checkpoint_date < current_date;
@@ -0,0 +1,38 @@
+CREATE TABLE financial.card_statistics (
+    id bigint NOT NULL,
+    created_on timestamp without time zone NOT NULL,
+    updated_on timestamp without time zone,
+    invoice_count bigint NOT NULL,
+    total_value numeric(19,2) NOT NULL,
+    lowest_value numeric(19,2) NOT NULL,
+    highest_value numeric(19,2) NOT NULL,
+    id_card bigint NOT NULL
+);
+
+ALTER TABLE ONLY financial.card_statistics
+    ADD CONSTRAINT card_statistics_pkey PRIMARY KEY (id);
+
+ALTER TABLE ONLY financial.card_statistics
+    ADD CONSTRAINT uk_card_statistics_card UNIQUE (id_card);
+
+ALTER TABLE ONLY financial.card_statistics
+    ADD CONSTRAINT fk_card_statistics_card FOREIGN KEY (id_card) REFERENCES registration.cards(id);
+
+-- build the statistics for the existing cards, only the closed and paid invoices are considered
+INSERT INTO financial.card_statistics (id, created_on, invoice_count, total_value, lowest_value, highest_value, id_card)
+SELECT nextval('public.pooled_sequence_generator'),
+       now(),
+       count(ci.id),
+       COALESCE(sum(ci.total_value), 0),
+       COALESCE(min(ci.total_value), 0),
+       COALESCE(max(ci.total_value), 0),
+       ca.id
+FROM registration.cards ca
+         LEFT JOIN financial.credit_card_invoices ci
+                   ON ci.id_card = ca.id AND ci.invoice_state IN ('CLOSED', 'PAID')
+GROUP BY ca.id;
+
+-- the consume breakdowns of the statistics page are read by card from the materialized views
+CREATE INDEX ix_wb_view_006_card ON financial.wb_view_006 (card_id);
+
+CREATE INDEX ix_wb_view_007_card ON financial.wb_view_007 (card_id);
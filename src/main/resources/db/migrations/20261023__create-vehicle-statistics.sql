@@ -0,0 +1,55 @@
+CREATE TABLE journal.vehicle_statistics (
+    id bigint NOT NULL,
+    created_on timestamp without time zone NOT NULL,
+    updated_on timestamp without time zone,
+    last_odometer bigint NOT NULL,
+    refuelings bigint NOT NULL,
+    distance bigint NOT NULL,
+    liters numeric(19,2) NOT NULL,
+    cost numeric(19,2) NOT NULL,
+    unaccounted_refuelings bigint NOT NULL,
+    unaccounted_distance bigint NOT NULL,
+    unaccounted_liters numeric(19,2) NOT NULL,
+    id_vehicle bigint NOT NULL
+);
+
+ALTER TABLE ONLY journal.vehicle_statistics
+    ADD CONSTRAINT vehicle_statistics_pkey PRIMARY KEY (id);
+
+ALTER TABLE ONLY journal.vehicle_statistics
+    ADD CONSTRAINT uk_vehicle_statistics_vehicle UNIQUE (id_vehicle);
+
+-- the statistics are derived data, so they go away with the vehicle
+ALTER TABLE ONLY journal.vehicle_statistics
+    ADD CONSTRAINT fk_vehicle_statistics_vehicle FOREIGN KEY (id_vehicle) REFERENCES registration.vehicles(id) ON DELETE CASCADE;
+
+CREATE TABLE journal.fuel_statistics (
+    id bigint NOT NULL,
+    created_on timestamp without time zone NOT NULL,
+    updated_on timestamp without time zone,
+    fuel_type character varying(45) NOT NULL,
+    liters numeric(19,2) NOT NULL,
+    cost numeric(19,2) NOT NULL,
+    tank_distance bigint NOT NULL,
+    tank_liters numeric(19,2) NOT NULL,
+    id_vehicle_statistics bigint NOT NULL
+);
+
+ALTER TABLE ONLY journal.fuel_statistics
+    ADD CONSTRAINT fuel_statistics_pkey PRIMARY KEY (id);
+
+ALTER TABLE ONLY journal.fuel_statistics
+    ADD CONSTRAINT uk_fuel_statistics_vehicle_fuel UNIQUE (id_vehicle_statistics, fuel_type);
+
+ALTER TABLE ONLY journal.fuel_statistics
+    ADD CONSTRAINT fk_fuel_statistics_vehicle_statistics FOREIGN KEY (id_vehicle_statistics) REFERENCES journal.vehicle_statistics(id) ON DELETE CASCADE;
+
+-- the statistics of the existing vehicles are built from the refuelings on the first use, here we only index the
+-- queries used by that rebuild and by the analytics
+CREATE INDEX ix_refuelings_vehicle_event_date ON journal.refuelings (id_vehicle, event_date);
+
+CREATE INDEX ix_refuelings_vehicle_consumption ON journal.refuelings (id_vehicle, average_consumption)
+    WHERE average_consumption IS NOT NULL;
+
+CREATE INDEX ix_refuelings_accounted_by ON journal.refuelings (accounted_by)
+    WHERE accounted_by IS NOT NULL;
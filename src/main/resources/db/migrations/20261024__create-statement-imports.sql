@@ -0,0 +1,46 @@
+-- the hash of the statement line imported as the movement, used to skip the lines already imported
+ALTER TABLE financial.movements ADD COLUMN import_hash character varying(64);
+
+ALTER TABLE financial_audit.movements ADD COLUMN import_hash character varying(64);
+
+CREATE UNIQUE INDEX uk_movements_import_hash ON financial.movements (import_hash) WHERE import_hash IS NOT NULL;
+
+-- the pattern used to choose the movement class of the imported statement lines
+ALTER TABLE registration.movement_classes ADD COLUMN import_pattern character varying(255);
+
+ALTER TABLE registration_audit.movement_classes ADD COLUMN import_pattern character varying(255);
+
+CREATE TABLE financial.statement_imports (
+    id bigint NOT NULL,
+    created_on timestamp without time zone NOT NULL,
+    updated_on timestamp without time zone,
+    file_name character varying(255) NOT NULL,
+    file_hash character varying(64) NOT NULL,
+    statement_format character varying(45) NOT NULL,
+    statement_import_state character varying(45) NOT NULL,
+    last_line bigint NOT NULL,
+    imported integer NOT NULL,
+    duplicated integer NOT NULL,
+    rejected integer NOT NULL,
+    id_financial_period bigint NOT NULL,
+    id_expense_class bigint NOT NULL,
+    id_revenue_class bigint NOT NULL
+);
+
+ALTER TABLE ONLY financial.statement_imports
+    ADD CONSTRAINT statement_imports_pkey PRIMARY KEY (id);
+
+ALTER TABLE ONLY financial.statement_imports
+    ADD CONSTRAINT uk_statement_imports_file_hash UNIQUE (file_hash);
+
+ALTER TABLE ONLY financial.statement_imports
+    ADD CONSTRAINT fk_statement_imports_financial_period FOREIGN KEY (id_financial_period)
+        REFERENCES registration.financial_periods(id);
+
+ALTER TABLE ONLY financial.statement_imports
+    ADD CONSTRAINT fk_statement_imports_expense_class FOREIGN KEY (id_expense_class)
+        REFERENCES registration.movement_classes(id);
+
+ALTER TABLE ONLY financial.statement_imports
+    ADD CONSTRAINT fk_statement_imports_revenue_class FOREIGN KEY (id_revenue_class)
+        REFERENCES registration.movement_classes(id);
@@ -0,0 +1,89 @@
+/*
+  Search columns for the generic filter of the movements, contacts and financial periods. Each one holds the searchable
+  fields in lower case and without accents, kept by triggers, and is indexed by trigram so the '%x%' searches can use
+  the index instead of reading the whole table
+*/
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- the same normalization is done by the application on the filter before the search
+CREATE OR REPLACE FUNCTION public.search_text(VARIADIC fields text[]) RETURNS text AS $$
+    SELECT lower(public.unaccent(array_to_string(fields, ' ')));
+$$ LANGUAGE sql STABLE;
+
+ALTER TABLE financial.movements ADD COLUMN search_text text;
+
+ALTER TABLE registration.contacts ADD COLUMN search_text text;
+
+ALTER TABLE registration.financial_periods ADD COLUMN search_text text;
+
+-- movements, with the identification of the financial period
+CREATE OR REPLACE FUNCTION financial.movements_search_text() RETURNS trigger AS $$
+BEGIN
+    NEW.search_text := public.search_text(NEW.code, NEW.identification, NEW.description,
+        (SELECT fp.identification FROM registration.financial_periods fp WHERE fp.id = NEW.id_financial_period));
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tg_movements_search_text
+    BEFORE INSERT OR UPDATE OF code, identification, description, id_financial_period, search_text
+    ON financial.movements
+    FOR EACH ROW EXECUTE PROCEDURE financial.movements_search_text();
+
+-- contacts
+CREATE OR REPLACE FUNCTION registration.contacts_search_text() RETURNS trigger AS $$
+BEGIN
+    NEW.search_text := public.search_text(NEW.name, NEW.city, NEW.email, NEW.document);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tg_contacts_search_text
+    BEFORE INSERT OR UPDATE OF name, city, email, document
+    ON registration.contacts
+    FOR EACH ROW EXECUTE PROCEDURE registration.contacts_search_text();
+
+-- financial periods, a new identification is also written on the search text of the movements of the period
+CREATE OR REPLACE FUNCTION registration.financial_periods_search_text() RETURNS trigger AS $$
+BEGIN
+    NEW.search_text := public.search_text(NEW.identification);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tg_financial_periods_search_text
+    BEFORE INSERT OR UPDATE OF identification
+    ON registration.financial_periods
+    FOR EACH ROW EXECUTE PROCEDURE registration.financial_periods_search_text();
+
+CREATE OR REPLACE FUNCTION registration.financial_periods_movements_search_text() RETURNS trigger AS $$
+BEGIN
+    UPDATE financial.movements SET search_text = NULL WHERE id_financial_period = NEW.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tg_financial_periods_movements_search_text
+    AFTER UPDATE OF identification
+    ON registration.financial_periods
+    FOR EACH ROW WHEN (OLD.identification IS DISTINCT FROM NEW.identification)
+    EXECUTE PROCEDURE registration.financial_periods_movements_search_text();
+
+-- fill the rows already there, the triggers calculate the value
+UPDATE registration.financial_periods SET identification = identification;
+
+UPDATE registration.contacts SET name = name;
+
+UPDATE financial.movements SET search_text = NULL;
+
+-- the trigram indexes for the like searches and the ranking
+CREATE INDEX ix_movements_search_text ON financial.movements USING gin (search_text gin_trgm_ops);
+
+CREATE INDEX ix_contacts_search_text ON registration.contacts USING gin (search_text gin_trgm_ops);
+
+CREATE INDEX ix_financial_periods_search_text ON registration.financial_periods USING gin (search_text gin_trgm_ops);
+
+-- the value is also a search option on the movements
+CREATE INDEX ix_movements_value ON financial.movements (value);
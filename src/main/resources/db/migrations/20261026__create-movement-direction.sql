@@ -0,0 +1,52 @@
+/*
+  The direction of the movements, the movement class type of the first apportionment, kept by triggers so the
+  listings read a column instead of a subquery for every movement loaded
+*/
+ALTER TABLE financial.movements ADD COLUMN direction character varying(45);
+
+CREATE OR REPLACE FUNCTION financial.movement_direction(movement bigint) RETURNS character varying AS $$
+    SELECT mc.movement_class_type
+    FROM financial.apportionments ap
+    JOIN registration.movement_classes mc ON mc.id = ap.id_movement_class
+    WHERE ap.id_movement = movement
+    ORDER BY ap.id
+    LIMIT 1;
+$$ LANGUAGE sql STABLE;
+
+-- apportionments, the movement of the old row is also updated if the apportionment was moved
+CREATE OR REPLACE FUNCTION financial.apportionments_movement_direction() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        UPDATE financial.movements SET direction = financial.movement_direction(OLD.id_movement)
+        WHERE id = OLD.id_movement;
+    END IF;
+    IF TG_OP <> 'DELETE' THEN
+        UPDATE financial.movements SET direction = financial.movement_direction(NEW.id_movement)
+        WHERE id = NEW.id_movement;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tg_apportionments_movement_direction
+    AFTER INSERT OR DELETE OR UPDATE OF id_movement, id_movement_class
+    ON financial.apportionments
+    FOR EACH ROW EXECUTE PROCEDURE financial.apportionments_movement_direction();
+
+-- movement classes, a new type changes the direction of the movements apportioned with the class
+CREATE OR REPLACE FUNCTION registration.movement_classes_movement_direction() RETURNS trigger AS $$
+BEGIN
+    UPDATE financial.movements mo SET direction = financial.movement_direction(mo.id)
+    WHERE mo.id IN (SELECT ap.id_movement FROM financial.apportionments ap WHERE ap.id_movement_class = NEW.id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tg_movement_classes_movement_direction
+    AFTER UPDATE OF movement_class_type
+    ON registration.movement_classes
+    FOR EACH ROW WHEN (OLD.movement_class_type IS DISTINCT FROM NEW.movement_class_type)
+    EXECUTE PROCEDURE registration.movement_classes_movement_direction();
+
+-- fill the movements already there
+UPDATE financial.movements SET direction = financial.movement_direction(id);
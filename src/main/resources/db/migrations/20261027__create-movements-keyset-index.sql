@@ -0,0 +1,8 @@
+/*
+  The keyset pages of the movements compare the row of the financial period, creation date and id of the last row
+  seen, the index has the whole key so the database seeks on it instead of reading the period from the start
+*/
+DROP INDEX IF EXISTS financial.ix_movements_period_created_on;
+
+CREATE INDEX ix_movements_period_created_on_id ON financial.movements (id_financial_period DESC, created_on DESC, id DESC)
+    WHERE discriminator_value = 'PERIOD_MOVEMENT';